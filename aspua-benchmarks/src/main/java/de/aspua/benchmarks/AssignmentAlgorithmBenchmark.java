@@ -0,0 +1,91 @@
+package de.aspua.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.aspua.framework.Controller.Measures.HungarianAlgorithm;
+import de.aspua.framework.Controller.Measures.ShortestAugmentingPathAlgorithm;
+
+/**
+ * Compares the deprecated {@link HungarianAlgorithm} with the {@link ShortestAugmentingPathAlgorithm}
+ * on cost matrices which resemble the distance matrices of the AnswerSetMeasure, i.e. small non-negative symmetric differences.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar AssignmentAlgorithmBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssignmentAlgorithmBenchmark
+{
+    /** Number of answer sets before and after the update */
+    @Param({"10", "50", "100", "500", "1000", "2000"})
+    private int size;
+
+    /** Maximal distance between two answer sets */
+    @Param({"20"})
+    private int maxDistance;
+
+    private int[] flatCosts;
+    private int[][] squareCosts;
+    private int[][] workingCopy;
+    private ShortestAugmentingPathAlgorithm shortestAugmentingPath;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        Random random = new Random(42);
+        flatCosts = new int[size * size];
+        squareCosts = new int[size][size];
+
+        for (int i = 0; i < size; i++)
+        {
+            for (int j = 0; j < size; j++)
+            {
+                int costs = random.nextInt(maxDistance + 1);
+                flatCosts[i * size + j] = costs;
+                squareCosts[i][j] = costs;
+            }
+        }
+
+        workingCopy = new int[size][size];
+        shortestAugmentingPath = new ShortestAugmentingPathAlgorithm();
+    }
+
+    /**
+     * The Hungarian algorithm modifies the given matrix, so it is restored before each invocation.
+     */
+    @Setup(Level.Invocation)
+    public void restoreMatrix()
+    {
+        for (int i = 0; i < size; i++)
+            System.arraycopy(squareCosts[i], 0, workingCopy[i], 0, size);
+    }
+
+    @Benchmark
+    public int[][] hungarianAlgorithm()
+    {
+        return new HungarianAlgorithm(workingCopy).findOptimalAssignment();
+    }
+
+    @Benchmark
+    public int[] shortestAugmentingPath()
+    {
+        return shortestAugmentingPath.findOptimalAssignment(flatCosts, size, size);
+    }
+}
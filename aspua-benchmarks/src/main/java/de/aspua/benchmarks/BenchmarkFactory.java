@@ -0,0 +1,71 @@
+package de.aspua.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.aspua.framework.Controller.CausalRejectionController.CRConflictDetector;
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Controller.CausalRejectionController.FileController;
+import de.aspua.framework.Controller.ControllerInterfaces.IConflictDetectionController;
+import de.aspua.framework.Controller.ControllerInterfaces.IFactoryController;
+import de.aspua.framework.Controller.ControllerInterfaces.IIOController;
+import de.aspua.framework.Controller.ControllerInterfaces.IMeasureController;
+import de.aspua.framework.Controller.ControllerInterfaces.IParserController;
+import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
+import de.aspua.framework.Controller.ControllerInterfaces.IStrategyController;
+import de.aspua.framework.Controller.Measures.AnswerSetMeasure;
+import de.aspua.framework.Controller.Measures.RuleMeasure;
+import de.aspua.framework.Controller.Solver.LocalSolver;
+import de.aspua.framework.Controller.Strategies.DirectModificationStrategy;
+import de.aspua.framework.Controller.Strategies.IndirectModificationStrategy;
+import de.aspua.framework.Controller.Strategies.RejectionRuleStrategy;
+
+/**
+ * Provides the controllers of the {@link de.aspua.framework.Controller.CausalRejectionController.CRFileFactory}, but computes the models with the {@link LocalSolver}.
+ */
+public class BenchmarkFactory implements IFactoryController
+{
+    @Override
+    public IIOController createIOController()
+    {
+        return new FileController();
+    }
+
+    @Override
+    public IParserController createParser()
+    {
+        return new ELPParser();
+    }
+
+    @Override
+    public ISolverController createSolver()
+    {
+        return new LocalSolver();
+    }
+
+    @Override
+    public IConflictDetectionController createConflictDetector()
+    {
+        return new CRConflictDetector();
+    }
+
+    @Override
+    public List<IStrategyController> getApplicableStrategies()
+    {
+        List<IStrategyController> strategies = new ArrayList<>();
+        strategies.add(new DirectModificationStrategy());
+        strategies.add(new IndirectModificationStrategy());
+        strategies.add(new RejectionRuleStrategy());
+        return strategies;
+    }
+
+    @Override
+    public List<IMeasureController> createMeasures()
+    {
+        // The measures receive all data of the update process by the measure context
+        List<IMeasureController> measures = new ArrayList<>();
+        measures.add(new AnswerSetMeasure());
+        measures.add(new RuleMeasure());
+        return measures;
+    }
+}
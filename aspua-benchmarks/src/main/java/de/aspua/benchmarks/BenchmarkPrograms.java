@@ -0,0 +1,77 @@
+package de.aspua.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.aspua.framework.Controller.ASPUAFrameworkAPI;
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Controller.Workload.ELPWorkloadGenerator;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.Workload;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Utils.MeasureEvaluationEnum;
+
+/**
+ * Generates reproducible update sequences for the benchmarks by the {@link ELPWorkloadGenerator}.
+ * The programs are stratified, so the {@link de.aspua.framework.Controller.Solver.LocalSolver} computes their answer sets without branching.
+ */
+public final class BenchmarkPrograms
+{
+    private static final long SEED = 42;
+
+    private BenchmarkPrograms() {}
+
+    /**
+     * Generates a workload whose programs have the given number of rules. Every 20th rule is part of a conflict.
+     * @param ruleCount Number of rules per program
+     * @param seed Seed of the generated programs
+     * @return Generated workload
+     */
+    public static Workload generateWorkload(int ruleCount, long seed)
+    {
+        ELPWorkloadGenerator generator = new ELPWorkloadGenerator();
+        generator.setSeed(seed);
+        generator.setRuleCount(ruleCount);
+        generator.setConflictCount(Math.max(1, ruleCount / 20));
+        return generator.generate("Benchmark" + ruleCount);
+    }
+
+    /**
+     * Generates and parses an update sequence of two programs with the given number of rules each.
+     * @param ruleCount Number of rules per program
+     * @return Update sequence with the initial program at the first position
+     */
+    public static List<ASPProgram<?, ?>> generateUpdateSequence(int ruleCount)
+    {
+        Workload workload = generateWorkload(ruleCount, SEED);
+        ELPParser parser = new ELPParser();
+
+        List<ASPProgram<?, ?>> updateSequence = new ArrayList<>();
+        updateSequence.add(parser.parseProgram(workload.getInitialProgram(), workload.getInitialProgramName()));
+        updateSequence.add(parser.parseProgram(workload.getUpdateProgram(), workload.getUpdateProgramName()));
+        return updateSequence;
+    }
+
+    /**
+     * Creates an update process with the {@link de.aspua.framework.Controller.Solver.LocalSolver} for a generated update sequence and detects its conflicts.
+     * Neither the measures nor previews are computed in the background, so the benchmarks can compute them on their own.
+     * @param ruleCount Number of rules per program
+     * @return Update process whose current conflicts contain the solutions of all strategies. It owns its engine, so it has to be closed afterwards.
+     */
+    public static ASPUAFrameworkAPI createSession(int ruleCount)
+    {
+        ASPUAFrameworkAPI session = new ASPUAFrameworkAPI(new BenchmarkFactory());
+        session.setMeasureEvaluation(MeasureEvaluationEnum.ON_DEMAND);
+        session.setComplexStrategyScheduler(null);
+        session.setPreviewEngine(null);
+
+        for (ASPProgram<?, ?> program : generateUpdateSequence(ruleCount))
+            session.addToUpdateSequence(program, false);
+
+        List<Conflict> conflicts = session.detectConflicts();
+        if(conflicts == null || conflicts.size() != generateWorkload(ruleCount, SEED).getConflictCount())
+            throw new IllegalStateException("The conflicts of the generated update sequence with " + ruleCount + " rules per program weren't detected.");
+
+        return session;
+    }
+}
@@ -0,0 +1,69 @@
+package de.aspua.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.aspua.framework.Controller.CausalRejectionController.CRConflictDetector;
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Controller.Solver.LocalSolver;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.AnswerSet;
+
+/**
+ * Measures both steps of the {@link CRConflictDetector}: The construction of the modified update program (MUP)
+ * and the detection of conflicts from its answer sets. The answer sets are computed once by the {@link LocalSolver}.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar ConflictDetectionBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConflictDetectionBenchmark
+{
+    /** Number of rules per program of the update sequence */
+    @Param({"50", "200", "1000"})
+    private int size;
+
+    private CRConflictDetector conflictDetector;
+    private List<ASPProgram<?, ?>> updateSequence;
+    private List<AnswerSet<?, ?>> answerSets;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        // The meta-predicates of the MUP are unique per detector, so the same detector has to detect the conflicts
+        conflictDetector = new CRConflictDetector();
+        updateSequence = BenchmarkPrograms.generateUpdateSequence(size);
+        ASPProgram<?, ?> conflictDetectionProgram = conflictDetector.computeConflictDetectionProgram(updateSequence);
+        answerSets = new ELPParser().parseAnswerSets(new LocalSolver().computeModels(conflictDetectionProgram));
+    }
+
+    @Benchmark
+    public ASPProgram<?, ?> computeConflictDetectionProgram()
+    {
+        return conflictDetector.computeConflictDetectionProgram(updateSequence);
+    }
+
+    @Benchmark
+    public List<Conflict> detectConflicts()
+    {
+        return conflictDetector.detectConflicts(updateSequence, answerSets);
+    }
+}
@@ -0,0 +1,84 @@
+package de.aspua.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.aspua.framework.Controller.ASPUAFrameworkAPI;
+import de.aspua.framework.Controller.ControllerInterfaces.IMeasureController;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.MeasureContext;
+import de.aspua.framework.Model.Solution;
+
+/**
+ * Measures each measure for all solutions of a generated update sequence.
+ * The answer set measure previews every solution, so its results include a call of the {@link de.aspua.framework.Controller.Solver.LocalSolver} per solution.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar MeasureBenchmark}. Other program sizes may be chosen by {@code -p size=<size>}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MeasureBenchmark
+{
+    /** Number of rules per program of the update sequence */
+    @Param({"20", "50", "100"})
+    private int size;
+
+    /** Simple class name of the computed measure */
+    @Param({"RuleMeasure", "AnswerSetMeasure"})
+    private String measureName;
+
+    private ASPUAFrameworkAPI session;
+    private IMeasureController measure;
+    private MeasureContext context;
+    private List<Solution> solutions;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        session = BenchmarkPrograms.createSession(size);
+        measure = session.getMeasures().stream()
+            .filter(x -> x.getClass().getSimpleName().equals(measureName))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown measure " + measureName));
+
+        context = session.getMeasureContext();
+        solutions = new ArrayList<>();
+        for (Conflict conflict : session.getCurrentConflicts())
+            solutions.addAll(conflict.getSolutions());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        session.close();
+    }
+
+    @Benchmark
+    public long computeMeasure()
+    {
+        long sum = 0;
+        for (Solution solution : solutions)
+            sum += measure.computeMeasure(solution, context);
+
+        return sum;
+    }
+}
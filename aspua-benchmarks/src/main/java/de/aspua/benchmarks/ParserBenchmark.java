@@ -0,0 +1,67 @@
+package de.aspua.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.aspua.framework.Controller.CausalRejectionController.CRConflictDetector;
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Controller.Solver.LocalSolver;
+import de.aspua.framework.Model.ASP.BaseEntities.AnswerSet;
+import de.aspua.framework.Model.ASP.ELP.ELPProgram;
+
+/**
+ * Measures the {@link ELPParser} for generated programs and for the answer sets of their modified update programs,
+ * which contain the meta-literals of the conflict detection.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar ParserBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark
+{
+    /** Number of rules per program */
+    @Param({"100", "1000", "5000"})
+    private int size;
+
+    private ELPParser parser;
+    private String programString;
+    private List<String> answerSetStrings;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        parser = new ELPParser();
+        programString = BenchmarkPrograms.generateWorkload(size, 42).getInitialProgram();
+        answerSetStrings = new LocalSolver().computeModels(
+            new CRConflictDetector().computeConflictDetectionProgram(BenchmarkPrograms.generateUpdateSequence(size)));
+    }
+
+    @Benchmark
+    public ELPProgram parseProgram()
+    {
+        return parser.parseProgram(programString, "Benchmark");
+    }
+
+    @Benchmark
+    public List<AnswerSet<?, ?>> parseAnswerSets()
+    {
+        return parser.parseAnswerSets(answerSetStrings);
+    }
+}
@@ -0,0 +1,121 @@
+package de.aspua.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.ELP.ELPProgram;
+import de.aspua.framework.Model.ASP.ELP.ELPRule;
+
+/**
+ * Measures the modifications of an {@link ASPProgram}, which are performed whenever a solution is applied or previewed.
+ * Each modification is reverted after every invocation, so all invocations work on a program of the same size.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar ProgramOperationsBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProgramOperationsBenchmark
+{
+    @State(Scope.Thread)
+    public static class ProgramState
+    {
+        /** Number of rules of the program */
+        @Param({"100", "1000", "5000"})
+        private int size;
+
+        protected ELPProgram program;
+        /** Rule in the middle of the program, which is modified or deleted */
+        protected ELPRule existingRule;
+        /** Rule which doesn't occur in the program */
+        protected ELPRule newRule;
+
+        @Setup(Level.Trial)
+        public void setUp()
+        {
+            ELPParser parser = new ELPParser();
+            program = parser.parseProgram(BenchmarkPrograms.generateWorkload(size, 42).getInitialProgram(), "Benchmark");
+            existingRule = program.getRuleSet().get(size / 2);
+            newRule = parser.parseProgram("q :- p0, not p1.", "Rule").getRuleSet().get(0);
+        }
+    }
+
+    public static class AddState extends ProgramState
+    {
+        @TearDown(Level.Invocation)
+        public void removeAddedRule()
+        {
+            program.deleteRule(newRule.getID());
+        }
+    }
+
+    public static class ModifyState extends ProgramState
+    {
+        private ELPRule modifiedRule;
+        private ELPRule originalRule;
+
+        @Setup(Level.Invocation)
+        public void createModifiedRule()
+        {
+            originalRule = existingRule.createNewInstance();
+            modifiedRule = newRule.createNewInstance();
+            modifiedRule.setID(existingRule.getID());
+        }
+
+        @TearDown(Level.Invocation)
+        public void restoreRule()
+        {
+            program.modifyRule(originalRule);
+        }
+    }
+
+    public static class DeleteState extends ProgramState
+    {
+        @TearDown(Level.Invocation)
+        public void restoreRule()
+        {
+            program.addRule(existingRule);
+        }
+    }
+
+    @Benchmark
+    public boolean addRule(AddState state)
+    {
+        return state.program.addRule(state.newRule);
+    }
+
+    @Benchmark
+    public boolean modifyRule(ModifyState state)
+    {
+        return state.program.modifyRule(state.modifiedRule);
+    }
+
+    @Benchmark
+    public boolean deleteRule(DeleteState state)
+    {
+        return state.program.deleteRule(state.existingRule.getID());
+    }
+
+    @Benchmark
+    public ASPProgram<?, ?> createNewInstance(ProgramState state)
+    {
+        return state.program.createNewInstance();
+    }
+}
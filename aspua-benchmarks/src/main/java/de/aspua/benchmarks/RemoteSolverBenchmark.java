@@ -0,0 +1,77 @@
+package de.aspua.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.aspua.framework.Controller.CausalRejectionController.ClingoRemoteSolver;
+import de.aspua.framework.Controller.CausalRejectionController.CRConflictDetector;
+import de.aspua.framework.Controller.Solver.MockClingoServer;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+
+/**
+ * Measures the throughput of the {@link ClingoRemoteSolver} against a local {@link MockClingoServer}, i.e. the overhead of
+ * the HTTP-requests and the JSON-responses for modified update programs of different sizes and server latencies.
+ * The solver is shared by all benchmark threads, like in the framework.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar RemoteSolverBenchmark}. Other numbers of threads may be chosen by {@code -t <threads>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class RemoteSolverBenchmark
+{
+    /** Number of rules per program of the solved update sequence */
+    @Param({"50", "200"})
+    private int size;
+
+    /** Latency of the server in milliseconds */
+    @Param({"0", "20"})
+    private long latency;
+
+    private MockClingoServer server;
+    private ClingoRemoteSolver solver;
+    private ASPProgram<?, ?> conflictDetectionProgram;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        server = new MockClingoServer();
+        server.setLatency(MockClingoServer.fixedLatency(latency));
+        if(!server.start())
+            throw new IllegalStateException("The Mock-Clingo-Server couldn't be started.");
+
+        solver = new ClingoRemoteSolver(server.getUri());
+        conflictDetectionProgram = new CRConflictDetector().computeConflictDetectionProgram(BenchmarkPrograms.generateUpdateSequence(size));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        server.stop();
+    }
+
+    @Benchmark
+    public List<String> computeModels()
+    {
+        return solver.computeModels(conflictDetectionProgram);
+    }
+}
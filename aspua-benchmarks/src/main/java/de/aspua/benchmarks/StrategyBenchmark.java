@@ -0,0 +1,85 @@
+package de.aspua.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.aspua.framework.Controller.ASPUAFrameworkAPI;
+import de.aspua.framework.Controller.ControllerInterfaces.IStrategyController;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+
+/**
+ * Measures {@link IStrategyController#apply(List, Conflict)} of each strategy for all conflicts of a generated update sequence.
+ * The solutions are added to fresh conflicts, so the conflicts of the update process stay unchanged.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar StrategyBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StrategyBenchmark
+{
+    /** Number of rules per program of the update sequence */
+    @Param({"50", "200", "1000"})
+    private int size;
+
+    /** Simple class name of the applied strategy */
+    @Param({"DirectModificationStrategy", "IndirectModificationStrategy", "RejectionRuleStrategy"})
+    private String strategyName;
+
+    private ASPUAFrameworkAPI session;
+    private IStrategyController strategy;
+    private List<ASPProgram<?, ?>> updateSequence;
+    private List<Conflict> conflicts;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        session = BenchmarkPrograms.createSession(size);
+        strategy = session.getStrategies().stream()
+            .filter(x -> x.getClass().getSimpleName().equals(strategyName))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown strategy " + strategyName));
+
+        updateSequence = session.getUpdateSequence();
+        conflicts = session.getCurrentConflicts();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        session.close();
+    }
+
+    @Benchmark
+    public List<Conflict> apply()
+    {
+        List<Conflict> solvedConflicts = new ArrayList<>(conflicts.size());
+        for (Conflict conflict : conflicts)
+        {
+            Conflict solvedConflict = new Conflict(conflict.getConflictingRules(), conflict.getInvolvedAnwerSets());
+            strategy.apply(updateSequence, solvedConflict);
+            solvedConflicts.add(solvedConflict);
+        }
+
+        return solvedConflicts;
+    }
+}
@@ -1,13 +1,16 @@
 package de.aspua.framework.Controller;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,15 +19,36 @@ import de.aspua.framework.Controller.ControllerInterfaces.IConflictDetectionCont
 import de.aspua.framework.Controller.ControllerInterfaces.IFactoryController;
 import de.aspua.framework.Controller.ControllerInterfaces.IIOController;
 import de.aspua.framework.Controller.ControllerInterfaces.IMeasureController;
+import de.aspua.framework.Controller.ControllerInterfaces.IMetricsCollector;
 import de.aspua.framework.Controller.ControllerInterfaces.IParserController;
+import de.aspua.framework.Controller.ControllerInterfaces.ISolutionListener;
 import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
 import de.aspua.framework.Controller.ControllerInterfaces.IStrategyController;
+import de.aspua.framework.Controller.Events.PipelineEvents;
+import de.aspua.framework.Controller.History.SessionHistory;
+import de.aspua.framework.Controller.Measures.MeasureTask;
+import de.aspua.framework.Controller.Measures.SolutionRanker;
+import de.aspua.framework.Controller.Previews.SpeculativePreviewEngine;
+import de.aspua.framework.Controller.Search.BeamSearchResolver;
+import de.aspua.framework.Controller.Solver.SolverException;
+import de.aspua.framework.Controller.Strategies.ComplexStrategyScheduler;
+import de.aspua.framework.Controller.Strategies.StrategyCache;
 import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.MeasureContext;
+import de.aspua.framework.Model.ResolutionResult;
+import de.aspua.framework.Model.SessionVersion;
 import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.SolutionPreview;
 import de.aspua.framework.Model.ASP.BaseEntities.AnswerSet;
 import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
 import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Model.ASP.ELP.UpdateSequenceView;
+import de.aspua.framework.Utils.Constants;
+import de.aspua.framework.Utils.LabelIDAllocator;
+import de.aspua.framework.Utils.MeasureEvaluationEnum;
+import de.aspua.framework.Utils.MetricEnum;
 import de.aspua.framework.Utils.OperationTypeEnum;
+import de.aspua.framework.Utils.SolutionMetaDataEnum;
 
 /**
  * API for the update-framework as described in 'Towards Interactive Conflict Resolution in ASP Programs' by Thevapalan and Kern-Isberner.
@@ -37,6 +61,10 @@ import de.aspua.framework.Utils.OperationTypeEnum;
  * 4. Merge and persist the updated, conflict-free update sequence ({@link #persistUpdatedProgram(String)}). <p>
  * 
  * If serveral update-iterations should be performed, the local attributes should be cleared between each iteration using {@link #clearData()}.
+ * <p>
+ * Each API-object represents a single update process (session). Several sessions may share the controllers and executors of an
+ * {@link ASPUAFrameworkEngine} and run in parallel. The methods which access the data of the update process are synchronized,
+ * so a session may also be used by several threads (e.g. the UI-thread and background computations).
  * 
  * @author Konstantin Haupt
  */
@@ -44,47 +72,106 @@ public class ASPUAFrameworkAPI
 {
 	private static Logger LOGGER = LoggerFactory.getLogger(ASPUAFrameworkAPI.class);
 
+	private ASPUAFrameworkEngine engine;
+	/** True if the engine was created by this API-object and is shut down by {@link #close()} */
+	private boolean ownsEngine;
 	private IFactoryController usedFactory;
 	private ISolverController solver;
 	private IParserController parser;
 	private IConflictDetectionController conflictDetector;
 	private IIOController iOController;
+	private IMetricsCollector metricsCollector;
 	
 	private List<IMeasureController> measures;
 	private List<IStrategyController> strategies;
+	private ExecutorService measureExecutor;
+	private ExecutorService strategyExecutor;
+	private StrategyCache strategyCache;
+	private ComplexStrategyScheduler complexStrategyScheduler;
+	private SpeculativePreviewEngine previewEngine;
+	private int speculativePreviewLimit;
+	private MeasureEvaluationEnum measureEvaluation;
+	private int autoRankingLimit;
 	
 	private List<ASPProgram<?,?>> updateSequence;
 	private List<ASPProgram<?,?>> unmodifiedUpdateSequence;
+	private UpdateSequenceView updateSequenceView;
+	private UpdateSequenceView unmodifiedUpdateSequenceView;
+	private LabelIDAllocator labelAllocator;
 	private List<Conflict> currentConflicts;
 
 	private List<AnswerSet<?, ?>> currentAnswerSets;
+	private MeasureContext measureContext;
+	/** Computes previews for the snapshot of the update sequence, which belongs to the current measure context */
+	private Function<Solution, SolutionPreview> snapshotPreviewFunction;
 	private HashMap<OperationTypeEnum, List<ASPRule<?>>> appliedSolutionOperations;
+	private SessionHistory history;
 
 	/**
 	 * Constructor to provide all necessary references to Controllers which are used by the API in the update process.
+	 * The controllers are only used by this API-object.
+	 * To perform several independent update processes with the same controllers, use {@link ASPUAFrameworkEngine#createSession()}.
+	 * The API-object owns its engine, so the executors of the engine are shut down by {@link #close()}.
 	 * @param factory Object which is used to initialize the used controller-objects
 	 * @see IFactoryController
 	 */
 	public ASPUAFrameworkAPI(IFactoryController factory)
 	{
-		printStartUpBanner();
+		this(factory, null);
+	}
 
-		usedFactory = factory;
-		usedFactory.setFrameworkAPI(this);
-		if(usedFactory == null)
-        {
-            LOGGER.error("A fatal error occured while trying to instantiate the Factory for Framwork-Startup! The execution will be aborted!");
-			System.exit(1);
-        }
-		else
-			LOGGER.info("Factory-Initialization successfull. Using the Factory-Class '{}' for further execution.", usedFactory.getClass().getName());
-
-		solver = usedFactory.createSolver();
-		parser = usedFactory.createParser();
-		conflictDetector = usedFactory.createConflictDetector();
-		iOController = usedFactory.createIOController();
-		measures = usedFactory.createMeasures();
-		strategies = usedFactory.getApplicableStrategies();
+	/**
+	 * Constructor to provide all necessary references to Controllers which are used by the API in the update process.
+	 * The timings and sizes of all steps of the update process are recorded by the given collector.
+	 * The API-object owns its engine, so the executors of the engine are shut down by {@link #close()}.
+	 * @param factory Object which is used to initialize the used controller-objects
+	 * @param metricsCollector Collector which records the metrics of the update process. If null, no metrics are recorded.
+	 * @see IFactoryController
+	 * @see IMetricsCollector
+	 */
+	public ASPUAFrameworkAPI(IFactoryController factory, IMetricsCollector metricsCollector)
+	{
+		this.initialize(new ASPUAFrameworkEngine(factory, metricsCollector));
+		ownsEngine = true;
+	}
+
+	/**
+	 * Constructor for an update process which uses the controllers and executors of the given engine.
+	 * The engine may be shared by several API-objects, which represent independent update processes.
+	 * @param engine Engine which provides the controller-objects and executors
+	 * @see ASPUAFrameworkEngine#createSession()
+	 */
+	public ASPUAFrameworkAPI(ASPUAFrameworkEngine engine)
+	{
+		this.initialize(engine);
+	}
+
+	/**
+	 * Takes all controller-objects and executors from the given engine and initializes the data of the update process.
+	 */
+	private void initialize(ASPUAFrameworkEngine engine)
+	{
+		this.engine = engine;
+		usedFactory = engine.getUsedFactory();
+		solver = engine.getSolver();
+		parser = engine.getParser();
+		conflictDetector = engine.getConflictDetector();
+		iOController = engine.getiOController();
+		metricsCollector = engine.getMetricsCollector();
+		// Each session may change its own selection of measures and strategies
+		measures = engine.getMeasures() == null ? null : new ArrayList<>(engine.getMeasures());
+		strategies = engine.getStrategies() == null ? null : new ArrayList<>(engine.getStrategies());
+		measureExecutor = engine.getMeasureExecutor();
+		strategyExecutor = engine.getStrategyExecutor();
+		strategyCache = new StrategyCache();
+		// The executors are shared by all sessions of the engine, so a session doesn't own any threads
+		complexStrategyScheduler = new ComplexStrategyScheduler(engine.getComplexStrategyExecutor(), engine.getComplexStrategyTimer(),
+			Constants.COMPLEX_STRATEGY_TIME_BUDGET);
+		complexStrategyScheduler.setMetricsCollector(metricsCollector);
+		previewEngine = new SpeculativePreviewEngine(engine.getPreviewExecutor(), Constants.SPECULATIVE_PREVIEW_CAPACITY);
+		speculativePreviewLimit = Constants.SPECULATIVE_PREVIEW_SOLUTIONS;
+		measureEvaluation = MeasureEvaluationEnum.BACKGROUND;
+		history = new SessionHistory();
 		this.clearData();
 	}
 
@@ -94,6 +181,18 @@ public class ASPUAFrameworkAPI
 	 * @see IIOController
 	 */
 	public List<ASPProgram<?,?>> loadAvailablePrograms()
+	{
+		return this.loadAvailablePrograms(iOController);
+	}
+
+	/**
+	 * Loads all available {@link ASPProgram}-objects which are provided by the given input source, e.g. a fallback source of the application.
+	 * The programs are parsed by the parser of the engine, so no further engine has to be created for other input sources.
+	 * @param iOController Controller which provides the programs
+	 * @return List of all available {@link ASPProgram}-objects
+	 * @see IIOController
+	 */
+	public List<ASPProgram<?,?>> loadAvailablePrograms(IIOController iOController)
 	{
 		List<ASPProgram<?,?>> availablePrograms = iOController.loadAvailableParsedPrograms();
 
@@ -110,7 +209,7 @@ public class ASPUAFrameworkAPI
 
 			for (String programName : loadedPrograms.keySet())
 			{
-				ASPProgram<?,?> program = parser.parseProgram(loadedPrograms.get(programName), programName);
+				ASPProgram<?,?> program = this.parseProgram(loadedPrograms.get(programName), programName);
 
 				if(program != null)
 					availablePrograms.add(program);
@@ -129,7 +228,7 @@ public class ASPUAFrameworkAPI
 	 * (starting from the total number of rules in the update sequence)
 	 * @return True, if the given object was succesfully added to the update program, false otherwise
 	 */
-	public boolean addToUpdateSequence(ASPProgram<?, ?> program, boolean adaptLabelIDs)
+	public synchronized boolean addToUpdateSequence(ASPProgram<?, ?> program, boolean adaptLabelIDs)
 	{
 		if(program == null || program.getRuleSet().isEmpty())
 		{
@@ -139,7 +238,11 @@ public class ASPUAFrameworkAPI
 
 		if(adaptLabelIDs)
 			this.applyNameFunctionToLabelID(program);
+		else
+			labelAllocator = null;
 
+		// The recorded versions refer to the previous update sequence
+		history.clear();
 		updateSequence.add(program);
 		unmodifiedUpdateSequence.add(program.createNewInstance());
 		return true;
@@ -156,7 +259,7 @@ public class ASPUAFrameworkAPI
 	 * @see IIOController
 	 * @see IParserController
 	 */
-	public boolean addToUpdateSequence(String programName)
+	public synchronized boolean addToUpdateSequence(String programName)
 	{
 		if(programName == null || programName.isEmpty())
 		{
@@ -165,7 +268,7 @@ public class ASPUAFrameworkAPI
 		}
 
 		String programString = iOController.loadProgram(programName);
-        ASPProgram<?, ?> program = parser.parseProgram(programString, programName);
+        ASPProgram<?, ?> program = this.parseProgram(programString, programName);
 
 		if(program == null || program.getRuleSet().isEmpty())
 		{
@@ -174,6 +277,8 @@ public class ASPUAFrameworkAPI
 		}
 		this.applyNameFunctionToLabelID(program);
 
+		// The recorded versions refer to the previous update sequence
+		history.clear();
 		updateSequence.add(program);
 		unmodifiedUpdateSequence.add(program.createNewInstance());
 		return true;
@@ -182,7 +287,8 @@ public class ASPUAFrameworkAPI
 	/** 
 	 * 2. Step of the update process <p>
 	 * Detects all conflicts between rules in the current update sequence. For all detected conflicts, all non-complex strategies for conflict-solving are applied. 
-	 * In addition, all provided measures are computed for the assigned solutions. The update sequence has to contain (at least) two ASP-programs. <p>
+	 * In addition, all provided measures are computed for the assigned solutions (see {@link #setMeasureEvaluation(MeasureEvaluationEnum)}).
+	 * The update sequence has to contain (at least) two ASP-programs. <p>
 	 * Depending on the used technique for conflict-detection, an empty list as a return value doesn't necessarily indicates a conflict-free update sequence.
 	 * As the conflict-detection is based on the inspection of models, a non-prevented inconsistency of the used ASP-program for conflict detection
 	 * could also be the cause for no detected conflicts. To ensure that the return value of an empty list equals a conflict-free update sequence, check
@@ -196,7 +302,7 @@ public class ASPUAFrameworkAPI
 	 * @see ISolverController
 	 * @see IStrategyController
 	 */
-	public List<Conflict> detectConflicts()
+	public synchronized List<Conflict> detectConflicts()
 	{
 		if(updateSequence.size() < 2)
 		{
@@ -204,7 +310,7 @@ public class ASPUAFrameworkAPI
 			return null;
 		}
 
-		return this.computeConflicts();
+		return this.computeAndRecordConflicts();
 	}
 
 	/**
@@ -221,32 +327,15 @@ public class ASPUAFrameworkAPI
 	 * @see ISolverController
 	 * @see IStrategyController
 	 */
-	public List<Conflict> solveConflict(Solution solution)
+	public synchronized List<Conflict> solveConflict(Solution solution)
 	{
-		this.applySolutionToHelperSequence(solution, updateSequence);
-
-		// All added rules have to be new rules, and therefore can immediately be added to the list of overall added rules
-		appliedSolutionOperations.get(OperationTypeEnum.ADD).addAll(solution.getAddedRules());
-		// Rules can only be deleted once, and therefore can immediately be added to the list of overall deleted rules
-		appliedSolutionOperations.get(OperationTypeEnum.DELETE).addAll(solution.getDeletedRules());
-
-		for (ASPRule<?> modifiedRule : solution.getModifiedRules())
-		{
-			// If a rule is modified multiple times, only the most recent state of the rule is saved. The previous state is removed
-			appliedSolutionOperations.get(OperationTypeEnum.MODIFY)
-				.removeIf(x -> x.getID().equals(modifiedRule.getID()));
-
-			// If the modified rule was only added in the conflict-resolution process, the modified rule is effectively still an added rule
-			boolean wasAdded = appliedSolutionOperations.get(OperationTypeEnum.ADD).stream()
-				.anyMatch(x -> x.getID().equals(modifiedRule.getID()));
-			
-			if(wasAdded)
-				appliedSolutionOperations.get(OperationTypeEnum.ADD).add(modifiedRule);
-			else
-				appliedSolutionOperations.get(OperationTypeEnum.MODIFY).add(modifiedRule); 
-		}
+		this.cancelBackgroundComputations();
+		this.cancelPendingMeasures();
+		// Previous versions of the history still refer to the current programs
+		this.replaceUpdateSequence(this.copyUpdateSequence(updateSequence));
+		this.recordSolution(solution);
 
-		return this.computeConflicts();
+		return this.computeAndRecordConflicts();
 	}
 
 	/**
@@ -260,7 +349,7 @@ public class ASPUAFrameworkAPI
 	 * @return True, if the updated update sequence could be successfully merged into a single ASP-Program and persisted. False otherwise.
 	 * @see IIOController
 	 */
-	public boolean persistUpdatedProgram(String newProgramName)
+	public synchronized boolean persistUpdatedProgram(String newProgramName)
 	{
 		ASPProgram<?, ?> updatedProgram = this.getMergedUpdateSequence();
 
@@ -273,7 +362,10 @@ public class ASPUAFrameworkAPI
 		if(newProgramName != null && !newProgramName.isEmpty())
 			updatedProgram.setProgramName(newProgramName);
 		
+		metricsCollector.recordValue(MetricEnum.PROGRAM_SIZE, "persistence", updatedProgram.getRuleSet().size());
+		long start = System.nanoTime();
 		boolean success = iOController.persist(updatedProgram, newProgramName);
+		metricsCollector.recordTime(MetricEnum.PERSISTENCE, null, System.nanoTime() - start);
 
 		if(success)
 			return true;
@@ -289,13 +381,24 @@ public class ASPUAFrameworkAPI
 	 * A copy of the first ASP-program is used as a starting point. Thus, the name of the returned object equals the name of the first object of the update sequence.
 	 * @return A new {@link ASPProgram}-object containing copies of all rules within the update sequence.
 	 */
-	public ASPProgram<?, ?> getMergedUpdateSequence()
+	public synchronized ASPProgram<?, ?> getMergedUpdateSequence()
 	{
 		if(currentConflicts != null && !currentConflicts.isEmpty())
 		{
 			LOGGER.warn("The Update-Sequence shouldn't be merged if there are still unsolved conflicts between rules! {} {}", System.lineSeparator(), currentConflicts);
 		}
 
+		return this.mergeUpdateSequence();
+	}
+
+	/**
+	 * Internal method for merging the current update sequence without checking for unsolved conflicts.
+	 * @return A new {@link ASPProgram}-object containing copies of all rules within the update sequence.
+	 * Returns null if the update sequence couldn't be merged.
+	 * @see #getMergedUpdateSequence()
+	 */
+	private ASPProgram<?, ?> mergeUpdateSequence()
+	{
 		if(this.getInitialProgram() == null)
 		{
 			LOGGER.warn("The Update-Sequence couldn't be merged because no initial Program exists!");
@@ -326,112 +429,288 @@ public class ASPUAFrameworkAPI
 	}
 
 	/**
-	 * Applies a given solution to a copy of the current update sequence and computes remaining conflicts in the resulting update sequence.
+	 * Applies a given solution to a copy of the current update sequence and computes the remaining conflicts as well as the answer sets
+	 * of the resulting update sequence. All results are computed from a single copy of the update sequence and a single invocation of the solver.
 	 * All internal data of this API-object such as the actual update sequence or the current answer sets remain unaffected.
 	 * This method cannot be used to actually solve a conflict. For that purpose, use the {@link #solveConflict(Solution)}-method.
 	 * @param solution Solution whose resulting update sequence is investigated
-	 * @return List of all conflict which are detected in the (copied) update sequence after applying the solution
-	 * Returns an empty list if no conflicts were detected.
+	 * @return {@link SolutionPreview}-object with the conflicts and answer sets of the (copied) update sequence after applying the solution.
+	 * If the update sequence doesn't contain any answer sets after applying the solution, the preview contains neither answer sets nor conflicts.
 	 * Return null if an error occured while computing the conflicts.
 	 * @see IConflictDetectionController
 	 * @see IParserController
 	 * @see ISolverController
 	 */
-	public List<Conflict> previewSolutionConflicts(Solution solution)
+	public SolutionPreview previewSolution(Solution solution)
+	{
+		if(previewEngine != null)
+		{
+			SolutionPreview preview = previewEngine.getPreview(solution);
+			if(preview != null)
+				return preview;
+		}
+
+		// Only the copy of the update sequence requires the lock, so previews of a session may be computed in parallel
+		List<ASPProgram<?, ?>> previewSequence;
+		synchronized (this)
+		{
+			previewSequence = this.copyUpdateSequence(updateSequence);
+		}
+
+		return this.computePreview(solution, previewSequence);
+	}
+
+	/**
+	 * Promotes the preview of the given solution, so it is computed in the background before all other previews.
+	 * This method should be invoked as soon as the user opens a solution, so a following {@link #previewSolution(Solution)} doesn't have to wait for the solver.
+	 * @param solution Solution whose preview is needed soon
+	 * @see SpeculativePreviewEngine#promote(Solution)
+	 */
+	public void promoteSolutionPreview(Solution solution)
+	{
+		if(previewEngine != null)
+			previewEngine.promote(solution);
+	}
+
+	/**
+	 * Applies the given solution to the given copy of an update sequence and computes the conflicts and answer sets of the resulting update sequence.
+	 * @param solution Solution whose resulting update sequence is investigated
+	 * @param previewSequence Copy of the update sequence, which is modified by this method
+	 * @return The computed {@link SolutionPreview}-object. Return null if an error occured while computing the conflicts.
+	 */
+	private SolutionPreview computePreview(Solution solution, List<ASPProgram<?, ?>> previewSequence)
 	{
 		// Adapt code from computeConflicts() but adjust the just local variables, as the attributes shouldn't be changed
-		List<ASPProgram<?, ?>> previewSequence = this.copyUpdateSequence();
 		this.applySolutionToHelperSequence(solution, previewSequence);
 		
-		ASPProgram<?, ?> conflictProgram = conflictDetector.computeConflictDetectionProgram(previewSequence);
+		ASPProgram<?, ?> conflictProgram = this.computeConflictDetectionProgram(previewSequence);
 		if(conflictProgram == null)
 		{
 			LOGGER.warn("The computed modified update program couldn't be computed. The conflict-detection will be aborted.");
 			return null;
 		}
 
-		List<String> models = solver.computeModels(conflictProgram);
+		List<String> models;
+		try
+		{
+			models = PipelineEvents.computeModels(solver, conflictProgram);
+		} catch (SolverException e) {
+			LOGGER.error("The solver couldn't compute the answer sets of the previewed update sequence. The preview will be aborted.", e);
+			return null;
+		}
+
 		if(models == null || models.isEmpty())
 		{
 			LOGGER.info("The program for conflict detection has no answer sets. Therefore, no conflicts can be detected.");
-			return new ArrayList<>();
+			return new SolutionPreview(solution, previewSequence, null, null);
 		}
 
-		List<AnswerSet<?, ?>> answerSets = parser.parseAnswerSets(models);
+		List<AnswerSet<?, ?>> answerSets = this.parseAnswerSets(models);
 		if(answerSets == null)
 		{
 			LOGGER.info("The solver computed models which couldn't be parsed to valid AnswerSet-objects. Therefore, no conflicts can be detected.");
 			return null;
 		}
 
-		List<Conflict> previewedConflicts = conflictDetector.detectConflicts(previewSequence, answerSets);
-		
-		if(previewedConflicts == null)
-			previewedConflicts = new ArrayList<>();
-		
-		return previewedConflicts;
+		List<Conflict> previewedConflicts = this.findConflicts(previewSequence, answerSets);
+		return new SolutionPreview(solution, previewSequence, previewedConflicts, answerSets);
+	}
+
+	/**
+	 * Applies a given solution to a copy of the current update sequence and computes remaining conflicts in the resulting update sequence.
+	 * All internal data of this API-object such as the actual update sequence or the current answer sets remain unaffected.
+	 * This method cannot be used to actually solve a conflict. For that purpose, use the {@link #solveConflict(Solution)}-method.
+	 * If the answer sets of the resulting update sequence are needed as well, use {@link #previewSolution(Solution)} to invoke the solver only once.
+	 * @param solution Solution whose resulting update sequence is investigated
+	 * @return List of all conflict which are detected in the (copied) update sequence after applying the solution
+	 * Returns an empty list if no conflicts were detected.
+	 * Return null if an error occured while computing the conflicts.
+	 * @see #previewSolution(Solution)
+	 */
+	public List<Conflict> previewSolutionConflicts(Solution solution)
+	{
+		SolutionPreview preview = this.previewSolution(solution);
+		if(preview == null)
+			return null;
+
+		return preview.getConflicts();
 	}
 	
 	/**
 	 * Applies a given solution to a copy of the current update sequence and computes the answer sets of the resulting update sequence.
 	 * All internal data of this API-object such as the actual update sequence or the current answer sets remain unaffected.
 	 * This method cannot be used to actually solve a conflict. For that purpose, use the {@link #solveConflict(Solution)}-method.
+	 * If the conflicts of the resulting update sequence are needed as well, use {@link #previewSolution(Solution)} to invoke the solver only once.
 	 * @param solution Solution whose resulting update sequence is investigated
 	 * @return List with all answer sets of the (copied) update sequence after applying the solution
 	 * Returns an empty list if the update sequence after applying the solution doesn't contain any answer sets
 	 * Return null if an error occured while computing the conflicts.
-	 * @see IConflictDetectionController
-	 * @see IParserController
-	 * @see ISolverController
+	 * @see #previewSolution(Solution)
 	 */
 	public List<AnswerSet<?, ?>> previewSolutionAnswerSets(Solution solution)
 	{
-		// Adapt code from computeConflicts() but adjust the just local variables, as the attributes shouldn't be changed
-		List<ASPProgram<?, ?>> previewSequence = this.copyUpdateSequence();
-		this.applySolutionToHelperSequence(solution, previewSequence);
-		
-		ASPProgram<?, ?> conflictProgram = conflictDetector.computeConflictDetectionProgram(previewSequence);
-		if(conflictProgram == null)
+		SolutionPreview preview = this.previewSolution(solution);
+		if(preview == null)
+			return null;
+
+		return preview.getAnswerSets();
+	}
+
+	/**
+	 * Searches for conflict-free update sequences by applying sequences of solutions to copies of the current update sequence
+	 * (see {@link BeamSearchResolver}). The best resolutions w.r.t. the sum of the measures of their applied solutions are returned.
+	 * All internal data of this API-object remain unaffected. To apply a found resolution, use {@link #applyResolution(ResolutionResult)}.
+	 * @param k Maximal number of returned resolutions
+	 * @return The found resolutions in ascending order of their cost. Returns an empty list if no resolution was found within the time budget.
+	 */
+	public List<ResolutionResult> searchResolutions(int k)
+	{
+		List<ASPProgram<?, ?>> snapshot;
+		synchronized (this)
 		{
-			LOGGER.warn("The computed modified update program couldn't be computed. The conflict-detection will be aborted.");
+			snapshot = this.copyUpdateSequence(updateSequence);
+		}
+
+		BeamSearchResolver resolver = new BeamSearchResolver(engine);
+		resolver.setResultLimit(k);
+		return resolver.resolve(snapshot);
+	}
+
+	/**
+	 * Applies all solutions of the given resolution to the update sequence, like consecutive invocations of {@link #solveConflict(Solution)}.
+	 * The conflicts are only computed once for the resulting update sequence.
+	 * @param resolution Resolution which was found by {@link #searchResolutions(int)} for the current update sequence
+	 * @return List of all conflicts of the resulting update sequence (see {@link #solveConflict(Solution)}).
+	 * Return null if an error occured while computing the conflicts.
+	 */
+	public synchronized List<Conflict> applyResolution(ResolutionResult resolution)
+	{
+		if(resolution == null)
+		{
+			LOGGER.warn("The resolution which should be applied was null.");
 			return null;
 		}
 
-		List<String> models = solver.computeModels(conflictProgram);
-		if(models == null || models.isEmpty())
+		this.cancelBackgroundComputations();
+		this.cancelPendingMeasures();
+		this.replaceUpdateSequence(this.copyUpdateSequence(updateSequence));
+		for (Solution solution : resolution.getAppliedSolutions())
+			this.recordSolution(solution);
+
+		return this.computeAndRecordConflicts();
+	}
+
+	/**
+	 * Undoes the last step of the conflict resolution, i.e. the last invocation of {@link #solveConflict(Solution)} or {@link #applyResolution(ResolutionResult)}.
+	 * The update sequence, conflicts, answer sets and applied solution operations are restored from the {@link SessionHistory} without
+	 * computing the conflicts again. Only measures which were cancelled when the version was left are computed again.
+	 * @return List of all conflicts of the restored version. Returns null if no previous version exists.
+	 */
+	public synchronized List<Conflict> undo()
+	{
+		SessionVersion version = history.undo();
+		if(version == null)
 		{
-			LOGGER.info("The program for conflict detection has no answer sets. Therefore, no conflicts can be detected.");
-			return new ArrayList<>();
+			LOGGER.info("No previous version of the update process exists which could be restored.");
+			return null;
+		}
+
+		return this.restoreVersion(version);
+	}
+
+	/**
+	 * Redoes the last step of the conflict resolution which was undone by {@link #undo()}, without computing the conflicts again.
+	 * @return List of all conflicts of the restored version. Returns null if no next version exists.
+	 */
+	public synchronized List<Conflict> redo()
+	{
+		SessionVersion version = history.redo();
+		if(version == null)
+		{
+			LOGGER.info("No undone version of the update process exists which could be restored.");
+			return null;
 		}
 
-		return parser.parseAnswerSets(models);
+		return this.restoreVersion(version);
+	}
+
+	/**
+	 * Restores the version at the given position of the {@link SessionHistory} without computing the conflicts again.
+	 * Later versions are kept and may be restored by {@link #redo()}.
+	 * @param index Position of the version within the kept versions (see {@link #getHistoryEntries()})
+	 * @return List of all conflicts of the restored version. Returns null if no version exists at the given position.
+	 */
+	public synchronized List<Conflict> restoreVersion(int index)
+	{
+		SessionVersion version = history.restore(index);
+		if(version == null)
+		{
+			LOGGER.warn("The version {} of the update process doesn't exist and couldn't be restored.", index);
+			return null;
+		}
+
+		return this.restoreVersion(version);
+	}
+
+	public synchronized boolean canUndo() {
+		return history.canUndo();
+	}
+
+	public synchronized boolean canRedo() {
+		return history.canRedo();
 	}
 
 	/**
 	 * Applies all measures to all {@Solution}-objects of the given conflict.
 	 * If only one particular solution has to be inspected, the {@link #computeMeasures(Solution)}-method provides a more efficient computation.
+	 * The measures are computed according to the current {@link MeasureEvaluationEnum}.
 	 * @param conflict Conflict, whose solutions should be measured
 	 * @see IMeasureController
 	 */
-	public void computeMeasures(Conflict conflict)
+	public synchronized void computeMeasures(Conflict conflict)
 	{
-		for (IMeasureController measure : measures)
-		{
-			for (Solution solution : conflict.getSolutions())
-				measure.computeMeasure(solution);
-		}
+		this.measureSolutions(conflict.getSolutions(), this.getMeasureContext());
 	}
 
 	/**
 	 * Applies all measures to a single solution.
 	 * If all solutions of a conflict are supposed to be inspected, the {@link #computeMeasures(Conflict)}-method may be used.
+	 * The measures are computed according to the current {@link MeasureEvaluationEnum}.
 	 * @param solution Solution which should be measured
 	 * @see IMeasureController
 	 */
-	public void computeMeasures(Solution solution)
+	public synchronized void computeMeasures(Solution solution)
+	{
+		List<Solution> solutions = new ArrayList<>();
+		solutions.add(solution);
+		this.measureSolutions(solutions, this.getMeasureContext());
+	}
+
+	/**
+	 * Ranks the solutions of the given conflict by the weighted sum of their measures and returns the best solutions.
+	 * Complex measures (e.g. measures which invoke the solver) are only computed for solutions which can still be ranked among the best solutions.
+	 * @param conflict Conflict, whose solutions should be ranked
+	 * @param k Maximal number of returned solutions
+	 * @return The best k solutions of the conflict in ascending order of their weighted measures
+	 * @see SolutionRanker#rankTopSolutions(List, int)
+	 */
+	public synchronized List<Solution> rankSolutions(Conflict conflict, int k)
+	{
+		SolutionRanker ranker = new SolutionRanker(measures, this.getMeasureContext(), measureExecutor);
+		return ranker.rankTopSolutions(conflict.getSolutions(), k);
+	}
+
+	/**
+	 * Computes all solutions of the given conflict which aren't dominated by another solution w.r.t. all measures.
+	 * Complex measures (e.g. measures which invoke the solver) are only computed for solutions which aren't already dominated by their lower bounds.
+	 * @param conflict Conflict, whose solutions should be ranked
+	 * @return All non-dominated solutions of the conflict
+	 * @see SolutionRanker#computeParetoFrontier(List)
+	 */
+	public synchronized List<Solution> computeParetoFrontier(Conflict conflict)
 	{
-		for (IMeasureController measure : measures)
-			measure.computeMeasure(solution);
+		SolutionRanker ranker = new SolutionRanker(measures, this.getMeasureContext(), measureExecutor);
+		return ranker.computeParetoFrontier(conflict.getSolutions());
 	}
 
 	/**
@@ -439,21 +718,48 @@ public class ASPUAFrameworkAPI
 	 * This includes the update sequence as well as the current answer sets and conflicts.
 	 * After invoking this method, a new update-process can be started by adding ASP-programs to the update sequence ({@link #addToUpdateSequence}).
 	 */
-	public void clearData()
+	public synchronized void clearData()
 	{
+		this.cancelBackgroundComputations();
+		this.cancelPendingMeasures();
 		updateSequence = new ArrayList<>();
 		unmodifiedUpdateSequence = new ArrayList<>();
+		updateSequenceView = null;
+		unmodifiedUpdateSequenceView = null;
+		labelAllocator = null;
 		currentConflicts = new ArrayList<>();
 		currentAnswerSets = null;
+		measureContext = null;
+		strategyCache.clear();
+		history.clear();
 		this.setAppliedSolutionOperations(null);
 	}
 
+	/**
+	 * Ends the update process, e.g. when the session of a user expires. All background computations of the update process are cancelled
+	 * and its data is cleared. The executors of a shared engine keep running for the other sessions,
+	 * while an engine which was created by this API-object (see {@link #ASPUAFrameworkAPI(IFactoryController)}) is shut down.
+	 * The API-object shouldn't be used afterwards.
+	 */
+	public synchronized void close()
+	{
+		this.clearData();
+		if(complexStrategyScheduler != null)
+			complexStrategyScheduler.shutdown();
+
+		if(previewEngine != null)
+			previewEngine.shutdown();
+
+		if(ownsEngine)
+			engine.shutdown();
+	}
+
 	/**
 	 * Returns the first ASP-program of the update sequence, which represents the oldest knowledge which is updated by all ASP-programs with higher order.
 	 * @return The first {@link ASPProgram}-object within the current update sequence
 	 * Null, if the update sequence doesn't contain any 
 	 */
-	public ASPProgram<?, ?> getInitialProgram()
+	public synchronized ASPProgram<?, ?> getInitialProgram()
 	{
 		if(updateSequence.size() > 0)
 			return updateSequence.get(0);
@@ -466,7 +772,7 @@ public class ASPUAFrameworkAPI
 	 * @param initialProgram {@link ASPProgram}-object which is set at the first position of the update sequence
 	 * @return True, if the given ASP-program was successfully set as the first program of the update sequence. False otherwise.
 	 */
-	public boolean setInitialProgram(ASPProgram<?, ?> initialProgram)
+	public synchronized boolean setInitialProgram(ASPProgram<?, ?> initialProgram)
 	{
 		if(initialProgram == null || initialProgram.getRuleSet().isEmpty())
 		{
@@ -474,6 +780,9 @@ public class ASPUAFrameworkAPI
 			return false;
 		}
 
+		// The labels of the replaced program might be used by the new program
+		labelAllocator = null;
+		history.clear();
 		boolean success = true;
 		if(updateSequence.size() > 0)
 		{
@@ -494,44 +803,92 @@ public class ASPUAFrameworkAPI
 	 * this method always returns the most recent update sequence with all applied changes.
 	 * To compare the current update sequence to the 'original' update sequence without any
 	 * applied changes through conflict resolutions, use {@link #getUnmodifiedUpdateSequence()}.
-	 * @return The current update sequence
+	 * @return Unmodifiable copy of the current update sequence. Programs are replaced instead of modified when solutions are applied.
 	 */
-	public List<ASPProgram<?, ?>> getUpdateSequence() {
-		return updateSequence;
+	public synchronized List<ASPProgram<?, ?>> getUpdateSequence() {
+		return Collections.unmodifiableList(new ArrayList<>(updateSequence));
 	}
 
 	/**
 	 * Returns the update sequence at the beginning of the 2. Step of the update process,
 	 * i.e. before solutions were applied to the ASP-programs of the update sequence.
 	 * To get the current update sequence with all applied changes, use {@link #getUpdateSequence()}.
-	 * @return The initial update sequence without any changes.
+	 * @return Unmodifiable copy of the initial update sequence without any changes.
 	 */
-	public List<ASPProgram<?, ?>> getUnmodifiedUpdateSequence() {
-		return unmodifiedUpdateSequence;
+	public synchronized List<ASPProgram<?, ?>> getUnmodifiedUpdateSequence() {
+		return Collections.unmodifiableList(new ArrayList<>(unmodifiedUpdateSequence));
+	}
+
+	/**
+	 * Returns a read-only view of the current update sequence, which represents all programs as a single program without copying any rule.
+	 * The view is shared by all callers until the update sequence changes.
+	 * To get a modifiable copy of the merged update sequence, use {@link #getMergedUpdateSequence()}.
+	 * @return View of the current update sequence
+	 * @see UpdateSequenceView
+	 */
+	public synchronized UpdateSequenceView getUpdateSequenceView()
+	{
+		if(updateSequenceView == null || updateSequenceView.isOutdated())
+			updateSequenceView = new UpdateSequenceView(updateSequence);
+
+		return updateSequenceView;
+	}
+
+	/**
+	 * Returns a read-only view of the update sequence without any applied changes (see {@link #getUnmodifiedUpdateSequence()}).
+	 * The view is shared by all callers until the unmodified update sequence changes.
+	 * @return View of the unmodified update sequence
+	 * @see UpdateSequenceView
+	 */
+	public synchronized UpdateSequenceView getUnmodifiedUpdateSequenceView()
+	{
+		if(unmodifiedUpdateSequenceView == null || unmodifiedUpdateSequenceView.isOutdated())
+			unmodifiedUpdateSequenceView = new UpdateSequenceView(unmodifiedUpdateSequence);
+
+		return unmodifiedUpdateSequenceView;
 	}
 
 	/**
 	 * Returns all conflicts for the current update sequence. Is equal to the return values of {@link #detectConflicts()} and {@link #solveConflict(Solution)}. 
-	 * @return List of all conflicts for the current update sequence
+	 * @return Unmodifiable copy of all conflicts for the current update sequence. Null if no conflicts were detected yet.
 	 */
-	public List<Conflict> getCurrentConflicts() {
-		return currentConflicts;
+	public synchronized List<Conflict> getCurrentConflicts() {
+		return currentConflicts == null ? null : Collections.unmodifiableList(new ArrayList<>(currentConflicts));
 	}
 
 	/**
 	 * Returns all operations which were applied by solutions of the current update process.
+	 * The returned mapping is a copy with unmodifiable lists, which isn't changed by further solutions.
 	 */
-	public HashMap<OperationTypeEnum, List<ASPRule<?>>> getAppliedSolutionOperations() {
-		return appliedSolutionOperations;
+	public synchronized HashMap<OperationTypeEnum, List<ASPRule<?>>> getAppliedSolutionOperations()
+	{
+		HashMap<OperationTypeEnum, List<ASPRule<?>>> operations = new HashMap<>();
+		for (Map.Entry<OperationTypeEnum, List<ASPRule<?>>> entry : appliedSolutionOperations.entrySet())
+			operations.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+
+		return operations;
 	}
 
 	/**
 	 * Returns the answer sets of the current update sequence.
 	 * Depending on the used strategy for conflict-detection, the answer sets may contain meta-literals.
+	 * @return Unmodifiable copy of the answer sets. Null if no answer sets were computed yet.
 	 * @see IConflictDetectionController
 	 */
-	public List<AnswerSet<?, ?>> getCurrentAnswerSets() {
-		return currentAnswerSets;
+	public synchronized List<AnswerSet<?, ?>> getCurrentAnswerSets() {
+		return currentAnswerSets == null ? null : Collections.unmodifiableList(new ArrayList<>(currentAnswerSets));
+	}
+
+	/**
+	 * Returns the context which is shared by all measures for the current update sequence and its answer sets.
+	 * The context is computed once per conflict detection. If no context exists yet, it is computed for the current state.
+	 * @see IMeasureController
+	 */
+	public synchronized MeasureContext getMeasureContext() {
+		if(measureContext == null)
+			measureContext = this.createMeasureContext();
+
+		return measureContext;
 	}
 
 	public ISolverController getSolver() {
@@ -550,6 +907,18 @@ public class ASPUAFrameworkAPI
 		this.parser = parser;
 	}
 
+	public ASPUAFrameworkEngine getEngine() {
+		return engine;
+	}
+
+	/**
+	 * Returns the collector which records the metrics of the update process. The collector is shared by all sessions of the engine.
+	 * @return The used collector. If no metrics are recorded, the disabled {@link de.aspua.framework.Controller.Metrics.NoOpMetricsCollector}.
+	 */
+	public IMetricsCollector getMetricsCollector() {
+		return metricsCollector;
+	}
+
 	public IFactoryController getUsedFactory() {
 		return usedFactory;
 	}
@@ -574,22 +943,180 @@ public class ASPUAFrameworkAPI
 		this.iOController = iOController;
 	}
 
-	public List<IStrategyController> getStrategies() {
-		return strategies;
+	/**
+	 * @return Unmodifiable copy of the strategies of the session. Use {@link #setStrategies(List)} to change them.
+	 */
+	public synchronized List<IStrategyController> getStrategies() {
+		return strategies == null ? null : Collections.unmodifiableList(new ArrayList<>(strategies));
 	}
 
-	public void setStrategies(List<IStrategyController> strategies) {
+	public synchronized void setStrategies(List<IStrategyController> strategies) {
 		this.strategies = strategies;
 	}
 
-	public List<IMeasureController> getMeasures() {
-		return measures;
+	/**
+	 * @return Unmodifiable copy of the measures of the session. Use {@link #setMeasures(List)} to change them.
+	 */
+	public synchronized List<IMeasureController> getMeasures() {
+		return measures == null ? null : Collections.unmodifiableList(new ArrayList<>(measures));
 	}
 
-	public void setMeasures(List<IMeasureController> measures) {
+	public synchronized void setMeasures(List<IMeasureController> measures) {
 		this.measures = measures;
 	}
 
+	public ExecutorService getMeasureExecutor() {
+		return measureExecutor;
+	}
+
+	/**
+	 * Sets the executor which is used to compute the measures of different solutions in parallel.
+	 * The executor isn't shut down by the API. If the executor is null, all measures are computed sequentially by the calling thread.
+	 * @param measureExecutor Executor for the computation of measures
+	 * @see IMeasureController
+	 */
+	public void setMeasureExecutor(ExecutorService measureExecutor) {
+		this.measureExecutor = measureExecutor;
+	}
+
+	public ExecutorService getStrategyExecutor() {
+		return strategyExecutor;
+	}
+
+	/**
+	 * Sets the executor which is used to apply the non-complex strategies to the detected conflicts in parallel.
+	 * A work-stealing pool is used by default. The executor isn't shut down by the API. If the executor is null, all strategies are applied sequentially by the calling thread.
+	 * @param strategyExecutor Executor for the application of strategies
+	 * @see IStrategyController
+	 */
+	public void setStrategyExecutor(ExecutorService strategyExecutor) {
+		this.strategyExecutor = strategyExecutor;
+	}
+
+	public SpeculativePreviewEngine getPreviewEngine() {
+		return previewEngine;
+	}
+
+	/**
+	 * Sets the engine which computes previews of the top-ranked solutions in the background after the conflicts were detected.
+	 * If the engine is null, previews are only computed when they are requested.
+	 * @param previewEngine Engine for speculative previews
+	 * @see #previewSolution(Solution)
+	 */
+	public void setPreviewEngine(SpeculativePreviewEngine previewEngine) {
+		if(this.previewEngine != null)
+			this.previewEngine.cancelAll();
+
+		this.previewEngine = previewEngine;
+	}
+
+	public int getSpeculativePreviewLimit() {
+		return speculativePreviewLimit;
+	}
+
+	/**
+	 * Sets the number of top-ranked solutions per conflict whose previews are computed in the background.
+	 * @param speculativePreviewLimit Number of previewed solutions per conflict. Values <= 0 disable speculative previews.
+	 */
+	public void setSpeculativePreviewLimit(int speculativePreviewLimit) {
+		this.speculativePreviewLimit = speculativePreviewLimit;
+	}
+
+	public ComplexStrategyScheduler getComplexStrategyScheduler() {
+		return complexStrategyScheduler;
+	}
+
+	/**
+	 * Sets the scheduler which applies the complex strategies to the detected conflicts in the background.
+	 * If the scheduler is null, complex strategies are only applied if they are explicitly invoked.
+	 * @param complexStrategyScheduler Scheduler for the application of complex strategies
+	 * @see IStrategyController#isComplex()
+	 */
+	public void setComplexStrategyScheduler(ComplexStrategyScheduler complexStrategyScheduler) {
+		if(this.complexStrategyScheduler != null)
+			this.complexStrategyScheduler.cancelAll();
+
+		this.complexStrategyScheduler = complexStrategyScheduler;
+	}
+
+	/**
+	 * Registers a listener, which is notified as soon as complex strategies added solutions to a current conflict.
+	 * @param listener Listener which should be notified
+	 * @see ComplexStrategyScheduler
+	 */
+	public void addSolutionListener(ISolutionListener listener) {
+		if(complexStrategyScheduler != null)
+			complexStrategyScheduler.addListener(listener);
+	}
+
+	public void removeSolutionListener(ISolutionListener listener) {
+		if(complexStrategyScheduler != null)
+			complexStrategyScheduler.removeListener(listener);
+	}
+
+	/**
+	 * Describes the kept versions of the update process, e.g. to display the history to the user.
+	 * The history itself isn't exposed, as its versions refer to the internal data of the update process.
+	 * @return Copy of the descriptions of all kept versions, from the oldest to the most recent version
+	 * @see #restoreVersion(int)
+	 */
+	public synchronized List<String> getHistoryEntries()
+	{
+		List<String> entries = new ArrayList<>();
+		for (SessionVersion version : history.getVersions())
+			entries.add(version.toString());
+
+		return entries;
+	}
+
+	/**
+	 * @return Position of the current version within the {@link #getHistoryEntries()}. -1 if no version exists.
+	 */
+	public synchronized int getCurrentHistoryIndex() {
+		return history.getCurrentIndex();
+	}
+
+	public synchronized long getHistoryCapacity() {
+		return history.getCapacity();
+	}
+
+	/**
+	 * Changes the capacity of the history, i.e. the maximal total weight of all kept versions (see {@link SessionHistory}).
+	 * The oldest versions are evicted immediately if the new capacity is exceeded.
+	 * @param capacity Maximal total weight of all kept versions
+	 */
+	public synchronized void setHistoryCapacity(long capacity) {
+		history.setCapacity(capacity);
+	}
+
+	public int getAutoRankingLimit() {
+		return autoRankingLimit;
+	}
+
+	/**
+	 * Enables the auto-ranking mode, in which each detected conflict only contains its best k solutions (see {@link #rankSolutions(Conflict, int)}).
+	 * In this mode, complex measures are only computed while ranking the solutions, so most of the solutions aren't previewed by the solver.
+	 * @param autoRankingLimit Number of solutions (k) which are kept for each conflict. The auto-ranking mode is disabled for values <= 0.
+	 */
+	public void setAutoRankingLimit(int autoRankingLimit) {
+		this.autoRankingLimit = autoRankingLimit;
+	}
+
+	public MeasureEvaluationEnum getMeasureEvaluation() {
+		return measureEvaluation;
+	}
+
+	/**
+	 * Sets the point in time at which the measures of solutions are computed.
+	 * Unless the evaluation is eager, the metadata of the solutions contains the pending computations,
+	 * which are resolved by {@link Solution#getMetaDataValue(SolutionMetaDataEnum)}. Pending computations are cancelled as soon as a conflict is solved.
+	 * @param measureEvaluation Evaluation mode for measures. If null, the measures are computed eagerly.
+	 * @see MeasureEvaluationEnum
+	 */
+	public void setMeasureEvaluation(MeasureEvaluationEnum measureEvaluation) {
+		this.measureEvaluation = measureEvaluation == null ? MeasureEvaluationEnum.EAGER : measureEvaluation;
+	}
+
 	private void setAppliedSolutionOperations(HashMap<OperationTypeEnum, List<ASPRule<?>>> appliedSolutionOperations)
 	{
 		if(appliedSolutionOperations == null || appliedSolutionOperations.isEmpty())
@@ -603,6 +1130,64 @@ public class ASPUAFrameworkAPI
 			this.appliedSolutionOperations = appliedSolutionOperations;
 	}
 
+	/**
+	 * Detects the conflicts of the current update sequence (see {@link #computeConflicts()}) and records the resulting state
+	 * of the update process as a new version in the {@link SessionHistory}.
+	 */
+	private List<Conflict> computeAndRecordConflicts()
+	{
+		List<Conflict> conflicts = this.computeConflicts();
+		if(conflicts != null)
+			history.record(new SessionVersion(updateSequence, currentConflicts, currentAnswerSets, appliedSolutionOperations, measureContext));
+
+		return conflicts;
+	}
+
+	/**
+	 * Replaces the update sequence by the given list, e.g. by a copy before a solution is applied.
+	 * The view of the previous update sequence is discarded, as it can't detect that the list itself was replaced.
+	 */
+	private void replaceUpdateSequence(List<ASPProgram<?, ?>> updateSequence)
+	{
+		this.updateSequence = updateSequence;
+		updateSequenceView = null;
+	}
+
+	/**
+	 * Replaces the data of the update process by the data of the given version.
+	 * Background computations of the left version are cancelled, complex strategies and speculative previews aren't scheduled again.
+	 */
+	private List<Conflict> restoreVersion(SessionVersion version)
+	{
+		this.cancelBackgroundComputations();
+		this.cancelPendingMeasures();
+
+		this.replaceUpdateSequence(version.getUpdateSequence());
+		labelAllocator = null;
+		currentConflicts = version.getConflicts();
+		currentAnswerSets = version.getAnswerSets();
+		measureContext = version.getMeasureContext();
+		snapshotPreviewFunction = null;
+		this.setAppliedSolutionOperations(version.copyAppliedSolutionOperations());
+
+		// Pending measures were cancelled when the version was left, finished measures are kept
+		List<Solution> cancelledSolutions = new ArrayList<>();
+		for (Conflict conflict : currentConflicts)
+		{
+			synchronized (conflict.getSolutions())
+			{
+				for (Solution solution : conflict.getSolutions())
+				{
+					if(solution.hasCancelledMetaData())
+						cancelledSolutions.add(solution);
+				}
+			}
+		}
+		this.measureSolutions(cancelledSolutions, measureContext);
+
+		return currentConflicts;
+	}
+
 	/**
 	 * Internal method for detecting conflicts using the {@link IConflictDetectionController}-object provided by the factory.
 	 * @return List of all detected conflicts, whose {@link Conflict}-objects contain the generated {@link Solution}-objects with computed measures.
@@ -611,14 +1196,29 @@ public class ASPUAFrameworkAPI
 	 */
 	private List<Conflict> computeConflicts()
 	{
-		ASPProgram<?, ?> conflictDetectionProgram = conflictDetector.computeConflictDetectionProgram(updateSequence);
+		// The previous context refers to an outdated state of the update sequence
+		measureContext = null;
+		this.cancelBackgroundComputations();
+
+		ASPProgram<?, ?> conflictDetectionProgram = this.computeConflictDetectionProgram(updateSequence);
 		if(conflictDetectionProgram == null)
 		{
 			LOGGER.warn("The computed modified update program couldn't be computed. The conflict-detection will be aborted.");
 			return null;
 		}
 
-		List<String> models = solver.computeModels(conflictDetectionProgram);
+		List<String> models;
+		try
+		{
+			models = PipelineEvents.computeModels(solver, conflictDetectionProgram);
+		} catch (SolverException e) {
+			// The update sequence may still contain conflicts, so the failure mustn't be reported as a conflict-free sequence
+			LOGGER.error("The solver couldn't compute the answer sets of the program for conflict detection. The conflict-detection will be aborted.", e);
+			currentAnswerSets = null;
+			currentConflicts = null;
+			return null;
+		}
+
 		if(models == null || models.isEmpty())
 		{
 			LOGGER.info("The program for conflict detection has no answer sets. Therefore, no conflicts can be detected.");
@@ -627,14 +1227,14 @@ public class ASPUAFrameworkAPI
 			return currentConflicts;
 		}
 
-		currentAnswerSets = parser.parseAnswerSets(models);
+		currentAnswerSets = this.parseAnswerSets(models);
 		if(currentAnswerSets == null)
 		{
 			LOGGER.info("The solver computed models which couldn't be parsed to valid AnswerSet-objects. Therefore, no conflicts can be detected.");
 			return null;
 		}
 
-		currentConflicts = conflictDetector.detectConflicts(updateSequence, currentAnswerSets);
+		currentConflicts = this.findConflicts(updateSequence, currentAnswerSets);
 
 		if(currentConflicts == null)
 		{
@@ -644,73 +1244,397 @@ public class ASPUAFrameworkAPI
 
 		if(!currentConflicts.isEmpty())
 		{
-			for (IStrategyController currentStrategy : strategies)
+			this.applyStrategies(currentConflicts);
+
+			// All solutions are measured at once, so the measurement only takes as long as the slowest solution
+			measureContext = this.createMeasureContext();
+			List<Solution> solutions = new ArrayList<>();
+			for (Conflict currentConflict : currentConflicts)
+				solutions.addAll(currentConflict.getSolutions());
+
+			this.measureSolutions(solutions, measureContext);
+
+			if(autoRankingLimit > 0)
 			{
-				if(currentStrategy.isComplex())
-					continue;
-				
 				for (Conflict currentConflict : currentConflicts)
 				{
-					currentStrategy.apply(updateSequence, currentConflict);
+					List<Solution> rankedSolutions = this.rankSolutions(currentConflict, autoRankingLimit);
+					for (Solution solution : currentConflict.getSolutions())
+					{
+						if(!rankedSolutions.contains(solution))
+							solution.cancelPendingMetaData();
+					}
+					currentConflict.setSolutions(rankedSolutions);
 				}
 			}
 
-			for (Conflict currentConflict : currentConflicts)
+			this.scheduleComplexStrategies(currentConflicts, measureContext);
+			this.scheduleSpeculativePreviews(currentConflicts, measureContext);
+		}
+
+		return currentConflicts;
+	}
+
+	/**
+	 * Computes the solutions of a single strategy for a single conflict (see {@link StrategyCache}) and records the duration and number of solutions.
+	 */
+	private List<Solution> computeSolutions(IStrategyController strategy, ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict)
+	{
+		long start = System.nanoTime();
+		List<Solution> solutions = strategyCache.getSolutions(strategy, mergedUpdateSequence, conflict);
+		String strategyName = strategy.getClass().getSimpleName();
+		metricsCollector.recordTime(MetricEnum.STRATEGY, strategyName, System.nanoTime() - start);
+		if(solutions != null)
+			metricsCollector.recordValue(MetricEnum.SOLUTION_COUNT, strategyName, solutions.size());
+
+		return solutions;
+	}
+
+	/**
+	 * Applies all non-complex strategies to the given conflicts. Each combination of strategy and conflict is computed as a separate task
+	 * against the read-only view of the update sequence, which is shared by all tasks. The computed solutions are appended by the calling thread
+	 * in the order of the strategies, so the resulting solutions of a conflict don't depend on the order in which the tasks are finished.
+	 * Conflicts which weren't affected by the previous round reuse their previous solutions (see {@link StrategyCache}).
+	 * @param conflicts Conflicts whose solutions should be computed
+	 * @see IStrategyController#computeSolutions(ASPProgram, Conflict)
+	 */
+	private void applyStrategies(List<Conflict> conflicts)
+	{
+		List<IStrategyController> applicableStrategies = new ArrayList<>();
+		for (IStrategyController currentStrategy : strategies)
+		{
+			if(!currentStrategy.isComplex())
+				applicableStrategies.add(currentStrategy);
+		}
+
+		if(applicableStrategies.isEmpty())
+			return;
+
+		ASPProgram<?, ?> mergedUpdateSequence = this.getUpdateSequenceView();
+		List<Callable<List<Solution>>> tasks = new ArrayList<>(conflicts.size() * applicableStrategies.size());
+		for (Conflict currentConflict : conflicts)
+		{
+			for (IStrategyController currentStrategy : applicableStrategies)
+				tasks.add(() -> this.computeSolutions(currentStrategy, mergedUpdateSequence, currentConflict));
+		}
+
+		List<Future<List<Solution>>> results = null;
+		if(strategyExecutor != null)
+		{
+			try
 			{
-				this.computeMeasures(currentConflict);
+				results = strategyExecutor.invokeAll(tasks);
+			} catch (RejectedExecutionException e) {
+				LOGGER.warn("The strategy-executor rejected the computation of solutions. The solutions are computed sequentially.");
+			} catch (InterruptedException e) {
+				LOGGER.warn("The computation of solutions was interrupted. The solutions are computed sequentially.");
+				Thread.currentThread().interrupt();
 			}
 		}
 
-		return currentConflicts;
+		for (int i = 0; i < tasks.size(); i++)
+		{
+			Conflict currentConflict = conflicts.get(i / applicableStrategies.size());
+			List<Solution> solutions = null;
+			try
+			{
+				if(results != null)
+					solutions = results.get(i).get();
+				else
+					solutions = tasks.get(i).call();
+			} catch (ExecutionException e) {
+				LOGGER.warn("The strategy {} couldn't compute solutions for a conflict.", applicableStrategies.get(i % applicableStrategies.size()).getClass().getName(), e.getCause());
+			} catch (Exception e) {
+				LOGGER.warn("The strategy {} couldn't compute solutions for a conflict.", applicableStrategies.get(i % applicableStrategies.size()).getClass().getName(), e);
+			}
+
+			if(solutions != null)
+				currentConflict.getSolutions().addAll(solutions);
+		}
+
+		// Solutions of conflicts which weren't detected again are outdated
+		strategyCache.nextRound();
 	}
 
 	/**
-	 * Applies a given solution to a given update sequence.
-	 * The update sequence is explicitly given to distinguish between previews and actual solving
-	 * @param solution Solution which should be applied
-	 * @param updatedSequence Update sequence which is 
+	 * Applies all complex strategies to the given conflicts in the background. The solutions are added to the conflicts as soon as they are computed
+	 * and are measured with the given context, which refers to the state of the update sequence in which the conflicts were detected.
+	 * @param conflicts Conflicts which receive the solutions of the complex strategies
+	 * @param context Context which is used to measure the computed solutions
+	 * @see ComplexStrategyScheduler
 	 */
-	private void applySolutionToHelperSequence(Solution solution, List<ASPProgram<?, ?>> updatedSequence)
+	private void scheduleComplexStrategies(List<Conflict> conflicts, MeasureContext context)
 	{
-		if(solution == null || updatedSequence == null)
+		if(complexStrategyScheduler == null)
+			return;
+
+		List<IStrategyController> complexStrategies = new ArrayList<>();
+		for (IStrategyController currentStrategy : strategies)
 		{
-			LOGGER.warn("The application of a solution was requested, but wasn't executed, as the solution or update-sequence were null.");
+			if(currentStrategy.isComplex())
+				complexStrategies.add(currentStrategy);
+		}
+
+		if(complexStrategies.isEmpty())
 			return;
+
+		// The strategies run in the background, so they receive a snapshot which isn't affected by later changes of the update sequence
+		UpdateSequenceView snapshot = new UpdateSequenceView(this.copyUpdateSequence(updateSequence));
+		complexStrategyScheduler.schedule(complexStrategies, snapshot, conflicts, x -> this.measureSolutions(x, context));
+	}
+
+	/**
+	 * Creates the measure context for the current state of the update sequence.
+	 * Measures preview solutions for a snapshot of the update sequence, which is copied once. Therefore, the previews neither require the lock
+	 * of this object nor are affected by later changes of the update sequence. Speculative previews of the current round are reused.
+	 * @return The created context
+	 */
+	private MeasureContext createMeasureContext()
+	{
+		List<ASPProgram<?, ?>> snapshot = this.copyUpdateSequence(updateSequence);
+		Function<Solution, SolutionPreview> snapshotPreview = x -> this.computePreview(x, this.copyUpdateSequence(snapshot));
+		snapshotPreviewFunction = snapshotPreview;
+
+		SpeculativePreviewEngine currentPreviewEngine = previewEngine;
+		return new MeasureContext(updateSequence, currentAnswerSets, x ->
+		{
+			SolutionPreview preview = currentPreviewEngine == null ? null : currentPreviewEngine.getPreview(x);
+			return preview != null ? preview : snapshotPreview.apply(x);
+		});
+	}
+
+	/**
+	 * Schedules the previews of the top-ranked solutions of the given conflicts in the background.
+	 * The previews are computed for the snapshot of the measure context, so they aren't affected by later changes of the update sequence.
+	 * @param conflicts Conflicts whose solutions should be previewed
+	 * @param context Context which is used to rank the solutions
+	 * @see SpeculativePreviewEngine
+	 */
+	private void scheduleSpeculativePreviews(List<Conflict> conflicts, MeasureContext context)
+	{
+		if(previewEngine == null || speculativePreviewLimit <= 0)
+			return;
+
+		int limit = speculativePreviewLimit;
+		previewEngine.schedule(conflicts, x -> this.selectSpeculativePreviews(x, context, limit), snapshotPreviewFunction);
+	}
+
+	/**
+	 * Selects the solutions of the given conflict whose previews are computed in the background.
+	 * @return The best solutions of the conflict w.r.t. the measures. If no measures exist, the first solutions of the conflict.
+	 */
+	private List<Solution> selectSpeculativePreviews(Conflict conflict, MeasureContext context, int limit)
+	{
+		List<Solution> solutions;
+		// Complex strategies might add solutions in the meantime
+		synchronized (conflict.getSolutions())
+		{
+			solutions = new ArrayList<>(conflict.getSolutions());
 		}
 
-		List<ASPRule<?>> add = solution.getAddedRules();
-		List<ASPRule<?>> modify = solution.getModifiedRules();
-		List<ASPRule<?>> delete = solution.getDeletedRules();
+		if(measures == null || measures.isEmpty())
+			return solutions.subList(0, Math.min(limit, solutions.size()));
+
+		SolutionRanker ranker = new SolutionRanker(measures, context, measureExecutor);
+		return ranker.rankTopSolutions(solutions, limit);
+	}
+
+	/**
+	 * Cancels all computations for the current conflicts which run in the background, i.e. the application of complex strategies
+	 * and the speculative previews, because their results are outdated as soon as the update sequence changes.
+	 */
+	private void cancelBackgroundComputations()
+	{
+		if(complexStrategyScheduler != null)
+			complexStrategyScheduler.cancelAll();
+
+		if(previewEngine != null)
+			previewEngine.cancelAll();
+	}
 
-		for (ASPRule<?> currentRule : add)
+	/**
+	 * Computes all measures for the given solutions. Each combination of solution and measure is wrapped in a separate task,
+	 * which is saved in the metadata of the solution by the calling thread. Therefore, the resulting metadata doesn't depend on the order in which the tasks are finished.
+	 * Depending on the {@link MeasureEvaluationEnum}, the tasks are either executed immediately, in the background or when the value is accessed.
+	 * @param solutions Solutions which should be measured
+	 * @param context Context of the update sequence in which the solutions were computed
+	 * @see Solution#getMetaDataValue(SolutionMetaDataEnum)
+	 */
+	private void measureSolutions(List<Solution> solutions, MeasureContext context)
+	{
+		if(solutions == null || solutions.isEmpty() || measures == null || measures.isEmpty())
+			return;
+
+		List<MeasureTask> tasks = new ArrayList<>(solutions.size() * measures.size());
+		for (Solution solution : solutions)
 		{
-			updatedSequence.get(updatedSequence.size()-1).addRule(currentRule);
+			for (IMeasureController measure : measures)
+			{
+				MeasureTask task = new MeasureTask(measure, solution, context, metricsCollector);
+				solution.addMetaData(measure.getMeasureKey(), task);
+
+				// In the auto-ranking mode, complex measures are only computed by the ranking
+				if(autoRankingLimit <= 0 || !measure.isComplex())
+					tasks.add(task);
+			}
 		}
 
-		for (ASPRule<?> currentRule : modify)
+		if(measureEvaluation == MeasureEvaluationEnum.ON_DEMAND)
+			return;
+
+		if(measureExecutor != null)
 		{
-			for (ASPProgram<?, ?> currentProgram : updatedSequence)
+			try
 			{
-				currentProgram.modifyRule(currentRule);
+				for (MeasureTask task : tasks)
+					measureExecutor.execute(task);
+			} catch (RejectedExecutionException e) {
+				LOGGER.warn("The measure-executor rejected the computation of measures. The remaining measures are computed on demand.");
 			}
 		}
 
-		for (ASPRule<?> currentRule : delete)
+		if(measureEvaluation == MeasureEvaluationEnum.BACKGROUND)
+			return;
+
+		// Eager evaluation: Wait for all results and replace the tasks by the computed values
+		for (Solution solution : solutions)
 		{
-			for (ASPProgram<?, ?> currentProgram : updatedSequence)
+			for (IMeasureController measure : measures)
 			{
-				currentProgram.deleteRule(currentRule.getID());
+				if(autoRankingLimit > 0 && measure.isComplex())
+					continue;
+
+				// Failed computations remove the entry
+				solution.addMetaData(measure.getMeasureKey(), solution.getMetaDataValue(measure.getMeasureKey()));
 			}
 		}
 	}
+
+	/**
+	 * Cancels all pending measure computations for the solutions of the current conflicts,
+	 * because their results are outdated as soon as the update sequence changes.
+	 */
+	private void cancelPendingMeasures()
+	{
+		if(currentConflicts == null)
+			return;
+
+		for (Conflict conflict : currentConflicts)
+		{
+			for (Solution solution : conflict.getSolutions())
+				solution.cancelPendingMetaData();
+		}
+	}
+
+	/**
+	 * Applies the given solution to the update sequence and records its operations in the applied solution operations.
+	 * The conflicts aren't recomputed.
+	 */
+	private void recordSolution(Solution solution)
+	{
+		this.applySolutionToHelperSequence(solution, updateSequence);
+		// Added rules might use placeholder labels, which weren't allocated
+		labelAllocator = null;
+
+		// All added rules have to be new rules, and therefore can immediately be added to the list of overall added rules
+		appliedSolutionOperations.get(OperationTypeEnum.ADD).addAll(solution.getAddedRules());
+		// Rules can only be deleted once, and therefore can immediately be added to the list of overall deleted rules
+		appliedSolutionOperations.get(OperationTypeEnum.DELETE).addAll(solution.getDeletedRules());
+
+		for (ASPRule<?> modifiedRule : solution.getModifiedRules())
+		{
+			// If a rule is modified multiple times, only the most recent state of the rule is saved. The previous state is removed
+			appliedSolutionOperations.get(OperationTypeEnum.MODIFY)
+				.removeIf(x -> x.getID().equals(modifiedRule.getID()));
+
+			// If the modified rule was only added in the conflict-resolution process, the modified rule is effectively still an added rule
+			boolean wasAdded = appliedSolutionOperations.get(OperationTypeEnum.ADD).stream()
+				.anyMatch(x -> x.getID().equals(modifiedRule.getID()));
+			
+			if(wasAdded)
+				appliedSolutionOperations.get(OperationTypeEnum.ADD).add(modifiedRule);
+			else
+				appliedSolutionOperations.get(OperationTypeEnum.MODIFY).add(modifiedRule); 
+		}
+	}
+
+	/**
+	 * Applies a given solution to a given update sequence.
+	 * The update sequence is explicitly given to distinguish between previews and actual solving
+	 * @param solution Solution which should be applied
+	 * @param updatedSequence Update sequence which is 
+	 */
+	private void applySolutionToHelperSequence(Solution solution, List<ASPProgram<?, ?>> updatedSequence)
+	{
+		if(solution == null || updatedSequence == null)
+		{
+			LOGGER.warn("The application of a solution was requested, but wasn't executed, as the solution or update-sequence were null.");
+			return;
+		}
+
+		solution.applyTo(updatedSequence);
+	}
 	
 	/**
-	 * Helper-method to create new instances for each object in the update sequence
+	 * Computes the program for conflict detection with the {@link IConflictDetectionController} and records the duration and its size.
 	 */
-	private List<ASPProgram<?,?>> copyUpdateSequence()
+	private ASPProgram<?, ?> computeConflictDetectionProgram(List<ASPProgram<?, ?>> detectedSequence)
+	{
+		long start = System.nanoTime();
+		ASPProgram<?, ?> conflictDetectionProgram = PipelineEvents.computeConflictDetectionProgram(conflictDetector, detectedSequence);
+		metricsCollector.recordTime(MetricEnum.MUP_CONSTRUCTION, null, System.nanoTime() - start);
+		if(conflictDetectionProgram != null)
+			metricsCollector.recordValue(MetricEnum.PROGRAM_SIZE, "mup", conflictDetectionProgram.getRuleSet().size());
+
+		return conflictDetectionProgram;
+	}
+
+	/**
+	 * Parses the models of the solver with the {@link IParserController} and records the duration.
+	 */
+	private List<AnswerSet<?, ?>> parseAnswerSets(List<String> models)
+	{
+		long start = System.nanoTime();
+		List<AnswerSet<?, ?>> answerSets = parser.parseAnswerSets(models);
+		metricsCollector.recordTime(MetricEnum.MODEL_PARSING, null, System.nanoTime() - start);
+		return answerSets;
+	}
+
+	/**
+	 * Detects the conflicts within the given answer sets with the {@link IConflictDetectionController} and records the duration and number of conflicts.
+	 */
+	private List<Conflict> findConflicts(List<ASPProgram<?, ?>> detectedSequence, List<AnswerSet<?, ?>> answerSets)
+	{
+		long start = System.nanoTime();
+		List<Conflict> conflicts = PipelineEvents.detectConflicts(conflictDetector, detectedSequence, answerSets);
+		metricsCollector.recordTime(MetricEnum.CONFLICT_DETECTION, null, System.nanoTime() - start);
+		if(conflicts != null)
+			metricsCollector.recordValue(MetricEnum.CONFLICT_COUNT, null, conflicts.size());
+
+		return conflicts;
+	}
+
+	/**
+	 * Parses an ASP-program with the {@link IParserController} and records the duration and its size.
+	 */
+	private ASPProgram<?, ?> parseProgram(String programString, String programName)
+	{
+		long start = System.nanoTime();
+		ASPProgram<?, ?> program = PipelineEvents.parseProgram(parser, programString, programName);
+		metricsCollector.recordTime(MetricEnum.PROGRAM_PARSING, null, System.nanoTime() - start);
+		if(program != null)
+			metricsCollector.recordValue(MetricEnum.PROGRAM_SIZE, "parsing", program.getRuleSet().size());
+
+		return program;
+	}
+
+	/**
+	 * Helper-method to create new instances for each object in the given update sequence
+	 */
+	private List<ASPProgram<?,?>> copyUpdateSequence(List<ASPProgram<?, ?>> copiedPrograms)
 	{
 		List<ASPProgram<?, ?>> copiedSequence = new ArrayList<>();
-		for (ASPProgram<?,?> currentProgram : updateSequence)
+		for (ASPProgram<?,?> currentProgram : copiedPrograms)
 		{
 			copiedSequence.add(currentProgram.createNewInstance());
 		}
@@ -719,49 +1643,16 @@ public class ASPUAFrameworkAPI
 	}
 
 	/**
-	 * Assigns unique labelIDs to the rules of a given program by incrementing a counter
-	 * starting from the total number of rules within the update sequence.
+	 * Assigns unique labelIDs to the rules of a given program, starting from the total number of used labels within the update sequence.
+	 * Each label is allocated in constant time by the {@link LabelIDAllocator} of the update process.
 	 */
 	private void applyNameFunctionToLabelID(ASPProgram<?,?> program)
 	{
-		ASPProgram<?,?> combinedSequence = this.getMergedUpdateSequence();
-
-		if(combinedSequence == null)
-			combinedSequence = new ASPProgram<>();
-	
-		int ruleCount = combinedSequence.getRuleSet().size();
-		for(int i = 0; i < program.getRuleSet().size(); i++)
-		{
-			while(combinedSequence.getRuleByLabelID(ruleCount + i) != null)
-				ruleCount++;
+		// The allocator is only built once for all rules which are added to the update sequence in a row
+		if(labelAllocator == null)
+			labelAllocator = new LabelIDAllocator(this.getUpdateSequenceView().getRuleSet());
 
-			program.getRuleSet().get(i).setLabelID(ruleCount + i);
-		}
+		for (ASPRule<?> rule : program.getRuleSet())
+			rule.setLabelID(labelAllocator.allocate());
 	}
-	
-	/**
-	 * Prints a Banner to the console to signal the invocation of the API (i.e. the constructor).
-	 * By printing the banner, the invocation is easily noticable if the framework is used in larger applications/frameworks such as Spring.
-	 */
-	private void printStartUpBanner()
-    {
-        try
-		{
-			InputStream inputStream = this.getClass().getResourceAsStream("/framework_banner.txt");
-            BufferedReader br = new BufferedReader(new InputStreamReader(inputStream));
-
-			String line = br.readLine();
-            while(line != null)
-            {
-                System.out.println(line);
-                line = br.readLine();
-            }
-            br.close();
-            
-        } catch (IOException e) {
-			System.out.println("---------------------------------------");
-            System.out.println("Started the ASPUA-Framework");
-			System.out.println("---------------------------------------");
-        }
-    }
 }
@@ -0,0 +1,263 @@
+package de.aspua.framework.Controller;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.aspua.framework.Controller.CausalRejectionController.ClingoRemoteSolver;
+import de.aspua.framework.Controller.ControllerInterfaces.IConflictDetectionController;
+import de.aspua.framework.Controller.ControllerInterfaces.IFactoryController;
+import de.aspua.framework.Controller.ControllerInterfaces.IIOController;
+import de.aspua.framework.Controller.ControllerInterfaces.IMeasureController;
+import de.aspua.framework.Controller.ControllerInterfaces.IMetricsCollector;
+import de.aspua.framework.Controller.ControllerInterfaces.IParserController;
+import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
+import de.aspua.framework.Controller.ControllerInterfaces.IStrategyController;
+import de.aspua.framework.Controller.Metrics.InstrumentedSolver;
+import de.aspua.framework.Controller.Metrics.NoOpMetricsCollector;
+import de.aspua.framework.Controller.Previews.SpeculativePreviewEngine;
+import de.aspua.framework.Controller.Solver.HedgedSolver;
+import de.aspua.framework.Controller.Solver.ResilientSolver;
+import de.aspua.framework.Utils.Constants;
+import de.aspua.framework.Utils.DaemonThreadFactory;
+
+/**
+ * Contains the stateless part of the update-framework, i.e. the controller-objects which are provided by an {@link IFactoryController}
+ * and the executors which are used for parallel computations. The engine doesn't contain any data of an update process.
+ * <p>
+ * A single engine may be shared by several independent update processes, e.g. the sessions of several users on a server.
+ * Each update process is represented by its own {@link ASPUAFrameworkAPI}-object, which is created by {@link #createSession()}.
+ * Therefore, all controller-objects of the engine must not store any data of an update process and have to be thread-safe.
+ * Measures receive all data of the update process by the {@link de.aspua.framework.Model.MeasureContext}.
+ * The executors are shared by all sessions, so the available cores are used by all update processes together.
+ * They keep running until the engine is shut down by {@link #shutdown()}, e.g. when the application stops.
+ * <p>
+ * The timings and sizes of all steps of the update processes are recorded by the {@link IMetricsCollector} of the engine.
+ */
+public class ASPUAFrameworkEngine
+{
+	private static Logger LOGGER = LoggerFactory.getLogger(ASPUAFrameworkEngine.class);
+
+	private final IFactoryController usedFactory;
+	private final ISolverController solver;
+	private final IParserController parser;
+	private final IConflictDetectionController conflictDetector;
+	private final IIOController iOController;
+	private final List<IMeasureController> measures;
+	private final List<IStrategyController> strategies;
+
+	private final ExecutorService measureExecutor;
+	private final ExecutorService strategyExecutor;
+	private final ExecutorService complexStrategyExecutor;
+	private final ScheduledExecutorService complexStrategyTimer;
+	private final ThreadPoolExecutor previewExecutor;
+	private final IMetricsCollector metricsCollector;
+
+	/**
+	 * Creates all controller-objects and executors which are shared by the update processes. No metrics are recorded.
+	 * @param factory Object which is used to initialize the used controller-objects
+	 * @see IFactoryController
+	 */
+	public ASPUAFrameworkEngine(IFactoryController factory)
+	{
+		this(factory, null);
+	}
+
+	/**
+	 * Creates all controller-objects and executors which are shared by the update processes.
+	 * @param factory Object which is used to initialize the used controller-objects
+	 * @param metricsCollector Collector which records the metrics of all update processes. If null, no metrics are recorded.
+	 * @see IFactoryController
+	 */
+	public ASPUAFrameworkEngine(IFactoryController factory, IMetricsCollector metricsCollector)
+	{
+		printStartUpBanner();
+		this.metricsCollector = metricsCollector == null ? NoOpMetricsCollector.INSTANCE : metricsCollector;
+
+		usedFactory = factory;
+		if(usedFactory == null)
+		{
+			LOGGER.error("A fatal error occured while trying to instantiate the Factory for Framwork-Startup! The execution will be aborted!");
+			System.exit(1);
+		}
+		else
+			LOGGER.info("Factory-Initialization successfull. Using the Factory-Class '{}' for further execution.", usedFactory.getClass().getName());
+
+		ISolverController factorySolver = usedFactory.createSolver();
+		// The disabled collector doesn't add any indirection to the solver invocations
+		if(factorySolver != null && this.metricsCollector.isEnabled())
+		{
+			solver = new InstrumentedSolver(factorySolver, this.metricsCollector);
+			this.registerMetricsCollector(factorySolver);
+		}
+		else
+			solver = factorySolver;
+		parser = usedFactory.createParser();
+		conflictDetector = usedFactory.createConflictDetector();
+		iOController = usedFactory.createIOController();
+		measures = usedFactory.createMeasures();
+		strategies = usedFactory.getApplicableStrategies();
+
+		measureExecutor = Executors.newFixedThreadPool(Constants.MEASURE_THREADS, new DaemonThreadFactory("aspua-measure"));
+		strategyExecutor = Executors.newWorkStealingPool();
+		complexStrategyExecutor = Executors.newFixedThreadPool(Constants.COMPLEX_STRATEGY_THREADS,
+			new DaemonThreadFactory("aspua-complex-strategy", Thread.MIN_PRIORITY));
+		complexStrategyTimer = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("aspua-strategy-timer"));
+		previewExecutor = SpeculativePreviewEngine.createExecutor(Constants.SPECULATIVE_PREVIEW_THREADS);
+	}
+
+	/**
+	 * Creates a new, independent update process which uses the controller-objects and executors of this engine.
+	 * Sessions may be used by different threads at once, but each session should only be used by one user.
+	 * @return {@link ASPUAFrameworkAPI}-object which represents the new update process
+	 */
+	public ASPUAFrameworkAPI createSession()
+	{
+		return new ASPUAFrameworkAPI(this);
+	}
+
+	/**
+	 * Shuts down all executors of the engine and waits until their threads are terminated. Running computations of all sessions are interrupted.
+	 * Neither the engine nor its sessions should be used afterwards.
+	 */
+	public void shutdown()
+	{
+		List<ExecutorService> executors = Arrays.asList(measureExecutor, strategyExecutor, complexStrategyExecutor, complexStrategyTimer, previewExecutor);
+		for (ExecutorService executor : executors)
+			executor.shutdownNow();
+
+		try
+		{
+			for (ExecutorService executor : executors)
+			{
+				if(!executor.awaitTermination(Constants.EXECUTOR_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS))
+					LOGGER.warn("An executor of the engine didn't terminate within {} ms.", Constants.EXECUTOR_SHUTDOWN_TIMEOUT);
+			}
+		} catch (InterruptedException e) {
+			LOGGER.warn("The shutdown of the engine was interrupted before all executors were terminated.");
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * @return True if the engine was shut down by {@link #shutdown()}
+	 */
+	/**
+	 * Passes the metrics collector to all remote solvers within the given solver, as only they know the encoded size of their requests.
+	 */
+	private void registerMetricsCollector(ISolverController currentSolver)
+	{
+		if(currentSolver instanceof ClingoRemoteSolver)
+			((ClingoRemoteSolver) currentSolver).setMetricsCollector(metricsCollector);
+		else if(currentSolver instanceof ResilientSolver)
+		{
+			for (ISolverController backend : ((ResilientSolver) currentSolver).getBackends())
+				this.registerMetricsCollector(backend);
+		}
+		else if(currentSolver instanceof HedgedSolver)
+		{
+			this.registerMetricsCollector(((HedgedSolver) currentSolver).getPrimary());
+			this.registerMetricsCollector(((HedgedSolver) currentSolver).getSecondary());
+		}
+	}
+
+	public boolean isShutdown() {
+		return measureExecutor.isShutdown();
+	}
+
+	public IFactoryController getUsedFactory() {
+		return usedFactory;
+	}
+
+	public ISolverController getSolver() {
+		return solver;
+	}
+
+	public IParserController getParser() {
+		return parser;
+	}
+
+	public IConflictDetectionController getConflictDetector() {
+		return conflictDetector;
+	}
+
+	public IIOController getiOController() {
+		return iOController;
+	}
+
+	public List<IMeasureController> getMeasures() {
+		return measures == null ? null : Collections.unmodifiableList(measures);
+	}
+
+	public List<IStrategyController> getStrategies() {
+		return strategies == null ? null : Collections.unmodifiableList(strategies);
+	}
+
+	public ExecutorService getMeasureExecutor() {
+		return measureExecutor;
+	}
+
+	public ExecutorService getStrategyExecutor() {
+		return strategyExecutor;
+	}
+
+	public ExecutorService getComplexStrategyExecutor() {
+		return complexStrategyExecutor;
+	}
+
+	/**
+	 * @return Timer which cancels the complex strategies of all sessions after their time budget
+	 */
+	public ScheduledExecutorService getComplexStrategyTimer() {
+		return complexStrategyTimer;
+	}
+
+	/**
+	 * @return Executor which computes the speculative previews of all sessions
+	 */
+	public ThreadPoolExecutor getPreviewExecutor() {
+		return previewExecutor;
+	}
+
+	public IMetricsCollector getMetricsCollector() {
+		return metricsCollector;
+	}
+
+	/**
+	 * Prints a Banner to the console to signal the invocation of the framework (i.e. the constructor).
+	 * By printing the banner, the invocation is easily noticable if the framework is used in larger applications/frameworks such as Spring.
+	 */
+	private void printStartUpBanner()
+	{
+		try
+		{
+			InputStream inputStream = this.getClass().getResourceAsStream("/framework_banner.txt");
+			BufferedReader br = new BufferedReader(new InputStreamReader(inputStream));
+
+			String line = br.readLine();
+			while(line != null)
+			{
+				System.out.println(line);
+				line = br.readLine();
+			}
+			br.close();
+
+		} catch (IOException e) {
+			System.out.println("---------------------------------------");
+			System.out.println("Started the ASPUA-Framework");
+			System.out.println("---------------------------------------");
+		}
+	}
+}
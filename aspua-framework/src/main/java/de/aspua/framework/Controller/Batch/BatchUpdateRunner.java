@@ -0,0 +1,414 @@
+package de.aspua.framework.Controller.Batch;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.aspua.framework.Controller.ASPUAFrameworkAPI;
+import de.aspua.framework.Controller.ASPUAFrameworkEngine;
+import de.aspua.framework.Controller.ControllerInterfaces.IResolutionPolicy;
+import de.aspua.framework.Model.BatchJob;
+import de.aspua.framework.Model.BatchJobReport;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.SolutionPreview;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Utils.BatchJobStatusEnum;
+import de.aspua.framework.Utils.Constants;
+import de.aspua.framework.Utils.DaemonThreadFactory;
+import de.aspua.framework.Utils.MeasureEvaluationEnum;
+
+/**
+ * Performs many update processes without user interaction. Each {@link BatchJob} is performed in its own session of the given
+ * {@link ASPUAFrameworkEngine}, and the jobs are distributed over a pool of worker threads.
+ * <p>
+ * Within a job, the programs are loaded by the {@link de.aspua.framework.Controller.ControllerInterfaces.IIOController} of the engine
+ * and the detected conflicts are solved one after another with the solution chosen by the {@link IResolutionPolicy}.
+ * Before a solution is applied, its preview is checked like in the GUI: A solution which leaves the update sequence without answer sets
+ * fails the job, and a solution which doesn't solve its conflict leaves the job unresolved.
+ * The conflict-free update sequence is persisted by the same IO-controller. The outcome and the duration of each step are saved in a {@link BatchJobReport}.
+ * <p>
+ * The sessions of the jobs compute their measures on demand and don't apply complex strategies or previews in the background,
+ * so the results only depend on the programs and the policy.
+ */
+public class BatchUpdateRunner
+{
+    private static Logger LOGGER = LoggerFactory.getLogger(BatchUpdateRunner.class);
+
+    /** Suffixes of the program names which are paired by {@link #findJobs()} */
+    public static final String INITIAL_SUFFIX = "_Initial";
+    public static final String UPDATE_SUFFIX = "_Update";
+
+    private final ASPUAFrameworkEngine engine;
+    private final IResolutionPolicy policy;
+    private int threads;
+    private int maxResolutionSteps;
+
+    /**
+     * Creates a runner with the default number of worker threads and the default policy ({@link MeasureResolutionPolicy}).
+     * @param engine Engine which provides the controllers for all jobs
+     */
+    public BatchUpdateRunner(ASPUAFrameworkEngine engine)
+    {
+        this(engine, new MeasureResolutionPolicy(), Constants.BATCH_THREADS);
+    }
+
+    /**
+     * @param engine Engine which provides the controllers for all jobs
+     * @param policy Policy which chooses the applied solutions
+     * @param threads Number of jobs which are performed in parallel
+     */
+    public BatchUpdateRunner(ASPUAFrameworkEngine engine, IResolutionPolicy policy, int threads)
+    {
+        this.engine = engine;
+        this.policy = policy;
+        this.threads = Math.max(1, threads);
+        this.maxResolutionSteps = Constants.BATCH_MAX_RESOLUTION_STEPS;
+    }
+
+    /**
+     * Performs all given jobs on the worker pool and waits until all jobs are finished.
+     * @param jobs Jobs which should be performed
+     * @return The reports of all jobs in the order of the given jobs
+     */
+    public List<BatchJobReport> run(List<BatchJob> jobs)
+    {
+        List<BatchJobReport> reports = new ArrayList<>();
+        if(jobs == null || jobs.isEmpty())
+            return reports;
+
+        ExecutorService workers = Executors.newFixedThreadPool(Math.min(threads, jobs.size()), new DaemonThreadFactory("aspua-batch"));
+        try
+        {
+            List<Future<BatchJobReport>> futures = new ArrayList<>(jobs.size());
+            for (BatchJob job : jobs)
+                futures.add(workers.submit(() -> this.runJob(job)));
+
+            for (int i = 0; i < jobs.size(); i++)
+            {
+                try
+                {
+                    reports.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    LOGGER.error("An unexpected error occured in the batch job {}!", jobs.get(i), e.getCause());
+                    BatchJobReport report = new BatchJobReport(jobs.get(i));
+                    report.setMessage(String.valueOf(e.getCause()));
+                    reports.add(report);
+                }
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("The batch run was interrupted. The remaining jobs are cancelled.");
+            Thread.currentThread().interrupt();
+        } finally {
+            workers.shutdownNow();
+        }
+
+        int successCount = 0;
+        for (BatchJobReport report : reports)
+        {
+            if(report.getStatus() == BatchJobStatusEnum.SUCCESS)
+                successCount++;
+        }
+        LOGGER.info("Finished {} of {} batch job(s) successfully.", successCount, jobs.size());
+
+        return reports;
+    }
+
+    /**
+     * Performs a single job in the calling thread.
+     * @param job Job which should be performed
+     * @return The report of the job
+     */
+    public BatchJobReport runJob(BatchJob job)
+    {
+        BatchJobReport report = new BatchJobReport(job);
+        long startTime = System.nanoTime();
+        try
+        {
+            this.performJob(job, report);
+        } catch (RuntimeException e) {
+            LOGGER.error("An unexpected error occured in the batch job {}!", job, e);
+            report.setStatus(BatchJobStatusEnum.FAILED);
+            report.setMessage(e.toString());
+        }
+        report.setTotalMillis(elapsedMillis(startTime));
+
+        LOGGER.info("Finished the batch job {} with status {} after {} ms.", job, report.getStatus(), report.getTotalMillis());
+        return report;
+    }
+
+    /**
+     * Creates a job for each pair of programs named '&lt;name&gt;_Initial' and '&lt;name&gt;_Update' which are provided by the IO-controller of the engine.
+     * The results are persisted as '&lt;name&gt;_Updated'.
+     * @return The found jobs in alphabetical order of their names. Returns null if the available programs couldn't be loaded.
+     */
+    public List<BatchJob> findJobs()
+    {
+        Map<String, String> programStrings = engine.getiOController().loadAvailableProgramStrings();
+        if(programStrings == null)
+        {
+            LOGGER.warn("The IO-Controller didn't provide any programs for the batch mode.");
+            return null;
+        }
+
+        List<String> programNames = new ArrayList<>(programStrings.keySet());
+        programNames.sort(null);
+
+        List<BatchJob> jobs = new ArrayList<>();
+        for (String programName : programNames)
+        {
+            if(!programName.endsWith(INITIAL_SUFFIX))
+                continue;
+
+            String name = programName.substring(0, programName.length() - INITIAL_SUFFIX.length());
+            if(programStrings.containsKey(name + UPDATE_SUFFIX))
+                jobs.add(new BatchJob(programName, name + UPDATE_SUFFIX, name + BatchJob.RESULT_SUFFIX));
+        }
+
+        return jobs;
+    }
+
+    /**
+     * Reads the jobs from a manifest file. Each line of the file describes a job by the names of its programs, separated by ';':
+     * <pre>
+     * initialProgram;updateProgram[;resultProgram]
+     * </pre>
+     * Empty lines and lines starting with '#' are ignored.
+     * @param manifest Path of the manifest file
+     * @return The jobs of the manifest in the order of their lines. Returns null if the manifest couldn't be read or contains invalid lines.
+     */
+    public static List<BatchJob> readManifest(Path manifest)
+    {
+        List<String> lines;
+        try
+        {
+            lines = Files.readAllLines(manifest, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.error("The manifest {} couldn't be read!", manifest, e);
+            return null;
+        }
+
+        List<BatchJob> jobs = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++)
+        {
+            String line = lines.get(i).trim();
+            if(line.isEmpty() || line.startsWith("#"))
+                continue;
+
+            String[] columns = line.split(";");
+            if(columns.length < 2 || columns.length > 3 || columns[0].trim().isEmpty() || columns[1].trim().isEmpty())
+            {
+                LOGGER.error("Line {} of the manifest {} doesn't describe a valid job: '{}'", i + 1, manifest, line);
+                return null;
+            }
+
+            String resultName = columns.length == 3 ? columns[2].trim() : null;
+            jobs.add(new BatchJob(columns[0].trim(), columns[1].trim(), resultName));
+        }
+
+        return jobs;
+    }
+
+    /**
+     * Writes the given reports into a file with one line per job (see {@link BatchJobReport#toReportLine()}).
+     * @param reports Reports which should be written
+     * @param reportFile Path of the report file. An existing file is overwritten.
+     * @return True if the report file was written, false otherwise
+     */
+    public static boolean writeReport(List<BatchJobReport> reports, Path reportFile)
+    {
+        try (BufferedWriter writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8))
+        {
+            writer.write(BatchJobReport.REPORT_HEADER);
+            writer.newLine();
+            for (BatchJobReport report : reports)
+            {
+                writer.write(report.toReportLine());
+                writer.newLine();
+            }
+            return true;
+        } catch (IOException e) {
+            LOGGER.error("The batch report couldn't be written to {}!", reportFile, e);
+            return false;
+        }
+    }
+
+    public ASPUAFrameworkEngine getEngine() {
+        return engine;
+    }
+
+    public IResolutionPolicy getPolicy() {
+        return policy;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @param threads Number of jobs which are performed in parallel by {@link #run(List)}
+     */
+    public void setThreads(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    public int getMaxResolutionSteps() {
+        return maxResolutionSteps;
+    }
+
+    /**
+     * Limits the number of applied solutions per job, as solutions may cause new conflicts.
+     * @param maxResolutionSteps Maximal number of applied solutions, after which the job is aborted as unresolved
+     */
+    public void setMaxResolutionSteps(int maxResolutionSteps) {
+        this.maxResolutionSteps = maxResolutionSteps;
+    }
+
+    /**
+     * Performs all steps of the update process of the given job and saves the outcome in the given report.
+     */
+    private void performJob(BatchJob job, BatchJobReport report)
+    {
+        ASPUAFrameworkAPI session = this.createSession();
+        try
+        {
+            long stepStart = System.nanoTime();
+            boolean loaded = session.addToUpdateSequence(job.getInitialProgramName()) && session.addToUpdateSequence(job.getUpdateProgramName());
+            report.setLoadMillis(elapsedMillis(stepStart));
+            if(!loaded)
+            {
+                report.setMessage("The programs couldn't be loaded or parsed.");
+                return;
+            }
+
+            stepStart = System.nanoTime();
+            List<Conflict> conflicts = session.detectConflicts();
+            report.setDetectionMillis(elapsedMillis(stepStart));
+            if(conflicts == null)
+            {
+                report.setMessage("The conflicts couldn't be detected.");
+                return;
+            }
+            report.setDetectedConflicts(conflicts.size());
+
+            stepStart = System.nanoTime();
+            boolean resolved = this.resolveConflicts(session, conflicts, report);
+            report.setResolutionMillis(elapsedMillis(stepStart));
+            if(!resolved)
+                return;
+
+            stepStart = System.nanoTime();
+            boolean persisted = session.persistUpdatedProgram(job.getResultProgramName());
+            report.setPersistMillis(elapsedMillis(stepStart));
+            if(!persisted)
+            {
+                report.setMessage("The updated program couldn't be persisted.");
+                return;
+            }
+
+            report.setStatus(BatchJobStatusEnum.SUCCESS);
+        } finally {
+            session.clearData();
+        }
+    }
+
+    /**
+     * Solves all conflicts with the solutions chosen by the policy.
+     * Each solution is only applied if the update sequence still has answer sets afterwards and the solved conflict doesn't exist anymore.
+     * @return True if the update sequence is conflict-free, false otherwise
+     */
+    private boolean resolveConflicts(ASPUAFrameworkAPI session, List<Conflict> conflicts, BatchJobReport report)
+    {
+        int steps = 0;
+        while(!conflicts.isEmpty())
+        {
+            if(steps >= maxResolutionSteps)
+            {
+                report.setStatus(BatchJobStatusEnum.UNRESOLVED);
+                report.setMessage(String.format("The conflicts weren't solved after %s steps.", steps));
+                return false;
+            }
+
+            Solution solution = policy.chooseSolution(conflicts);
+            if(solution == null)
+            {
+                report.setStatus(BatchJobStatusEnum.UNRESOLVED);
+                report.setMessage(String.format("The policy didn't choose a solution for %s remaining conflict(s).", conflicts.size()));
+                return false;
+            }
+
+            SolutionPreview preview = session.previewSolution(solution);
+            if(preview == null)
+            {
+                report.setMessage(String.format("The preview of the chosen solution %s couldn't be computed.", describeSolution(solution)));
+                return false;
+            }
+            if(!preview.isConsistent())
+            {
+                report.setMessage(String.format("The update sequence has no answer sets after applying the chosen solution %s.", describeSolution(solution)));
+                return false;
+            }
+            if(preview.containsConflict(solution.getCause()))
+            {
+                report.setStatus(BatchJobStatusEnum.UNRESOLVED);
+                report.setMessage(String.format("The chosen solution %s doesn't solve its conflict.", describeSolution(solution)));
+                return false;
+            }
+
+            report.addAppliedSolution(describeSolution(solution));
+            conflicts = session.solveConflict(solution);
+            steps++;
+
+            if(conflicts == null)
+            {
+                report.setMessage("The conflicts couldn't be detected after applying a solution.");
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates a session for a single job, which doesn't perform any computations in the background.
+     */
+    private ASPUAFrameworkAPI createSession()
+    {
+        ASPUAFrameworkAPI session = engine.createSession();
+        session.setMeasureEvaluation(MeasureEvaluationEnum.ON_DEMAND);
+        session.setComplexStrategyScheduler(null);
+        session.setSpeculativePreviewLimit(0);
+        return session;
+    }
+
+    private static String describeSolution(Solution solution)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (ASPRule<?> conflictingRule : solution.getCause().getConflictingRules())
+        {
+            if(sb.length() > 0)
+                sb.append('/');
+            sb.append('r').append(conflictingRule.getLabelID());
+        }
+        sb.append(": solution ").append(solution.getCause().getSolutions().indexOf(solution));
+        return sb.toString();
+    }
+
+    private static long elapsedMillis(long startTime)
+    {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+}
@@ -0,0 +1,100 @@
+package de.aspua.framework.Controller.Batch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import de.aspua.framework.Controller.ControllerInterfaces.IResolutionPolicy;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Utils.SolutionMetaDataEnum;
+
+/**
+ * Solves the first conflict with its best solution w.r.t. a lexicographic order of measures.
+ * The solutions are compared by the first measure, ties are broken by the second measure and so on.
+ * Solutions with equal measures keep their original order, so the policy is deterministic.
+ * <p>
+ * Each measure is only accessed for the solutions which are still tied after comparing the previous measures.
+ * Therefore, if the measures are computed on demand, complex measures such as {@link SolutionMetaDataEnum#MEASURE_ANSWERSETCHANGES}
+ * are only computed for the solutions with the best values of the cheaper measures.
+ */
+public class MeasureResolutionPolicy implements IResolutionPolicy
+{
+    private final List<SolutionMetaDataEnum> measureKeys;
+
+    /**
+     * Creates a policy which prefers the solutions with the fewest rule changes, followed by the fewest answer set changes.
+     */
+    public MeasureResolutionPolicy()
+    {
+        this(SolutionMetaDataEnum.MEASURE_RULECHANGES, SolutionMetaDataEnum.MEASURE_ANSWERSETCHANGES);
+    }
+
+    /**
+     * Creates a policy which compares the solutions by the given measures.
+     * @param measureKeys Metadata-keys of the measures in the order of their importance. Lower values are preferred.
+     */
+    public MeasureResolutionPolicy(SolutionMetaDataEnum... measureKeys)
+    {
+        this.measureKeys = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(measureKeys)));
+    }
+
+    @Override
+    public Solution chooseSolution(List<Conflict> conflicts)
+    {
+        if(conflicts == null || conflicts.isEmpty())
+            return null;
+
+        List<Solution> candidates = new ArrayList<>(conflicts.get(0).getSolutions());
+        for (SolutionMetaDataEnum measureKey : measureKeys)
+        {
+            if(candidates.size() < 2)
+                break;
+
+            candidates = this.filterBestSolutions(candidates, measureKey);
+        }
+
+        return candidates.isEmpty() ? null : candidates.get(0);
+    }
+
+    public List<SolutionMetaDataEnum> getMeasureKeys() {
+        return measureKeys;
+    }
+
+    /**
+     * Returns all solutions with the lowest value of the given measure in their original order.
+     * Solutions whose measure couldn't be computed are only returned if no solution has a valid value.
+     */
+    private List<Solution> filterBestSolutions(List<Solution> candidates, SolutionMetaDataEnum measureKey)
+    {
+        List<Solution> bestSolutions = new ArrayList<>();
+        int bestValue = Integer.MAX_VALUE;
+        for (Solution candidate : candidates)
+        {
+            int value = getMeasureValue(candidate, measureKey);
+            if(value < bestValue)
+            {
+                bestValue = value;
+                bestSolutions.clear();
+            }
+
+            if(value == bestValue)
+                bestSolutions.add(candidate);
+        }
+
+        return bestSolutions;
+    }
+
+    /**
+     * @return The value of the measure. Returns {@link Integer#MAX_VALUE} if the measure doesn't exist or couldn't be computed.
+     */
+    private static int getMeasureValue(Solution solution, SolutionMetaDataEnum measureKey)
+    {
+        Object value = solution.getMetaDataValue(measureKey);
+        if(!(value instanceof Integer) || (Integer) value < 0)
+            return Integer.MAX_VALUE;
+
+        return (Integer) value;
+    }
+}
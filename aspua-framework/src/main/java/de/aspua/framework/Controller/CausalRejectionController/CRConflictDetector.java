@@ -22,15 +22,12 @@ import de.aspua.framework.Model.ASP.ELP.ELPRule;
 
 /**
  * Implements a Conflict-Detection as seen in 'Towards Interactive Conflict Resolution in ASP Programs' by Thevapalan and Kern-Isberner.
+ * The detector doesn't store any state between invocations, so it may be used by several threads at once (e.g. for parallel previews of solutions).
  */
 public class CRConflictDetector implements IConflictDetectionController
 {
 	private static Logger LOGGER = LoggerFactory.getLogger(CRConflictDetector.class);
 
-	private ELPProgram initialProgram;
-	private ELPProgram newProgram;
-	private ELPProgram modifiedUpdateProgram;
-
 	private final String id = UUID.randomUUID().toString().substring(0, 8);
 	private final String rejPred = "rej_" + id;
 	private final String rejCausePred = "rej_cause_" + id;
@@ -49,14 +46,14 @@ public class CRConflictDetector implements IConflictDetectionController
 			return null;
 		}
 
-		modifiedUpdateProgram = new ELPProgram();
-		initialProgram = (ELPProgram) updateSequence.get(0).createNewInstance();
-		newProgram = (ELPProgram) updateSequence.get(1).createNewInstance();
+		ELPProgram modifiedUpdateProgram = new ELPProgram();
+		ELPProgram initialProgram = (ELPProgram) updateSequence.get(0).createNewInstance();
+		ELPProgram newProgram = (ELPProgram) updateSequence.get(1).createNewInstance();
 
-		this.addModifiedRules(true);
-		this.addModifiedRules(false);
-		this.addRejectionCauseRules();
-		this.addTranslationRules();
+		this.addModifiedRules(initialProgram, true, modifiedUpdateProgram);
+		this.addModifiedRules(newProgram, false, modifiedUpdateProgram);
+		this.addRejectionCauseRules(initialProgram, newProgram, modifiedUpdateProgram);
+		this.addTranslationRules(initialProgram, newProgram, modifiedUpdateProgram);
 
 		for (ELPRule currentRule : modifiedUpdateProgram.getRuleSet())
 			currentRule.setLabelID(modifiedUpdateProgram.getRuleSet().indexOf(currentRule));
@@ -150,12 +147,13 @@ public class CRConflictDetector implements IConflictDetectionController
 
 	/**
 	 * Adds all rules of the form (i), (m-ii-a) & (m-ii-b) to the modified update program.
+	 * @param translatedProgram ASP-Program of the update sequence whose rules are translated
 	 * @param initial Determines if the initial ASP-Program of the update sequence is inspected (i.e. if (m-ii-a) or (m-ii-b) is used)
+	 * @param modifiedUpdateProgram Modified update program to which the rules are added
 	 */
-	private void addModifiedRules(Boolean initial)
+	private void addModifiedRules(ELPProgram translatedProgram, Boolean initial, ELPProgram modifiedUpdateProgram)
 	{
 		String suffix = initial ? "_1" : "_2";
-		ELPProgram translatedProgram = initial ? initialProgram : newProgram;
 
 		for(ELPRule currentRule : translatedProgram.getRuleSet())
 		{
@@ -198,7 +196,7 @@ public class CRConflictDetector implements IConflictDetectionController
 	/**
 	 * Adds all rules of the form (m-iii) to the modified update program.
 	 */
-	private void addRejectionCauseRules()
+	private void addRejectionCauseRules(ELPProgram initialProgram, ELPProgram newProgram, ELPProgram modifiedUpdateProgram)
 	{
 		// (m-iii)
 		for (ELPRule initialRule : initialProgram.getRuleSet())
@@ -246,7 +244,7 @@ public class CRConflictDetector implements IConflictDetectionController
 	/**
 	 * Adds all translation-rules of the form (m-iv) to the modified update program.
 	 */
-	private void addTranslationRules()
+	private void addTranslationRules(ELPProgram initialProgram, ELPProgram newProgram, ELPProgram modifiedUpdateProgram)
 	{
 		// (m-iv)
 		Set<ELPLiteral> literalSets = new HashSet<>(initialProgram.getLiteralBase().keySet());
@@ -3,7 +3,6 @@ package de.aspua.framework.Controller.CausalRejectionController;
 import java.util.ArrayList;
 import java.util.List;
 
-import de.aspua.framework.Controller.ASPUAFrameworkAPI;
 import de.aspua.framework.Controller.ControllerInterfaces.IConflictDetectionController;
 import de.aspua.framework.Controller.ControllerInterfaces.IFactoryController;
 import de.aspua.framework.Controller.ControllerInterfaces.IIOController;
@@ -13,6 +12,8 @@ import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
 import de.aspua.framework.Controller.ControllerInterfaces.IStrategyController;
 import de.aspua.framework.Controller.Measures.AnswerSetMeasure;
 import de.aspua.framework.Controller.Measures.RuleMeasure;
+import de.aspua.framework.Controller.Solver.LocalSolver;
+import de.aspua.framework.Controller.Solver.ResilientSolver;
 import de.aspua.framework.Controller.Strategies.DirectModificationStrategy;
 import de.aspua.framework.Controller.Strategies.RejectionRuleStrategy;
 import de.aspua.framework.Controller.Strategies.IndirectModificationStrategy;
@@ -22,14 +23,6 @@ import de.aspua.framework.Controller.Strategies.IndirectModificationStrategy;
  */
 public class CRFileFactory implements IFactoryController
 {
-	private ASPUAFrameworkAPI frameworkAPI;
-
-	@Override
-	public void setFrameworkAPI(final ASPUAFrameworkAPI frameworkAPI)
-	{
-		this.frameworkAPI = frameworkAPI;
-	}
-
 	@Override
 	public IIOController createIOController()
 	{
@@ -45,7 +38,7 @@ public class CRFileFactory implements IFactoryController
 	@Override
 	public ISolverController createSolver()
 	{
-		return new ClingoRemoteSolver();
+		return new ResilientSolver(new ClingoRemoteSolver(), new LocalSolver());
 	}
 
 	@Override
@@ -68,8 +61,8 @@ public class CRFileFactory implements IFactoryController
 	public List<IMeasureController> createMeasures()
 	{
 		List<IMeasureController> measures = new ArrayList<>();
-		measures.add(new AnswerSetMeasure(frameworkAPI));
-		measures.add(new RuleMeasure(frameworkAPI));
+		measures.add(new AnswerSetMeasure());
+		measures.add(new RuleMeasure());
 		return measures;
 	}
 }
@@ -2,9 +2,12 @@ package de.aspua.framework.Controller.CausalRejectionController;
 
 import java.io.IOException;
 import java.net.URI;
+import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,18 +17,66 @@ import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.aspua.framework.Controller.ControllerInterfaces.IMetricsCollector;
 import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
+import de.aspua.framework.Controller.Metrics.NoOpMetricsCollector;
+import de.aspua.framework.Controller.Solver.SolverException;
 import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
 import de.aspua.framework.Utils.Constants;
+import de.aspua.framework.Utils.MetricEnum;
 
 /**
  * Computes answer sets by invoking the Clingo-Solver (https://potassco.org/clingo/).
- * Calls a server-API of the TU-Dortmund to use the solver via HTTP.
+ * Calls a server-API of the TU-Dortmund to use the solver via HTTP. Other servers with the same API,
+ * e.g. the {@link de.aspua.framework.Controller.Solver.MockClingoServer}, may be used by specifying their URI.
+ * The size of each request is recorded by the metrics collector, as only the solver knows the encoded payload.
  */
 public class ClingoRemoteSolver implements ISolverController
 {
     private static Logger LOGGER = LoggerFactory.getLogger(ClingoRemoteSolver.class);
 
+    private final URI solverUri;
+    private final Duration requestTimeout;
+    private final HttpClient httpClient;
+    private IMetricsCollector metricsCollector = NoOpMetricsCollector.INSTANCE;
+
+    /**
+     * Creates a solver for the server of the TU-Dortmund ({@link Constants#URI_SOLVER}) with the default timeouts.
+     */
+    public ClingoRemoteSolver()
+    {
+        this(URI.create(Constants.URI_SOLVER));
+    }
+
+    /**
+     * Creates a solver for the given server with the default timeouts.
+     * @param solverUri URI to which the programs are posted
+     */
+    public ClingoRemoteSolver(URI solverUri)
+    {
+        this(solverUri, Duration.ofMillis(Constants.SOLVER_CONNECT_TIMEOUT), Duration.ofMillis(Constants.SOLVER_REQUEST_TIMEOUT));
+    }
+
+    /**
+     * Creates a solver for the given server. The HTTP-client is shared by all requests of the solver.
+     * @param solverUri URI to which the programs are posted
+     * @param connectTimeout Maximal time to establish a connection to the server
+     * @param requestTimeout Maximal time between sending a request and receiving the complete response
+     */
+    public ClingoRemoteSolver(URI solverUri, Duration connectTimeout, Duration requestTimeout)
+    {
+        this.solverUri = solverUri;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(connectTimeout)
+            .build();
+    }
+
+    /**
+     * @throws SolverException If the server isn't reachable, doesn't respond in time or responds with an error or an invalid JSON-object.
+     * Only I/O-errors, timeouts and the Status-Codes 429 and 5xx are retryable.
+     */
 	public List<String> computeModels(ASPProgram<?, ?> program)
     {
         List<String> models = new ArrayList<>();
@@ -35,10 +86,6 @@ public class ClingoRemoteSolver implements ISolverController
             return null;
         }
 
-		HttpClient httpClient = HttpClient.newBuilder()
-        .version(HttpClient.Version.HTTP_2)
-        .build();
-
         try
         {
             // Format rule set string for request
@@ -50,13 +97,16 @@ public class ClingoRemoteSolver implements ISolverController
                 sb.append(System.lineSeparator());
             }
 
-            String requestData = "rules=" + sb.toString();
+            // Operators such as '+' would be decoded as spaces by the server otherwise
+            String requestData = "rules=" + URLEncoder.encode(sb.toString(), StandardCharsets.UTF_8);
+            // The encoded request only consists of ASCII-characters, so its length equals its size in bytes
+            metricsCollector.recordValue(MetricEnum.SOLVER_REQUEST_BYTES, null, requestData.length());
             
             // Build request
-            URI solverUrl = URI.create(Constants.URI_SOLVER);
-            HttpRequest request = HttpRequest.newBuilder(solverUrl)
+            HttpRequest request = HttpRequest.newBuilder(solverUri)
                     .POST(HttpRequest.BodyPublishers.ofString(requestData))
                     .setHeader("Content-type", "application/x-www-form-urlencoded")
+                    .timeout(requestTimeout)
                     .build();
             
             // Send request and wait for response
@@ -65,6 +115,13 @@ public class ClingoRemoteSolver implements ISolverController
 
             // print status code and body
             LOGGER.info("Received response from Remote-Solver with Status-Code {}.", response.statusCode());
+            if(response.statusCode() != 200)
+            {
+                LOGGER.error("The Remote-Solver couldn't process the request (Status-Code {})!", response.statusCode());
+                // Only an overloaded or failing server may process the same request later
+                boolean retryable = response.statusCode() == 429 || response.statusCode() >= 500;
+                throw new SolverException("The Remote-Solver couldn't process the request (Status-Code " + response.statusCode() + ")!", retryable);
+            }
 
             // Check if the JSON-object contains models
             JSONObject jsonObject = new JSONObject(response.body());
@@ -85,16 +142,32 @@ public class ClingoRemoteSolver implements ISolverController
             }
         } catch (IllegalArgumentException e) {
             LOGGER.error("An error occured while building the request for the Remote-Solver!", e);
-            return null;
+            throw new SolverException("An error occured while building the request for the Remote-Solver!", e, false);
         } catch (InterruptedException e) {
             LOGGER.error("An error occured while sending the request for the Remote-Solver! The operation was interrupted!", e);
-            return null;
+            Thread.currentThread().interrupt();
+            throw new SolverException("The request for the Remote-Solver was interrupted!", e, false);
         } catch (JSONException e) {
             LOGGER.error("An error occured while trying to parse the Remote-Server response to a JSON-Object!", e);
-            return null;
+            throw new SolverException("An error occured while trying to parse the Remote-Server response to a JSON-Object!", e, false);
         } catch (IOException e) {
             LOGGER.error("An I/O-Error occured while sending the request to the Remote-Solver!", e);
-            return null;
+            throw new SolverException("An I/O-Error occured while sending the request to the Remote-Solver!", e);
         }
 	}
+
+    public URI getSolverUri() {
+        return solverUri;
+    }
+
+    public IMetricsCollector getMetricsCollector() {
+        return metricsCollector;
+    }
+
+    /**
+     * @param metricsCollector Collector which receives the size of each request. If null, no sizes are recorded.
+     */
+    public void setMetricsCollector(IMetricsCollector metricsCollector) {
+        this.metricsCollector = metricsCollector == null ? NoOpMetricsCollector.INSTANCE : metricsCollector;
+    }
 }
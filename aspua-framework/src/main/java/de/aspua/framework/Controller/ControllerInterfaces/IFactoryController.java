@@ -6,16 +6,12 @@ import de.aspua.framework.Controller.ASPUAFrameworkAPI;
 
 /**
  * Provides an abstract factory-pattern to create controller-objects for the {@link ASPUAFrameworkAPI}.
+ * The created controller-objects are shared by all sessions of an {@link de.aspua.framework.Controller.ASPUAFrameworkEngine},
+ * so they mustn't depend on a single {@link ASPUAFrameworkAPI}-object. Measures receive the data of the update process by the
+ * {@link de.aspua.framework.Model.MeasureContext}.
  */
 public interface IFactoryController
 {
-	/**
-	 * Dependency-Injection of the used {@link ASPUAFrameworkAPI}.
-	 * May be relevant if a provided Interface-implementation needs a reference to an {@link ASPUAFrameworkAPI}-object
-	 * in order to perform internal computations.
-	 */
-	public abstract void setFrameworkAPI(final ASPUAFrameworkAPI frameworkAPI);
-
 	/**
 	 * @return Instance of the {@link IIOController}-Interface
 	 */
@@ -1,18 +1,53 @@
 package de.aspua.framework.Controller.ControllerInterfaces;
 
+import de.aspua.framework.Model.MeasureContext;
 import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Utils.SolutionMetaDataEnum;
 
 /**
  * Provides an Interface for computing measures for {@link Solution}-objects of a conflict.
  * Each implementations represents a measure with its own {@link SolutionMetaDataEnum}-key.
+ * <p>
+ * Implementations have to be thread-safe: The framework computes the measures of different solutions in parallel and
+ * invokes the same object from several threads at once. Therefore, implementations mustn't store per-call state in instance fields
+ * and mustn't modify the given solution or context. The computed value is written into the metadata of the solution by the framework.
+ * @see de.aspua.framework.Controller.ASPUAFrameworkAPI#setMeasureExecutor(java.util.concurrent.ExecutorService)
  */
 public interface IMeasureController
 {
     /**
-     * Computes a specific measure for the given solution. The computed measure is set in the metadata-Attribute of the given solution.
-     * The measure is only computed for the currently chosen operations. If a operation-variant is chosen, the measure has to be applied once again.
+     * Computes a specific measure for the given solution.
+     * The measure is only computed for the currently chosen operations. If a operation-variant is chosen, the measure has to be computed once again.
+     * All data which doesn't depend on the given solution should be taken from the given context instead of being recomputed.
      * @param solution Solution of interest
+     * @param context Context of the current conflict detection, which is shared by all measures
+     * @return The computed (non-negative) measure. Returns -1 if the measure couldn't be computed.
      * @see Solution#chooseVariant(de.aspua.framework.Model.ASP.BaseEntities.ASPRule)
      */
-    public void computeMeasure(Solution solution);
+    public int computeMeasure(Solution solution, MeasureContext context);
+
+    /**
+     * Computes a lower bound for the measure of the given solution without invoking expensive operations such as the solver.
+     * The bound is used to skip the computation of complex measures for solutions which can't be ranked among the best solutions.
+     * For non-complex measures, the bound may equal the actual measure.
+     * @param solution Solution of interest
+     * @param context Context of the current conflict detection, which is shared by all measures
+     * @return A lower bound for the value returned by {@link #computeMeasure(Solution, MeasureContext)}
+     * @see de.aspua.framework.Controller.Measures.SolutionRanker
+     */
+    public int computeLowerBound(Solution solution, MeasureContext context);
+
+    /**
+     * Specifies if the computation of the measure is expensive, e.g. because the solver has to be invoked.
+     * Complex measures are only computed for solutions which can still be ranked among the best solutions.
+     * @return True if the measure is complex. False if the measure can be computed cheaply.
+     * @see de.aspua.framework.Controller.Measures.SolutionRanker
+     */
+    public boolean isComplex();
+
+    /**
+     * Returns the key under which the computed measure is saved in the metadata of a solution.
+     * @return Metadata-key of the measure
+     */
+    public SolutionMetaDataEnum getMeasureKey();
 }
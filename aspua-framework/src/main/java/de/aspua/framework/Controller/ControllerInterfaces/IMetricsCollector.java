@@ -0,0 +1,44 @@
+package de.aspua.framework.Controller.ControllerInterfaces;
+
+import de.aspua.framework.Utils.MetricEnum;
+
+/**
+ * Provides an Interface to record the timings and sizes of the steps of an update process, e.g. for monitoring systems.
+ * The collector is shared by all update processes of an {@link de.aspua.framework.Controller.ASPUAFrameworkEngine} and
+ * is invoked by several threads at once. Therefore, implementations have to be thread-safe and shouldn't block.
+ * @see MetricEnum
+ * @see de.aspua.framework.Controller.Metrics.NoOpMetricsCollector
+ * @see de.aspua.framework.Controller.Metrics.InMemoryMetricsCollector
+ */
+public interface IMetricsCollector
+{
+	/**
+	 * Indicates whether recorded metrics are used at all. If false, the framework skips the computation of metrics which are costly to determine
+	 * (e.g. the size of solver requests) and doesn't wrap any controllers.
+	 * @return True, if the collector records metrics
+	 */
+	public abstract boolean isEnabled();
+
+	/**
+	 * Records the duration of a single execution of a step.
+	 * @param metric Timer which is recorded
+	 * @param tag Component of the metric, e.g. the class name of a strategy. May be null.
+	 * @param durationNanos Duration of the step in nanoseconds
+	 */
+	public abstract void recordTime(MetricEnum metric, String tag, long durationNanos);
+
+	/**
+	 * Records a single value of a distribution, e.g. the size of a program.
+	 * @param metric Value which is recorded
+	 * @param tag Component of the metric. May be null.
+	 * @param value Recorded value
+	 */
+	public abstract void recordValue(MetricEnum metric, String tag, long value);
+
+	/**
+	 * Increments a counter by one.
+	 * @param metric Counter which is incremented
+	 * @param tag Component of the metric. May be null.
+	 */
+	public abstract void increment(MetricEnum metric, String tag);
+}
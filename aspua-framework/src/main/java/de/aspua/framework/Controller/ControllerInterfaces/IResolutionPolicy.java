@@ -0,0 +1,25 @@
+package de.aspua.framework.Controller.ControllerInterfaces;
+
+import java.util.List;
+
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.Solution;
+
+/**
+ * Provides an Interface for choosing solutions without user interaction, e.g. in the batch mode of the framework.
+ * The chosen solution is applied by {@link de.aspua.framework.Controller.ASPUAFrameworkAPI#solveConflict(Solution)}
+ * and the policy is invoked again for the remaining conflicts, until the update sequence is conflict-free.
+ * <p>
+ * Implementations have to be thread-safe, as the same policy is used for several update processes at once.
+ * @see de.aspua.framework.Controller.Batch.BatchUpdateRunner
+ */
+public interface IResolutionPolicy
+{
+    /**
+     * Chooses the next solution which should be applied to the update sequence.
+     * The measures of the solutions are already registered in their metadata and may be accessed by {@link Solution#getMetaDataValue}.
+     * @param conflicts All current conflicts of the update sequence. Contains at least one conflict.
+     * @return A solution of one of the given conflicts. Returns null if none of the solutions is acceptable.
+     */
+    public Solution chooseSolution(List<Conflict> conflicts);
+}
@@ -0,0 +1,31 @@
+package de.aspua.framework.Controller.ControllerInterfaces;
+
+import java.util.List;
+
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.Solution;
+
+/**
+ * Provides an Interface to get notified about solutions which are computed in the background by complex strategies.
+ * The methods are invoked by the background threads of the framework. Therefore, implementations such as user interfaces
+ * have to pass the notification to their own thread if necessary.
+ * @see de.aspua.framework.Controller.Strategies.ComplexStrategyScheduler
+ */
+public interface ISolutionListener
+{
+	/**
+	 * Is invoked after the given solutions were added to the given conflict.
+	 * @param conflict Conflict whose solutions were extended
+	 * @param solutions Added solutions
+	 */
+	public abstract void solutionsAdded(Conflict conflict, List<Solution> solutions);
+
+	/**
+	 * Is invoked after all complex strategies were applied to the given conflict or the application was aborted.
+	 * @param conflict Conflict whose complex strategies are finished
+	 * @param completed True if all strategies were completely applied. False if the time budget was exceeded or an error occured.
+	 */
+	public default void strategiesFinished(Conflict conflict, boolean completed)
+	{
+	}
+}
@@ -13,7 +13,9 @@ public interface ISolverController
 	 * Computes all models/answer sets for the given ASP-program.
 	 * @param program {@link ASPProgram}-object whose answer sets are computed
 	 * @return List of strings, where each string represents an answer sets for the given ASP-program.
-	 * Returns null if the given ASP-program is unsatisfiable or an error occured while computing the models/answer sets.
+	 * Returns null if the given ASP-program is unsatisfiable.
+	 * @throws de.aspua.framework.Controller.Solver.SolverException If the models/answer sets couldn't be computed, e.g. because the solver isn't available.
+	 * In this case, the program may still have answer sets.
 	 */
 	public abstract List<String> computeModels(ASPProgram<?, ?> program);
 }
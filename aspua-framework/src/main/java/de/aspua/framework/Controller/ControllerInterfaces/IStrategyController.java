@@ -1,14 +1,21 @@
 package de.aspua.framework.Controller.ControllerInterfaces;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.Solution;
 import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.ELP.UpdateSequenceView;
 
 /**
  * Provides an Interface to compute possible solutions for a conflict.
  * Each implementation provides a different strategy for generating solutions.
  * Depending on the strategy, the implementation might need a reference to the used {@link ASPUAFrameworkAPI} execute necessary operations such as precomputing.
+ * <p>
+ * Implementations have to be thread-safe: The framework computes the solutions for different conflicts in parallel and
+ * invokes the same object from several threads at once. Therefore, implementations mustn't store per-call state in instance fields.
+ * @see de.aspua.framework.Controller.ASPUAFrameworkAPI#setStrategyExecutor(java.util.concurrent.ExecutorService)
  */
 public interface IStrategyController
 {
@@ -17,7 +24,52 @@ public interface IStrategyController
 	 * @param updateSequence Update sequence which contains the conflict.
 	 * @param conflict Conflict which is supposed to be solved by the computed solutions
 	 */
-	public abstract void apply(List<ASPProgram<?, ?>> updateSequence, Conflict conflict);
+	public default void apply(List<ASPProgram<?, ?>> updateSequence, Conflict conflict)
+	{
+		ASPProgram<?, ?> mergedUpdateSequence = null;
+		if(updateSequence != null && !updateSequence.isEmpty())
+			mergedUpdateSequence = new UpdateSequenceView(updateSequence);
+
+		conflict.getSolutions().addAll(this.computeSolutions(mergedUpdateSequence, conflict));
+	}
+
+	/**
+	 * Computes the solutions of the strategy for the given conflict without modifying the conflict or the given program.
+	 * The given program is shared by all strategies and conflicts, which are computed at the same time, and must only be read.
+	 * @param mergedUpdateSequence All rules of the update sequence which contains the conflict, merged into a single program. May be null if the update sequence is empty.
+	 * @param conflict Conflict which is supposed to be solved by the computed solutions
+	 * @return List of all computed {@link Solution}-objects in a deterministic order. Returns an empty list if no solution could be computed.
+	 */
+	public abstract List<Solution> computeSolutions(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict);
+
+	/**
+	 * Computes the solutions of the strategy like {@link #computeSolutions(ASPProgram, Conflict)}, but passes each solution to the given consumer
+	 * as soon as it is computed. Complex strategies should override this method to provide their first solutions early and should stop
+	 * as soon as the current thread is interrupted, e.g. because the time budget for the conflict is exceeded.
+	 * @param mergedUpdateSequence All rules of the update sequence which contains the conflict, merged into a single program. May be null if the update sequence is empty.
+	 * @param conflict Conflict which is supposed to be solved by the computed solutions
+	 * @param solutionConsumer Receives each computed {@link Solution}-object
+	 * @see de.aspua.framework.Controller.Strategies.ComplexStrategyScheduler
+	 */
+	public default void streamSolutions(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict, Consumer<Solution> solutionConsumer)
+	{
+		for (Solution solution : this.computeSolutions(mergedUpdateSequence, conflict))
+			solutionConsumer.accept(solution);
+	}
+
+	/**
+	 * Computes a fingerprint of all rules of the given program which are read by {@link #computeSolutions(ASPProgram, Conflict)} besides the conflicting rules.
+	 * If neither the conflicting rules nor the fingerprint change, the strategy has to compute the same solutions. Therefore, the framework may reuse
+	 * the solutions of previous rounds of the update process instead of invoking the strategy again.
+	 * @param mergedUpdateSequence All rules of the update sequence which contains the conflict, merged into a single program. May be null if the update sequence is empty.
+	 * @param conflict Conflict which is supposed to be solved by the computed solutions
+	 * @return The fingerprint of all read rules, e.g. created by {@link de.aspua.framework.Controller.Strategies.StrategyCache#computeFingerprint(List)}.
+	 * Returns null if the solutions mustn't be reused.
+	 */
+	public default String computeFingerprint(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict)
+	{
+		return null;
+	}
 
 	/**
 	 * Specifies if the strategy should be automatically applied to detected conflicts.
@@ -0,0 +1,30 @@
+package de.aspua.framework.Controller.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event which spans the detection of the conflicts within the answer sets of the modified update program.
+ * @see PipelineEvents
+ */
+@Name("de.aspua.ConflictDetection")
+@Label("Conflict Detection")
+@Category({ "ASPUA", "Update Pipeline" })
+@Description("Detection of the conflicts within the answer sets of the modified update program")
+public class ConflictDetectionEvent extends Event
+{
+    @Label("Program Name")
+    public String programName;
+
+    @Label("Rule Count")
+    public int ruleCount;
+
+    @Label("Answer Set Count")
+    public int modelCount;
+
+    @Label("Conflict Count")
+    public int conflictCount;
+}
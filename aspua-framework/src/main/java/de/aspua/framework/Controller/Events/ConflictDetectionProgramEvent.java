@@ -0,0 +1,30 @@
+package de.aspua.framework.Controller.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event which spans the construction of the program for conflict detection (modified update program).
+ * @see PipelineEvents
+ */
+@Name("de.aspua.ConflictDetectionProgram")
+@Label("Conflict Detection Program")
+@Category({ "ASPUA", "Update Pipeline" })
+@Description("Construction of the program for conflict detection (modified update program)")
+public class ConflictDetectionProgramEvent extends Event
+{
+    @Label("Program Name")
+    public String programName;
+
+    @Label("Program Count")
+    public int programCount;
+
+    @Label("Rule Count")
+    public int ruleCount;
+
+    @Label("Detection Program Rule Count")
+    public int detectionRuleCount;
+}
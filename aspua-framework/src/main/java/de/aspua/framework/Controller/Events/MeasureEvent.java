@@ -0,0 +1,27 @@
+package de.aspua.framework.Controller.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event which spans the computation of a measure for a single solution.
+ * @see PipelineEvents
+ */
+@Name("de.aspua.Measure")
+@Label("Measure")
+@Category({ "ASPUA", "Update Pipeline" })
+@Description("Computation of a measure for a single solution")
+public class MeasureEvent extends Event
+{
+    @Label("Measure")
+    public String measure;
+
+    @Label("Changed Rule Count")
+    public int changedRuleCount;
+
+    @Label("Result")
+    public int result;
+}
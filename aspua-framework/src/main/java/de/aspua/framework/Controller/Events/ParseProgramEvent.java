@@ -0,0 +1,27 @@
+package de.aspua.framework.Controller.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event which spans the parsing of an ASP-program.
+ * @see PipelineEvents
+ */
+@Name("de.aspua.ParseProgram")
+@Label("Parse Program")
+@Category({ "ASPUA", "Update Pipeline" })
+@Description("Parsing of an ASP-program")
+public class ParseProgramEvent extends Event
+{
+    @Label("Program Name")
+    public String programName;
+
+    @Label("Input Length")
+    public int inputLength;
+
+    @Label("Rule Count")
+    public int ruleCount;
+}
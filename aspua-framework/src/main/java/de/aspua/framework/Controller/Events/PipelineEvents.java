@@ -0,0 +1,198 @@
+package de.aspua.framework.Controller.Events;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import de.aspua.framework.Controller.ControllerInterfaces.IConflictDetectionController;
+import de.aspua.framework.Controller.ControllerInterfaces.IMeasureController;
+import de.aspua.framework.Controller.ControllerInterfaces.IParserController;
+import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
+import de.aspua.framework.Controller.ControllerInterfaces.IStrategyController;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.MeasureContext;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.AnswerSet;
+
+/**
+ * Invokes the controllers of the update pipeline within Java Flight Recorder events, so the steps of an update process
+ * can be correlated with garbage collection, allocation and thread activity in recordings of running applications.
+ * The events belong to the category 'ASPUA' and are only committed while a recording runs and doesn't disable them (e.g. by a custom .jfc-file).
+ * As the fields of uncommitted events aren't computed, the invocations don't cause any considerable overhead without a recording.
+ */
+public final class PipelineEvents
+{
+    private PipelineEvents() {}
+
+    /**
+     * Invokes {@link ISolverController#computeModels(ASPProgram)} within a {@link SolverEvent}.
+     */
+    public static List<String> computeModels(ISolverController solver, ASPProgram<?, ?> program)
+    {
+        SolverEvent event = new SolverEvent();
+        event.begin();
+        List<String> models = solver.computeModels(program);
+        event.end();
+
+        if(event.shouldCommit())
+        {
+            event.programName = program == null ? null : program.getProgramName();
+            event.ruleCount = program == null ? 0 : program.getRuleSet().size();
+            event.modelCount = models == null ? 0 : models.size();
+            event.commit();
+        }
+        return models;
+    }
+
+    /**
+     * Invokes {@link IConflictDetectionController#computeConflictDetectionProgram(List)} within a {@link ConflictDetectionProgramEvent}.
+     */
+    public static ASPProgram<?, ?> computeConflictDetectionProgram(IConflictDetectionController conflictDetector, List<ASPProgram<?, ?>> updateSequence)
+    {
+        ConflictDetectionProgramEvent event = new ConflictDetectionProgramEvent();
+        event.begin();
+        ASPProgram<?, ?> conflictDetectionProgram = conflictDetector.computeConflictDetectionProgram(updateSequence);
+        event.end();
+
+        if(event.shouldCommit())
+        {
+            event.programName = getProgramName(updateSequence);
+            event.programCount = updateSequence == null ? 0 : updateSequence.size();
+            event.ruleCount = countRules(updateSequence);
+            event.detectionRuleCount = conflictDetectionProgram == null ? 0 : conflictDetectionProgram.getRuleSet().size();
+            event.commit();
+        }
+        return conflictDetectionProgram;
+    }
+
+    /**
+     * Invokes {@link IConflictDetectionController#detectConflicts(List, List)} within a {@link ConflictDetectionEvent}.
+     */
+    public static List<Conflict> detectConflicts(IConflictDetectionController conflictDetector, List<ASPProgram<?, ?>> updateSequence,
+        List<AnswerSet<?, ?>> answerSets)
+    {
+        ConflictDetectionEvent event = new ConflictDetectionEvent();
+        event.begin();
+        List<Conflict> conflicts = conflictDetector.detectConflicts(updateSequence, answerSets);
+        event.end();
+
+        if(event.shouldCommit())
+        {
+            event.programName = getProgramName(updateSequence);
+            event.ruleCount = countRules(updateSequence);
+            event.modelCount = answerSets == null ? 0 : answerSets.size();
+            event.conflictCount = conflicts == null ? 0 : conflicts.size();
+            event.commit();
+        }
+        return conflicts;
+    }
+
+    /**
+     * Invokes {@link IStrategyController#computeSolutions(ASPProgram, Conflict)} within a {@link StrategyEvent}.
+     */
+    public static List<Solution> computeSolutions(IStrategyController strategy, ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict)
+    {
+        StrategyEvent event = new StrategyEvent();
+        event.begin();
+        List<Solution> solutions = strategy.computeSolutions(mergedUpdateSequence, conflict);
+        event.end();
+
+        if(event.shouldCommit())
+            commitStrategyEvent(event, strategy, mergedUpdateSequence, solutions == null ? 0 : solutions.size());
+
+        return solutions;
+    }
+
+    /**
+     * Invokes {@link IStrategyController#streamSolutions(ASPProgram, Conflict, Consumer)} within a {@link StrategyEvent}.
+     * The event counts the streamed solutions.
+     */
+    public static void streamSolutions(IStrategyController strategy, ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict, Consumer<Solution> consumer)
+    {
+        StrategyEvent event = new StrategyEvent();
+        int[] solutionCount = new int[1];
+        event.begin();
+        try
+        {
+            strategy.streamSolutions(mergedUpdateSequence, conflict, x -> {
+                solutionCount[0]++;
+                consumer.accept(x);
+            });
+        } finally {
+            event.end();
+            if(event.shouldCommit())
+                commitStrategyEvent(event, strategy, mergedUpdateSequence, solutionCount[0]);
+        }
+    }
+
+    /**
+     * Invokes {@link IMeasureController#computeMeasure(Solution, MeasureContext)} within a {@link MeasureEvent}.
+     */
+    public static int computeMeasure(IMeasureController measure, Solution solution, MeasureContext context)
+    {
+        MeasureEvent event = new MeasureEvent();
+        event.begin();
+        int result = measure.computeMeasure(solution, context);
+        event.end();
+
+        if(event.shouldCommit())
+        {
+            event.measure = String.valueOf(measure.getMeasureKey());
+            event.changedRuleCount = solution.getAddedRules().size() + solution.getModifiedRules().size() + solution.getDeletedRules().size();
+            event.result = result;
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * Invokes {@link IParserController#parseProgram(String, String)} within a {@link ParseProgramEvent}.
+     */
+    public static ASPProgram<?, ?> parseProgram(IParserController parser, String programString, String programName)
+    {
+        ParseProgramEvent event = new ParseProgramEvent();
+        event.begin();
+        ASPProgram<?, ?> program = parser.parseProgram(programString, programName);
+        event.end();
+
+        if(event.shouldCommit())
+        {
+            event.programName = programName;
+            event.inputLength = programString == null ? 0 : programString.length();
+            event.ruleCount = program == null ? 0 : program.getRuleSet().size();
+            event.commit();
+        }
+        return program;
+    }
+
+    private static void commitStrategyEvent(StrategyEvent event, IStrategyController strategy, ASPProgram<?, ?> mergedUpdateSequence, int solutionCount)
+    {
+        event.strategy = strategy.getClass().getSimpleName();
+        event.programName = mergedUpdateSequence == null ? null : mergedUpdateSequence.getProgramName();
+        event.ruleCount = mergedUpdateSequence == null ? 0 : mergedUpdateSequence.getRuleSet().size();
+        event.solutionCount = solutionCount;
+        event.commit();
+    }
+
+    /**
+     * The update sequence is named after its last program, which contains the most recent knowledge.
+     */
+    private static String getProgramName(List<ASPProgram<?, ?>> updateSequence)
+    {
+        if(updateSequence == null || updateSequence.isEmpty())
+            return null;
+
+        return updateSequence.get(updateSequence.size() - 1).getProgramName();
+    }
+
+    private static int countRules(List<ASPProgram<?, ?>> updateSequence)
+    {
+        int ruleCount = 0;
+        if(updateSequence != null)
+        {
+            for (ASPProgram<?, ?> program : updateSequence)
+                ruleCount += program.getRuleSet().size();
+        }
+        return ruleCount;
+    }
+}
@@ -0,0 +1,27 @@
+package de.aspua.framework.Controller.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event which spans the computation of the models of a program by the solver.
+ * @see PipelineEvents
+ */
+@Name("de.aspua.SolverCall")
+@Label("Solver Call")
+@Category({ "ASPUA", "Update Pipeline" })
+@Description("Computation of the models of a program by the solver")
+public class SolverEvent extends Event
+{
+    @Label("Program Name")
+    public String programName;
+
+    @Label("Rule Count")
+    public int ruleCount;
+
+    @Label("Model Count")
+    public int modelCount;
+}
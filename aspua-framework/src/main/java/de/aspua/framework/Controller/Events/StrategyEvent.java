@@ -0,0 +1,30 @@
+package de.aspua.framework.Controller.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event which spans the computation of the solutions of a single conflict by a strategy.
+ * @see PipelineEvents
+ */
+@Name("de.aspua.Strategy")
+@Label("Strategy")
+@Category({ "ASPUA", "Update Pipeline" })
+@Description("Computation of the solutions of a single conflict by a strategy")
+public class StrategyEvent extends Event
+{
+    @Label("Strategy")
+    public String strategy;
+
+    @Label("Program Name")
+    public String programName;
+
+    @Label("Rule Count")
+    public int ruleCount;
+
+    @Label("Solution Count")
+    public int solutionCount;
+}
@@ -0,0 +1,159 @@
+package de.aspua.framework.Controller.History;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.aspua.framework.Model.SessionVersion;
+import de.aspua.framework.Utils.Constants;
+
+/**
+ * Keeps the versions of an update process, so steps of the conflict resolution can be undone and redone without computing the conflicts again.
+ * Undo and redo only move the pointer to the current version. Recording a new version discards all versions which were undone before.
+ * <p>
+ * The total weight of all kept versions is limited by the capacity (see {@link SessionVersion#getWeight()}).
+ * If a new version exceeds the capacity, the oldest versions are evicted. The current version is never evicted.
+ * The history isn't thread-safe and is synchronized by the {@link de.aspua.framework.Controller.ASPUAFrameworkAPI}.
+ */
+public class SessionHistory
+{
+    private List<SessionVersion> versions;
+    /** Position of the current version. -1 if no version exists. */
+    private int currentIndex;
+    private long totalWeight;
+    private long capacity;
+
+    public SessionHistory()
+    {
+        this(Constants.SESSION_HISTORY_CAPACITY);
+    }
+
+    /**
+     * @param capacity Maximal total weight of all kept versions
+     */
+    public SessionHistory(long capacity)
+    {
+        versions = new ArrayList<>();
+        currentIndex = -1;
+        totalWeight = 0;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds the given version after the current version and makes it the current version.
+     * All versions after the previous current version are discarded, afterwards the oldest versions are evicted until the capacity is met.
+     * @param version Version which is recorded
+     */
+    public void record(SessionVersion version)
+    {
+        if(version == null)
+            return;
+
+        while(versions.size() > currentIndex + 1)
+            totalWeight -= versions.remove(versions.size() - 1).getWeight();
+
+        versions.add(version);
+        totalWeight += version.getWeight();
+        currentIndex = versions.size() - 1;
+        this.evict();
+    }
+
+    /**
+     * Moves the pointer to the previous version.
+     * @return The previous version, which is now the current version. Null if no previous version exists.
+     */
+    public SessionVersion undo()
+    {
+        if(!this.canUndo())
+            return null;
+
+        currentIndex--;
+        return versions.get(currentIndex);
+    }
+
+    /**
+     * Moves the pointer to the next version, which was undone before.
+     * @return The next version, which is now the current version. Null if no next version exists.
+     */
+    public SessionVersion redo()
+    {
+        if(!this.canRedo())
+            return null;
+
+        currentIndex++;
+        return versions.get(currentIndex);
+    }
+
+    /**
+     * Moves the pointer to the version at the given position. Later versions are kept, so they can still be redone.
+     * @param index Position of the version within the kept versions (see {@link #getVersions()})
+     * @return The version at the given position, which is now the current version. Null if no version exists at the given position.
+     */
+    public SessionVersion restore(int index)
+    {
+        if(index < 0 || index >= versions.size())
+            return null;
+
+        currentIndex = index;
+        return versions.get(currentIndex);
+    }
+
+    public boolean canUndo() {
+        return currentIndex > 0;
+    }
+
+    public boolean canRedo() {
+        return currentIndex >= 0 && currentIndex < versions.size() - 1;
+    }
+
+    /**
+     * Removes all versions of the history.
+     */
+    public void clear()
+    {
+        versions.clear();
+        currentIndex = -1;
+        totalWeight = 0;
+    }
+
+    /**
+     * Evicts the oldest versions until the total weight doesn't exceed the capacity or only the current version is left.
+     */
+    private void evict()
+    {
+        while(totalWeight > capacity && currentIndex > 0)
+        {
+            totalWeight -= versions.remove(0).getWeight();
+            currentIndex--;
+        }
+    }
+
+    /**
+     * Returns the version which the pointer refers to.
+     * @return The current version. Null if no version exists.
+     */
+    public SessionVersion getCurrentVersion() {
+        return currentIndex < 0 ? null : versions.get(currentIndex);
+    }
+
+    public int getCurrentIndex() {
+        return currentIndex;
+    }
+
+    public List<SessionVersion> getVersions() {
+        return new ArrayList<>(versions);
+    }
+
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(long capacity)
+    {
+        this.capacity = capacity;
+        this.evict();
+    }
+}
@@ -1,193 +1,187 @@
 package de.aspua.framework.Controller.Measures;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import de.aspua.framework.Controller.ASPUAFrameworkAPI;
 import de.aspua.framework.Controller.ControllerInterfaces.IMeasureController;
+import de.aspua.framework.Model.MeasureContext;
 import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.SolutionPreview;
 import de.aspua.framework.Model.ASP.BaseEntities.AnswerSet;
-import de.aspua.framework.Model.ASP.BaseEntities.ASPLiteral;
-import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
-import de.aspua.framework.Model.ASP.ELP.ELPLiteral;
-import de.aspua.framework.Model.ASP.ELP.ELPRule;
 import de.aspua.framework.Utils.SolutionMetaDataEnum;
 
 /**
  * Provides a measure to determine how many literals in the answer sets of the update sequence would be changed by a applied solution.
  * Different answer sets are compared by their 'interpretation-distance', which represents the symmetric difference between two answer sets.
- * The Kuhn–Munkres assignment algorithm is used to find a minimal assigment between the current answer sets and the answer sets after a solution is applied
+ * The answer sets are compared by their encodings w.r.t. the literal universe of the {@link MeasureContext}, so the distance equals the cardinality
+ * of the exclusive or of both encodings.
+ * A shortest augmenting path assignment algorithm is used to find a minimal assigment between the current answer sets and the answer sets after a solution is applied
  * (minimal w.r.t. the 'interpretation-distance' between the answer sets).
- * @see HungarianAlgorithm
+ * @see ShortestAugmentingPathAlgorithm
  */
 public class AnswerSetMeasure implements IMeasureController
 {
     private static Logger LOGGER = LoggerFactory.getLogger(AnswerSetMeasure.class);
-    
-    private ASPUAFrameworkAPI frameworkAPI;
-    private List<ASPProgram<?, ?>> updateSequence;
-
-    public AnswerSetMeasure(ASPUAFrameworkAPI frameworkAPI)
-    {
-        this.frameworkAPI = frameworkAPI;
-    }
 
     /**
      * Computes the answer set measure for the given solution.
-     * The computed measure is set in the metadata-Attribute of the given solution with the key {@link SolutionMetaDataEnum#MEASURE_ANSWERSETCHANGES}.
+     * The computed measure is saved in the metadata of the solution with the key {@link SolutionMetaDataEnum#MEASURE_ANSWERSETCHANGES}.
      * The measure is only computed for the currently chosen operations. If a operation-variant is chosen, the measure has to be applied once again.
+     * The encoded update answer sets of the current update sequence are taken from the given context.
+     * The answer sets after applying the solution are computed by the preview function of the context, as the measure is shared by all sessions.
      */
     @Override
-    public void computeMeasure(Solution solution)
+    public int computeMeasure(Solution solution, MeasureContext context)
     {
-        List<AnswerSet<?, ?>> currentAnswerSets = frameworkAPI.getCurrentAnswerSets();
-        List<AnswerSet<?, ?>> oldUpdateAnswerSets = new ArrayList<>();
-        
-        for (AnswerSet<?,?> answerSet : currentAnswerSets)
-            oldUpdateAnswerSets.add(this.computeUpdateAnswerSet(answerSet));
-        
-        this.getCurrentUpdateSequence();
-        List<AnswerSet<?, ?>> newUpdateAnswerSets = getAnswerSetsAfterSolution(solution);
-        int result = this.computeAnswerSetMeasure(oldUpdateAnswerSets, newUpdateAnswerSets);
-
-        if(result >= 0)
-            solution.addMetaData(SolutionMetaDataEnum.MEASURE_ANSWERSETCHANGES, result);
+        List<BitSet> newEncodings = this.getEncodingsAfterSolution(solution, context);
+        if(newEncodings == null)
+        {
+            LOGGER.info("The answerset-measure couldn't be applied, because the answer sets after applying the solution couldn't be computed.");
+            return -1;
+        }
+
+        return this.computeAnswerSetMeasure(context.getBaselineEncodings(), newEncodings);
     }
 
     /**
-     * Copies the update sequence of the framework to the local update sequence.
+     * The answer sets after applying a solution can't be estimated without invoking the solver.
+     * Even a solution which changes many rules may leave all answer sets unchanged. Therefore, the trivial lower bound 0 is used.
      */
-    private void getCurrentUpdateSequence()
+    @Override
+    public int computeLowerBound(Solution solution, MeasureContext context)
     {
-        List<ASPProgram<?, ?>> originalUpdateSequence = frameworkAPI.getUpdateSequence();
-        updateSequence = new ArrayList<>();
-
-        for (ASPProgram<?,?> program : originalUpdateSequence)
-            updateSequence.add(program.createNewInstance());
+        return 0;
     }
 
     /**
-     * Removes all meta-literals from the given answer set.
-     * A literal is considered as a meta-literal, if it isn't included in the literal base of the update sequence.
-     * @param answerSet Answer set with meta literals
-     * @return A new instance of the given {@link AnswerSet}-object without meta literals
+     * The measure is complex, as the solver is invoked for every solution.
      */
-    private AnswerSet<?, ?> computeUpdateAnswerSet(AnswerSet<?, ?> answerSet)
+    @Override
+    public boolean isComplex()
     {
-        List<ASPProgram<?, ?>> originalUpdateSequence = frameworkAPI.getUpdateSequence();
-        answerSet = answerSet.createNewInstance();
-        HashSet<ASPLiteral<?>> nonMetaLiterals = new HashSet<>();
-
-        for (ASPProgram<?, ?> program : originalUpdateSequence)
-            nonMetaLiterals.addAll(program.getLiteralBase().keySet());
+        return true;
+    }
 
-        answerSet.getLiterals().removeIf(x -> !nonMetaLiterals.contains(x));
-        return answerSet;
+    @Override
+    public SolutionMetaDataEnum getMeasureKey()
+    {
+        return SolutionMetaDataEnum.MEASURE_ANSWERSETCHANGES;
     }
 
     /**
-     * Computes the update answer sets for the update sequence in which the given solution would be applied.
+     * Computes the encoded update answer sets for the update sequence in which the given solution would be applied.
+     * Meta-literals are omitted by the encoding, so the answer sets don't have to be copied and filtered beforehand.
      * @param solution Applied solution
-     * @return List of update answer sets for the resulting update sequence after applying the solution
+     * @param context Context which provides the previews of solutions and the literal universe for the encoding
+     * @return List of encoded update answer sets for the resulting update sequence after applying the solution.
+     * Returns null if the answer sets couldn't be computed, e.g. because the context doesn't provide previews.
      */
-    private List<AnswerSet<?, ?>> getAnswerSetsAfterSolution(Solution solution)
+    private List<BitSet> getEncodingsAfterSolution(Solution solution, MeasureContext context)
     {
-        List<AnswerSet<?, ?>> newAnswerSets = frameworkAPI.previewSolutionAnswerSets(solution);
-        List<AnswerSet<?, ?>> updateAnswerSets = new ArrayList<>();
+        List<AnswerSet<?, ?>> newAnswerSets = null;
+        if(context.canPreviewSolutions())
+        {
+            SolutionPreview preview = context.previewSolution(solution);
+            if(preview != null)
+                newAnswerSets = preview.getAnswerSets();
+        }
 
+        if(newAnswerSets == null)
+            return null;
+
+        List<BitSet> encodings = new ArrayList<>(newAnswerSets.size());
         for (AnswerSet<?,?> answerSet : newAnswerSets)
-            updateAnswerSets.add(this.computeUpdateAnswerSet(answerSet));
+            encodings.add(context.encode(answerSet));
 
-        return updateAnswerSets;
+        return encodings;
     }
 
     /**
-     * Computes the answer set measure for the given answer sets.
+     * Computes the answer set measure for the given encoded answer sets.
      * 1. Step: Assign interpretation distances for each pair of answer sets.
-     * 2. Step: Compute a minimal assignment using the hungarian algorithm based on the interpretation-distances.
+     * 2. Step: Compute a minimal assignment using the {@link ShortestAugmentingPathAlgorithm} based on the interpretation-distances.
      * 3. Step: Add up all interpretation-distances of assigned answer sets.
-     * @param oldAnswerSets Update answer sets of the current update sequence
-     * @param newAnswerSets Update answer sets after the solution is applied
+     * If the number of answer sets differs, each unassigned answer set is compared to an empty answer set, i.e. its distance equals its size.
+     * To find the optimal assignment w.r.t. these distances without padding the matrix with empty answer sets,
+     * the size of the answer set on the larger side is subtracted from each distance and added to the total again afterwards.
+     * @param oldEncodings Encoded update answer sets of the current update sequence
+     * @param newEncodings Encoded update answer sets after the solution is applied
      * @return The answer set measure (minimal sum of interpretation-distances for assigned answer sets)
      */
-    private int computeAnswerSetMeasure(List<AnswerSet<?, ?>> oldAnswerSets, List<AnswerSet<?, ?>> newAnswerSets)
+    private int computeAnswerSetMeasure(List<BitSet> oldEncodings, List<BitSet> newEncodings)
     {
-        while(oldAnswerSets.size() < newAnswerSets.size())
-            oldAnswerSets.add(new AnswerSet<ELPRule, ELPLiteral>(null));
-
-        while(oldAnswerSets.size() > newAnswerSets.size())
-            newAnswerSets.add(new AnswerSet<ELPRule, ELPLiteral>(null));
+        int rows = oldEncodings.size();
+        int columns = newEncodings.size();
+        boolean unassignedColumns = columns > rows;
+        boolean unassignedRows = rows > columns;
+
+        int[] oldSizes = new int[rows];
+        int[] newSizes = new int[columns];
+        for (int i = 0; i < rows; i++)
+            oldSizes[i] = oldEncodings.get(i).cardinality();
+        for (int j = 0; j < columns; j++)
+            newSizes[j] = newEncodings.get(j).cardinality();
+
+        // Costs for leaving an answer set of the larger side unassigned
+        int unassignedCosts = 0;
+        if(unassignedColumns)
+            for (int size : newSizes)
+                unassignedCosts += size;
+        if(unassignedRows)
+            for (int size : oldSizes)
+                unassignedCosts += size;
+
+        if(rows == 0 || columns == 0)
+            return unassignedCosts;
 
         // 1. Step
-        int[][] distanceMatrix = new int[oldAnswerSets.size()][oldAnswerSets.size()];
+        int[] distanceMatrix = new int[rows * columns];
+        int[] costMatrix = new int[rows * columns];
+        BitSet difference = new BitSet();
 
-        for (int i = 0; i < distanceMatrix.length; i++)
-            for (int j = 0; j < distanceMatrix[i].length; j++)
-                distanceMatrix[i][j] = this.computeInterpretationDistance(oldAnswerSets.get(i).getLiterals(), newAnswerSets.get(j).getLiterals());
-
-        // Copy distanceMatrix for parameter-call of HungarianAlgorithm, as the matrix would be modified otherwise (call by reference)
-        int[][] parameterMatrix = new int[oldAnswerSets.size()][oldAnswerSets.size()];
-        for(int i=0; i<distanceMatrix.length; i++)
-            for(int j=0; j<distanceMatrix[i].length; j++)
-                parameterMatrix[i][j]=distanceMatrix[i][j];
+        for (int i = 0; i < rows; i++)
+        {
+            for (int j = 0; j < columns; j++)
+            {
+                difference.clear();
+                difference.or(oldEncodings.get(i));
+                difference.xor(newEncodings.get(j));
+
+                int distance = difference.cardinality();
+                distanceMatrix[i * columns + j] = distance;
+
+                if(unassignedColumns)
+                    distance -= newSizes[j];
+                else if(unassignedRows)
+                    distance -= oldSizes[i];
+
+                costMatrix[i * columns + j] = distance;
+            }
+        }
 
         // 2. Step
-        HungarianAlgorithm hungarianAlgorithm = new HungarianAlgorithm(parameterMatrix);
-        int[][] assignment = hungarianAlgorithm.findOptimalAssignment();
+        int[] assignment = new ShortestAugmentingPathAlgorithm().findOptimalAssignment(costMatrix, rows, columns);
 
-        if(assignment.length == 0)
+        // 3. Step
+        int finalMeasure = unassignedCosts;
+        for (int i = 0; i < rows; i++)
         {
-            LOGGER.info("The answerset-measure couldn't be applied.");
-            return -1;
+            if(assignment[i] < 0)
+                continue;
+
+            finalMeasure += distanceMatrix[i * columns + assignment[i]];
+
+            // The assigned answer set of the larger side was counted as unassigned before
+            if(unassignedColumns)
+                finalMeasure -= newSizes[assignment[i]];
+            else if(unassignedRows)
+                finalMeasure -= oldSizes[i];
         }
 
-        // 3. Step
-        int finalMeasure = 0;
-        for (int i = 0; i < assignment.length; i++)
-            finalMeasure += distanceMatrix[assignment[i][0]][assignment[i][1]];
-        
         return finalMeasure;
     }
-
-    /**
-     * Computes the interpretation-distance (symmetric difference) between two lists of literals.
-     * The parameter-lists use wildcards because the literal-lists of different {@link AnswerSet}-objects might not use the same class-type.
-     * This is only necessary for type-saefty! Only invoke the the method with lists of {@link ASPLiteral}-objects!
-     * @param first List of {@link ASPLiteral}-objects, which represent the literals of the first answer set
-     * @param second List of {@link ASPLiteral}-objects, which represent the literals of the second answer set
-     * @return The interpretation-distance between the given lists of literals
-     * @see RuleMeasure
-     */
-    private int computeInterpretationDistance(List<?> first, List<?> second)
-    {
-        if(first.size() == 0)
-            return second.size();
-
-        if(second.size() == 0)
-            return first.size();
-
-        // Convert wildcard-type back to concrete Literal<?> type
-        List<ASPLiteral<?>> castedFirst = new ArrayList<>();
-        List<ASPLiteral<?>> castedSecond = new ArrayList<>();
-        first.forEach(x -> castedFirst.add((ASPLiteral<?>) x));
-        second.forEach(x -> castedSecond.add((ASPLiteral<?>) x));
-
-        int distance = 0;
-        //Compute difference between first and second list of literals in answer set
-        List<ASPLiteral<?>> firstLiteralList = new ArrayList<>(castedFirst);
-        List<ASPLiteral<?>> secondLiteralList = new ArrayList<>(castedSecond);
-        firstLiteralList.removeAll(secondLiteralList);
-        distance = firstLiteralList.size();
-
-        //Compute difference between second and first list of literals in answer set
-        firstLiteralList = new ArrayList<>(castedFirst);
-        secondLiteralList.removeAll(firstLiteralList);
-        distance += secondLiteralList.size();
-
-        return distance;
-    }
 }
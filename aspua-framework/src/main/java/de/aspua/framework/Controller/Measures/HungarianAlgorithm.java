@@ -13,7 +13,11 @@ import java.util.Set;
  * @version 1.0
  * 
  * ACCESSED ON 12.04.2021
+ *
+ * @deprecated Superseded by {@link ShortestAugmentingPathAlgorithm}, which supports rectangular matrices and doesn't modify the given matrix.
+ * The class is only kept as a reference implementation for benchmarks.
  */
+@Deprecated
 public class HungarianAlgorithm {
 
     int[][] matrix; // initial matrix (cost matrix)
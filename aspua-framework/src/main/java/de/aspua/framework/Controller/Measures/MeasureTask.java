@@ -0,0 +1,110 @@
+package de.aspua.framework.Controller.Measures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.FutureTask;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.aspua.framework.Controller.ControllerInterfaces.IMeasureController;
+import de.aspua.framework.Controller.ControllerInterfaces.IMetricsCollector;
+import de.aspua.framework.Controller.Events.PipelineEvents;
+import de.aspua.framework.Controller.Metrics.NoOpMetricsCollector;
+import de.aspua.framework.Model.MeasureContext;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Utils.MetricEnum;
+
+/**
+ * Computation of a single measure for a single solution, which is saved in the metadata of the solution until it is finished.
+ * The task can be executed by an executor in the background or on demand by {@link Solution#getMetaDataValue(de.aspua.framework.Utils.SolutionMetaDataEnum)}.
+ * Failed computations (i.e. negative measures) result in null.
+ * <p>
+ * Callbacks can be registered by {@link #whenDone(Runnable)}, e.g. to refresh a user interface as soon as a background computation is finished,
+ * without executing or awaiting the computation.
+ */
+public class MeasureTask extends FutureTask<Integer>
+{
+    private static Logger LOGGER = LoggerFactory.getLogger(MeasureTask.class);
+
+    private final IMeasureController measure;
+    /** Callbacks which are invoked as soon as the task is finished */
+    private final List<Runnable> completionCallbacks = new ArrayList<>();
+
+    /**
+     * Creates a task which computes the given measure for the given solution.
+     * @param measure Measure which is computed
+     * @param solution Solution of interest
+     * @param context Context of the current conflict detection
+     */
+    public MeasureTask(IMeasureController measure, Solution solution, MeasureContext context)
+    {
+        this(measure, solution, context, NoOpMetricsCollector.INSTANCE);
+    }
+
+    /**
+     * Creates a task which computes the given measure for the given solution and records the duration of the computation.
+     * @param measure Measure which is computed
+     * @param solution Solution of interest
+     * @param context Context of the current conflict detection
+     * @param metricsCollector Collector which receives the duration, tagged by the measure key
+     */
+    public MeasureTask(IMeasureController measure, Solution solution, MeasureContext context, IMetricsCollector metricsCollector)
+    {
+        super(() -> {
+            long start = System.nanoTime();
+            int result = PipelineEvents.computeMeasure(measure, solution, context);
+            metricsCollector.recordTime(MetricEnum.MEASURE, String.valueOf(measure.getMeasureKey()), System.nanoTime() - start);
+            return result >= 0 ? result : null;
+        });
+        this.measure = measure;
+    }
+
+    /**
+     * Registers a callback which is invoked as soon as the task is finished, i.e. computed, failed or cancelled.
+     * The callback is invoked by the thread which finishes the task, or immediately if the task is already finished.
+     * The task itself isn't executed by this method.
+     * @param callback Callback which must not block, as it may be invoked by a thread of the measure-executor
+     */
+    public void whenDone(Runnable callback)
+    {
+        synchronized (completionCallbacks)
+        {
+            if(!this.isDone())
+            {
+                completionCallbacks.add(callback);
+                return;
+            }
+        }
+
+        this.invoke(callback);
+    }
+
+    @Override
+    protected void done()
+    {
+        List<Runnable> callbacks;
+        synchronized (completionCallbacks)
+        {
+            callbacks = new ArrayList<>(completionCallbacks);
+            completionCallbacks.clear();
+        }
+
+        for (Runnable callback : callbacks)
+            this.invoke(callback);
+    }
+
+    private void invoke(Runnable callback)
+    {
+        try
+        {
+            callback.run();
+        } catch (RuntimeException e) {
+            LOGGER.warn("A callback of the computation of the measure {} failed.", measure.getMeasureKey(), e);
+        }
+    }
+
+    public IMeasureController getMeasure() {
+        return measure;
+    }
+}
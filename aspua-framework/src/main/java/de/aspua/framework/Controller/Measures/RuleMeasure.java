@@ -6,11 +6,10 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import de.aspua.framework.Controller.ASPUAFrameworkAPI;
 import de.aspua.framework.Controller.ControllerInterfaces.IMeasureController;
+import de.aspua.framework.Model.MeasureContext;
 import de.aspua.framework.Model.Solution;
 import de.aspua.framework.Model.ASP.BaseEntities.ASPLiteral;
-import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
 import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
 import de.aspua.framework.Model.ASP.ELP.ELPRule;
 import de.aspua.framework.Utils.SolutionMetaDataEnum;
@@ -23,24 +22,16 @@ import de.aspua.framework.Utils.SolutionMetaDataEnum;
 public class RuleMeasure implements IMeasureController
 {
     private static Logger LOGGER = LoggerFactory.getLogger(RuleMeasure.class);
-    
-    private ASPUAFrameworkAPI frameworkAPI;
-    private List<ASPProgram<?, ?>> updateSequence;
 
-    public RuleMeasure(ASPUAFrameworkAPI frameworkAPI)
-    {
-        this.frameworkAPI = frameworkAPI;
-    }
-    
     /**
      * Computes the rule measure for the given solution.
-     * The computed measure is set in the metadata-Attribute of the given solution with the key {@link SolutionMetaDataEnum#MEASURE_RULECHANGES}.
+     * The computed measure is saved in the metadata of the solution with the key {@link SolutionMetaDataEnum#MEASURE_RULECHANGES}.
      * The measure is only computed for the currently chosen operations. If a operation-variant is chosen, the measure has to be applied once again.
+     * The original rules of modified rules are looked up in the given context.
      */
     @Override
-    public void computeMeasure(Solution solution)
+    public int computeMeasure(Solution solution, MeasureContext context)
     {
-        this.updateSequence = frameworkAPI.getUpdateSequence();
         int result = 0;
 
         // rule-distance for added and deleted rules equals the amount of literals in the rule
@@ -53,27 +44,40 @@ public class RuleMeasure implements IMeasureController
         for (ASPRule<?> solutionRule : solution.getModifiedRules())
         {
             // Search for the original rule from the update sequence which gets modified
-            ASPRule<?> originalRule = null;
-            for (ASPProgram<?,?> aspProgram : updateSequence)
-            {
-                originalRule = aspProgram.getRule(solutionRule.getID());
-
-                if(originalRule != null)
-                    break;
-            }
+            ASPRule<?> originalRule = context.getRule(solutionRule.getID());
 
             if(originalRule == null)
             {
                 LOGGER.warn("The rule measure couldn't be computed because the modification of rule {} doesn't refer to an existing rule in the Update-Sequence. Solution: \\s {}",
                             solutionRule.getID(), solution.toString());
-                result = -1;
+                return -1;
             }
             else
                 result += this.computeRuleDistance((ELPRule) originalRule,(ELPRule) solutionRule);
         }
         
-        if(result >= 0)
-            solution.addMetaData(SolutionMetaDataEnum.MEASURE_RULECHANGES, result);
+        return result;
+    }
+
+    /**
+     * The rule measure is cheap to compute, so the lower bound equals the actual measure.
+     */
+    @Override
+    public int computeLowerBound(Solution solution, MeasureContext context)
+    {
+        return this.computeMeasure(solution, context);
+    }
+
+    @Override
+    public boolean isComplex()
+    {
+        return false;
+    }
+
+    @Override
+    public SolutionMetaDataEnum getMeasureKey()
+    {
+        return SolutionMetaDataEnum.MEASURE_RULECHANGES;
     }
 
     /**
@@ -0,0 +1,187 @@
+package de.aspua.framework.Controller.Measures;
+
+import java.util.Arrays;
+
+/**
+ * Solves the (rectangular) linear assignment problem by successive shortest augmenting paths with dual potentials,
+ * as described by Jonker and Volgenant (1987). Each row is added to the matching by one Dijkstra-like search over the columns,
+ * which results in a worst case complexity of O(n²m) for n = min(rows, columns) and m = max(rows, columns).
+ * <p>
+ * In contrast to the {@link HungarianAlgorithm}, the cost matrix is read from a flat, row-major {@code int[]}, isn't modified
+ * and doesn't have to be square. If the matrix has more rows than columns (or vice versa), the surplus rows (columns) stay unassigned.
+ * All working arrays are allocated once per object and reused for further invocations, so the inner loops don't allocate any memory.
+ * Therefore, objects of this class are not thread-safe and should not be shared between threads.
+ */
+public class ShortestAugmentingPathAlgorithm
+{
+    private static final long INFINITY = Long.MAX_VALUE / 4;
+
+    // Dual potentials of the rows (u) and columns (v), index 0 is a virtual row/column
+    private long[] u;
+    private long[] v;
+    // Minimal reduced costs of the columns in the current search
+    private long[] minReducedCost;
+    // p[j]: Row which is assigned to column j (0 if unassigned); way[j]: previous column on the shortest path to column j
+    private int[] p;
+    private int[] way;
+    private boolean[] used;
+
+    public ShortestAugmentingPathAlgorithm()
+    {
+        this.ensureCapacity(0, 0);
+    }
+
+    /**
+     * Computes an assignment with minimal total costs for the given cost matrix.
+     * Every row is assigned to exactly one column if the matrix has at most as many rows as columns.
+     * Otherwise, every column is assigned to exactly one row.
+     * @param costs Cost matrix in row-major order, i.e. the costs of assigning row i to column j are stored at {@code costs[i * columns + j]}
+     * @param rows Number of rows of the cost matrix
+     * @param columns Number of columns of the cost matrix
+     * @return Array of length {@code rows}, which contains the assigned column for each row.
+     * Contains -1 for rows which aren't assigned to any column.
+     * @throws IllegalArgumentException If the dimensions are negative or don't match the length of the given array
+     */
+    public int[] findOptimalAssignment(int[] costs, int rows, int columns)
+    {
+        if(costs == null || rows < 0 || columns < 0 || costs.length != rows * columns)
+            throw new IllegalArgumentException("The dimensions of the cost matrix don't match the length of the given array!");
+
+        int[] assignment = new int[rows];
+        Arrays.fill(assignment, -1);
+
+        if(rows == 0 || columns == 0)
+            return assignment;
+
+        // The search always augments the smaller dimension. A matrix with more rows than columns is therefore read transposed,
+        // which only changes the strides for accessing the flat array instead of copying the matrix.
+        boolean transposed = rows > columns;
+        int n = transposed ? columns : rows;
+        int m = transposed ? rows : columns;
+        int rowStride = transposed ? 1 : columns;
+        int columnStride = transposed ? columns : 1;
+
+        this.solve(costs, n, m, rowStride, columnStride);
+
+        for (int j = 1; j <= m; j++)
+        {
+            if(p[j] == 0)
+                continue;
+
+            if(transposed)
+                assignment[j - 1] = p[j] - 1;
+            else
+                assignment[p[j] - 1] = j - 1;
+        }
+
+        return assignment;
+    }
+
+    /**
+     * Computes the total costs of the given assignment.
+     * @param costs Cost matrix in row-major order
+     * @param columns Number of columns of the cost matrix
+     * @param assignment Assignment as returned by {@link #findOptimalAssignment(int[], int, int)}
+     * @return Sum of the costs of all assigned cells
+     */
+    public static long computeCosts(int[] costs, int columns, int[] assignment)
+    {
+        long totalCosts = 0;
+        for (int i = 0; i < assignment.length; i++)
+        {
+            if(assignment[i] >= 0)
+                totalCosts += costs[i * columns + assignment[i]];
+        }
+
+        return totalCosts;
+    }
+
+    /**
+     * Core of the algorithm for n <= m. Rows and columns are 1-indexed, index 0 represents the virtual root of each augmenting path.
+     */
+    private void solve(int[] costs, int n, int m, int rowStride, int columnStride)
+    {
+        this.ensureCapacity(n, m);
+        Arrays.fill(u, 0, n + 1, 0);
+        Arrays.fill(v, 0, m + 1, 0);
+        Arrays.fill(p, 0, m + 1, 0);
+        Arrays.fill(way, 0, m + 1, 0);
+
+        for (int i = 1; i <= n; i++)
+        {
+            p[0] = i;
+            int j0 = 0;
+            Arrays.fill(minReducedCost, 0, m + 1, INFINITY);
+            Arrays.fill(used, 0, m + 1, false);
+
+            // Grow a shortest path tree from row i until an unassigned column is reached
+            do
+            {
+                used[j0] = true;
+                int i0 = p[j0];
+                int rowOffset = (i0 - 1) * rowStride;
+                long delta = INFINITY;
+                int j1 = 0;
+
+                for (int j = 1; j <= m; j++)
+                {
+                    if(used[j])
+                        continue;
+
+                    long reducedCost = costs[rowOffset + (j - 1) * columnStride] - u[i0] - v[j];
+                    if(reducedCost < minReducedCost[j])
+                    {
+                        minReducedCost[j] = reducedCost;
+                        way[j] = j0;
+                    }
+
+                    if(minReducedCost[j] < delta)
+                    {
+                        delta = minReducedCost[j];
+                        j1 = j;
+                    }
+                }
+
+                // Update the potentials such that the reduced costs of the tree edges stay zero
+                for (int j = 0; j <= m; j++)
+                {
+                    if(used[j])
+                    {
+                        u[p[j]] += delta;
+                        v[j] -= delta;
+                    }
+                    else
+                        minReducedCost[j] -= delta;
+                }
+
+                j0 = j1;
+            } while(p[j0] != 0);
+
+            // Augment the matching along the found path
+            do
+            {
+                int j1 = way[j0];
+                p[j0] = p[j1];
+                j0 = j1;
+            } while(j0 != 0);
+        }
+    }
+
+    /**
+     * Grows the working arrays if the given dimensions exceed their current capacity.
+     */
+    private void ensureCapacity(int n, int m)
+    {
+        if(u == null || u.length < n + 1)
+            u = new long[n + 1];
+
+        if(v == null || v.length < m + 1)
+        {
+            v = new long[m + 1];
+            minReducedCost = new long[m + 1];
+            p = new int[m + 1];
+            way = new int[m + 1];
+            used = new boolean[m + 1];
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package de.aspua.framework.Controller.Measures;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.aspua.framework.Controller.ControllerInterfaces.IMeasureController;
+import de.aspua.framework.Model.MeasureContext;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Utils.SolutionMetaDataEnum;
+
+/**
+ * Ranks the solutions of a conflict by their measures while computing as few complex measures as possible.
+ * At first, all non-complex measures and the lower bounds of all complex measures are computed for every solution.
+ * The solutions are then inspected in the order of their lower bounds. The complex measures of a solution are only computed
+ * if the solution can still be ranked among the best solutions w.r.t. the already inspected solutions. Otherwise, the solution is pruned.
+ * <p>
+ * Two rankings are supported: The best k solutions w.r.t. the weighted sum of all measures ({@link #rankTopSolutions(List, int)})
+ * and all solutions which aren't dominated by any other solution ({@link #computeParetoFrontier(List)}).
+ * The computed measures are saved in the metadata of the solutions, pruned solutions keep their pending computations.
+ * @see IMeasureController#computeLowerBound(Solution, MeasureContext)
+ * @see IMeasureController#isComplex()
+ */
+public class SolutionRanker
+{
+    private static Logger LOGGER = LoggerFactory.getLogger(SolutionRanker.class);
+
+    private List<IMeasureController> measures;
+    private MeasureContext context;
+    private ExecutorService executor;
+    private EnumMap<SolutionMetaDataEnum, Double> weights;
+
+    /**
+     * Creates a ranker for the given measures, which weights all measures equally.
+     * @param measures Measures which are used for the ranking
+     * @param context Context of the current conflict detection
+     * @param executor Executor which computes the complex measures of several solutions in parallel. If null, the measures are computed sequentially.
+     */
+    public SolutionRanker(List<IMeasureController> measures, MeasureContext context, ExecutorService executor)
+    {
+        this.measures = measures == null ? new ArrayList<>() : measures;
+        this.context = context;
+        this.executor = executor;
+        this.weights = new EnumMap<>(SolutionMetaDataEnum.class);
+    }
+
+    /**
+     * Sets the weight of a measure for the weighted sum in {@link #rankTopSolutions(List, int)}. The default weight of each measure is 1.
+     * @param measureKey Metadata-key of the measure
+     * @param weight Non-negative weight of the measure
+     */
+    public void setWeight(SolutionMetaDataEnum measureKey, double weight)
+    {
+        if(weight < 0)
+        {
+            LOGGER.warn("The weight of the measure {} wasn't changed, because negative weights would invalidate the lower bounds.", measureKey);
+            return;
+        }
+        weights.put(measureKey, weight);
+    }
+
+    /**
+     * Computes the k solutions with the lowest weighted sum of measures.
+     * The complex measures of a solution are only computed if its lower bound is lower than the score of the k-th best solution found so far.
+     * @param solutions Solutions which are ranked
+     * @param k Maximal number of returned solutions
+     * @return The best k solutions in ascending order of their score. Solutions with equal scores keep their original order.
+     * Solutions whose measures couldn't be computed aren't returned.
+     */
+    public List<Solution> rankTopSolutions(List<Solution> solutions, int k)
+    {
+        List<Solution> ranking = new ArrayList<>();
+        if(solutions == null || solutions.isEmpty() || k <= 0)
+            return ranking;
+
+        List<RankedSolution> candidates = this.computeCandidates(solutions);
+        // Max-Heap which contains the best k solutions, the worst of them is at the head
+        Comparator<RankedSolution> byScore = Comparator.comparingDouble((RankedSolution x) -> x.score).thenComparingInt(x -> x.index);
+        PriorityQueue<RankedSolution> best = new PriorityQueue<>(k, byScore.reversed());
+
+        int inspected = 0;
+        int evaluated = 0;
+        int batchSize = executor == null ? 1 : Math.max(1, k);
+        while(inspected < candidates.size())
+        {
+            double threshold = best.size() < k ? Double.POSITIVE_INFINITY : best.peek().score;
+            if(candidates.get(inspected).lowerBound >= threshold)
+                break;
+
+            // All candidates of a batch are evaluated in parallel
+            List<RankedSolution> batch = new ArrayList<>();
+            while(inspected < candidates.size() && batch.size() < batchSize && candidates.get(inspected).lowerBound < threshold)
+                batch.add(candidates.get(inspected++));
+
+            this.evaluate(batch);
+            evaluated += batch.size();
+
+            for (RankedSolution candidate : batch)
+            {
+                if(candidate.score == null)
+                    continue;
+
+                best.add(candidate);
+                if(best.size() > k)
+                    best.poll();
+            }
+        }
+
+        LOGGER.info("Ranked {} solutions: The complex measures were computed for {} solutions, {} solutions were pruned.",
+            solutions.size(), evaluated, solutions.size() - evaluated);
+
+        List<RankedSolution> sortedBest = new ArrayList<>(best);
+        sortedBest.sort(byScore);
+        for (RankedSolution rankedSolution : sortedBest)
+            ranking.add(rankedSolution.solution);
+
+        return ranking;
+    }
+
+    /**
+     * Computes all solutions which aren't dominated by another solution. A solution dominates another solution,
+     * if none of its measures is greater than the corresponding measure of the other solution and at least one measure is lower.
+     * The complex measures of a solution are only computed if its lower bounds aren't dominated by an already computed solution.
+     * @param solutions Solutions which are ranked
+     * @return All non-dominated solutions in their original order. Solutions whose measures couldn't be computed aren't returned.
+     */
+    public List<Solution> computeParetoFrontier(List<Solution> solutions)
+    {
+        List<Solution> ranking = new ArrayList<>();
+        if(solutions == null || solutions.isEmpty())
+            return ranking;
+
+        List<RankedSolution> candidates = this.computeCandidates(solutions);
+        List<RankedSolution> frontier = new ArrayList<>();
+
+        int evaluated = 0;
+        for (RankedSolution candidate : candidates)
+        {
+            if(frontier.stream().anyMatch(x -> this.dominates(x.values, candidate.bounds)))
+                continue;
+
+            List<RankedSolution> batch = new ArrayList<>();
+            batch.add(candidate);
+            this.evaluate(batch);
+            evaluated++;
+
+            if(candidate.score == null || frontier.stream().anyMatch(x -> this.dominates(x.values, candidate.values)))
+                continue;
+
+            frontier.removeIf(x -> this.dominates(candidate.values, x.values));
+            frontier.add(candidate);
+        }
+
+        LOGGER.info("Computed the pareto frontier of {} solutions: The complex measures were computed for {} solutions, {} solutions were pruned.",
+            solutions.size(), evaluated, solutions.size() - evaluated);
+
+        frontier.sort(Comparator.comparingInt(x -> x.index));
+        for (RankedSolution rankedSolution : frontier)
+            ranking.add(rankedSolution.solution);
+
+        return ranking;
+    }
+
+    /**
+     * Computes the non-complex measures and the lower bounds of the complex measures for the given solutions.
+     * @return Rankable solutions in ascending order of their lower bounds
+     */
+    private List<RankedSolution> computeCandidates(List<Solution> solutions)
+    {
+        List<RankedSolution> candidates = new ArrayList<>();
+        for (int i = 0; i < solutions.size(); i++)
+        {
+            Solution solution = solutions.get(i);
+            RankedSolution candidate = new RankedSolution(solution, i, measures.size());
+            boolean rankable = true;
+
+            for (int j = 0; j < measures.size(); j++)
+            {
+                IMeasureController measure = measures.get(j);
+                if(measure.isComplex())
+                {
+                    candidate.bounds[j] = Math.max(0, measure.computeLowerBound(solution, context));
+                    continue;
+                }
+
+                // Non-complex measures are computed on demand, if they weren't computed yet
+                this.getMeasureTask(solution, measure);
+                Object value = solution.getMetaDataValue(measure.getMeasureKey());
+                if(!(value instanceof Integer))
+                {
+                    rankable = false;
+                    break;
+                }
+
+                candidate.values[j] = (Integer) value;
+                candidate.bounds[j] = (Integer) value;
+            }
+
+            if(!rankable)
+                continue;
+
+            candidate.lowerBound = this.computeScore(candidate.bounds);
+            candidates.add(candidate);
+        }
+
+        candidates.sort(Comparator.comparingDouble((RankedSolution x) -> x.lowerBound).thenComparingInt(x -> x.index));
+        return candidates;
+    }
+
+    /**
+     * Computes the complex measures of the given candidates. If an executor is available, the measures are computed in parallel.
+     */
+    private void evaluate(List<RankedSolution> candidates)
+    {
+        if(executor != null)
+        {
+            for (RankedSolution candidate : candidates)
+            {
+                for (IMeasureController measure : measures)
+                {
+                    RunnableFuture<?> task = this.getMeasureTask(candidate.solution, measure);
+                    if(!measure.isComplex() || task == null || task.isDone())
+                        continue;
+
+                    try
+                    {
+                        executor.execute(task);
+                    } catch (RejectedExecutionException e) {
+                        // The task is executed on demand by the calling thread instead
+                    }
+                }
+            }
+        }
+
+        for (RankedSolution candidate : candidates)
+        {
+            boolean complete = true;
+            for (int j = 0; j < measures.size() && complete; j++)
+            {
+                IMeasureController measure = measures.get(j);
+                if(!measure.isComplex())
+                    continue;
+
+                // Waits for the parallel computation or computes the measure on demand
+                this.getMeasureTask(candidate.solution, measure);
+                Object value = candidate.solution.getMetaDataValue(measure.getMeasureKey());
+                if(value instanceof Integer)
+                    candidate.values[j] = (Integer) value;
+                else
+                    complete = false;
+            }
+
+            candidate.score = complete ? this.computeScore(candidate.values) : null;
+        }
+    }
+
+    /**
+     * Returns the pending computation of the given measure from the metadata of the solution.
+     * If the measure wasn't computed yet, a new {@link MeasureTask} is saved in the metadata.
+     * @return The pending computation. Null, if the metadata already contains the computed value.
+     */
+    private RunnableFuture<?> getMeasureTask(Solution solution, IMeasureController measure)
+    {
+        Object value = solution.getMetaDataEntry(measure.getMeasureKey());
+        if(value == null)
+        {
+            // Another thread may have added a task for the same measure in the meantime
+            MeasureTask task = new MeasureTask(measure, solution, context);
+            value = solution.addMetaDataIfAbsent(measure.getMeasureKey(), task);
+            if(value == null)
+                return task;
+        }
+
+        return value instanceof RunnableFuture<?> ? (RunnableFuture<?>) value : null;
+    }
+
+    /**
+     * Computes the weighted sum of the given measure values.
+     */
+    private double computeScore(int[] values)
+    {
+        double score = 0;
+        for (int j = 0; j < measures.size(); j++)
+            score += weights.getOrDefault(measures.get(j).getMeasureKey(), 1d) * values[j];
+
+        return score;
+    }
+
+    /**
+     * Checks if the first measure values dominate the second measure values.
+     */
+    private boolean dominates(int[] first, int[] second)
+    {
+        boolean strictlyBetter = false;
+        for (int j = 0; j < first.length; j++)
+        {
+            if(first[j] > second[j])
+                return false;
+            if(first[j] < second[j])
+                strictlyBetter = true;
+        }
+
+        return strictlyBetter;
+    }
+
+    /**
+     * Internal helper-class which stores the measures and bounds of a solution during the ranking.
+     */
+    private static class RankedSolution
+    {
+        private final Solution solution;
+        /** Position of the solution in the original list, which is used to break ties */
+        private final int index;
+        /** Measure values in the order of the measures, complex measures are 0 until they are computed */
+        private final int[] values;
+        /** Lower bounds in the order of the measures */
+        private final int[] bounds;
+        private double lowerBound;
+        /** Weighted sum of all measures. Null, if the measures weren't computed yet or failed. */
+        private Double score;
+
+        private RankedSolution(Solution solution, int index, int measureCount)
+        {
+            this.solution = solution;
+            this.index = index;
+            this.values = new int[measureCount];
+            this.bounds = new int[measureCount];
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package de.aspua.framework.Controller.Metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import de.aspua.framework.Controller.ControllerInterfaces.IMetricsCollector;
+import de.aspua.framework.Utils.MetricEnum;
+import de.aspua.framework.Utils.MetricEnum.MetricTypeEnum;
+
+/**
+ * Aggregates all recorded metrics in memory, e.g. for tests, benchmarks or the report of the batch mode.
+ * For each combination of metric and tag, the number of recordings as well as the sum, minimum and maximum of the recorded values are kept.
+ * Timers are aggregated in nanoseconds, counters count each increment as value 1.
+ */
+public class InMemoryMetricsCollector implements IMetricsCollector
+{
+    private final Map<String, MetricStatistics> statistics;
+
+    public InMemoryMetricsCollector()
+    {
+        statistics = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+        return true;
+    }
+
+    @Override
+    public void recordTime(MetricEnum metric, String tag, long durationNanos)
+    {
+        this.getOrCreate(metric, tag).record(durationNanos);
+    }
+
+    @Override
+    public void recordValue(MetricEnum metric, String tag, long value)
+    {
+        this.getOrCreate(metric, tag).record(value);
+    }
+
+    @Override
+    public void increment(MetricEnum metric, String tag)
+    {
+        this.getOrCreate(metric, tag).record(1);
+    }
+
+    /**
+     * Returns the aggregated values of the given metric.
+     * @param metric Metric of interest
+     * @param tag Component of the metric. May be null.
+     * @return The aggregated values. Null if nothing was recorded for the metric and tag.
+     */
+    public MetricStatistics getStatistics(MetricEnum metric, String tag) {
+        return statistics.get(this.computeKey(metric, tag));
+    }
+
+    /**
+     * Returns the aggregated values of all recorded metrics, sorted by the name of the metric and the tag.
+     * @return Copy of all aggregated values
+     */
+    public Map<String, MetricStatistics> getStatistics() {
+        return new TreeMap<>(statistics);
+    }
+
+    /**
+     * Removes all recorded metrics.
+     */
+    public void reset()
+    {
+        statistics.clear();
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, MetricStatistics> entry : this.getStatistics().entrySet())
+        {
+            sb.append(entry.getKey()).append(": ").append(entry.getValue().toString());
+            sb.append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    private MetricStatistics getOrCreate(MetricEnum metric, String tag) {
+        return statistics.computeIfAbsent(this.computeKey(metric, tag), x -> new MetricStatistics(metric.getType()));
+    }
+
+    private String computeKey(MetricEnum metric, String tag) {
+        return tag == null ? metric.getMetricName() : metric.getMetricName() + "[" + tag + "]";
+    }
+
+    /**
+     * Aggregated values of a single metric and tag. The values may be recorded by several threads at once.
+     */
+    public static class MetricStatistics
+    {
+        private final MetricTypeEnum type;
+        private final LongAdder count;
+        private final LongAdder total;
+        private final LongAccumulator min;
+        private final LongAccumulator max;
+
+        private MetricStatistics(MetricTypeEnum type)
+        {
+            this.type = type;
+            count = new LongAdder();
+            total = new LongAdder();
+            min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+            max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+        }
+
+        private void record(long value)
+        {
+            count.increment();
+            total.add(value);
+            min.accumulate(value);
+            max.accumulate(value);
+        }
+
+        @Override
+        public String toString()
+        {
+            if(type == MetricTypeEnum.COUNTER)
+                return String.format("count=%s", this.getCount());
+
+            if(type == MetricTypeEnum.TIMER)
+            {
+                return String.format("count=%s, total=%.3fms, mean=%.3fms, min=%.3fms, max=%.3fms", this.getCount(),
+                    this.getTotal() / 1e6, this.getMean() / 1e6, this.getMin() / 1e6, this.getMax() / 1e6);
+            }
+
+            return String.format("count=%s, total=%s, mean=%.1f, min=%s, max=%s", this.getCount(), this.getTotal(), this.getMean(), this.getMin(), this.getMax());
+        }
+
+        public MetricTypeEnum getType() {
+            return type;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotal() {
+            return total.sum();
+        }
+
+        public double getMean() {
+            long currentCount = count.sum();
+            return currentCount == 0 ? 0 : (double) total.sum() / currentCount;
+        }
+
+        public long getMin() {
+            return count.sum() == 0 ? 0 : min.get();
+        }
+
+        public long getMax() {
+            return count.sum() == 0 ? 0 : max.get();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package de.aspua.framework.Controller.Metrics;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import de.aspua.framework.Controller.ControllerInterfaces.IMetricsCollector;
+import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
+import de.aspua.framework.Controller.Solver.SolverException;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Utils.MetricEnum;
+
+/**
+ * Records the duration, the response size and the number of models of each invocation of the wrapped solver.
+ * Since all solver invocations of the framework (conflict detection, previews, measures, searches) pass the wrapper, the solver
+ * doesn't have to record these metrics itself. The request size depends on the encoding of the solver, so it is recorded by the remote solver
+ * (see {@link de.aspua.framework.Controller.CausalRejectionController.ClingoRemoteSolver#setMetricsCollector(IMetricsCollector)}).
+ * @see de.aspua.framework.Controller.ASPUAFrameworkEngine
+ */
+public class InstrumentedSolver implements ISolverController
+{
+    private final ISolverController solver;
+    private final IMetricsCollector metricsCollector;
+
+    /**
+     * @param solver Solver which computes the models
+     * @param metricsCollector Collector which receives the metrics
+     */
+    public InstrumentedSolver(ISolverController solver, IMetricsCollector metricsCollector)
+    {
+        this.solver = solver;
+        this.metricsCollector = metricsCollector;
+    }
+
+    @Override
+    public List<String> computeModels(ASPProgram<?, ?> program)
+    {
+        if(program != null)
+            metricsCollector.recordValue(MetricEnum.PROGRAM_SIZE, "solver", program.getRuleSet().size());
+
+        long start = System.nanoTime();
+        List<String> models;
+        try
+        {
+            models = solver.computeModels(program);
+        } catch (SolverException e) {
+            metricsCollector.increment(MetricEnum.SOLVER_FAILURE, null);
+            throw e;
+        } finally {
+            metricsCollector.recordTime(MetricEnum.SOLVER_CALL, null, System.nanoTime() - start);
+        }
+
+        if(models == null || models.isEmpty())
+        {
+            metricsCollector.increment(MetricEnum.SOLVER_NO_MODELS, null);
+            return models;
+        }
+
+        long responseBytes = 0;
+        for (String model : models)
+            responseBytes += model.getBytes(StandardCharsets.UTF_8).length;
+
+        metricsCollector.recordValue(MetricEnum.SOLVER_RESPONSE_BYTES, null, responseBytes);
+        metricsCollector.recordValue(MetricEnum.MODEL_COUNT, null, models.size());
+        return models;
+    }
+
+    /**
+     * Returns the solver which computes the models.
+     * @return The wrapped solver
+     */
+    public ISolverController getSolver() {
+        return solver;
+    }
+}
@@ -0,0 +1,29 @@
+package de.aspua.framework.Controller.Metrics;
+
+import de.aspua.framework.Controller.ControllerInterfaces.IMetricsCollector;
+import de.aspua.framework.Utils.MetricEnum;
+
+/**
+ * Default collector, which discards all metrics. As the collector is disabled, the framework doesn't compute any metrics which are costly to determine.
+ */
+public final class NoOpMetricsCollector implements IMetricsCollector
+{
+    public static final NoOpMetricsCollector INSTANCE = new NoOpMetricsCollector();
+
+    private NoOpMetricsCollector() {}
+
+    @Override
+    public boolean isEnabled()
+    {
+        return false;
+    }
+
+    @Override
+    public void recordTime(MetricEnum metric, String tag, long durationNanos) {}
+
+    @Override
+    public void recordValue(MetricEnum metric, String tag, long value) {}
+
+    @Override
+    public void increment(MetricEnum metric, String tag) {}
+}
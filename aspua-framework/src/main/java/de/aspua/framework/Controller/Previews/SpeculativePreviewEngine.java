@@ -0,0 +1,397 @@
+package de.aspua.framework.Controller.Previews;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.aspua.framework.Controller.Strategies.StrategyCache;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.SolutionPreview;
+import de.aspua.framework.Utils.Constants;
+import de.aspua.framework.Utils.DaemonThreadFactory;
+
+/**
+ * Computes the previews of promising solutions in the background, while the user inspects the current conflicts.
+ * For each conflict, the solutions which should be previewed are selected (e.g. the top-ranked solutions) and their previews are computed
+ * on low-priority daemon threads. Previews of the first solutions of all conflicts are computed before the second solutions and so on.
+ * <p>
+ * At most {@link #getCapacity()} previews are kept. The capacity is split evenly between the conflicts of a round, so previews of later conflicts
+ * don't displace the previews of the first conflicts, which the user inspects first. If the capacity is exceeded nevertheless (e.g. by promoted previews
+ * or more conflicts than the capacity), the preview with the lowest priority is removed. Among equal priorities, the most recently scheduled preview is removed.
+ * All previews belong to a round of the update process. When the round is cancelled ({@link #cancelAll()}), pending computations are cancelled
+ * and all previews are removed, as they refer to an outdated state of the update sequence. Running computations aren't interrupted,
+ * as they might run in the thread of a caller of {@link #getPreview(Solution)}, but their results are discarded.
+ * <p>
+ * A preview is only returned for a solution if the operations of the solution didn't change since the preview was scheduled.
+ * <p>
+ * The executor may be shared by the engines of several sessions (see {@link #createExecutor(int)}). An engine only removes its own tasks from the queue.
+ */
+public class SpeculativePreviewEngine
+{
+    private static Logger LOGGER = LoggerFactory.getLogger(SpeculativePreviewEngine.class);
+
+    /** Priority of preview computations for solutions which were opened by the user */
+    private static final int PROMOTED_PRIORITY = Integer.MIN_VALUE;
+    /** Priority of the selection of solutions, which precedes the computation of the previews */
+    private static final int SELECTION_PRIORITY = -1;
+
+    private final ThreadPoolExecutor executor;
+    /** Indicates whether the executor was created by this engine and is shut down by {@link #shutdown()} */
+    private final boolean ownsExecutor;
+    private final AtomicLong sequenceNumber;
+    private final int capacity;
+
+    /** Previews of the current round in the order of their last access */
+    private final LinkedHashMap<Solution, PreviewEntry> entries;
+    /** Counter which orders the previews by the time they were scheduled */
+    private long scheduleCounter;
+    /** Counter which identifies the current round */
+    private long round;
+    /** Computes the previews of the current round */
+    private Function<Solution, SolutionPreview> previewFunction;
+
+    /**
+     * Creates an engine with the default number of threads and the default capacity.
+     * @see Constants#SPECULATIVE_PREVIEW_THREADS
+     * @see Constants#SPECULATIVE_PREVIEW_CAPACITY
+     */
+    public SpeculativePreviewEngine()
+    {
+        this(Constants.SPECULATIVE_PREVIEW_THREADS, Constants.SPECULATIVE_PREVIEW_CAPACITY);
+    }
+
+    /**
+     * Creates an engine whose previews are computed by the given number of low-priority daemon threads.
+     * @param threads Number of threads which compute previews
+     * @param capacity Maximal number of kept previews
+     */
+    public SpeculativePreviewEngine(int threads, int capacity)
+    {
+        this(createExecutor(threads), capacity, true);
+    }
+
+    /**
+     * Creates an engine whose previews are computed by the given executor, e.g. an executor which is shared by all sessions.
+     * The executor isn't shut down by the engine.
+     * @param executor Executor which was created by {@link #createExecutor(int)}
+     * @param capacity Maximal number of kept previews
+     */
+    public SpeculativePreviewEngine(ThreadPoolExecutor executor, int capacity)
+    {
+        this(executor, capacity, false);
+    }
+
+    private SpeculativePreviewEngine(ThreadPoolExecutor executor, int capacity, boolean ownsExecutor)
+    {
+        if(!(executor.getQueue() instanceof PriorityBlockingQueue))
+            throw new IllegalArgumentException("The executor of the previews has to use a priority queue.");
+
+        this.capacity = Math.max(1, capacity);
+        this.sequenceNumber = new AtomicLong();
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+
+        // Identity of the solutions is sufficient, as the operations are checked separately
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Creates an executor which computes previews on low-priority daemon threads in the order of their priority.
+     * @param threads Number of threads which compute previews
+     * @return Executor which may be shared by several engines
+     */
+    public static ThreadPoolExecutor createExecutor(int threads)
+    {
+        int poolSize = Math.max(1, threads);
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(),
+            new DaemonThreadFactory("aspua-preview", Thread.MIN_PRIORITY));
+    }
+
+    /**
+     * Starts a new round and schedules the previews for the given conflicts. Previews of the previous round are cancelled.
+     * @param conflicts Conflicts in the order in which their previews should be computed
+     * @param selection Selects the solutions of a conflict which should be previewed, ordered by their priority. Is invoked in the background.
+     * @param previewFunction Computes the preview of a solution. Is invoked in the background and has to be thread-safe.
+     */
+    public synchronized void schedule(List<Conflict> conflicts, Function<Conflict, List<Solution>> selection, Function<Solution, SolutionPreview> previewFunction)
+    {
+        this.cancelAll();
+        this.previewFunction = previewFunction;
+        if(conflicts == null)
+            return;
+
+        long scheduledRound = round;
+        // Each conflict receives its share of the capacity for its best solutions
+        int conflictCapacity = Math.max(1, capacity / Math.max(1, conflicts.size()));
+        for (Conflict conflict : conflicts)
+        {
+            this.execute(SELECTION_PRIORITY, () ->
+            {
+                List<Solution> selectedSolutions = selection.apply(conflict);
+                if(selectedSolutions == null)
+                    return;
+
+                synchronized (this)
+                {
+                    if(scheduledRound != round)
+                        return;
+
+                    int limit = Math.min(selectedSolutions.size(), conflictCapacity);
+                    for (int i = 0; i < limit; i++)
+                        this.schedulePreview(selectedSolutions.get(i), i);
+                }
+            });
+        }
+    }
+
+    /**
+     * Computes the preview of the given solution before all other scheduled previews, e.g. because the user opened the solution.
+     * If no preview was scheduled for the solution yet, a new preview is scheduled.
+     * @param solution Solution whose preview is needed soon
+     */
+    public synchronized void promote(Solution solution)
+    {
+        if(solution == null || previewFunction == null)
+            return;
+
+        this.schedulePreview(solution, PROMOTED_PRIORITY);
+    }
+
+    /**
+     * Returns the preview of the given solution. If the computation of the preview wasn't started yet, it is computed by the calling thread.
+     * If the preview is currently computed by another thread, the calling thread waits for the result.
+     * @param solution Solution whose preview is requested
+     * @return The preview of the solution.
+     * Returns null if no preview was scheduled for the solution in the current round, the solution was changed or the preview couldn't be computed.
+     */
+    public SolutionPreview getPreview(Solution solution)
+    {
+        PreviewEntry entry;
+        synchronized (this)
+        {
+            entry = entries.get(solution);
+            if(entry == null)
+                return null;
+
+            if(!entry.fingerprint.equals(computeFingerprint(solution)))
+            {
+                entries.remove(solution);
+                entry.future.cancel(false);
+                return null;
+            }
+        }
+
+        // Runs the computation if it wasn't started by a background thread yet
+        entry.future.run();
+        try
+        {
+            return entry.future.get();
+        } catch (CancellationException e) {
+            return null;
+        } catch (ExecutionException e) {
+            LOGGER.warn("The preview of a solution couldn't be computed.", e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Cancels all pending previews of the current round and removes all computed previews.
+     */
+    public synchronized void cancelAll()
+    {
+        round++;
+        previewFunction = null;
+        for (PreviewEntry entry : entries.values())
+            entry.future.cancel(false);
+
+        entries.clear();
+        executor.getQueue().removeIf(x -> x instanceof PrioritizedTask && ((PrioritizedTask) x).owner == this);
+    }
+
+    /**
+     * Cancels all previews. If the executor was created by this engine, it is shut down as well.
+     */
+    public synchronized void shutdown()
+    {
+        this.cancelAll();
+        if(ownsExecutor)
+            executor.shutdownNow();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the solutions whose previews are currently kept, from the least to the most recently used.
+     * @return Solutions with a scheduled or computed preview
+     */
+    public synchronized List<Solution> getPreviewedSolutions() {
+        return Collections.unmodifiableList(new ArrayList<>(entries.keySet()));
+    }
+
+    /**
+     * Schedules the preview of the given solution with the given priority. If the preview was already scheduled, the priority is raised.
+     * Has to be invoked while holding the lock of the engine.
+     */
+    private void schedulePreview(Solution solution, int priority)
+    {
+        PreviewEntry entry = entries.get(solution);
+        String fingerprint = computeFingerprint(solution);
+        if(entry == null || !entry.fingerprint.equals(fingerprint))
+        {
+            if(entry != null)
+                entry.future.cancel(false);
+
+            Function<Solution, SolutionPreview> currentFunction = previewFunction;
+            entry = new PreviewEntry(new FutureTask<>(() -> currentFunction.apply(solution)), fingerprint, priority, scheduleCounter++);
+            entries.put(solution, entry);
+
+            // The new preview isn't computed if it has the lowest priority
+            if(entries.size() > capacity && this.evictLowestPriority() == entry)
+                return;
+        }
+        else
+        {
+            entry.priority = Math.min(entry.priority, priority);
+            if(entry.future.isDone())
+                return;
+        }
+
+        // A promoted entry is enqueued again, as its future is only run once
+        this.execute(priority, entry.future);
+    }
+
+    /**
+     * Removes and cancels the preview with the lowest priority, i.e. the highest priority value. Among equal priorities,
+     * the most recently scheduled preview is removed. Has to be invoked while holding the lock of the engine.
+     * @return The removed preview
+     */
+    private PreviewEntry evictLowestPriority()
+    {
+        Map.Entry<Solution, PreviewEntry> lowest = null;
+        for (Map.Entry<Solution, PreviewEntry> current : entries.entrySet())
+        {
+            if(lowest == null || current.getValue().compareTo(lowest.getValue()) > 0)
+                lowest = current;
+        }
+
+        entries.remove(lowest.getKey());
+        lowest.getValue().future.cancel(false);
+        return lowest.getValue();
+    }
+
+    private void execute(int priority, Runnable runnable)
+    {
+        try
+        {
+            executor.execute(new PrioritizedTask(this, priority, sequenceNumber.getAndIncrement(), runnable));
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("The preview-executor rejected the computation of a preview. The preview is computed on demand.");
+        }
+    }
+
+    /**
+     * Creates a fingerprint of the operations of the given solution, which changes as soon as a chosen rule of the solution changes.
+     */
+    private static String computeFingerprint(Solution solution)
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append(StrategyCache.computeFingerprint(solution.getAddedRules()));
+        sb.append('|');
+        sb.append(StrategyCache.computeFingerprint(solution.getModifiedRules()));
+        sb.append('|');
+        sb.append(StrategyCache.computeFingerprint(solution.getDeletedRules()));
+        return sb.toString();
+    }
+
+    /**
+     * Preview of a solution and the fingerprint of the solution at the time the preview was scheduled.
+     * Entries are ordered by their priority and afterwards by the time they were scheduled.
+     */
+    private static class PreviewEntry implements Comparable<PreviewEntry>
+    {
+        private final FutureTask<SolutionPreview> future;
+        private final String fingerprint;
+        private final long order;
+        /** Best priority with which the preview was scheduled */
+        private int priority;
+
+        private PreviewEntry(FutureTask<SolutionPreview> future, String fingerprint, int priority, long order)
+        {
+            this.future = future;
+            this.fingerprint = fingerprint;
+            this.priority = priority;
+            this.order = order;
+        }
+
+        @Override
+        public int compareTo(PreviewEntry other)
+        {
+            int result = Integer.compare(priority, other.priority);
+            if(result == 0)
+                result = Long.compare(order, other.order);
+
+            return result;
+        }
+    }
+
+    /**
+     * Task of the priority queue. Tasks with lower priority values are executed first, tasks with equal priority in the order of their submission.
+     */
+    private static class PrioritizedTask implements Runnable, Comparable<PrioritizedTask>
+    {
+        /** Engine which scheduled the task */
+        private final SpeculativePreviewEngine owner;
+        private final int priority;
+        private final long sequenceNumber;
+        private final Runnable runnable;
+
+        private PrioritizedTask(SpeculativePreviewEngine owner, int priority, long sequenceNumber, Runnable runnable)
+        {
+            this.owner = owner;
+            this.priority = priority;
+            this.sequenceNumber = sequenceNumber;
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                runnable.run();
+            } catch (RuntimeException e) {
+                LOGGER.warn("A speculative preview computation failed.", e);
+            }
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask other)
+        {
+            int result = Integer.compare(priority, other.priority);
+            if(result == 0)
+                result = Long.compare(sequenceNumber, other.sequenceNumber);
+
+            return result;
+        }
+    }
+}
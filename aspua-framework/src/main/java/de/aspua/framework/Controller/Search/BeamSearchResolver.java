@@ -0,0 +1,471 @@
+package de.aspua.framework.Controller.Search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.aspua.framework.Controller.ASPUAFrameworkEngine;
+import de.aspua.framework.Controller.ControllerInterfaces.IConflictDetectionController;
+import de.aspua.framework.Controller.ControllerInterfaces.IMeasureController;
+import de.aspua.framework.Controller.ControllerInterfaces.IParserController;
+import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
+import de.aspua.framework.Controller.ControllerInterfaces.IStrategyController;
+import de.aspua.framework.Controller.Events.PipelineEvents;
+import de.aspua.framework.Controller.Measures.SolutionRanker;
+import de.aspua.framework.Controller.Solver.SolverException;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.MeasureContext;
+import de.aspua.framework.Model.ResolutionResult;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.SolutionPreview;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Model.ASP.BaseEntities.AnswerSet;
+import de.aspua.framework.Model.ASP.ELP.UpdateSequenceView;
+import de.aspua.framework.Utils.Constants;
+
+/**
+ * Resolves all conflicts of an update sequence automatically by searching over sequences of applied solutions.
+ * Solving conflicts one after another with the locally best solution is greedy, as each solution changes the remaining conflicts.
+ * Therefore, the resolver keeps the best {@link #getBeamWidth()} states of each step, where a state is an update sequence together with its conflicts
+ * and the sum of the measures of all solutions which were applied to reach it (beam search).
+ * <p>
+ * Each state owns its own copy of the update sequence, which is never changed after the state was created. Applying a solution creates a new copy,
+ * so the states of a step are expanded in parallel without sharing any mutable data. States whose programs contain the same rules are equivalent
+ * and only kept once with their lowest cost.
+ * <p>
+ * The expanded solutions of a state are selected by a {@link SolutionRanker}, so complex measures are only computed for promising solutions.
+ * The solver invocation of a complex measure for a solution is reused for the state which results from the solution.
+ * The search stops as soon as no remaining state can lead to a better resolution, the maximal depth is reached or the time budget is exceeded.
+ */
+public class BeamSearchResolver
+{
+    private static Logger LOGGER = LoggerFactory.getLogger(BeamSearchResolver.class);
+
+    private final ISolverController solver;
+    private final IParserController parser;
+    private final IConflictDetectionController conflictDetector;
+    private final List<IMeasureController> measures;
+    private final List<IStrategyController> strategies;
+    private final ExecutorService measureExecutor;
+    private final ExecutorService expansionExecutor;
+
+    private int beamWidth;
+    private int resultLimit;
+    private int maxDepth;
+    private long timeBudget;
+
+    /**
+     * Creates a resolver which uses the controllers of the given engine and the default settings of the search.
+     * Only non-complex strategies are used to compute the solutions of the states. The states are expanded by the strategy executor of the engine.
+     * @param engine Engine which provides the controllers and executors
+     * @see Constants#BEAM_SEARCH_WIDTH
+     * @see Constants#BEAM_SEARCH_MAX_DEPTH
+     * @see Constants#BEAM_SEARCH_TIME_BUDGET
+     */
+    public BeamSearchResolver(ASPUAFrameworkEngine engine)
+    {
+        this.solver = engine.getSolver();
+        this.parser = engine.getParser();
+        this.conflictDetector = engine.getConflictDetector();
+        this.measures = engine.getMeasures() == null ? new ArrayList<>() : engine.getMeasures();
+        this.measureExecutor = engine.getMeasureExecutor();
+        this.expansionExecutor = engine.getStrategyExecutor();
+
+        this.strategies = new ArrayList<>();
+        if(engine.getStrategies() != null)
+        {
+            for (IStrategyController strategy : engine.getStrategies())
+            {
+                if(!strategy.isComplex())
+                    strategies.add(strategy);
+            }
+        }
+
+        this.beamWidth = Constants.BEAM_SEARCH_WIDTH;
+        this.resultLimit = 1;
+        this.maxDepth = Constants.BEAM_SEARCH_MAX_DEPTH;
+        this.timeBudget = Constants.BEAM_SEARCH_TIME_BUDGET;
+    }
+
+    /**
+     * Searches for the conflict-free update sequences which are reached by the solutions with the lowest sum of measures.
+     * @param updateSequence Update sequence whose conflicts should be resolved. The given programs aren't changed.
+     * @return At most {@link #getResultLimit()} resolutions in ascending order of their cost.
+     * Returns an empty list if no resolution was found or the conflicts of the update sequence couldn't be computed.
+     */
+    public List<ResolutionResult> resolve(List<ASPProgram<?, ?>> updateSequence)
+    {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudget);
+        List<ResolutionResult> results = new ArrayList<>();
+
+        SearchState root = this.evaluateState(copySequence(updateSequence), new ArrayList<>());
+        if(root == null)
+        {
+            LOGGER.warn("The update sequence has no answer sets or its conflicts couldn't be computed. Therefore, no resolution can be searched.");
+            return results;
+        }
+
+        Map<String, Double> visitedCosts = new HashMap<>();
+        Map<String, SearchState> goals = new LinkedHashMap<>();
+        visitedCosts.put(root.fingerprint, 0d);
+        if(root.conflicts.isEmpty())
+            goals.put(root.fingerprint, root);
+
+        List<SearchState> beam = new ArrayList<>();
+        if(!root.conflicts.isEmpty())
+            beam.add(root);
+
+        int depth = 0;
+        try
+        {
+            while(!beam.isEmpty() && depth < maxDepth && !this.isFinished(beam, goals))
+            {
+                long remaining = deadline - System.nanoTime();
+                if(remaining <= 0)
+                {
+                    LOGGER.info("The time budget of the search was exceeded after {} step(s).", depth);
+                    break;
+                }
+
+                List<Callable<List<SearchState>>> tasks = new ArrayList<>(beam.size());
+                for (SearchState state : beam)
+                    tasks.add(() -> this.expand(state));
+
+                List<SearchState> candidates = new ArrayList<>();
+                for (Future<List<SearchState>> future : expansionExecutor.invokeAll(tasks, remaining, TimeUnit.NANOSECONDS))
+                {
+                    if(future.isCancelled())
+                        continue;
+
+                    try
+                    {
+                        candidates.addAll(future.get());
+                    } catch (ExecutionException e) {
+                        LOGGER.warn("A state of the search couldn't be expanded.", e.getCause());
+                    }
+                }
+
+                beam = this.selectBeam(candidates, visitedCosts, goals);
+                depth++;
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("The search was interrupted. The resolutions which were found so far are returned.");
+            Thread.currentThread().interrupt();
+        }
+
+        List<SearchState> sortedGoals = new ArrayList<>(goals.values());
+        sortedGoals.sort(Comparator.comparingDouble(x -> x.cost));
+        for (int i = 0; i < sortedGoals.size() && i < resultLimit; i++)
+        {
+            SearchState goal = sortedGoals.get(i);
+            results.add(new ResolutionResult(goal.appliedSolutions, goal.sequence, goal.cost));
+        }
+
+        LOGGER.info("Found {} resolution(s) after {} step(s) of the search.", results.size(), depth);
+        return results;
+    }
+
+    public int getBeamWidth() {
+        return beamWidth;
+    }
+
+    /**
+     * @param beamWidth Number of states which are kept in each step and number of solutions which are expanded for each state
+     */
+    public void setBeamWidth(int beamWidth) {
+        this.beamWidth = Math.max(1, beamWidth);
+    }
+
+    public int getResultLimit() {
+        return resultLimit;
+    }
+
+    /**
+     * @param resultLimit Maximal number of returned resolutions (k)
+     */
+    public void setResultLimit(int resultLimit) {
+        this.resultLimit = Math.max(1, resultLimit);
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * @param maxDepth Maximal number of solutions which are applied in a single resolution
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    public long getTimeBudget() {
+        return timeBudget;
+    }
+
+    /**
+     * @param timeBudget Time budget in milliseconds, after which the resolutions found so far are returned
+     */
+    public void setTimeBudget(long timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+
+    /**
+     * Checks whether the remaining states can still lead to one of the best resolutions.
+     * As all measures are non-negative, the cost of a state is a lower bound for the cost of all resolutions which are reached from it.
+     */
+    private boolean isFinished(List<SearchState> beam, Map<String, SearchState> goals)
+    {
+        if(goals.size() < resultLimit)
+            return false;
+
+        List<Double> goalCosts = new ArrayList<>();
+        for (SearchState goal : goals.values())
+            goalCosts.add(goal.cost);
+        Collections.sort(goalCosts);
+
+        double threshold = goalCosts.get(resultLimit - 1);
+        for (SearchState state : beam)
+        {
+            if(state.cost < threshold)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes equivalent states, saves the conflict-free states as goals and selects the best remaining states for the next step.
+     */
+    private List<SearchState> selectBeam(List<SearchState> candidates, Map<String, Double> visitedCosts, Map<String, SearchState> goals)
+    {
+        candidates.sort(Comparator.comparingDouble((SearchState x) -> x.cost).thenComparingInt(x -> x.conflicts.size()));
+
+        List<SearchState> beam = new ArrayList<>();
+        for (SearchState candidate : candidates)
+        {
+            Double visitedCost = visitedCosts.get(candidate.fingerprint);
+            if(visitedCost != null && visitedCost <= candidate.cost)
+                continue;
+
+            visitedCosts.put(candidate.fingerprint, candidate.cost);
+            if(candidate.conflicts.isEmpty())
+                goals.put(candidate.fingerprint, candidate);
+            else if(beam.size() < beamWidth)
+                beam.add(candidate);
+        }
+
+        return beam;
+    }
+
+    /**
+     * Computes the solutions of all conflicts of the given state and creates the states for the best solutions.
+     * Is invoked by several threads at once for different states.
+     */
+    private List<SearchState> expand(SearchState state)
+    {
+        UpdateSequenceView view = new UpdateSequenceView(state.sequence);
+        List<Solution> solutions = new ArrayList<>();
+        for (Conflict conflict : state.conflicts)
+        {
+            for (IStrategyController strategy : strategies)
+            {
+                List<Solution> strategySolutions = PipelineEvents.computeSolutions(strategy, view, conflict);
+                if(strategySolutions == null)
+                    continue;
+
+                conflict.getSolutions().addAll(strategySolutions);
+                solutions.addAll(strategySolutions);
+            }
+        }
+
+        // The states are created by the previews of the complex measures, so the solver is only invoked once per solution
+        Map<Solution, FutureTask<SearchState>> children = new ConcurrentHashMap<>();
+        MeasureContext context = new MeasureContext(state.sequence, state.answerSets, x ->
+        {
+            SearchState child = this.getChild(children, state, x);
+            return child == null ? null : new SolutionPreview(x, child.sequence, child.conflicts, child.answerSets);
+        });
+
+        List<Solution> selectedSolutions;
+        if(measures.isEmpty())
+            selectedSolutions = solutions.subList(0, Math.min(beamWidth, solutions.size()));
+        else
+            selectedSolutions = new SolutionRanker(measures, context, measureExecutor).rankTopSolutions(solutions, beamWidth);
+
+        List<SearchState> expandedStates = new ArrayList<>();
+        for (Solution solution : selectedSolutions)
+        {
+            SearchState child = this.getChild(children, state, solution);
+            if(child == null)
+                continue;
+
+            child.cost = state.cost + this.computeCost(solution);
+            expandedStates.add(child);
+        }
+
+        return expandedStates;
+    }
+
+    /**
+     * Returns the state which results from the given solution. The state is only created once per solution, even if it is requested by several threads.
+     * The state isn't created within the map, so the solver doesn't block other solutions of the map.
+     * @return The resulting state. Returns null if the state couldn't be created.
+     */
+    private SearchState getChild(Map<Solution, FutureTask<SearchState>> children, SearchState state, Solution solution)
+    {
+        FutureTask<SearchState> task = new FutureTask<>(() -> this.createChild(state, solution));
+        FutureTask<SearchState> existingTask = children.putIfAbsent(solution, task);
+        if(existingTask == null)
+        {
+            task.run();
+            existingTask = task;
+        }
+
+        try
+        {
+            return existingTask.get();
+        } catch (ExecutionException e) {
+            LOGGER.warn("The state of a solution couldn't be created.", e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Applies the given solution to a copy of the update sequence of the given state and computes the conflicts of the resulting update sequence.
+     * @return The resulting state. Returns null if the resulting update sequence has no answer sets or the conflicts couldn't be computed.
+     */
+    private SearchState createChild(SearchState state, Solution solution)
+    {
+        List<ASPProgram<?, ?>> childSequence = copySequence(state.sequence);
+        solution.applyTo(childSequence);
+
+        List<Solution> appliedSolutions = new ArrayList<>(state.appliedSolutions);
+        appliedSolutions.add(solution);
+        return this.evaluateState(childSequence, appliedSolutions);
+    }
+
+    /**
+     * Computes the answer sets and conflicts of the given update sequence, like the conflict detection of the framework.
+     * Update sequences without answer sets are discarded, as no conflicts are detected for them although they aren't a valid resolution.
+     * @return The state of the update sequence. Returns null if the update sequence has no answer sets or the conflicts couldn't be computed.
+     */
+    private SearchState evaluateState(List<ASPProgram<?, ?>> sequence, List<Solution> appliedSolutions)
+    {
+        ASPProgram<?, ?> conflictProgram = PipelineEvents.computeConflictDetectionProgram(conflictDetector, sequence);
+        if(conflictProgram == null)
+            return null;
+
+        List<String> models;
+        try
+        {
+            models = PipelineEvents.computeModels(solver, conflictProgram);
+        } catch (SolverException e) {
+            LOGGER.warn("The solver couldn't compute the answer sets of a search state. The state is discarded.", e);
+            return null;
+        }
+
+        if(models == null || models.isEmpty())
+        {
+            LOGGER.debug("The update sequence of a search state has no answer sets. The state is discarded.");
+            return null;
+        }
+
+        List<AnswerSet<?, ?>> answerSets = parser.parseAnswerSets(models);
+        if(answerSets == null)
+            return null;
+
+        List<Conflict> conflicts = new ArrayList<>();
+        List<Conflict> detectedConflicts = PipelineEvents.detectConflicts(conflictDetector, sequence, answerSets);
+        if(detectedConflicts != null)
+            conflicts = detectedConflicts;
+
+        return new SearchState(sequence, answerSets, conflicts, appliedSolutions);
+    }
+
+    /**
+     * Sums up all measures of the given solution. The measures were already computed by the {@link SolutionRanker}.
+     */
+    private double computeCost(Solution solution)
+    {
+        double cost = 0;
+        for (IMeasureController measure : measures)
+        {
+            Object value = solution.getMetaDataValue(measure.getMeasureKey());
+            if(value instanceof Integer && (Integer) value > 0)
+                cost += (Integer) value;
+        }
+
+        return cost;
+    }
+
+    private static List<ASPProgram<?, ?>> copySequence(List<ASPProgram<?, ?>> sequence)
+    {
+        List<ASPProgram<?, ?>> copiedSequence = new ArrayList<>(sequence.size());
+        for (ASPProgram<?, ?> program : sequence)
+            copiedSequence.add(program.createNewInstance());
+
+        return copiedSequence;
+    }
+
+    /**
+     * Creates a fingerprint of the rules of each program, which doesn't depend on the order in which the rules were added.
+     */
+    private static String computeFingerprint(List<ASPProgram<?, ?>> sequence)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (ASPProgram<?, ?> program : sequence)
+        {
+            List<String> rules = new ArrayList<>();
+            for (ASPRule<?> rule : program.getRuleSet())
+                rules.add(rule.toString());
+            Collections.sort(rules);
+
+            for (String rule : rules)
+                sb.append(rule).append(System.lineSeparator());
+            sb.append('|');
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * State of the search: An update sequence which isn't changed anymore, its conflicts and the solutions which were applied to reach it.
+     */
+    private static class SearchState
+    {
+        private final List<ASPProgram<?, ?>> sequence;
+        private final List<AnswerSet<?, ?>> answerSets;
+        private final List<Conflict> conflicts;
+        private final List<Solution> appliedSolutions;
+        private final String fingerprint;
+        /** Sum of the measures of all applied solutions */
+        private double cost;
+
+        private SearchState(List<ASPProgram<?, ?>> sequence, List<AnswerSet<?, ?>> answerSets, List<Conflict> conflicts, List<Solution> appliedSolutions)
+        {
+            this.sequence = sequence;
+            this.answerSets = answerSets;
+            this.conflicts = conflicts;
+            this.appliedSolutions = appliedSolutions;
+            this.fingerprint = computeFingerprint(sequence);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package de.aspua.framework.Controller.Solver;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Utils.Constants;
+import de.aspua.framework.Utils.DaemonThreadFactory;
+
+/**
+ * Reduces the tail latency of solver invocations, e.g. for interactive previews, by hedged requests.
+ * Each request is sent to the primary backend. If it doesn't respond within the hedge delay, a duplicate request is sent to the secondary backend,
+ * e.g. a {@link de.aspua.framework.Controller.CausalRejectionController.ClingoRemoteSolver} for another server or a {@link LocalSolver}.
+ * The first complete result is returned and the other request is cancelled by interrupting its thread.
+ * <p>
+ * The hedge delay is the given percentile (by default the 95th) of the recent latencies of the primary backend.
+ * Thus, only the slowest requests are duplicated, which keeps the additional load at the share of requests above the percentile.
+ * The delay is at least the minimal delay, so the jitter of very fast backends doesn't cause duplicate requests.
+ * If the primary backend fails before the delay, the secondary backend is used immediately.
+ */
+public class HedgedSolver implements ISolverController
+{
+    private static Logger LOGGER = LoggerFactory.getLogger(HedgedSolver.class);
+
+    private final ISolverController primary;
+    private final ISolverController secondary;
+    private final ExecutorService executor = Executors.newCachedThreadPool(new DaemonThreadFactory("hedged-solver"));
+
+    /** Recent latencies of the primary backend in nanoseconds, used as a ring buffer */
+    private final long[] latencies;
+    private int latencyCount = 0;
+    private int nextLatencyIndex = 0;
+
+    /** Percentile of the recent latencies of the primary backend after which a duplicate request is sent */
+    private double percentile = Constants.HEDGE_PERCENTILE;
+    /** Hedge delay in milliseconds as long as too few latencies were observed */
+    private long defaultDelay = Constants.HEDGE_DEFAULT_DELAY;
+    /** Lower bound of the hedge delay in milliseconds */
+    private long minDelay = Constants.HEDGE_MIN_DELAY;
+    /** Minimal number of observed latencies for computing the hedge delay */
+    private int minSamples = Constants.HEDGE_MIN_SAMPLES;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger hedgedCount = new AtomicInteger();
+
+    /**
+     * Creates a solver which keeps the default number of latencies of the primary backend ({@link Constants#HEDGE_LATENCY_WINDOW}).
+     * @param primary Solver which receives all requests
+     * @param secondary Solver which receives the duplicates of slow or failed requests
+     */
+    public HedgedSolver(ISolverController primary, ISolverController secondary)
+    {
+        this(primary, secondary, Constants.HEDGE_LATENCY_WINDOW);
+    }
+
+    /**
+     * @param primary Solver which receives all requests
+     * @param secondary Solver which receives the duplicates of slow or failed requests
+     * @param latencyWindow Number of recent latencies of the primary backend from which the hedge delay is computed
+     */
+    public HedgedSolver(ISolverController primary, ISolverController secondary, int latencyWindow)
+    {
+        this.primary = primary;
+        this.secondary = secondary;
+        this.latencies = new long[Math.max(1, latencyWindow)];
+    }
+
+    /**
+     * @throws SolverException If neither of the backends could compute the models
+     */
+    @Override
+    public List<String> computeModels(ASPProgram<?, ?> program)
+    {
+        requestCount.incrementAndGet();
+        CompletionService<List<String>> completionService = new ExecutorCompletionService<>(executor);
+
+        long start = System.nanoTime();
+        Future<List<String>> primaryFuture = completionService.submit(() -> primary.computeModels(program));
+        Future<List<String>> secondaryFuture = null;
+        SolverException lastFailure = null;
+
+        try
+        {
+            Future<List<String>> completed = completionService.poll(this.getHedgeDelayNanos(), TimeUnit.NANOSECONDS);
+            if(completed != null)
+            {
+                try
+                {
+                    List<String> models = completed.get();
+                    this.recordLatency(System.nanoTime() - start);
+                    return models;
+                } catch (ExecutionException e) {
+                    lastFailure = this.toSolverException(e);
+                    LOGGER.warn("The primary solver backend failed. The request is sent to the secondary backend.", e.getCause());
+                }
+            }
+            else
+            {
+                hedgedCount.incrementAndGet();
+                LOGGER.debug("The primary solver backend didn't respond within the hedge delay. A duplicate request is sent to the secondary backend.");
+            }
+
+            secondaryFuture = completionService.submit(() -> secondary.computeModels(program));
+            int pending = completed == null ? 2 : 1;
+            while(pending > 0)
+            {
+                completed = completionService.take();
+                pending--;
+                try
+                {
+                    List<String> models = completed.get();
+                    if(completed == primaryFuture)
+                        this.recordLatency(System.nanoTime() - start);
+
+                    return models;
+                } catch (ExecutionException e) {
+                    lastFailure = this.toSolverException(e);
+                    LOGGER.warn("The {} solver backend failed.", completed == primaryFuture ? "primary" : "secondary", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SolverException("The hedged request to the solver backends was interrupted.", e, false);
+        } finally {
+            if(!primaryFuture.isDone())
+            {
+                // The cancelled request took at least as long as the winner, which keeps the percentile from being underestimated
+                this.recordLatency(System.nanoTime() - start);
+                primaryFuture.cancel(true);
+            }
+            if(secondaryFuture != null)
+                secondaryFuture.cancel(true);
+        }
+
+        // The request may only succeed later if the last failure was retryable
+        throw new SolverException("The models couldn't be computed by any solver backend.", lastFailure, lastFailure == null || lastFailure.isRetryable());
+    }
+
+    private SolverException toSolverException(ExecutionException e)
+    {
+        if(e.getCause() instanceof SolverException)
+            return (SolverException) e.getCause();
+
+        return new SolverException("The solver backend failed unexpectedly.", e.getCause());
+    }
+
+    private synchronized void recordLatency(long nanos)
+    {
+        latencies[nextLatencyIndex] = nanos;
+        nextLatencyIndex = (nextLatencyIndex + 1) % latencies.length;
+        latencyCount = Math.min(latencyCount + 1, latencies.length);
+    }
+
+    /**
+     * Returns the time after which a duplicate request is sent to the secondary backend.
+     * The delay is kept in nanoseconds, as the latencies of fast backends are below a millisecond.
+     * @return The percentile of the recent latencies of the primary backend in nanoseconds, but at least the minimal delay.
+     * Returns the default delay if too few latencies were observed.
+     */
+    public synchronized long getHedgeDelayNanos()
+    {
+        long minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelay);
+        if(latencyCount < Math.max(1, minSamples))
+            return Math.max(minDelayNanos, TimeUnit.MILLISECONDS.toNanos(defaultDelay));
+
+        long[] sortedLatencies = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sortedLatencies);
+        int index = (int) Math.ceil(percentile * latencyCount) - 1;
+        return Math.max(minDelayNanos, sortedLatencies[Math.max(0, Math.min(index, latencyCount - 1))]);
+    }
+
+    public ISolverController getPrimary() {
+        return primary;
+    }
+
+    public ISolverController getSecondary() {
+        return secondary;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * @param percentile Percentile between 0 and 1 of the recent latencies of the primary backend after which a duplicate request is sent.
+     * Higher percentiles cause less additional load, but reduce the tail latency less.
+     */
+    public void setPercentile(double percentile) {
+        this.percentile = percentile;
+    }
+
+    public long getDefaultDelay() {
+        return defaultDelay;
+    }
+
+    /**
+     * @param defaultDelay Hedge delay in milliseconds as long as too few latencies of the primary backend were observed
+     */
+    public void setDefaultDelay(long defaultDelay) {
+        this.defaultDelay = defaultDelay;
+    }
+
+    public long getMinDelay() {
+        return minDelay;
+    }
+
+    /**
+     * @param minDelay Lower bound of the hedge delay in milliseconds.
+     * Prevents that almost every request to a very fast primary backend is duplicated because of scheduling jitter.
+     */
+    public void setMinDelay(long minDelay) {
+        this.minDelay = minDelay;
+    }
+
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    /**
+     * @param minSamples Minimal number of observed latencies of the primary backend for computing the hedge delay
+     */
+    public void setMinSamples(int minSamples) {
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * @return Number of requests to this solver
+     */
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * @return Number of requests which were duplicated, because the primary backend didn't respond within the hedge delay
+     */
+    public int getHedgedCount() {
+        return hedgedCount.get();
+    }
+}
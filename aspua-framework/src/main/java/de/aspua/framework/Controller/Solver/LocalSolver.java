@@ -0,0 +1,357 @@
+package de.aspua.framework.Controller.Solver;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Model.ASP.ELP.ELPLiteral;
+import de.aspua.framework.Model.ASP.ELP.ELPRule;
+import de.aspua.framework.Utils.Constants;
+
+/**
+ * Computes the answer sets of ground extended logic programs within the JVM, e.g. if the remote solver isn't available.
+ * Strongly negated literals are treated as separate atoms and answer sets which contain complementary literals are discarded,
+ * like the Clingo-Solver does. The models are returned in the same format as by the
+ * {@link de.aspua.framework.Controller.CausalRejectionController.ClingoRemoteSolver}.
+ * <p>
+ * The solver narrows the answer sets down by the alternating fixpoint of the well-founded semantics and only branches
+ * on default-negated literals which are still undefined. Therefore, stratified programs are solved without any branching.
+ * Programs with variables aren't supported, as the solver doesn't ground programs.
+ */
+public class LocalSolver implements ISolverController
+{
+    private static Logger LOGGER = LoggerFactory.getLogger(LocalSolver.class);
+
+    /** Maximal number of branches of a single search */
+    private int maxBranches = Constants.LOCAL_SOLVER_MAX_BRANCHES;
+
+    /**
+     * @throws SolverException If the program isn't a ground extended logic program or the search exceeds the limit of branches.
+     * These failures aren't retryable, as the search is deterministic.
+     */
+    @Override
+    public List<String> computeModels(ASPProgram<?, ?> program)
+    {
+        if(program == null || program.getRuleSet().isEmpty())
+        {
+            LOGGER.warn("The given Program was null or empty. No answersets were computed.");
+            return null;
+        }
+
+        SearchState state = this.buildSearchState(program);
+
+        List<BitSet> answerSets = new ArrayList<>();
+        BitSet assumedTrue = new BitSet(state.literals.size());
+        BitSet assumedFalse = new BitSet(state.literals.size());
+        if(!this.search(state, assumedTrue, assumedFalse, answerSets))
+        {
+            LOGGER.warn("The search of the Local-Solver exceeded the limit of {} branches. No answersets were computed.", maxBranches);
+            throw new SolverException("The search of the Local-Solver exceeded the limit of " + maxBranches + " branches.", false);
+        }
+
+        if(answerSets.isEmpty())
+        {
+            LOGGER.info("The given ASP-Programm doesn't contain any models.");
+            return null;
+        }
+
+        List<String> models = new ArrayList<>();
+        for (BitSet answerSet : answerSets)
+            models.add(state.toModelString(answerSet));
+
+        LOGGER.info("The Local-Solver computed {} model(s).", models.size());
+        return models;
+    }
+
+    /**
+     * Assigns an index to each literal of the program and translates the rules into arrays of literal indices.
+     * @return The translated program
+     * @throws SolverException If the program contains variables or isn't an extended logic program
+     */
+    private SearchState buildSearchState(ASPProgram<?, ?> program)
+    {
+        SearchState state = new SearchState();
+        for (ASPRule<?> rule : program.getRuleSet())
+        {
+            if(!(rule instanceof ELPRule))
+            {
+                LOGGER.warn("The Local-Solver only supports extended logic programs. No answersets were computed.");
+                throw new SolverException("The Local-Solver only supports extended logic programs.", false);
+            }
+
+            ELPRule elpRule = (ELPRule) rule;
+            for (ELPLiteral literal : elpRule.getAllLiterals())
+            {
+                if(!literal.getAtom().getVariables().isEmpty())
+                {
+                    LOGGER.warn("The Local-Solver only supports ground programs, but the rule '{}' contains variables. No answersets were computed.", elpRule);
+                    throw new SolverException("The Local-Solver only supports ground programs, but the rule '" + elpRule + "' contains variables.", false);
+                }
+            }
+
+            int head = elpRule.getHead().isEmpty() ? -1 : state.indexOf(elpRule.getHead().get(0));
+            int[] body = state.indicesOf(elpRule.getBody());
+            int[] negBody = state.indicesOf(elpRule.getNegBody());
+            for (int literal : negBody)
+                state.negatedLiterals.set(literal);
+
+            if(head < 0)
+                state.constraints.add(new int[][] { body, negBody });
+            else
+            {
+                state.heads.add(head);
+                state.bodies.add(body);
+                state.negBodies.add(negBody);
+            }
+        }
+
+        state.complements = new int[state.literals.size()];
+        for (int i = 0; i < state.literals.size(); i++)
+        {
+            ELPLiteral literal = state.literals.get(i);
+            Integer complement = state.literalIndices.get(new ELPLiteral(!literal.isNegated(), literal.getAtom()));
+            state.complements[i] = complement == null ? -1 : complement;
+        }
+
+        return state;
+    }
+
+    /**
+     * Searches all answer sets which contain the assumed literals and don't contain the literals which are assumed to be false.
+     * @return False if the limit of branches was exceeded, true otherwise
+     */
+    private boolean search(SearchState state, BitSet assumedTrue, BitSet assumedFalse, List<BitSet> answerSets)
+    {
+        if(++state.branches > maxBranches)
+            return false;
+
+        // The certain literals only grow and the possible literals only shrink until both are stable
+        BitSet certain = new BitSet();
+        BitSet possible;
+        while(true)
+        {
+            BitSet blockingPossible = (BitSet) certain.clone();
+            blockingPossible.or(assumedTrue);
+            possible = this.computeLeastModel(state, blockingPossible);
+
+            BitSet blockingCertain = (BitSet) possible.clone();
+            blockingCertain.andNot(assumedFalse);
+            blockingCertain.or(assumedTrue);
+            BitSet nextCertain = this.computeLeastModel(state, blockingCertain);
+
+            if(nextCertain.equals(certain))
+                break;
+
+            certain = nextCertain;
+        }
+
+        // An assumption contradicts the bounds
+        BitSet unsupported = (BitSet) assumedTrue.clone();
+        unsupported.andNot(possible);
+        if(!unsupported.isEmpty() || certain.intersects(assumedFalse))
+            return true;
+
+        BitSet undefined = (BitSet) possible.clone();
+        undefined.andNot(certain);
+        undefined.and(state.negatedLiterals);
+        undefined.andNot(assumedTrue);
+        undefined.andNot(assumedFalse);
+
+        if(undefined.isEmpty())
+        {
+            // All default-negated literals are decided, so the lower and the upper bound are equal
+            if(certain.equals(possible) && state.isConsistent(certain))
+                answerSets.add(certain);
+
+            return true;
+        }
+
+        int literal = undefined.nextSetBit(0);
+        assumedTrue.set(literal);
+        boolean completed = this.search(state, assumedTrue, assumedFalse, answerSets);
+        assumedTrue.clear(literal);
+        if(!completed)
+            return false;
+
+        assumedFalse.set(literal);
+        completed = this.search(state, assumedTrue, assumedFalse, answerSets);
+        assumedFalse.clear(literal);
+        return completed;
+    }
+
+    /**
+     * Computes the least model of the reduct of the program in linear time, i.e. rules are ignored if one of their default-negated literals is blocking.
+     * @param blocking Literals which are considered as true for the default-negated literals
+     */
+    private BitSet computeLeastModel(SearchState state, BitSet blocking)
+    {
+        int ruleCount = state.heads.size();
+        int[] missingLiterals = new int[ruleCount];
+        BitSet model = new BitSet(state.literals.size());
+        Deque<Integer> derivedLiterals = new ArrayDeque<>();
+
+        for (int i = 0; i < ruleCount; i++)
+        {
+            missingLiterals[i] = -1;
+            if(this.intersects(state.negBodies.get(i), blocking))
+                continue;
+
+            missingLiterals[i] = state.bodies.get(i).length;
+            if(missingLiterals[i] == 0 && !model.get(state.heads.get(i)))
+            {
+                model.set(state.heads.get(i));
+                derivedLiterals.add(state.heads.get(i));
+            }
+        }
+
+        while(!derivedLiterals.isEmpty())
+        {
+            int literal = derivedLiterals.poll();
+            for (int ruleIndex : state.getWaitingRules(literal))
+            {
+                if(missingLiterals[ruleIndex] <= 0)
+                    continue;
+
+                missingLiterals[ruleIndex]--;
+                int head = state.heads.get(ruleIndex);
+                if(missingLiterals[ruleIndex] == 0 && !model.get(head))
+                {
+                    model.set(head);
+                    derivedLiterals.add(head);
+                }
+            }
+        }
+
+        return model;
+    }
+
+    private boolean intersects(int[] literals, BitSet interpretation)
+    {
+        for (int literal : literals)
+        {
+            if(interpretation.get(literal))
+                return true;
+        }
+        return false;
+    }
+
+    public int getMaxBranches() {
+        return maxBranches;
+    }
+
+    /**
+     * Sets the maximal number of branches of a single search, which bounds the computation time for programs with many choices.
+     * If a search exceeds the limit, a {@link SolverException} is thrown.
+     * @param maxBranches Maximal number of branches
+     */
+    public void setMaxBranches(int maxBranches) {
+        this.maxBranches = maxBranches;
+    }
+
+    /**
+     * Program in which each literal is represented by its index, together with the counters of a single search.
+     */
+    private static class SearchState
+    {
+        private List<ELPLiteral> literals = new ArrayList<>();
+        private Map<ELPLiteral, Integer> literalIndices = new HashMap<>();
+        /** Index of the complementary literal of each literal, or -1 if it doesn't occur */
+        private int[] complements;
+        /** Literals which occur default-negated in a rule */
+        private BitSet negatedLiterals = new BitSet();
+
+        private List<Integer> heads = new ArrayList<>();
+        private List<int[]> bodies = new ArrayList<>();
+        private List<int[]> negBodies = new ArrayList<>();
+        /** Positive and default-negated body of each constraint */
+        private List<int[][]> constraints = new ArrayList<>();
+
+        /** Rules by the literals of their positive bodies. Duplicates are contained multiple times. */
+        private List<List<Integer>> waitingRules;
+        private int branches = 0;
+
+        private int indexOf(ELPLiteral literal)
+        {
+            Integer index = literalIndices.get(literal);
+            if(index == null)
+            {
+                index = literals.size();
+                literals.add(literal);
+                literalIndices.put(literal, index);
+            }
+            return index;
+        }
+
+        private int[] indicesOf(List<ELPLiteral> literals)
+        {
+            int[] indices = new int[literals.size()];
+            for (int i = 0; i < indices.length; i++)
+                indices[i] = this.indexOf(literals.get(i));
+            return indices;
+        }
+
+        private List<Integer> getWaitingRules(int literal)
+        {
+            if(waitingRules == null)
+            {
+                waitingRules = new ArrayList<>(literals.size());
+                for (int i = 0; i < literals.size(); i++)
+                    waitingRules.add(new ArrayList<>());
+
+                for (int i = 0; i < bodies.size(); i++)
+                {
+                    for (int bodyLiteral : bodies.get(i))
+                        waitingRules.get(bodyLiteral).add(i);
+                }
+            }
+            return waitingRules.get(literal);
+        }
+
+        /**
+         * Checks if the given model contains no complementary literals and violates no constraint.
+         */
+        private boolean isConsistent(BitSet model)
+        {
+            for (int i = model.nextSetBit(0); i >= 0; i = model.nextSetBit(i + 1))
+            {
+                if(complements[i] >= 0 && model.get(complements[i]))
+                    return false;
+            }
+
+            for (int[][] constraint : constraints)
+            {
+                boolean bodySatisfied = true;
+                for (int literal : constraint[0])
+                    bodySatisfied &= model.get(literal);
+                for (int literal : constraint[1])
+                    bodySatisfied &= !model.get(literal);
+
+                if(bodySatisfied)
+                    return false;
+            }
+            return true;
+        }
+
+        private String toModelString(BitSet model)
+        {
+            // Clingo doesn't separate the terms of an atom by spaces
+            List<String> literalStrings = new ArrayList<>();
+            for (int i = model.nextSetBit(0); i >= 0; i = model.nextSetBit(i + 1))
+                literalStrings.add(literals.get(i).toString().replace(", ", ","));
+
+            Collections.sort(literalStrings);
+            return String.join(" ", literalStrings);
+        }
+    }
+}
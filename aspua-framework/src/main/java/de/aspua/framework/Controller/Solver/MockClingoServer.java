@@ -0,0 +1,394 @@
+package de.aspua.framework.Controller.Solver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Controller.ControllerInterfaces.IParserController;
+import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Utils.DaemonThreadFactory;
+
+/**
+ * Embeddable stand-in for the Clingo-Server of the TU-Dortmund, so the {@link de.aspua.framework.Controller.CausalRejectionController.ClingoRemoteSolver}
+ * can be tested and load-tested without network access. The server accepts the same form-encoded requests ('rules=&lt;program&gt;')
+ * and replies with the same JSON-object ('{"count": &lt;n&gt;, "models": [...]}'). The models are computed by an in-process solver.
+ * <p>
+ * Faults can be injected to reproduce a slow or unreliable server: A latency per request, a maximal number of concurrent requests
+ * (further requests are rejected with status code 429), a share of requests which fail with status code 500 and a share of responses
+ * which are cut off. All random decisions are derived from a seed, so a sequence of requests leads to the same faults in each run.
+ */
+public class MockClingoServer
+{
+    private static Logger LOGGER = LoggerFactory.getLogger(MockClingoServer.class);
+
+    /** Path under which the server accepts requests */
+    public static final String PATH = "/solve";
+
+    private IParserController parser;
+    private ISolverController solver;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private Random random = new Random(42);
+    /** Latency in milliseconds of each request */
+    private LongSupplier latency = () -> 0;
+    /** Share of requests which fail with status code 500 */
+    private double errorRate = 0;
+    /** Share of responses which are cut off after half of their content */
+    private double truncationRate = 0;
+    /** Permits for concurrent requests. Null if the number of concurrent requests isn't limited. */
+    private Semaphore concurrencyLimit;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger errorCount = new AtomicInteger();
+    private final AtomicInteger throttledCount = new AtomicInteger();
+    private final AtomicInteger truncatedCount = new AtomicInteger();
+
+    /**
+     * Creates a server which solves the requested programs by the {@link ELPParser} and the {@link LocalSolver}.
+     */
+    public MockClingoServer()
+    {
+        this(new ELPParser(), new LocalSolver());
+    }
+
+    /**
+     * @param parser Parses the programs of the requests
+     * @param solver Computes the models of the requested programs
+     */
+    public MockClingoServer(IParserController parser, ISolverController solver)
+    {
+        this.parser = parser;
+        this.solver = solver;
+    }
+
+    /**
+     * Starts the server on a free port of the loopback address. Each request is handled by its own thread.
+     * @return True if the server was started, false otherwise
+     * @see #getUri()
+     */
+    public synchronized boolean start()
+    {
+        if(server != null)
+            return true;
+
+        try
+        {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.createContext(PATH, this::handle);
+            executor = Executors.newCachedThreadPool(new DaemonThreadFactory("mock-clingo"));
+            server.setExecutor(executor);
+            server.start();
+
+            LOGGER.info("The Mock-Clingo-Server was started on {}.", this.getUri());
+            return true;
+        } catch (IOException e) {
+            LOGGER.error("The Mock-Clingo-Server couldn't be started!", e);
+            server = null;
+            return false;
+        }
+    }
+
+    /**
+     * Stops the server immediately. Requests which are still waiting for their latency are aborted.
+     */
+    public synchronized void stop()
+    {
+        if(server == null)
+            return;
+
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        executor = null;
+    }
+
+    /**
+     * Returns the URI which is passed to the {@link de.aspua.framework.Controller.CausalRejectionController.ClingoRemoteSolver}.
+     * @return URI of the running server. Returns null if the server isn't running.
+     */
+    public synchronized URI getUri()
+    {
+        if(server == null)
+            return null;
+
+        InetSocketAddress address = server.getAddress();
+        return URI.create("http://" + address.getHostString() + ":" + address.getPort() + PATH);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException
+    {
+        requestCount.incrementAndGet();
+        try
+        {
+            if(!"POST".equals(exchange.getRequestMethod()))
+            {
+                this.sendResponse(exchange, 405, this.createErrorResponse("Only POST-requests are supported."), false);
+                return;
+            }
+
+            Semaphore currentLimit = concurrencyLimit;
+            if(currentLimit != null && !currentLimit.tryAcquire())
+            {
+                throttledCount.incrementAndGet();
+                this.sendResponse(exchange, 429, this.createErrorResponse("Too many requests."), false);
+                return;
+            }
+
+            try
+            {
+                this.handleSolveRequest(exchange);
+            } finally {
+                if(currentLimit != null)
+                    currentLimit.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleSolveRequest(HttpExchange exchange) throws IOException, InterruptedException
+    {
+        String rules = this.readRules(exchange.getRequestBody());
+
+        long delay = latency.getAsLong();
+        if(delay > 0)
+            Thread.sleep(delay);
+
+        if(random.nextDouble() < errorRate)
+        {
+            errorCount.incrementAndGet();
+            this.sendResponse(exchange, 500, this.createErrorResponse("Injected server error."), false);
+            return;
+        }
+
+        ASPProgram<?, ?> program = rules == null || rules.trim().isEmpty() ? null : parser.parseProgram(rules, "Request");
+        if(program == null)
+        {
+            this.sendResponse(exchange, 400, this.createErrorResponse("The program couldn't be parsed."), false);
+            return;
+        }
+
+        List<String> models;
+        try
+        {
+            models = solver.computeModels(program);
+        } catch (SolverException e) {
+            this.sendResponse(exchange, 500, this.createErrorResponse(e.getMessage()), false);
+            return;
+        }
+
+        JSONObject response = new JSONObject();
+        response.put("count", models == null ? 0 : models.size());
+        response.put("models", models == null ? new JSONArray() : new JSONArray(models));
+
+        boolean truncated = random.nextDouble() < truncationRate;
+        if(truncated)
+            truncatedCount.incrementAndGet();
+
+        this.sendResponse(exchange, 200, response.toString(), truncated);
+    }
+
+    /**
+     * Reads the value of the form parameter 'rules' from the given request body.
+     * @return The decoded program. Returns null if the parameter doesn't exist.
+     */
+    private String readRules(InputStream requestBody) throws IOException
+    {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int length;
+        while((length = requestBody.read(chunk)) != -1)
+            buffer.write(chunk, 0, length);
+
+        String body = new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+        for (String parameter : body.split("&"))
+        {
+            if(parameter.startsWith("rules="))
+                return URLDecoder.decode(parameter.substring("rules=".length()), StandardCharsets.UTF_8.name());
+        }
+
+        return null;
+    }
+
+    /**
+     * Sends the given content. A truncated response announces the full length, but the connection is closed after half of the content.
+     */
+    private void sendResponse(HttpExchange exchange, int statusCode, String content, boolean truncated) throws IOException
+    {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+
+        OutputStream responseBody = exchange.getResponseBody();
+        if(truncated)
+        {
+            responseBody.write(bytes, 0, bytes.length / 2);
+            responseBody.flush();
+            // Closing the exchange with missing content terminates the connection
+            return;
+        }
+
+        responseBody.write(bytes);
+        responseBody.close();
+    }
+
+    private String createErrorResponse(String message)
+    {
+        JSONObject response = new JSONObject();
+        response.put("error", message);
+        return response.toString();
+    }
+
+    /**
+     * Creates a latency which is the same for each request.
+     * @param millis Latency in milliseconds
+     * @return Latency for {@link #setLatency(LongSupplier)}
+     */
+    public static LongSupplier fixedLatency(long millis)
+    {
+        return () -> millis;
+    }
+
+    /**
+     * Creates latencies which are uniformly distributed between the given bounds.
+     * @param minMillis Minimal latency in milliseconds
+     * @param maxMillis Maximal latency in milliseconds
+     * @param seed Seed of the random latencies
+     * @return Latency for {@link #setLatency(LongSupplier)}
+     */
+    public static LongSupplier uniformLatency(long minMillis, long maxMillis, long seed)
+    {
+        Random random = new Random(seed);
+        return () -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis));
+    }
+
+    /**
+     * Creates latencies which are exponentially distributed, i.e. most requests are fast and few requests are very slow.
+     * @param meanMillis Mean latency in milliseconds
+     * @param seed Seed of the random latencies
+     * @return Latency for {@link #setLatency(LongSupplier)}
+     */
+    public static LongSupplier exponentialLatency(long meanMillis, long seed)
+    {
+        Random random = new Random(seed);
+        return () -> (long) (-meanMillis * Math.log(1 - random.nextDouble()));
+    }
+
+    /**
+     * Creates latencies with rare spikes, e.g. to reproduce a long tail of the latency distribution.
+     * @param baseMillis Latency in milliseconds of most requests
+     * @param spikeMillis Latency in milliseconds of a spike
+     * @param spikeProbability Share of requests with a spike
+     * @param seed Seed of the random spikes
+     * @return Latency for {@link #setLatency(LongSupplier)}
+     */
+    public static LongSupplier spikeLatency(long baseMillis, long spikeMillis, double spikeProbability, long seed)
+    {
+        Random random = new Random(seed);
+        return () -> random.nextDouble() < spikeProbability ? spikeMillis : baseMillis;
+    }
+
+    /**
+     * Sets the seed of the random decisions about errors and truncated responses.
+     * @param seed Seed of the injected faults
+     */
+    public void setSeed(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public LongSupplier getLatency() {
+        return latency;
+    }
+
+    /**
+     * Sets the latency which is added to each request before it is answered.
+     * @param latency Supplies the latency of each request in milliseconds, e.g. {@link #exponentialLatency(long, long)}
+     */
+    public void setLatency(LongSupplier latency) {
+        this.latency = latency;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    /**
+     * @param errorRate Share of requests between 0 and 1 which fail with status code 500
+     */
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public double getTruncationRate() {
+        return truncationRate;
+    }
+
+    /**
+     * @param truncationRate Share of responses between 0 and 1 which are cut off after half of their content
+     */
+    public void setTruncationRate(double truncationRate) {
+        this.truncationRate = truncationRate;
+    }
+
+    /**
+     * Limits the number of requests which are handled at the same time. Further requests are rejected with status code 429.
+     * @param maxConcurrentRequests Maximal number of concurrent requests. Values <= 0 disable the limit.
+     */
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.concurrencyLimit = maxConcurrentRequests > 0 ? new Semaphore(maxConcurrentRequests) : null;
+    }
+
+    /**
+     * @return Number of received requests, including rejected and failed requests
+     */
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * @return Number of requests which failed with an injected error
+     */
+    public int getErrorCount() {
+        return errorCount.get();
+    }
+
+    /**
+     * @return Number of requests which were rejected due to the limit of concurrent requests
+     */
+    public int getThrottledCount() {
+        return throttledCount.get();
+    }
+
+    /**
+     * @return Number of responses which were cut off
+     */
+    public int getTruncatedCount() {
+        return truncatedCount.get();
+    }
+}
@@ -0,0 +1,294 @@
+package de.aspua.framework.Controller.Solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Utils.CircuitStateEnum;
+import de.aspua.framework.Utils.Constants;
+
+/**
+ * Computes models by the first available of several solver backends, e.g. a {@link de.aspua.framework.Controller.CausalRejectionController.ClingoRemoteSolver}
+ * with a {@link LocalSolver} as fallback. A backend is used as long as it returns a result, i.e. models or null for an unsatisfiable program.
+ * If a backend throws a retryable {@link SolverException}, the request is retried with an exponential backoff and random jitter.
+ * If all attempts fail, the request is passed on to the next backend. Failures which aren't retryable, e.g. an unsupported program,
+ * are thrown to the caller immediately and don't affect the circuit breaker of the backend.
+ * <p>
+ * Each backend has its own circuit breaker: After several consecutive failed requests, the backend is skipped for a while,
+ * so an unavailable server doesn't delay every request. Afterwards, a single trial request decides whether the backend is used again.
+ * If no backend can compute the models, a {@link SolverException} is thrown instead of returning null, so the failure isn't mistaken for an unsatisfiable program.
+ */
+public class ResilientSolver implements ISolverController
+{
+    private static Logger LOGGER = LoggerFactory.getLogger(ResilientSolver.class);
+
+    private final List<Backend> backends = new ArrayList<>();
+
+    /** Maximal number of attempts per backend and request */
+    private int maxAttempts = Constants.SOLVER_RETRY_ATTEMPTS;
+    /** Backoff in milliseconds before the first retry, which is doubled for each further retry */
+    private long retryBackoff = Constants.SOLVER_RETRY_BACKOFF;
+    /** Number of consecutive failed requests after which the circuit of a backend is opened */
+    private int failureThreshold = Constants.SOLVER_FAILURE_THRESHOLD;
+    /** Time in milliseconds for which an open circuit skips its backend */
+    private long openDuration = Constants.SOLVER_OPEN_DURATION;
+
+    /**
+     * @param backends Solvers in the order in which they are used
+     */
+    public ResilientSolver(ISolverController... backends)
+    {
+        this(Arrays.asList(backends));
+    }
+
+    /**
+     * @param backends Solvers in the order in which they are used
+     */
+    public ResilientSolver(List<ISolverController> backends)
+    {
+        for (ISolverController solver : backends)
+            this.backends.add(new Backend(solver));
+    }
+
+    /**
+     * @throws SolverException If none of the backends could compute the models or a backend failed with a failure which isn't retryable
+     */
+    @Override
+    public List<String> computeModels(ASPProgram<?, ?> program)
+    {
+        SolverException lastFailure = null;
+        for (int i = 0; i < backends.size(); i++)
+        {
+            Backend backend = backends.get(i);
+            int attempts = backend.acquire(openDuration);
+            if(attempts == 0)
+            {
+                LOGGER.debug("The circuit of the solver backend {} is open. The backend is skipped.", backend);
+                continue;
+            }
+
+            try
+            {
+                List<String> models = this.computeWithRetries(backend, program, Math.min(attempts, maxAttempts));
+                backend.recordSuccess();
+
+                if(i > 0)
+                    LOGGER.info("The models were computed by the fallback solver backend {}.", backend);
+                return models;
+            } catch (SolverException e) {
+                if(!e.isRetryable())
+                {
+                    // The request itself can't be processed, so the backend is still healthy
+                    backend.release();
+                    throw e;
+                }
+
+                lastFailure = e;
+                if(backend.recordFailure(failureThreshold))
+                    LOGGER.warn("The circuit of the solver backend {} was opened for {} ms.", backend, openDuration);
+
+                LOGGER.warn("The solver backend {} couldn't compute the models.", backend, e);
+            }
+        }
+
+        if(lastFailure == null)
+            throw new SolverException("The models couldn't be computed, because the circuits of all solver backends are open.");
+
+        throw new SolverException("The models couldn't be computed by any solver backend.", lastFailure);
+    }
+
+    private List<String> computeWithRetries(Backend backend, ASPProgram<?, ?> program, int attempts)
+    {
+        SolverException lastFailure = null;
+        for (int attempt = 0; attempt < attempts; attempt++)
+        {
+            if(attempt > 0)
+            {
+                // Full jitter prevents that retries of parallel requests hit the server at the same time
+                long backoff = retryBackoff << Math.min(attempt - 1, 20);
+                long delay = ThreadLocalRandom.current().nextLong(backoff + 1);
+                LOGGER.info("Retrying the request to the solver backend {} in {} ms.", backend, delay);
+                try
+                {
+                    TimeUnit.MILLISECONDS.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SolverException("The request to the solver backend was interrupted.", e, false);
+                }
+            }
+
+            try
+            {
+                return backend.solver.computeModels(program);
+            } catch (SolverException e) {
+                if(!e.isRetryable())
+                    throw e;
+                lastFailure = e;
+            } catch (RuntimeException e) {
+                lastFailure = new SolverException("The solver backend failed unexpectedly.", e);
+            }
+
+            if(Thread.currentThread().isInterrupted())
+                break;
+        }
+
+        throw lastFailure;
+    }
+
+    /**
+     * Returns the current state of the circuit breaker of a backend.
+     * @param index Position of the backend in the order of usage
+     * @return State of the circuit of the backend
+     */
+    public CircuitStateEnum getCircuitState(int index)
+    {
+        return backends.get(index).getState(openDuration);
+    }
+
+    /**
+     * Returns the solver backends in the order in which they are used.
+     * @return List of all backends
+     */
+    public List<ISolverController> getBackends()
+    {
+        List<ISolverController> solvers = new ArrayList<>();
+        for (Backend backend : backends)
+            solvers.add(backend.solver);
+        return solvers;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @param maxAttempts Maximal number of attempts per backend and request, at least 1
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    public long getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    /**
+     * @param retryBackoff Backoff in milliseconds before the first retry. The actual delay is chosen randomly up to the backoff.
+     */
+    public void setRetryBackoff(long retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    /**
+     * @param failureThreshold Number of consecutive failed requests after which the circuit of a backend is opened
+     */
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public long getOpenDuration() {
+        return openDuration;
+    }
+
+    /**
+     * @param openDuration Time in milliseconds for which an open circuit skips its backend
+     */
+    public void setOpenDuration(long openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    /**
+     * Solver together with the health of its circuit breaker.
+     */
+    private static class Backend
+    {
+        private final ISolverController solver;
+        private CircuitStateEnum state = CircuitStateEnum.CLOSED;
+        private int consecutiveFailures = 0;
+        private long openedAt;
+
+        private Backend(ISolverController solver)
+        {
+            this.solver = solver;
+        }
+
+        /**
+         * Decides whether a request may be sent to the backend.
+         * @return Maximal number of attempts for the request. Returns 0 if the backend is skipped.
+         */
+        private synchronized int acquire(long openDuration)
+        {
+            switch (this.getState(openDuration))
+            {
+                case CLOSED:
+                    return Integer.MAX_VALUE;
+                case HALF_OPEN:
+                    if(state == CircuitStateEnum.OPEN)
+                    {
+                        // Only a single trial request without retries
+                        state = CircuitStateEnum.HALF_OPEN;
+                        return 1;
+                    }
+                    return 0;
+                default:
+                    return 0;
+            }
+        }
+
+        private synchronized CircuitStateEnum getState(long openDuration)
+        {
+            if(state == CircuitStateEnum.OPEN && System.nanoTime() - openedAt >= TimeUnit.MILLISECONDS.toNanos(openDuration))
+                return CircuitStateEnum.HALF_OPEN;
+
+            return state;
+        }
+
+        /**
+         * Finishes a request without a result for the health of the backend, e.g. because the request itself was invalid.
+         * A trial request of a half-open circuit has to be repeated by the next request.
+         */
+        private synchronized void release()
+        {
+            if(state == CircuitStateEnum.HALF_OPEN)
+                state = CircuitStateEnum.OPEN;
+        }
+
+        private synchronized void recordSuccess()
+        {
+            state = CircuitStateEnum.CLOSED;
+            consecutiveFailures = 0;
+        }
+
+        /**
+         * @return True if the circuit was opened by the failure
+         */
+        private synchronized boolean recordFailure(int failureThreshold)
+        {
+            consecutiveFailures++;
+            if(state == CircuitStateEnum.HALF_OPEN || consecutiveFailures >= failureThreshold)
+            {
+                state = CircuitStateEnum.OPEN;
+                openedAt = System.nanoTime();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public String toString()
+        {
+            return solver.getClass().getSimpleName();
+        }
+    }
+}
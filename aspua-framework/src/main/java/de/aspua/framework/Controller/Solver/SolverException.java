@@ -0,0 +1,43 @@
+package de.aspua.framework.Controller.Solver;
+
+/**
+ * Is thrown by an {@link de.aspua.framework.Controller.ControllerInterfaces.ISolverController} if the models of a program couldn't be computed,
+ * e.g. because the remote server isn't available. In contrast to an unsatisfiable program, the program may still have answer sets,
+ * so the absence of models mustn't be interpreted as the absence of conflicts.
+ * <p>
+ * A failure is retryable if it may not occur again for the same request, e.g. a timeout or an overloaded server.
+ * Failures which are caused by the request itself, e.g. an unsupported program, are not retryable.
+ */
+public class SolverException extends RuntimeException
+{
+    private static final long serialVersionUID = 4715390321865513712L;
+
+    /** True if the same request may succeed when it is sent again */
+    private final boolean retryable;
+
+    public SolverException(String message)
+    {
+        this(message, true);
+    }
+
+    public SolverException(String message, Throwable cause)
+    {
+        this(message, cause, true);
+    }
+
+    public SolverException(String message, boolean retryable)
+    {
+        super(message);
+        this.retryable = retryable;
+    }
+
+    public SolverException(String message, Throwable cause, boolean retryable)
+    {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
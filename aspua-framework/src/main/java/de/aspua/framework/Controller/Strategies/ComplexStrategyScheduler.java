@@ -0,0 +1,315 @@
+package de.aspua.framework.Controller.Strategies;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.aspua.framework.Controller.ControllerInterfaces.IMetricsCollector;
+import de.aspua.framework.Controller.ControllerInterfaces.ISolutionListener;
+import de.aspua.framework.Controller.ControllerInterfaces.IStrategyController;
+import de.aspua.framework.Controller.Events.PipelineEvents;
+import de.aspua.framework.Controller.Metrics.NoOpMetricsCollector;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Utils.Constants;
+import de.aspua.framework.Utils.DaemonThreadFactory;
+import de.aspua.framework.Utils.MetricEnum;
+
+/**
+ * Applies complex strategies to conflicts in the background, so expensive strategies don't block the interactive steps of the update process.
+ * All complex strategies of a conflict are applied by a single task, which is cancelled as soon as the time budget of the conflict is exceeded.
+ * Solutions are added to their conflict as soon as a strategy provides them (see {@link IStrategyController#streamSolutions}),
+ * and all registered {@link ISolutionListener}-objects are notified afterwards.
+ * <p>
+ * Scheduled tasks belong to a round of the update process. When the round is cancelled ({@link #cancelAll()}), running tasks are interrupted
+ * and solutions which arrive afterwards are discarded, so outdated solutions never reach a conflict.
+ */
+public class ComplexStrategyScheduler
+{
+    private static Logger LOGGER = LoggerFactory.getLogger(ComplexStrategyScheduler.class);
+
+    private ExecutorService executor;
+    private ScheduledExecutorService timer;
+    /** Executors which were created by this scheduler and are shut down by {@link #shutdown()} */
+    private final List<ExecutorService> ownedExecutors;
+    private long timeBudget;
+    private final List<ISolutionListener> listeners;
+    private IMetricsCollector metricsCollector;
+
+    /** Tasks of the current round */
+    private final List<Future<?>> scheduledTasks;
+    /** Counter which identifies the current round */
+    private long round;
+
+    /**
+     * Creates a scheduler with low-priority daemon threads and the default time budget.
+     * @see Constants#COMPLEX_STRATEGY_THREADS
+     * @see Constants#COMPLEX_STRATEGY_TIME_BUDGET
+     */
+    public ComplexStrategyScheduler()
+    {
+        this(Executors.newFixedThreadPool(Constants.COMPLEX_STRATEGY_THREADS, new DaemonThreadFactory("aspua-complex-strategy", Thread.MIN_PRIORITY)),
+            Constants.COMPLEX_STRATEGY_TIME_BUDGET);
+        ownedExecutors.add(executor);
+    }
+
+    /**
+     * Creates a scheduler which applies the strategies with the given executor. The timer for the time budget is created by the scheduler.
+     * @param executor Executor which applies the strategies. The executor isn't shut down by the scheduler.
+     * @param timeBudget Time budget in milliseconds for all complex strategies of a conflict. Values <= 0 disable the time budget.
+     */
+    public ComplexStrategyScheduler(ExecutorService executor, long timeBudget)
+    {
+        this(executor, Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("aspua-strategy-timer")), timeBudget);
+        ownedExecutors.add(timer);
+    }
+
+    /**
+     * Creates a scheduler which uses the given executors, e.g. executors which are shared by all sessions of an engine.
+     * @param executor Executor which applies the strategies. The executor isn't shut down by the scheduler.
+     * @param timer Timer which cancels the tasks after the time budget. The timer isn't shut down by the scheduler.
+     * @param timeBudget Time budget in milliseconds for all complex strategies of a conflict. Values <= 0 disable the time budget.
+     */
+    public ComplexStrategyScheduler(ExecutorService executor, ScheduledExecutorService timer, long timeBudget)
+    {
+        this.executor = executor;
+        this.timer = timer;
+        this.timeBudget = timeBudget;
+        this.ownedExecutors = new ArrayList<>();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.scheduledTasks = new ArrayList<>();
+        this.metricsCollector = NoOpMetricsCollector.INSTANCE;
+    }
+
+    /**
+     * Starts a new round and applies the given strategies to all given conflicts in the background. Tasks of the previous round are cancelled.
+     * @param strategies Complex strategies which are applied to each conflict in the given order
+     * @param mergedUpdateSequence Program of the update sequence which contains the conflicts. The program mustn't be changed afterwards,
+     * e.g. a snapshot of the update sequence, as the tasks read it in the background.
+     * @param conflicts Conflicts which receive the computed solutions
+     * @param preparation Is invoked with the computed solutions before they are added to their conflict, e.g. to compute their measures.
+     * Is invoked by the background threads without holding the lock of the scheduler. May be null.
+     */
+    public synchronized void schedule(List<IStrategyController> strategies, ASPProgram<?, ?> mergedUpdateSequence, List<Conflict> conflicts,
+                                      Consumer<List<Solution>> preparation)
+    {
+        this.cancelAll();
+        if(strategies == null || strategies.isEmpty() || conflicts == null)
+            return;
+
+        for (Conflict conflict : conflicts)
+        {
+            ConflictTask task = new ConflictTask(round, strategies, mergedUpdateSequence, conflict, preparation);
+            FutureTask<Void> future = new FutureTask<>(task, null);
+            task.future = future;
+
+            try
+            {
+                executor.execute(future);
+                scheduledTasks.add(future);
+            } catch (RejectedExecutionException e) {
+                LOGGER.warn("The executor rejected the application of complex strategies. The remaining conflicts won't receive further solutions.");
+                break;
+            }
+        }
+    }
+
+    /**
+     * Cancels all tasks of the current round. Solutions which are computed afterwards by the cancelled tasks are discarded.
+     */
+    public synchronized void cancelAll()
+    {
+        round++;
+        for (Future<?> task : scheduledTasks)
+            task.cancel(true);
+
+        scheduledTasks.clear();
+    }
+
+    /**
+     * Cancels all tasks and shuts down the executors which were created by this scheduler. Shared executors keep running.
+     */
+    public synchronized void shutdown()
+    {
+        this.cancelAll();
+        for (ExecutorService ownedExecutor : ownedExecutors)
+            ownedExecutor.shutdownNow();
+    }
+
+    /**
+     * Checks whether tasks of the current round are still running.
+     * @return True if at least one conflict still receives solutions, false otherwise
+     */
+    public synchronized boolean isRunning()
+    {
+        return scheduledTasks.stream().anyMatch(x -> !x.isDone());
+    }
+
+    public void addListener(ISolutionListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(ISolutionListener listener) {
+        listeners.remove(listener);
+    }
+
+    public IMetricsCollector getMetricsCollector() {
+        return metricsCollector;
+    }
+
+    /**
+     * Sets the collector which receives the duration of each complex strategy per conflict, tagged by the class name of the strategy.
+     * @param metricsCollector Collector which receives the durations. If null, no durations are recorded.
+     */
+    public void setMetricsCollector(IMetricsCollector metricsCollector) {
+        this.metricsCollector = metricsCollector == null ? NoOpMetricsCollector.INSTANCE : metricsCollector;
+    }
+
+    public long getTimeBudget() {
+        return timeBudget;
+    }
+
+    /**
+     * Sets the time budget for all complex strategies of a single conflict. The budget is measured from the start of the conflict's task.
+     * @param timeBudget Time budget in milliseconds. Values <= 0 disable the time budget.
+     */
+    public void setTimeBudget(long timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+
+    /**
+     * Adds the given solutions to their conflict if the task still belongs to the current round and wasn't cancelled.
+     * The solutions are prepared without holding the lock, so a slow preparation doesn't block {@link #cancelAll()}.
+     * @return True if the solutions were added, false if they were discarded
+     */
+    private boolean deliver(ConflictTask task, List<Solution> solutions)
+    {
+        if(!this.isCurrent(task))
+            return false;
+
+        if(task.preparation != null)
+            task.preparation.accept(solutions);
+
+        synchronized (this)
+        {
+            // The round may have been cancelled during the preparation
+            if(!this.isCurrent(task))
+            {
+                for (Solution solution : solutions)
+                    solution.cancelPendingMetaData();
+                return false;
+            }
+
+            synchronized (task.conflict.getSolutions())
+            {
+                task.conflict.getSolutions().addAll(solutions);
+            }
+        }
+
+        for (ISolutionListener listener : listeners)
+        {
+            try
+            {
+                listener.solutionsAdded(task.conflict, solutions);
+            } catch (RuntimeException e) {
+                LOGGER.warn("A solution-listener couldn't process the added solutions.", e);
+            }
+        }
+        return true;
+    }
+
+    private synchronized boolean isCurrent(ConflictTask task)
+    {
+        return task.round == round && !task.future.isCancelled();
+    }
+
+    /**
+     * Notifies all listeners that the given task is finished, if the task still belongs to the current round.
+     */
+    private void finish(ConflictTask task, boolean completed)
+    {
+        synchronized (this)
+        {
+            if(task.round != round)
+                return;
+        }
+
+        for (ISolutionListener listener : listeners)
+        {
+            try
+            {
+                listener.strategiesFinished(task.conflict, completed);
+            } catch (RuntimeException e) {
+                LOGGER.warn("A solution-listener couldn't process the finished strategies.", e);
+            }
+        }
+    }
+
+    /**
+     * Applies all complex strategies to a single conflict within the time budget.
+     */
+    private class ConflictTask implements Runnable
+    {
+        private final long round;
+        private final List<IStrategyController> strategies;
+        private final ASPProgram<?, ?> mergedUpdateSequence;
+        private final Conflict conflict;
+        private final Consumer<List<Solution>> preparation;
+        private Future<?> future;
+
+        private ConflictTask(long round, List<IStrategyController> strategies, ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict,
+                             Consumer<List<Solution>> preparation)
+        {
+            this.round = round;
+            this.strategies = new ArrayList<>(strategies);
+            this.mergedUpdateSequence = mergedUpdateSequence;
+            this.conflict = conflict;
+            this.preparation = preparation;
+        }
+
+        @Override
+        public void run()
+        {
+            // The task is interrupted as soon as the time budget is exceeded
+            ScheduledFuture<?> timeout = null;
+            if(timeBudget > 0)
+                timeout = timer.schedule(() -> future.cancel(true), timeBudget, TimeUnit.MILLISECONDS);
+
+            boolean completed = true;
+            try
+            {
+                for (IStrategyController strategy : strategies)
+                {
+                    if(Thread.currentThread().isInterrupted())
+                        break;
+
+                    long start = System.nanoTime();
+                    PipelineEvents.streamSolutions(strategy, mergedUpdateSequence, conflict, x -> deliver(this, Collections.singletonList(x)));
+                    metricsCollector.recordTime(MetricEnum.STRATEGY, strategy.getClass().getSimpleName(), System.nanoTime() - start);
+                }
+            } catch (RuntimeException e) {
+                LOGGER.warn("A complex strategy couldn't compute solutions for a conflict.", e);
+                completed = false;
+            } finally {
+                if(timeout != null)
+                    timeout.cancel(false);
+            }
+
+            finish(this, completed && !future.isCancelled() && !Thread.currentThread().isInterrupted());
+        }
+    }
+}
@@ -2,9 +2,9 @@ package de.aspua.framework.Controller.Strategies;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -14,7 +14,9 @@ import de.aspua.framework.Model.Solution;
 import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
 import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
 import de.aspua.framework.Model.ASP.ELP.ELPLiteral;
+import de.aspua.framework.Model.ASP.ELP.ELPProgram;
 import de.aspua.framework.Model.ASP.ELP.ELPRule;
+import de.aspua.framework.Model.ASP.ELP.ELPRuleVariantList;
 import de.aspua.framework.Utils.SolutionMetaDataEnum;
 
 /**
@@ -23,36 +25,42 @@ import de.aspua.framework.Utils.SolutionMetaDataEnum;
  */
 public class IndirectModificationStrategy implements IStrategyController
 {
-    private Conflict conflict;
-    private ASPProgram<?,?> updateSequence;
-    
-    public void apply(List<ASPProgram<?, ?>> updateSequence, Conflict conflict)
+    @Override
+    public List<Solution> computeSolutions(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict)
     {
-        this.conflict = conflict;
-
-        this.updateSequence = updateSequence.get(0).createNewInstance();
-		for (int i = 1; i < updateSequence.size(); i++)
-		{
-			for (ASPRule<?> currentRule : updateSequence.get(i).getRuleSet())
-			{
-				this.updateSequence.addRule(currentRule.createNewInstance());
-			}
-		}
+        ELPProgram program = this.toELPProgram(mergedUpdateSequence);
 
         List<Solution> solutionCandidates = new ArrayList<>();
         ELPRule oldRule = (ELPRule) conflict.getConflictingRules().get(0);
         ELPRule newRule = (ELPRule) conflict.getConflictingRules().get(1);
 
         // Compute all solutions by rejecting the older rule
-        solutionCandidates.addAll(this.computeSolutions(oldRule, newRule));
+        solutionCandidates.addAll(this.computeSolutions(program, conflict, oldRule, newRule));
 
         // Compute all solutions by rejecting the new rule
-        solutionCandidates.addAll(this.computeSolutions(newRule, oldRule));
+        solutionCandidates.addAll(this.computeSolutions(program, conflict, newRule, oldRule));
 
         // Remove all null entries from solutions which couldn't be generated
         solutionCandidates.removeAll(Collections.singletonList(null));
+        return solutionCandidates;
+    }
+
+    /**
+     * The strategy reads all rules whose head literal occurs in the positive body of a conflicting rule.
+     */
+    @Override
+    public String computeFingerprint(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict)
+    {
+        ELPProgram program = this.toELPProgram(mergedUpdateSequence);
 
-        conflict.getSolutions().addAll(solutionCandidates);
+        Set<ELPRule> readRules = new LinkedHashSet<>();
+        for (ASPRule<?> conflictRule : conflict.getConflictingRules())
+        {
+            for (ELPLiteral bodyLiteral : ((ELPRule) conflictRule).getBody())
+                readRules.addAll(program.getRulesByHead(bodyLiteral));
+        }
+
+        return StrategyCache.computeFingerprint(new ArrayList<>(readRules));
     }
 
     /**
@@ -66,11 +74,13 @@ public class IndirectModificationStrategy implements IStrategyController
 
     /**
      * Computes the solutions.
+     * @param program Merged update sequence which contains the conflict
+     * @param conflict Conflict which is supposed to be solved by the solutions
      * @param rejectedRule Rule which is rejected if a generated solution is applied
      * @param referenceRule Rule whose body is used to generate default-complementary literals to reject dependency rules
      * @return List of all computed {@link Solution}-objects
      */
-    private List<Solution> computeSolutions(ELPRule rejectedRule, ELPRule referenceRule)
+    private List<Solution> computeSolutions(ELPProgram program, Conflict conflict, ELPRule rejectedRule, ELPRule referenceRule)
     {
         List<Solution> computedSolutions = new ArrayList<>();
 
@@ -83,7 +93,7 @@ public class IndirectModificationStrategy implements IStrategyController
         // Compute all indirect rule modifications for each possible positive body literal of the rejectedRule
         for (ELPLiteral dependencyLiteral : rejectedRule.getBody())
         {
-            Solution solution = this.computeSolutionForDependyLiteral(referenceRule, dependencyLiteral);
+            Solution solution = this.computeSolutionForDependyLiteral(program, conflict, referenceRule, dependencyLiteral);
 
             // Check if a solution could be generated for the current dependency literal
             if(solution != null)
@@ -98,12 +108,14 @@ public class IndirectModificationStrategy implements IStrategyController
 
     /**
      * Computes a solution by rejecting all dependency rules with the given head through (indirect) rule modifications.
+     * @param program Merged update sequence which contains the conflict
+     * @param conflict Conflict which is supposed to be solved by the solution
      * @param referenceRule Rule whose body is used to generate default-complementary literals to reject dependency rules
      * @param dependencyLiteral head of dependency rules who should be modified
      * @return A {@link Solution}-object which contains indirect rule modifications for all dependency rules with the given head literal.
      * Returns null if not all dependency rules can be rejected by indirect rule modifications.
      */
-    public Solution computeSolutionForDependyLiteral(ELPRule referenceRule, ELPLiteral dependencyLiteral)
+    public Solution computeSolutionForDependyLiteral(ELPProgram program, Conflict conflict, ELPRule referenceRule, ELPLiteral dependencyLiteral)
     {
         // Contains the rules which will be preselected in the generated solution
         List<ASPRule<?>> selectedModifications = new ArrayList<>();
@@ -112,26 +124,18 @@ public class IndirectModificationStrategy implements IStrategyController
         HashMap<String, List<ASPRule<?>>> allDependecyModifications = new HashMap<>();
 
         // Compute all possible rule-modifications for each dependencyRule
-        List<ELPRule> dependencyRules = this.computeRelevantDependencyRules(dependencyLiteral);
+        List<ELPRule> dependencyRules = this.computeRelevantDependencyRules(program, conflict, dependencyLiteral);
         for (ELPRule dependencyRule : dependencyRules)
         {
-            List<ASPRule<?>> possibleModifications = this.computeRuleModifications(dependencyRule.createNewInstance(), referenceRule.createNewInstance());
+            ELPRuleVariantList possibleModifications = ELPRuleVariantList.forRejection(dependencyRule.createNewInstance(), referenceRule.createNewInstance());
 
             // If at least one rule cannot be modified (e.g. the body of the referenceRule is a subset of the body the dependecyRule),
             //      the literal cannot be disabled. Therefore, not solution can be generated.
-            if(possibleModifications.isEmpty())
+            if(possibleModifications == null || possibleModifications.getCompleteVariant() == null)
                 return null;
 
-            // Sort modifications such that the amount of literals in the variants is descending
-            Comparator<ASPRule<?>> comparator = (ASPRule<?> first, ASPRule<?> second) -> 
-            {
-                return second.getAllLiterals().size() - first.getAllLiterals().size();
-            };
-            possibleModifications.sort(comparator);
-
             // As default, the rule-modifications which use all literals from C should be preselected for the solution
-            selectedModifications.add(possibleModifications.get(0));
-            possibleModifications.remove(possibleModifications.get(0));
+            selectedModifications.add(possibleModifications.getCompleteVariant());
 
             allDependecyModifications.put(dependencyRule.getID(), possibleModifications);
         }
@@ -145,135 +149,62 @@ public class IndirectModificationStrategy implements IStrategyController
 
     /**
      * Filters the update sequence for all rules with the given head literal, which can possibly be active with the conflicting rules.
+     * @param program Merged update sequence which contains the conflict
+     * @param conflict Conflict whose rules are compared with the filtered rules
      * @param dependencyLiteral Head literal of the filtered rules
      * @return List of all relevant rules of the update sequence
      */
-    private List<ELPRule> computeRelevantDependencyRules(ELPLiteral dependencyLiteral)
+    private List<ELPRule> computeRelevantDependencyRules(ELPProgram program, Conflict conflict, ELPLiteral dependencyLiteral)
     {
         List<ELPRule> dependencyRules = new ArrayList<>();
-        for (ASPRule<?> untypedRule : updateSequence.getRuleSet())
+        List<ELPRule> candidateRules = program.getRulesByHead(dependencyLiteral);
+        if(candidateRules.isEmpty())
+            return dependencyRules;
+
+        // Collect all rules whose body can't be true at the same time as the body of a conflicting rule
+        Set<ELPRule> irrelevantRules = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ASPRule<?> untypedConflictRule : conflict.getConflictingRules())
         {
-            ELPRule candidateRule = (ELPRule) untypedRule;
-            boolean isRelevant = !candidateRule.isContraint() && candidateRule.getHead().get(0).equals(dependencyLiteral);
+            ELPRule conflictRule = (ELPRule) untypedConflictRule;
 
-            for (ASPRule<?> untypedConflictRule : conflict.getConflictingRules())
+            for (ELPLiteral referenceLiteral : conflictRule.getBody())
             {
-                if(!isRelevant)
-                    break;
-
-                ELPRule conflictRule = (ELPRule) untypedConflictRule;
-
                 // Search for complementary literals in positive body
-                for (ELPLiteral referenceLiteral : conflictRule.getBody())
-                {
-                    for (ELPLiteral candidateLiteral : candidateRule.getBody())
-                    {
-                        if(referenceLiteral.getAtom().equals(candidateLiteral.getAtom())
-                        && (referenceLiteral.isNegated() != candidateLiteral.isNegated()))
-                        {
-                            isRelevant = false;
-                            break;
-                        }  
-
-                    }
-
-                    if(!isRelevant)
-                        break;
-                }
+                ELPLiteral complementaryLiteral = new ELPLiteral(!referenceLiteral.isNegated(), referenceLiteral.getAtom());
+                irrelevantRules.addAll(program.getRulesByBody(complementaryLiteral));
 
                 // Check if a positive body literal of the conflictRule already exists in the negative body of the candidateRule
-                if(isRelevant)
-                    isRelevant = conflictRule.getBody().stream()
-                    .noneMatch(x -> candidateRule.getNegBody().contains(x));
-
-                // Check if a negative body literal of the conflictRule already exists in the positive body of the candidateRule
-                if(isRelevant)
-                    isRelevant = conflictRule.getNegBody().stream()
-                    .noneMatch(x -> candidateRule.getBody().contains(x));
+                irrelevantRules.addAll(program.getRulesByNegBody(referenceLiteral));
             }
 
-            if(isRelevant)
-                dependencyRules.add(candidateRule.createNewInstance());
+            // Check if a negative body literal of the conflictRule already exists in the positive body of the candidateRule
+            for (ELPLiteral referenceLiteral : conflictRule.getNegBody())
+                irrelevantRules.addAll(program.getRulesByBody(referenceLiteral));
         }
 
-        return dependencyRules;
-    }
-
-    /**
-     * Computes all possible rule modifications for rejecting the rule of the first parameter if the rule of the second parameter is active in an answer set.
-     * @param rejectedRule Rule which is modified in order to get rejected
-     * @param referenceRule Rule which causes the rejection if the solution is applied
-     * @return List of all possible modified rules, which could replace the rejected rule
-     * @see DirectModificationStrategy
-     */
-    private List<ASPRule<?>> computeRuleModifications(ELPRule rejectedRule, ELPRule referenceRule)
-    {
-        // Build C: Choose all literals from the referenceRule which are not already included in the body of the rejectedRule
-        referenceRule.getBody().removeAll(rejectedRule.getBody());
-        referenceRule.getNegBody().removeAll(rejectedRule.getNegBody());
-        Set<Set<ELPLiteral>> powerSet = this.computePowerSet(new HashSet<ELPLiteral>(referenceRule.getCompleteBody()));
-
-        List<ASPRule<?>> ruleModificationList = new ArrayList<>();
-        for (Set<ELPLiteral> currentC : powerSet)
+        for (ELPRule candidateRule : candidateRules)
         {
-            // At least one literal has to be added to the rejectedRule in order to deactivate it
-            if(currentC.isEmpty())
-                continue;
-            
-            ELPRule ruleModification = rejectedRule.createNewInstance();
-
-            // Add C_not: The complementary literals that are supposed to deactivate the rejectedRule if the new rule is active
-            for (ELPLiteral currentLiteral : currentC)
-            {
-                // Invert negation-as-failure (not not c = c)
-                if(referenceRule.getBody().contains(currentLiteral))
-                    ruleModification.getNegBody().add(currentLiteral);
-                else
-                    ruleModification.getBody().add(currentLiteral);
-            }
-
-            // Add solution with current C_not to the possible solutions for the conflict
-            ruleModificationList.add(ruleModification);
+            if(!candidateRule.isContraint() && !irrelevantRules.contains(candidateRule))
+                dependencyRules.add(candidateRule.createNewInstance());
         }
 
-        return ruleModificationList;
+        return dependencyRules;
     }
 
-
     /**
-     * Computes all possible permutations of literals using recursion.
-     * @param originalSet Set of literals, whose permutations should be computed
-     * @return Set of literal-sets, where each set represents one permutation
-     * @see DirectModificationStrategy
+     * Provides the given program as an {@link ELPProgram}, whose literal-indexes are used to search for dependency rules.
+     * @param mergedUpdateSequence Merged update sequence which contains the conflict. May be null.
+     * @return The given program, if it is an {@link ELPProgram}. Otherwise, a new program with the same rules.
      */
-    private Set<Set<ELPLiteral>> computePowerSet(Set<ELPLiteral> originalSet)
+    @SuppressWarnings("unchecked")
+    private ELPProgram toELPProgram(ASPProgram<?, ?> mergedUpdateSequence)
     {
-        Set<Set<ELPLiteral>> powerSet = new HashSet<Set<ELPLiteral>>();
-
-        // base case: Return an empty set as the only valid permutation
-        if (originalSet.isEmpty())
-        {
-            powerSet.add(new HashSet<ELPLiteral>());
-            return powerSet;
-        }
+        if(mergedUpdateSequence instanceof ELPProgram)
+            return (ELPProgram) mergedUpdateSequence;
 
-        // Fix one literal which is not used for further recursive invokations
-        List<ELPLiteral> originalList = new ArrayList<ELPLiteral>(originalSet);
-        ELPLiteral fixedLiteral = originalList.get(0);
+        if(mergedUpdateSequence == null)
+            return new ELPProgram();
 
-        // For all literals except the fixed literal: use recursion to find all permutations
-        Set<ELPLiteral> rest = new HashSet<ELPLiteral>(originalList.subList(1, originalList.size()));
-        for (Set<ELPLiteral> currentRecursiveSet : this.computePowerSet(rest))
-        {
-            Set<ELPLiteral> newSet = new HashSet<ELPLiteral>();
-            newSet.add(fixedLiteral);
-            newSet.addAll(currentRecursiveSet);
-
-            // Add set of {fixed literal + recursive permutation} to powerset
-            powerSet.add(newSet);
-            // Add set of {recursive permutation} to powerset (without fixed literal)
-            powerSet.add(currentRecursiveSet);
-        }
-
-        return powerSet;
-    }}
+        return new ELPProgram((List<ELPRule>) mergedUpdateSequence.getRuleSet());
+    }
+}
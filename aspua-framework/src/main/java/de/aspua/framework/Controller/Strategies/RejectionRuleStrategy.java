@@ -2,7 +2,9 @@ package de.aspua.framework.Controller.Strategies;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import de.aspua.framework.Controller.ControllerInterfaces.IStrategyController;
 import de.aspua.framework.Model.Conflict;
@@ -20,42 +22,46 @@ import de.aspua.framework.Utils.SolutionMetaDataEnum;
  */
 public class RejectionRuleStrategy implements IStrategyController
 {
-    private Conflict conflict;
-    private ELPProgram updateSequence;
-
     @Override
-    public void apply(List<ASPProgram<?, ?>> updateSequence, Conflict conflict)
+    public List<Solution> computeSolutions(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict)
     {
-        this.conflict = conflict;
-
-        if(updateSequence == null || updateSequence.isEmpty())
-            this.updateSequence = new ELPProgram();
-        else
-        {
-            this.updateSequence = (ELPProgram) updateSequence.get(0).createNewInstance();
-            for(int i = 1; i < updateSequence.size(); i++)
-            {
-                for (ASPRule<?> currentRule : updateSequence.get(i).getRuleSet())
-                {
-                    this.updateSequence.addRule(currentRule.createNewInstance());
-                }
-            }
-        }
+        ELPProgram program = this.toELPProgram(mergedUpdateSequence);
 
         List<Solution> solutionCandidates = new ArrayList<>();
         ELPRule oldRule = (ELPRule) conflict.getConflictingRules().get(0);
         ELPRule newRule = (ELPRule) conflict.getConflictingRules().get(1);
 
         // Compute all solutions by deactivating the older rule
-        solutionCandidates.addAll(this.computeSolutions(oldRule, newRule));
+        solutionCandidates.addAll(this.computeSolutions(program, conflict, oldRule, newRule));
 
         // Compute all solutions by deactivating the newer rule
-        solutionCandidates.addAll(this.computeSolutions(newRule, oldRule));
+        solutionCandidates.addAll(this.computeSolutions(program, conflict, newRule, oldRule));
 
         // Remove all null entries from solutions which couldn't be generated
         solutionCandidates.removeAll(Collections.singletonList(null));
+        return solutionCandidates;
+    }
+
+    /**
+     * The strategy reads all rules whose head atom occurs in the negative body of a conflicting rule, and the labels which are occupied in the program.
+     */
+    @Override
+    public String computeFingerprint(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict)
+    {
+        ELPProgram program = this.toELPProgram(mergedUpdateSequence);
+
+        // Constraints aren't indexed by their head, so only rules with a head literal are read
+        Set<ELPRule> readRules = new LinkedHashSet<>();
+        for (ASPRule<?> conflictRule : conflict.getConflictingRules())
+        {
+            for (ELPLiteral negBodyLiteral : ((ELPRule) conflictRule).getNegBody())
+            {
+                readRules.addAll(program.getRulesByHead(new ELPLiteral(false, negBodyLiteral.getAtom())));
+                readRules.addAll(program.getRulesByHead(new ELPLiteral(true, negBodyLiteral.getAtom())));
+            }
+        }
 
-        conflict.getSolutions().addAll(solutionCandidates);
+        return this.computePlaceholderLabel(program) + System.lineSeparator() + StrategyCache.computeFingerprint(new ArrayList<>(readRules));
     }
 
     /**
@@ -69,11 +75,13 @@ public class RejectionRuleStrategy implements IStrategyController
 
     /**
      * Computes all solutions for the given rules using rejection rules.
+     * @param program Merged update sequence which contains the conflict
+     * @param conflict Conflict which is supposed to be solved by the solutions
      * @param rejectedRule Focused rule which will be inactive if the solution is applied
      * @param referenceRule The rule which is used to build the rejection rule
      * @return List of all computed {@link Solution}-objects
      */
-    private List<Solution> computeSolutions(ELPRule rejectedRule, ELPRule referenceRule)
+    private List<Solution> computeSolutions(ELPProgram program, Conflict conflict, ELPRule rejectedRule, ELPRule referenceRule)
     {
         List<Solution> computedSolutions = new ArrayList<>();
 
@@ -83,11 +91,11 @@ public class RejectionRuleStrategy implements IStrategyController
         // Compute the difference between the negative bodies of the referenceRule and rejectedRule to get all literals which may be used for generating solutions
         rejectedRule.getNegBody().removeAll(referenceRule.getNegBody());
 
-        this.filterForConflictPotential(referenceRule, rejectedRule.getNegBody());
+        this.filterForConflictPotential(program, referenceRule, rejectedRule.getNegBody());
         for (ELPLiteral dependencyLiteral : rejectedRule.getNegBody())
         {
             // Compute all indirect rule modifications by adding rejection rules
-            Solution solution = this.computeSolutionForFocusedLiteral(referenceRule, dependencyLiteral);
+            Solution solution = this.computeSolutionForFocusedLiteral(program, conflict, referenceRule, dependencyLiteral);
             solution.addMetaData(SolutionMetaDataEnum.TARGETLITERAL, dependencyLiteral);
             solution.addMetaData(SolutionMetaDataEnum.ROOTRULE, rejectedRule.getID());
             computedSolutions.add(solution);
@@ -98,11 +106,13 @@ public class RejectionRuleStrategy implements IStrategyController
 
     /**
      * Computes a solution by generating a rejection rule from the given paramters.
+     * @param mergedUpdateSequence Merged update sequence which contains the conflict
+     * @param conflict Conflict which is supposed to be solved by the solution
      * @param referenceRule Rule whose body is used to construct the rejection rule's body
      * @param focusedLiteral Head literal of the rejection rule
      * @return A {@link Solution} containing the generated rejection rule
      */
-    private Solution computeSolutionForFocusedLiteral(ELPRule referenceRule, ELPLiteral focusedLiteral)
+    private Solution computeSolutionForFocusedLiteral(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict, ELPRule referenceRule, ELPLiteral focusedLiteral)
     {
         // Set the literal from negative body as the head of the rejection rule
         ELPLiteral rejectionHead = focusedLiteral.createNewInstance();
@@ -120,38 +130,38 @@ public class RejectionRuleStrategy implements IStrategyController
         List<ASPRule<?>> addRules = new ArrayList<>();
         ELPRule addedRule = new ELPRule(rejectionHead, posRejectionBody, negRejectionBody);
 
-        int placeholderLabel = updateSequence.getRuleSet().size();
-        while(updateSequence.getRuleByLabelID(placeholderLabel) != null)
-            placeholderLabel++;
-
-        addedRule.setLabelID(placeholderLabel);
+        addedRule.setLabelID(this.computePlaceholderLabel(mergedUpdateSequence));
         addRules.add(addedRule);
         return new Solution(conflict, addRules, null, null);
     }
 
+    /**
+     * Computes the label which is used for rejection rules until the solution is applied.
+     * @param mergedUpdateSequence Merged update sequence which contains the conflict
+     * @return The first unused label ID, starting at the number of used label IDs in the given program
+     */
+    private int computePlaceholderLabel(ASPProgram<?, ?> mergedUpdateSequence)
+    {
+        return mergedUpdateSequence.getUnusedLabelID();
+    }
+
     /**
      * Removes all potential head literals of rejection rules which could cause new conflicts.
+     * Only the rules whose head is complementary to a literal candidate are looked up by the head-index of the program.
+     * @param program Merged update sequence which contains the conflict
      * @param referenceRule Rule whose body will be used to construct the rejection rule
      * @param possibleLiterals List of potential head literals for rejection rules
      */
-    private void filterForConflictPotential(ELPRule referenceRule, List<ELPLiteral> possibleLiterals)
+    private void filterForConflictPotential(ELPProgram program, ELPRule referenceRule, List<ELPLiteral> possibleLiterals)
     {
         List<ELPLiteral> iterableLiterals = new ArrayList<>();
         iterableLiterals.addAll(possibleLiterals);
         for (ELPLiteral literalCandidate : iterableLiterals) 
         {
-            for (ELPRule currentRule : updateSequence.getRuleSet())
+            // Only rules with a complementary head literal can cause a new conflict. Constraints don't have head literals.
+            ELPLiteral complementaryLiteral = new ELPLiteral(!literalCandidate.isNegated(), literalCandidate.getAtom());
+            for (ELPRule currentRule : program.getRulesByHead(complementaryLiteral))
             {
-                // Constraints don't have head literals, and therefore cannot cause new conflicts
-                if(currentRule.isContraint())
-                    continue;
-
-                // If the literalCandidate and the head of the current rule aren't complementary, there cannot arise a new conflict
-                ELPLiteral currentRuleHead = currentRule.getHead().get(0);
-                boolean equalHeadAtom = currentRuleHead.getAtom().equals(literalCandidate.getAtom());
-                if(!equalHeadAtom || literalCandidate.isNegated() == currentRuleHead.isNegated())
-                    continue;
-
                 // If the positive body of the currentRule and the negative body of the referenceRule contain literals, the bodies cannot be true at the same time
                 boolean contraryLiterals = currentRule.getBody().stream()
                     .anyMatch(referenceRule.getNegBody()::contains);
@@ -169,4 +179,21 @@ public class RejectionRuleStrategy implements IStrategyController
             }
         }
     }
+
+    /**
+     * Provides the given program as an {@link ELPProgram}, whose head-index is used to search for read and complementary rules.
+     * @param mergedUpdateSequence Merged update sequence which contains the conflict. May be null.
+     * @return The given program, if it is an {@link ELPProgram}. Otherwise, a new program with the same rules.
+     */
+    @SuppressWarnings("unchecked")
+    private ELPProgram toELPProgram(ASPProgram<?, ?> mergedUpdateSequence)
+    {
+        if(mergedUpdateSequence instanceof ELPProgram)
+            return (ELPProgram) mergedUpdateSequence;
+
+        if(mergedUpdateSequence == null)
+            return new ELPProgram();
+
+        return new ELPProgram((List<ELPRule>) mergedUpdateSequence.getRuleSet());
+    }
 }
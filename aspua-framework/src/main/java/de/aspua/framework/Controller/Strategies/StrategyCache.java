@@ -0,0 +1,134 @@
+package de.aspua.framework.Controller.Strategies;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import de.aspua.framework.Controller.ControllerInterfaces.IStrategyController;
+import de.aspua.framework.Controller.Events.PipelineEvents;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+
+/**
+ * Memoizes the solutions which were computed by strategies in previous rounds of the update process.
+ * The solutions of a strategy are identified by the conflicting rules and the fingerprint of all further rules which were read by the strategy
+ * (see {@link IStrategyController#computeFingerprint(ASPProgram, Conflict)}). If a conflict and its fingerprint didn't change after a conflict
+ * was solved, the previous solutions are copied instead of being computed again.
+ * <p>
+ * Only the entries which were used in the previous round are kept, so outdated solutions don't accumulate over several rounds.
+ * The cache may be used by several threads at once.
+ */
+public class StrategyCache
+{
+    /** Entries which were used in the previous round */
+    private Map<String, List<Solution>> previousEntries;
+    /** Entries which were used in the current round */
+    private Map<String, List<Solution>> currentEntries;
+
+    public StrategyCache()
+    {
+        previousEntries = new ConcurrentHashMap<>();
+        currentEntries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the solutions of the given strategy for the given conflict. The solutions are only computed by the strategy
+     * if no solutions with the same conflicting rules and fingerprint were computed in the previous or current round.
+     * @param strategy Strategy which computes the solutions
+     * @param mergedUpdateSequence Merged update sequence which contains the conflict
+     * @param conflict Conflict which is supposed to be solved by the solutions
+     * @return List of all computed {@link Solution}-objects, which are linked to the given conflict
+     * @see IStrategyController#computeSolutions(ASPProgram, Conflict)
+     */
+    public List<Solution> getSolutions(IStrategyController strategy, ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict)
+    {
+        String fingerprint = strategy.computeFingerprint(mergedUpdateSequence, conflict);
+        if(fingerprint == null)
+            return PipelineEvents.computeSolutions(strategy, mergedUpdateSequence, conflict);
+
+        String key = this.computeKey(strategy, conflict, fingerprint);
+        List<Solution> cachedSolutions = currentEntries.get(key);
+        if(cachedSolutions == null)
+            cachedSolutions = previousEntries.get(key);
+
+        if(cachedSolutions != null)
+        {
+            currentEntries.putIfAbsent(key, cachedSolutions);
+            return this.copySolutions(cachedSolutions, conflict);
+        }
+
+        List<Solution> solutions = PipelineEvents.computeSolutions(strategy, mergedUpdateSequence, conflict);
+        if(solutions != null)
+            currentEntries.putIfAbsent(key, this.copySolutions(solutions, conflict));
+
+        return solutions;
+    }
+
+    /**
+     * Finishes the current round. All entries which weren't used in the finished round are removed.
+     */
+    public void nextRound()
+    {
+        previousEntries = currentEntries;
+        currentEntries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Removes all entries of the cache.
+     */
+    public void clear()
+    {
+        previousEntries = new ConcurrentHashMap<>();
+        currentEntries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates a fingerprint of the given rules, which changes as soon as the ID, the label or any literal of a rule changes.
+     * The order of the rules is part of the fingerprint.
+     * @param rules Rules which are included in the fingerprint
+     * @return The created fingerprint
+     */
+    public static String computeFingerprint(List<? extends ASPRule<?>> rules)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (ASPRule<?> rule : rules)
+        {
+            sb.append(rule.getID());
+            sb.append('#');
+            sb.append(rule.getLabelID());
+            sb.append('#');
+            sb.append(rule.toString());
+            sb.append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Combines the strategy, the conflicting rules and the fingerprint to a key of the cache.
+     */
+    private String computeKey(IStrategyController strategy, Conflict conflict, String fingerprint)
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append(strategy.getClass().getName());
+        sb.append(System.lineSeparator());
+        sb.append(computeFingerprint(conflict.getConflictingRules()));
+        sb.append(System.lineSeparator());
+        sb.append(fingerprint);
+        return sb.toString();
+    }
+
+    /**
+     * Copies the given solutions and links the copies to the given conflict, so the cached solutions are never modified.
+     */
+    private List<Solution> copySolutions(List<Solution> solutions, Conflict conflict)
+    {
+        List<Solution> copiedSolutions = new ArrayList<>(solutions.size());
+        for (Solution solution : solutions)
+            copiedSolutions.add(solution.createNewInstance(conflict));
+
+        return copiedSolutions;
+    }
+}
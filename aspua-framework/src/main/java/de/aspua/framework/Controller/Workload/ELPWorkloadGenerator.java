@@ -0,0 +1,347 @@
+package de.aspua.framework.Controller.Workload;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.aspua.framework.Model.Workload;
+
+/**
+ * Generates reproducible extended logic programs and update programs with known sizes and a known number of conflicts,
+ * e.g. as input for benchmarks, stress tests or the batch mode.
+ * <p>
+ * The atoms of each program are arranged in layers according to the dependency depth. Facts form the lowest layer and
+ * the body of a rule only refers to atoms of lower layers, so the programs are stratified and have a unique answer set.
+ * The rules of the update program may also refer to atoms of the initial program. Apart from the conflicting rules,
+ * the heads of both programs use disjoint predicates and aren't negated. Each conflict consists of a rule of the initial program
+ * and a rule of the update program with complementary heads, whose bodies only contain facts of the initial program.
+ * Therefore, the causal rejection detects exactly the given number of conflicts.
+ * <p>
+ * The programs are written in the text format of the {@link de.aspua.framework.Controller.CausalRejectionController.FileController},
+ * i.e. one rule per line.
+ */
+public class ELPWorkloadGenerator
+{
+    private static Logger LOGGER = LoggerFactory.getLogger(ELPWorkloadGenerator.class);
+
+    /** Predicate prefixes of the initial program and the update program */
+    private static final String INITIAL_PREFIX = "p";
+    private static final String UPDATE_PREFIX = "q";
+    /** Prefix and number of the constants which are used as arguments of the atoms */
+    private static final String CONSTANT_PREFIX = "c";
+    private static final int CONSTANT_COUNT = 10;
+    /** Probability that a rule derives the head of an existing rule of the same layer */
+    private static final double HEAD_REUSE_PROBABILITY = 0.25;
+    /** Number of attempts to generate a rule which isn't contained in the program yet */
+    private static final int MAX_ATTEMPTS = 10;
+
+    private long seed = 42;
+    /** Number of rules per program, including the conflicting rules */
+    private int ruleCount = 1000;
+    /** Number of arguments of each atom */
+    private int arity = 1;
+    /** Maximal number of body literals of a rule. Each rule which isn't a fact has at least one body literal. */
+    private int maxBodyLength = 3;
+    /** Share of the body literals which are default-negated */
+    private double negationShare = 0.3;
+    /** Number of pairs of rules with complementary heads */
+    private int conflictCount = 10;
+    /** Number of layers of the atoms, i.e. the maximal length of a chain of dependencies between rules */
+    private int dependencyDepth = 4;
+
+    /**
+     * Generates an initial program and an update program with the current settings.
+     * Generating a workload twice with the same settings results in the same programs.
+     * @param name Name of the workload, which is used for the program names
+     * @return The generated workload. Returns null if the settings are invalid.
+     */
+    public Workload generate(String name)
+    {
+        if(ruleCount <= 0 || arity < 0 || maxBodyLength < 0 || dependencyDepth <= 0 || negationShare < 0 || negationShare > 1)
+        {
+            LOGGER.warn("The workload '{}' couldn't be generated, because the settings are invalid: {}", name, this);
+            return null;
+        }
+
+        if(conflictCount < 0 || conflictCount > ruleCount)
+        {
+            LOGGER.warn("The workload '{}' couldn't be generated, because the number of conflicts ({}) has to be between 0 and the number of rules ({}).",
+                name, conflictCount, ruleCount);
+            return null;
+        }
+
+        Random random = new Random(seed);
+        List<List<String>> initialLayers = new ArrayList<>();
+        List<String> initialRules = this.generateRules(random, INITIAL_PREFIX, initialLayers, null);
+        List<String> updateRules = this.generateRules(random, UPDATE_PREFIX, new ArrayList<>(), initialLayers);
+
+        for (int i = 0; i < conflictCount; i++)
+        {
+            // The conflicting atoms form an additional layer, so no other rule depends on them
+            String conflictAtom = this.createAtom(random, INITIAL_PREFIX, dependencyDepth, i);
+            initialRules.add(this.createConflictRule(random, conflictAtom, initialLayers.get(0)));
+            updateRules.add(this.createConflictRule(random, "-" + conflictAtom, initialLayers.get(0)));
+        }
+
+        LOGGER.info("Generated the workload '{}' with {} rule(s) per program and {} conflict(s).", name, ruleCount, conflictCount);
+        return new Workload(name, this.toProgramString(initialRules), this.toProgramString(updateRules), ruleCount, conflictCount, seed);
+    }
+
+    /**
+     * Writes both programs of the given workload as textfiles into the given directory, so they can be loaded by the
+     * {@link de.aspua.framework.Controller.CausalRejectionController.FileController} if the directory is its resource folder.
+     * Existing files with the same names are overwritten.
+     * @param workload Workload which is written
+     * @param directory Directory of the textfiles. It is created if it doesn't exist.
+     * @return True if both textfiles were written, false otherwise
+     * @see Workload#getInitialProgramName()
+     * @see Workload#getUpdateProgramName()
+     */
+    public static boolean write(Workload workload, Path directory)
+    {
+        if(workload == null || directory == null)
+        {
+            LOGGER.warn("The workload or the directory is null! Therefore, no file was written.");
+            return false;
+        }
+
+        try
+        {
+            Files.createDirectories(directory);
+            Files.write(directory.resolve(workload.getInitialProgramName() + ".txt"), workload.getInitialProgram().getBytes(StandardCharsets.UTF_8));
+            Files.write(directory.resolve(workload.getUpdateProgramName() + ".txt"), workload.getUpdateProgram().getBytes(StandardCharsets.UTF_8));
+            return true;
+        } catch (IOException e) {
+            LOGGER.error("An error occured while writing the workload '{}' to the directory {}!", workload.getName(), directory.toAbsolutePath(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Generates the rules of a program without the conflicting rules. The rules are distributed evenly over the layers.
+     * @param random Source of randomness of the workload
+     * @param prefix Predicate prefix of the heads of the program
+     * @param layers Receives the head atoms of each layer of the program
+     * @param referencedLayers Head atoms of each layer of another program to which the bodies may refer. May be null.
+     * @return Generated rules in the syntax of the {@link de.aspua.framework.Controller.CausalRejectionController.ELPParser}
+     */
+    private List<String> generateRules(Random random, String prefix, List<List<String>> layers, List<List<String>> referencedLayers)
+    {
+        int generatedRuleCount = ruleCount - conflictCount;
+        // Without body literals, all rules are facts. Each layer has to contain at least one rule.
+        int depth = maxBodyLength == 0 ? 1 : Math.max(1, Math.min(dependencyDepth, generatedRuleCount));
+        for (int i = 0; i < depth; i++)
+            layers.add(new ArrayList<>());
+
+        List<String> rules = new ArrayList<>(ruleCount);
+        Set<String> existingRules = new HashSet<>();
+        int[] predicateCounts = new int[depth];
+
+        for (int i = 0; i < generatedRuleCount; i++)
+        {
+            int layer = (int) ((long) i * depth / generatedRuleCount);
+            List<String> headAtoms = layers.get(layer);
+            String rule = null;
+
+            for (int attempt = 0; attempt < MAX_ATTEMPTS && layer > 0 && rule == null; attempt++)
+            {
+                String head;
+                if(!headAtoms.isEmpty() && random.nextDouble() < HEAD_REUSE_PROBABILITY)
+                    head = headAtoms.get(random.nextInt(headAtoms.size()));
+                else
+                    head = this.createAtom(random, prefix, layer, predicateCounts[layer]);
+
+                String candidate = head + " :- " + String.join(", ", this.createBody(random, layer, layers, referencedLayers)) + ".";
+                if(!existingRules.contains(candidate))
+                    rule = candidate;
+            }
+
+            String head;
+            if(rule == null)
+            {
+                // A new predicate ensures that the rule is unique
+                head = this.createAtom(random, prefix, layer, predicateCounts[layer]);
+                if(layer == 0)
+                    rule = head + ".";
+                else
+                    rule = head + " :- " + String.join(", ", this.createBody(random, layer, layers, referencedLayers)) + ".";
+            }
+            else
+                head = rule.substring(0, rule.indexOf(" :- "));
+
+            if(!headAtoms.contains(head))
+            {
+                headAtoms.add(head);
+                predicateCounts[layer]++;
+            }
+
+            existingRules.add(rule);
+            rules.add(rule);
+        }
+
+        return rules;
+    }
+
+    /**
+     * Creates the body of a rule of the given layer. The first literal refers to the layer below, so the rule realizes the full dependency depth.
+     * @return Distinct body literals in a canonical order, so equal bodies result in equal rule strings
+     */
+    private Set<String> createBody(Random random, int layer, List<List<String>> layers, List<List<String>> referencedLayers)
+    {
+        int bodyLength = 1 + random.nextInt(maxBodyLength);
+        Set<String> body = new TreeSet<>();
+
+        for (int i = 0; i < bodyLength; i++)
+        {
+            int bodyLayer = i == 0 ? layer - 1 : random.nextInt(layer);
+            List<String> atoms = layers.get(bodyLayer);
+            if(referencedLayers != null && bodyLayer < referencedLayers.size() && !referencedLayers.get(bodyLayer).isEmpty() && random.nextBoolean())
+                atoms = referencedLayers.get(bodyLayer);
+
+            String atom = atoms.get(random.nextInt(atoms.size()));
+            body.add(random.nextDouble() < negationShare ? "not " + atom : atom);
+        }
+
+        return body;
+    }
+
+    /**
+     * Creates a conflicting rule whose body consists of facts, so the rule is always applicable.
+     */
+    private String createConflictRule(Random random, String head, List<String> facts)
+    {
+        int bodyLength = facts.isEmpty() ? 0 : random.nextInt(Math.min(maxBodyLength, facts.size()) + 1);
+        Set<String> body = new TreeSet<>();
+        for (int i = 0; i < bodyLength; i++)
+            body.add(facts.get(random.nextInt(facts.size())));
+
+        if(body.isEmpty())
+            return head + ".";
+        else
+            return head + " :- " + String.join(", ", body) + ".";
+    }
+
+    /**
+     * Creates an atom with the predicate '&lt;prefix&gt;&lt;layer&gt;_&lt;index&gt;' and random constants as arguments.
+     * The constants never contain a predicate, as the parser relies on it.
+     */
+    private String createAtom(Random random, String prefix, int layer, int index)
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append(prefix).append(layer).append('_').append(index);
+
+        if(arity > 0)
+        {
+            List<String> constants = new ArrayList<>(arity);
+            for (int i = 0; i < arity; i++)
+                constants.add(CONSTANT_PREFIX + random.nextInt(CONSTANT_COUNT));
+
+            sb.append('(').append(String.join(",", constants)).append(')');
+        }
+
+        return sb.toString();
+    }
+
+    private String toProgramString(List<String> rules)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (String rule : rules)
+        {
+            sb.append(rule);
+            sb.append(System.lineSeparator());
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("seed=%s, ruleCount=%s, arity=%s, maxBodyLength=%s, negationShare=%s, conflictCount=%s, dependencyDepth=%s",
+            seed, ruleCount, arity, maxBodyLength, negationShare, conflictCount, dependencyDepth);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * @param ruleCount Number of rules per program, including the conflicting rules
+     */
+    public void setRuleCount(int ruleCount) {
+        this.ruleCount = ruleCount;
+    }
+
+    public int getArity() {
+        return arity;
+    }
+
+    /**
+     * @param arity Number of arguments of each atom. If 0, the atoms are propositional.
+     */
+    public void setArity(int arity) {
+        this.arity = arity;
+    }
+
+    public int getMaxBodyLength() {
+        return maxBodyLength;
+    }
+
+    /**
+     * @param maxBodyLength Maximal number of body literals of a rule. If 0, all rules are facts.
+     */
+    public void setMaxBodyLength(int maxBodyLength) {
+        this.maxBodyLength = maxBodyLength;
+    }
+
+    public double getNegationShare() {
+        return negationShare;
+    }
+
+    /**
+     * @param negationShare Share of the body literals which are default-negated, between 0 and 1
+     */
+    public void setNegationShare(double negationShare) {
+        this.negationShare = negationShare;
+    }
+
+    public int getConflictCount() {
+        return conflictCount;
+    }
+
+    /**
+     * @param conflictCount Number of conflicts between the initial program and the update program. Mustn't exceed the number of rules.
+     */
+    public void setConflictCount(int conflictCount) {
+        this.conflictCount = conflictCount;
+    }
+
+    public int getDependencyDepth() {
+        return dependencyDepth;
+    }
+
+    /**
+     * @param dependencyDepth Maximal length of a chain of dependencies between the rules of a program, at least 1
+     */
+    public void setDependencyDepth(int dependencyDepth) {
+        this.dependencyDepth = dependencyDepth;
+    }
+}
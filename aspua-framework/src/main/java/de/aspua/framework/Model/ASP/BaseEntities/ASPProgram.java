@@ -3,12 +3,16 @@ package de.aspua.framework.Model.ASP.BaseEntities;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.aspua.framework.Utils.LabelIDAllocator;
+
 /**
  * Represents an ASP-program. The entity can be extended by implementing subclasses.
  * Critical methods such as {@link #toString()}, {@link #equals(Object)},{@link #hashCode()} and {@link #createNewInstance()}
@@ -28,6 +32,18 @@ public class ASPProgram<T extends ASPRule<S>, S extends ASPLiteral<?>> implement
     private HashMap<S, List<String>> usedLiterals;
     private List<T> ruleSet;
 
+    /** Indexes from head- and body-literals to all rules which contain the literal. The indexes are built on demand and aren't serialized */
+    private transient HashMap<S, List<T>> headIndex;
+    private transient HashMap<S, List<T>> bodyIndex;
+    /** Set of all rules for the duplicate check of added rules. The set is built on demand and isn't serialized */
+    private transient HashSet<T> ruleLookup;
+    /** Labels of all rules, which are built on demand and updated whenever a rule is added or deleted. They aren't serialized */
+    private transient LabelIDAllocator labelAllocator;
+    /** Number of rules per label, as a label is only free if no rule uses it anymore */
+    private transient HashMap<Integer, Integer> labelUsages;
+    /** Number of rule operations which were applied to the program. Used to detect outdated views of the program */
+    private transient int modificationCount;
+
     /**
      * Creates an empty ASP-program with no rules and no program name.
      */
@@ -95,8 +111,7 @@ public class ASPProgram<T extends ASPRule<S>, S extends ASPLiteral<?>> implement
         if(castedRule.getHead().isEmpty() && castedRule.getBody().isEmpty())
             return false;
 
-        boolean alreadyExist =  ruleSet.stream()
-            .anyMatch(currentRule -> currentRule.equals(castedRule));
+        boolean alreadyExist = this.containsRule(castedRule);
         
         if(alreadyExist)
         {
@@ -278,6 +293,196 @@ public class ASPProgram<T extends ASPRule<S>, S extends ASPLiteral<?>> implement
         }
     }
 
+    /**
+     * Computes a label ID which isn't used by any rule of the program.
+     * @return The first unused label ID, starting at the number of used label IDs
+     * @see LabelIDAllocator#peek()
+     */
+    public synchronized int getUnusedLabelID()
+    {
+        this.ensureLabelAllocator();
+        return labelAllocator.peek();
+    }
+
+    /**
+     * Checks whether the program contains a rule with the exact same literals as the given rule.
+     * The lookup doesn't depend on the size of the program. Rules whose literals were modified directly after they were added may not be found.
+     * @param rule Rule of interest
+     * @return True if an equal rule exists, false otherwise
+     */
+    protected synchronized boolean containsRule(T rule)
+    {
+        // The rule set may have been changed directly, e.g. by the returned list of getRuleSet()
+        if(ruleLookup == null || ruleLookup.size() != ruleSet.size())
+            ruleLookup = new HashSet<>(ruleSet);
+
+        return ruleLookup.contains(rule);
+    }
+
+    /**
+     * Builds the set of used labels if it doesn't exist yet. Afterwards, the set is updated whenever a rule is added or deleted.
+     * Labels which are changed directly afterwards (see {@link ASPRule#setLabelID(int)}) aren't noticed until a rule with the changed label is deleted.
+     */
+    private void ensureLabelAllocator()
+    {
+        if(labelAllocator != null)
+            return;
+
+        labelAllocator = new LabelIDAllocator();
+        labelUsages = new HashMap<>();
+        for (T rule : ruleSet)
+            this.updateLabels(rule, true);
+    }
+
+    /**
+     * Adds/removes the label of the given rule to/from the used labels.
+     * If the label of a removed rule isn't registered, because the label was changed directly, the labels are rebuilt on the next request.
+     */
+    private void updateLabels(T rule, boolean add)
+    {
+        int label = rule.getLabelID();
+        if(label < 0)
+            return;
+
+        if(add)
+        {
+            labelUsages.merge(label, 1, Integer::sum);
+            labelAllocator.reserve(label);
+            return;
+        }
+
+        Integer usages = labelUsages.get(label);
+        if(usages == null)
+        {
+            labelAllocator = null;
+            labelUsages = null;
+        }
+        else if(usages == 1)
+        {
+            labelUsages.remove(label);
+            labelAllocator.release(label);
+        }
+        else
+            labelUsages.put(label, usages - 1);
+    }
+
+    /**
+     * Returns the number of rule operations which were applied to the program since it was created.
+     * Rules which were modified directly (without the methods of this class) aren't counted.
+     * @return Number of applied rule operations
+     * @see de.aspua.framework.Model.ASP.ELP.UpdateSequenceView
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns all rules with the given head literal in the order in which they were added to the program.
+     * The lookup doesn't depend on the size of the program.
+     * @param literal Head literal of the searched rules
+     * @return Unmodifiable list of all rules with the given head literal. Returns an empty list if no rule matches.
+     */
+    public List<T> getRulesByHead(S literal)
+    {
+        this.ensureIndexes();
+        return Collections.unmodifiableList(headIndex.getOrDefault(literal, Collections.emptyList()));
+    }
+
+    /**
+     * Returns all rules which contain the given literal in their (positive) body in the order in which they were added to the program.
+     * The lookup doesn't depend on the size of the program.
+     * @param literal Body literal of the searched rules
+     * @return Unmodifiable list of all rules with the given body literal. Returns an empty list if no rule matches.
+     */
+    public List<T> getRulesByBody(S literal)
+    {
+        this.ensureIndexes();
+        return Collections.unmodifiableList(bodyIndex.getOrDefault(literal, Collections.emptyList()));
+    }
+
+    /**
+     * Builds the literal-indexes of the program if they don't exist yet. Afterwards, the indexes are updated whenever a rule is added or deleted.
+     * The method is synchronized, so the indexes of a program which is only read may be built by several threads at once.
+     */
+    protected synchronized void ensureIndexes()
+    {
+        if(headIndex != null)
+            return;
+
+        this.initializeIndexes();
+        for (T rule : ruleSet)
+            this.updateIndexes(rule, true);
+    }
+
+    /**
+     * Creates empty literal-indexes. Subclasses which maintain additional indexes have to create them in this method.
+     */
+    protected void initializeIndexes()
+    {
+        headIndex = new HashMap<>();
+        bodyIndex = new HashMap<>();
+    }
+
+    /**
+     * Drops all literal-indexes, so they are rebuilt on the next lookup.
+     */
+    protected void invalidateIndexes()
+    {
+        headIndex = null;
+        bodyIndex = null;
+    }
+
+    /**
+     * Adds/removes the given rule to/from all literal-indexes. Subclasses which maintain additional indexes have to update them in this method.
+     * @param rule Rule which is added or removed
+     * @param add True if the rule should be added to the indexes, false otherwise.
+     * @return True if the indexes could be updated. False if the rule wasn't indexed under its current literals, e.g. because it was modified directly.
+     */
+    protected boolean updateIndexes(T rule, boolean add)
+    {
+        boolean success = this.updateIndex(headIndex, rule.getHead(), rule, add);
+        return this.updateIndex(bodyIndex, rule.getBody(), rule, add) && success;
+    }
+
+    /**
+     * Adds/removes the given rule to/from the entries of the given literals in the given index.
+     * Rules are compared by identity, as the literals of rules may be equal.
+     * @param index Index which is updated
+     * @param literals Literals whose entries are updated
+     * @param rule Rule which is added or removed
+     * @param add True if the rule should be added to the index, false otherwise.
+     * @return True if the index could be updated. False if the rule should be removed, but wasn't contained in an entry.
+     */
+    protected <L extends ASPLiteral<?>, R> boolean updateIndex(HashMap<L, List<R>> index, List<L> literals, R rule, boolean add)
+    {
+        boolean success = true;
+        for (L literal : literals)
+        {
+            List<R> indexedRules = index.get(literal);
+            if(add)
+            {
+                if(indexedRules == null)
+                {
+                    indexedRules = new ArrayList<>();
+                    index.put(literal, indexedRules);
+                }
+                // A literal may occur several times in the same rule
+                if(indexedRules.isEmpty() || indexedRules.get(indexedRules.size() - 1) != rule)
+                    indexedRules.add(rule);
+                continue;
+            }
+
+            boolean removed = false;
+            if(indexedRules != null)
+                removed = indexedRules.removeIf(x -> x == rule);
+            if(indexedRules != null && indexedRules.isEmpty())
+                index.remove(literal);
+
+            success = success && (removed || literals.indexOf(literal) != literals.lastIndexOf(literal));
+        }
+        return success;
+    }
+
     /**
      * Inspects all literals of the given rule and adds/removes them to the mapping of all used literals.
      * If an entry for a literal already exists and the rule is supposed to be added, the rule is registered in the value-list of the mapping.
@@ -317,6 +522,31 @@ public class ASPProgram<T extends ASPRule<S>, S extends ASPLiteral<?>> implement
 
             this.updateSignature(currentLiteral, add);
         }
+
+        modificationCount++;
+        this.updateRuleLookup(rule, add);
+
+        // Rules which were modified directly can't be removed from the indexes, so the indexes are rebuilt on the next lookup
+        if(headIndex != null && !this.updateIndexes(rule, add))
+            this.invalidateIndexes();
+    }
+
+    /**
+     * Adds/removes the given rule to/from the set of all rules and the used labels, if they were already built.
+     * Rules which were modified directly can't be removed from the set, so the set is rebuilt on the next lookup.
+     */
+    private synchronized void updateRuleLookup(T rule, boolean add)
+    {
+        if(ruleLookup != null)
+        {
+            if(add)
+                ruleLookup.add(rule);
+            else if(!ruleLookup.remove(rule))
+                ruleLookup = null;
+        }
+
+        if(labelAllocator != null)
+            this.updateLabels(rule, add);
     }
 
     /**
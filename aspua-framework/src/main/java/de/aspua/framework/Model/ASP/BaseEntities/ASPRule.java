@@ -3,6 +3,7 @@ package de.aspua.framework.Model.ASP.BaseEntities;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -71,9 +72,10 @@ public class ASPRule<T extends ASPLiteral<?>> implements Serializable
     @Override
     public int hashCode()
     {
+        // The literals are hashed as sets, as equal rules may contain their literals in another order (see equals())
         int result = 7;
-        result = 31 * result + (head != null ? head.hashCode() : 0);
-        result = 31 * result + (body != null ? body.hashCode() : 0);
+        result = 31 * result + (head != null ? new HashSet<>(head).hashCode() : 0);
+        result = 31 * result + (body != null ? new HashSet<>(body).hashCode() : 0);
         return result;
     }
 
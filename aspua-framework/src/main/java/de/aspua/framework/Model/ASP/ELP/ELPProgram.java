@@ -1,5 +1,7 @@
 package de.aspua.framework.Model.ASP.ELP;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -15,6 +17,9 @@ public class ELPProgram extends ASPProgram<ELPRule, ELPLiteral>
 {
     private static final long serialVersionUID = -2731325228740423979L;
     private static Logger LOGGER = LoggerFactory.getLogger(ELPProgram.class);
+
+    /** Index from default-negated body literals to all rules which contain the literal. The index is built on demand and isn't serialized */
+    private transient HashMap<ELPLiteral, List<ELPRule>> negBodyIndex;
     
     /**
      * Creates an empty ELP-program with no rules and no program name.
@@ -43,7 +48,7 @@ public class ELPProgram extends ASPProgram<ELPRule, ELPLiteral>
         if(elpRule.getHead().isEmpty() && elpRule.getCompleteBody().isEmpty())
             return false;
 
-        boolean alreadyExist =  super.getRuleSet().contains(elpRule);
+        boolean alreadyExist = super.containsRule(elpRule);
         
         if(alreadyExist)
         {
@@ -60,6 +65,33 @@ public class ELPProgram extends ASPProgram<ELPRule, ELPLiteral>
         return true;
     }
 
+    /**
+     * Returns all rules which contain the given literal in their negative body in the order in which they were added to the program.
+     * The lookup doesn't depend on the size of the program.
+     * @param literal Default-negated body literal of the searched rules
+     * @return Unmodifiable list of all rules with the given literal in the negative body. Returns an empty list if no rule matches.
+     * @see #getRulesByBody(ELPLiteral)
+     */
+    public List<ELPRule> getRulesByNegBody(ELPLiteral literal)
+    {
+        super.ensureIndexes();
+        return Collections.unmodifiableList(negBodyIndex.getOrDefault(literal, Collections.emptyList()));
+    }
+
+    @Override
+    protected void initializeIndexes()
+    {
+        super.initializeIndexes();
+        negBodyIndex = new HashMap<>();
+    }
+
+    @Override
+    protected boolean updateIndexes(ELPRule rule, boolean add)
+    {
+        boolean success = super.updateIndexes(rule, add);
+        return super.updateIndex(negBodyIndex, rule.getNegBody(), rule, add) && success;
+    }
+
     /**
      * Creates a deep copy of the current object.
      * @return The created deep copy
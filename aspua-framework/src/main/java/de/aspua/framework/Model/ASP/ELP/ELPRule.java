@@ -2,6 +2,7 @@ package de.aspua.framework.Model.ASP.ELP;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -56,7 +57,7 @@ public class ELPRule extends ASPRule<ELPLiteral>
     public int hashCode()
     {
         int result = super.hashCode();
-        result = 31 * result + (negBody != null ? negBody.hashCode() : 0);
+        result = 31 * result + (negBody != null ? new HashSet<>(negBody).hashCode() : 0);
         return result;
     }
 
@@ -0,0 +1,504 @@
+package de.aspua.framework.Model.ASP.ELP;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+
+/**
+ * Lazy list of all rule modifications which extend a base rule by a non-empty, proper subset of given literals.
+ * Each literal is either added to the positive or to the negative body of the base rule.
+ * The modification which uses all literals isn't contained in the list, but can be requested by {@link #getCompleteVariant()}.
+ * <p>
+ * Every variant is identified by a bitmask over the given literals. The variants are ordered by their number of added literals (descending)
+ * and by their bitmask (ascending) if the number of literals is equal. A variant is only created when it is requested, i.e. the list
+ * doesn't store any rules of the power set. Therefore, the memory usage doesn't depend on the number of variants.
+ * <p>
+ * The list may be modified like any other list: Rules can be inserted at any position and any rule can be removed.
+ * Removed variants are remembered by their position in the variant space. If a rule is inserted between the generated variants,
+ * all variants before the inserted rule are created and stored, so only the variants after the inserted rule remain lazy.
+ */
+public class ELPRuleVariantList extends AbstractList<ASPRule<?>>
+{
+    private static Logger LOGGER = LoggerFactory.getLogger(ELPRuleVariantList.class);
+
+    /** Maximal number of literals, such that every variant can be represented by a bitmask of type long */
+    public static final int MAX_LITERALS = 62;
+
+    /** Binomial coefficients (n choose k) for n, k <= MAX_LITERALS */
+    private static final long[][] BINOMIALS = new long[MAX_LITERALS + 1][MAX_LITERALS + 1];
+
+    static
+    {
+        for (int n = 0; n <= MAX_LITERALS; n++)
+        {
+            BINOMIALS[n][0] = 1;
+            for (int k = 1; k <= n; k++)
+                BINOMIALS[n][k] = BINOMIALS[n - 1][k - 1] + BINOMIALS[n - 1][k];
+        }
+    }
+
+    private final ELPRule baseRule;
+    private final ELPLiteral[] literals;
+    /** Determines for each literal if it is added to the negative body (true) or to the positive body (false) */
+    private final boolean[] negated;
+    /** Total number of variants in the variant space, i.e. 2^n - 2 */
+    private final long variantCount;
+    /** Position of the first variant within the variant space, which wasn't created and stored in the prefix yet */
+    private long firstRank;
+
+    /** Rules which were inserted at the beginning of the list and created variants which precede an inserted rule */
+    private List<ASPRule<?>> prefix;
+    /** Rules which were appended at the end of the list */
+    private List<ASPRule<?>> suffix;
+    /** Positions of removed variants within the variant space */
+    private TreeSet<Long> removedRanks;
+
+    /**
+     * Creates the variant space for the given base rule.
+     * @param baseRule Rule which is extended by the variants. The rule is copied and not modified.
+     * @param literals Literals which are added to the base rule. Duplicates should be removed beforehand.
+     * @param negated Determines for each literal if it is added to the negative body (true) or to the positive body (false)
+     * @throws IllegalArgumentException If more than {@link #MAX_LITERALS} literals are given or the arrays differ in length
+     */
+    public ELPRuleVariantList(ELPRule baseRule, List<ELPLiteral> literals, boolean[] negated)
+    {
+        if(literals.size() > MAX_LITERALS || literals.size() != negated.length)
+            throw new IllegalArgumentException("The variant space only supports up to " + MAX_LITERALS + " literals with a given body-position each!");
+
+        this.baseRule = baseRule.createNewInstance();
+        this.literals = literals.toArray(new ELPLiteral[0]);
+        this.negated = negated.clone();
+        this.variantCount = this.literals.length == 0 ? 0 : (1L << this.literals.length) - 2;
+
+        prefix = new ArrayList<>();
+        suffix = new ArrayList<>();
+        removedRanks = new TreeSet<>();
+    }
+
+    /**
+     * Computes all possible rule modifications for rejecting the first rule if the body of the second rule is true in an answer set.
+     * The modifications extend the rejected rule by the complementary literals of the reference rule, which aren't already contained in its body.
+     * @param rejectedRule Rule which is modified in order to get rejected. The rule isn't modified.
+     * @param referenceRule Rule which causes the rejection if a modification is applied. The rule isn't modified.
+     * @return Lazy list of all possible modified rules, which could replace the rejected rule. Returns null if the variants can't be represented.
+     * @see de.aspua.framework.Controller.Strategies.DirectModificationStrategy
+     * @see de.aspua.framework.Controller.Strategies.IndirectModificationStrategy
+     */
+    public static ELPRuleVariantList forRejection(ELPRule rejectedRule, ELPRule referenceRule)
+    {
+        // Build C: Choose all literals from the referenceRule which are not already included in the body of the rejectedRule
+        List<ELPLiteral> body = new ArrayList<>(referenceRule.getBody());
+        List<ELPLiteral> negBody = new ArrayList<>(referenceRule.getNegBody());
+        body.removeAll(rejectedRule.getBody());
+        negBody.removeAll(rejectedRule.getNegBody());
+
+        LinkedHashSet<ELPLiteral> uniqueLiterals = new LinkedHashSet<>(body);
+        uniqueLiterals.addAll(negBody);
+        List<ELPLiteral> literals = new ArrayList<>(uniqueLiterals);
+
+        if(literals.size() > MAX_LITERALS)
+        {
+            LOGGER.warn("The rule {} can't be modified, because the reference rule contains more than {} literals!", rejectedRule.getID(), MAX_LITERALS);
+            return null;
+        }
+
+        // C_not: The complementary literals are supposed to deactivate the rejectedRule if the reference rule is active
+        boolean[] negated = new boolean[literals.size()];
+        for (int i = 0; i < literals.size(); i++)
+        {
+            // Invert negation-as-failure (not not c = c)
+            negated[i] = body.contains(literals.get(i));
+        }
+
+        // The variants are only generated on demand, ordered by their amount of literals (descending)
+        return new ELPRuleVariantList(rejectedRule, literals, negated);
+    }
+
+    /**
+     * Creates the modification which adds all literals to the base rule.
+     * @return The complete modification. Null, if no literals were given.
+     */
+    public ELPRule getCompleteVariant()
+    {
+        if(literals.length == 0)
+            return null;
+
+        return this.createVariant((1L << literals.length) - 1);
+    }
+
+    @Override
+    public ASPRule<?> get(int index)
+    {
+        if(index < 0 || index >= this.size())
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size());
+
+        if(index < prefix.size())
+            return prefix.get(index);
+
+        long lazyIndex = index - prefix.size();
+        if(lazyIndex < this.getLazyCount())
+            return this.createVariant(this.unrank(this.toRank(lazyIndex)));
+
+        return suffix.get((int) (lazyIndex - this.getLazyCount()));
+    }
+
+    @Override
+    public int size()
+    {
+        long size = prefix.size() + this.getLazyCount() + suffix.size();
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+
+    /**
+     * Inserts the given rule at the given position of the list.
+     * If the rule is inserted between the generated variants, the preceding variants are created and stored before the inserted rule.
+     */
+    @Override
+    public void add(int index, ASPRule<?> rule)
+    {
+        if(index < 0 || index > this.size())
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size());
+
+        if(index <= prefix.size())
+            prefix.add(index, rule);
+        else if(index < prefix.size() + this.getLazyCount())
+        {
+            this.createPrecedingVariants(index - prefix.size());
+            prefix.add(rule);
+        }
+        else
+            suffix.add((int) (index - prefix.size() - this.getLazyCount()), rule);
+
+        modCount++;
+    }
+
+    @Override
+    public ASPRule<?> remove(int index)
+    {
+        ASPRule<?> removedRule = this.get(index);
+
+        if(index < prefix.size())
+            prefix.remove(index);
+        else
+        {
+            long lazyIndex = index - prefix.size();
+            if(lazyIndex < this.getLazyCount())
+                removedRanks.add(this.toRank(lazyIndex));
+            else
+                suffix.remove((int) (lazyIndex - this.getLazyCount()));
+        }
+
+        modCount++;
+        return removedRule;
+    }
+
+    @Override
+    public boolean remove(Object object)
+    {
+        if(prefix.remove(object) || suffix.remove(object))
+        {
+            modCount++;
+            return true;
+        }
+
+        long rank = this.findRank(object);
+        if(rank < 0)
+            return false;
+
+        removedRanks.add(rank);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return prefix.contains(object) || suffix.contains(object) || this.findRank(object) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object object)
+    {
+        int index = prefix.indexOf(object);
+        if(index >= 0)
+            return index;
+
+        long rank = this.findRank(object);
+        if(rank >= 0)
+        {
+            long lazyIndex = rank - firstRank - removedRanks.headSet(rank).size();
+            return (int) Math.min(Integer.MAX_VALUE, prefix.size() + lazyIndex);
+        }
+
+        index = suffix.indexOf(object);
+        if(index >= 0)
+            return (int) Math.min(Integer.MAX_VALUE, prefix.size() + this.getLazyCount() + index);
+
+        return -1;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection)
+    {
+        boolean changed = false;
+        for (Object object : collection)
+        {
+            while(this.remove(object))
+                changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Iterates over all variants by enumerating the bitmasks of each size with Gosper's hack,
+     * so no variant is created before it is requested and no ranking is necessary.
+     */
+    @Override
+    public Iterator<ASPRule<?>> iterator()
+    {
+        return new VariantIterator();
+    }
+
+    /**
+     * Creates a copy of this list, which shares no mutable state with this list.
+     * Inserted rules are copied, the variant space itself is immutable and therefore only referenced.
+     * @return The created copy
+     */
+    public ELPRuleVariantList createNewInstance()
+    {
+        ELPRuleVariantList copy = new ELPRuleVariantList(baseRule, Arrays.asList(literals), negated);
+        for (ASPRule<?> rule : prefix)
+            copy.prefix.add(rule.createNewInstance());
+        for (ASPRule<?> rule : suffix)
+            copy.suffix.add(rule.createNewInstance());
+        copy.removedRanks.addAll(removedRanks);
+        copy.firstRank = firstRank;
+
+        return copy;
+    }
+
+    /**
+     * Returns the number of variants of the variant space which weren't removed.
+     */
+    private long getLazyCount()
+    {
+        return variantCount - firstRank - removedRanks.size();
+    }
+
+    /**
+     * Creates all remaining variants before the given index among the remaining variants and appends them to the prefix.
+     * Afterwards, the variant space starts at the variant with the given index.
+     */
+    private void createPrecedingVariants(long lazyIndex)
+    {
+        long rank = this.toRank(lazyIndex);
+        for (long currentRank = firstRank; currentRank < rank; currentRank++)
+        {
+            if(!removedRanks.contains(currentRank))
+                prefix.add(this.createVariant(this.unrank(currentRank)));
+        }
+
+        removedRanks.headSet(rank).clear();
+        firstRank = rank;
+    }
+
+    /**
+     * Maps an index among the remaining variants to the rank within the complete variant space by skipping all removed ranks.
+     */
+    private long toRank(long lazyIndex)
+    {
+        long rank = firstRank + lazyIndex;
+        for (long removedRank : removedRanks)
+        {
+            if(removedRank <= rank)
+                rank++;
+            else
+                break;
+        }
+        return rank;
+    }
+
+    /**
+     * Computes the bitmask of the variant with the given rank.
+     * The variants with k literals are ranked by the colexicographical order of their bitmasks (combinatorial number system).
+     */
+    private long unrank(long rank)
+    {
+        int n = literals.length;
+        int k = n - 1;
+        while(rank >= BINOMIALS[n][k])
+        {
+            rank -= BINOMIALS[n][k];
+            k--;
+        }
+
+        long mask = 0;
+        for (int i = n - 1; i >= 0 && k > 0; i--)
+        {
+            if(BINOMIALS[i][k] <= rank)
+            {
+                mask |= 1L << i;
+                rank -= BINOMIALS[i][k];
+                k--;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Computes the rank of the given bitmask within the complete variant space.
+     */
+    private long rank(long mask)
+    {
+        int n = literals.length;
+        int size = Long.bitCount(mask);
+
+        long rank = 0;
+        for (int k = n - 1; k > size; k--)
+            rank += BINOMIALS[n][k];
+
+        int k = 1;
+        for (int i = 0; i < n; i++)
+        {
+            if((mask & (1L << i)) != 0)
+            {
+                rank += BINOMIALS[i][k];
+                k++;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Searches the rank of the given rule within the variant space.
+     * @return The rank of the rule. Returns -1 if the rule isn't a variant of this list, was removed or was already stored in the prefix.
+     */
+    private long findRank(Object object)
+    {
+        if(!(object instanceof ELPRule) || literals.length == 0)
+            return -1;
+
+        ELPRule rule = (ELPRule) object;
+        if(rule.getBody().size() + rule.getNegBody().size() <= baseRule.getBody().size() + baseRule.getNegBody().size())
+            return -1;
+
+        long mask = 0;
+        for (int i = 0; i < literals.length; i++)
+        {
+            List<ELPLiteral> body = negated[i] ? rule.getNegBody() : rule.getBody();
+            List<ELPLiteral> baseBody = negated[i] ? baseRule.getNegBody() : baseRule.getBody();
+            if(body.contains(literals[i]) && !baseBody.contains(literals[i]))
+                mask |= 1L << i;
+        }
+
+        if(mask == 0 || mask == (1L << literals.length) - 1)
+            return -1;
+
+        long rank = this.rank(mask);
+        if(rank < firstRank || removedRanks.contains(rank) || !this.createVariant(mask).equals(rule))
+            return -1;
+
+        return rank;
+    }
+
+    /**
+     * Creates the rule modification for the given bitmask.
+     */
+    private ELPRule createVariant(long mask)
+    {
+        ELPRule variant = baseRule.createNewInstance();
+        for (int i = 0; i < literals.length; i++)
+        {
+            if((mask & (1L << i)) == 0)
+                continue;
+
+            if(negated[i])
+                variant.getNegBody().add(literals[i]);
+            else
+                variant.getBody().add(literals[i]);
+        }
+        return variant;
+    }
+
+    /**
+     * Iterator over the prefix, the remaining variants and the suffix of the list.
+     */
+    private class VariantIterator implements Iterator<ASPRule<?>>
+    {
+        private int expectedModCount = modCount;
+        private int prefixIndex = 0;
+        private int suffixIndex = 0;
+        /** Current rank, bitmask and number of literals within the variant space */
+        private long currentRank = firstRank;
+        private long currentMask = firstRank < variantCount ? unrank(firstRank) : 0;
+        private int currentSize = Long.bitCount(currentMask);
+
+        @Override
+        public boolean hasNext()
+        {
+            this.skipRemoved();
+            return prefixIndex < prefix.size() || currentSize > 0 || suffixIndex < suffix.size();
+        }
+
+        @Override
+        public ASPRule<?> next()
+        {
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if(!this.hasNext())
+                throw new NoSuchElementException();
+
+            if(prefixIndex < prefix.size())
+                return prefix.get(prefixIndex++);
+
+            if(currentSize > 0)
+            {
+                ELPRule variant = createVariant(currentMask);
+                this.advance();
+                return variant;
+            }
+
+            return suffix.get(suffixIndex++);
+        }
+
+        /**
+         * Skips all removed variants at the current position.
+         */
+        private void skipRemoved()
+        {
+            while(prefixIndex >= prefix.size() && currentSize > 0 && removedRanks.contains(currentRank))
+                this.advance();
+        }
+
+        /**
+         * Moves to the next bitmask with the same number of bits (Gosper's hack) or to the first bitmask with one bit less.
+         */
+        private void advance()
+        {
+            currentRank++;
+            long lowestBit = currentMask & -currentMask;
+            long ripple = currentMask + lowestBit;
+            long nextMask = (((ripple ^ currentMask) >>> 2) / lowestBit) | ripple;
+
+            if(nextMask < (1L << literals.length))
+                currentMask = nextMask;
+            else
+            {
+                currentSize--;
+                currentMask = currentSize > 0 ? (1L << currentSize) - 1 : 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package de.aspua.framework.Model.ASP.ELP;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Utils.LabelIDAllocator;
+
+/**
+ * Read-only view, which represents all ELPs of an update sequence as a single program without copying any rule.
+ * The rules of the view are the concatenated rules of all programs in the order of the update sequence.
+ * Rules are looked up by ID, label ID or literal through unified indexes, which are built on demand.
+ * <p>
+ * The view becomes outdated as soon as a program is added to/removed from the update sequence or a rule operation is applied to one of the programs
+ * (see {@link #isOutdated()}). Outdated views must not be used anymore, but be replaced by a new view.
+ * As the view can't be modified, it may be read by several threads at once.
+ * To get a modifiable program with copies of all rules, use {@link #createNewInstance()}.
+ */
+public class UpdateSequenceView extends ELPProgram
+{
+    private static final long serialVersionUID = 5329618209148812447L;
+
+    /** Viewed update sequence and a snapshot of the programs and their modification counts at the creation of the view */
+    private final List<ASPProgram<?, ?>> updateSequence;
+    private final List<ASPProgram<?, ?>> viewedPrograms;
+    private final int[] modificationCounts;
+    private final List<ELPRule> ruleSet;
+
+    /** Unified indexes of all programs, which are built on demand */
+    private transient HashMap<String, ELPRule> idIndex;
+    private transient HashMap<Integer, ELPRule> labelIndex;
+    private transient HashMap<ELPLiteral, List<String>> literalBase;
+    private transient LabelIDAllocator labelAllocator;
+
+    /**
+     * Creates a view of the given update sequence. All programs of the update sequence have to consist of {@link ELPRule}-objects.
+     * @param updateSequence Update sequence which is represented by the view
+     */
+    public UpdateSequenceView(List<ASPProgram<?, ?>> updateSequence)
+    {
+        super();
+        this.updateSequence = updateSequence;
+        this.viewedPrograms = new ArrayList<>(updateSequence);
+        this.modificationCounts = new int[viewedPrograms.size()];
+        for (int i = 0; i < viewedPrograms.size(); i++)
+            modificationCounts[i] = viewedPrograms.get(i).getModificationCount();
+
+        ruleSet = new ConcatenatedRuleList();
+        if(!viewedPrograms.isEmpty())
+            super.setProgramName(viewedPrograms.get(0).getProgramName());
+    }
+
+    /**
+     * Checks whether the viewed update sequence changed since the view was created.
+     * @return True if a program was added, removed or replaced or a rule operation was applied to a program. False otherwise.
+     */
+    public boolean isOutdated()
+    {
+        if(updateSequence.size() != viewedPrograms.size())
+            return true;
+
+        for (int i = 0; i < viewedPrograms.size(); i++)
+        {
+            if(updateSequence.get(i) != viewedPrograms.get(i)
+            || viewedPrograms.get(i).getModificationCount() != modificationCounts[i])
+                return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append(super.getProgramName());
+        sb.append(System.lineSeparator());
+
+        for (ELPRule rule : ruleSet)
+        {
+            sb.append("r" + rule.getLabelID() + ": ");
+            sb.append(rule.toString());
+            sb.append(System.lineSeparator());
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Returns the concatenated rules of all programs. The returned list can't be modified.
+     */
+    @Override
+    public List<ELPRule> getRuleSet() {
+        return ruleSet;
+    }
+
+    @Override
+    public ELPRule getRule(String id)
+    {
+        if(id == null || id.isEmpty())
+            return null;
+
+        this.ensureViewIndexes();
+        return idIndex.get(id);
+    }
+
+    @Override
+    public ELPRule getRuleByLabelID(int labelID)
+    {
+        if(labelID < 0)
+            return null;
+
+        this.ensureViewIndexes();
+        return labelIndex.get(labelID);
+    }
+
+    @Override
+    public int getUnusedLabelID()
+    {
+        this.ensureViewIndexes();
+        return labelAllocator.peek();
+    }
+
+    @Override
+    public List<ELPRule> getRulesByHead(ELPLiteral literal)
+    {
+        List<ELPRule> rules = new ArrayList<>();
+        for (ASPProgram<?, ?> program : viewedPrograms)
+            rules.addAll(this.toELPProgram(program).getRulesByHead(literal));
+
+        return Collections.unmodifiableList(rules);
+    }
+
+    @Override
+    public List<ELPRule> getRulesByBody(ELPLiteral literal)
+    {
+        List<ELPRule> rules = new ArrayList<>();
+        for (ASPProgram<?, ?> program : viewedPrograms)
+            rules.addAll(this.toELPProgram(program).getRulesByBody(literal));
+
+        return Collections.unmodifiableList(rules);
+    }
+
+    @Override
+    public List<ELPRule> getRulesByNegBody(ELPLiteral literal)
+    {
+        List<ELPRule> rules = new ArrayList<>();
+        for (ASPProgram<?, ?> program : viewedPrograms)
+            rules.addAll(this.toELPProgram(program).getRulesByNegBody(literal));
+
+        return Collections.unmodifiableList(rules);
+    }
+
+    @Override
+    public HashMap<ELPLiteral, List<String>> getLiteralBase()
+    {
+        this.ensureViewIndexes();
+        return literalBase;
+    }
+
+    @Override
+    public List<String> getPredicates()
+    {
+        Set<String> predicates = new LinkedHashSet<>();
+        for (ASPProgram<?, ?> program : viewedPrograms)
+            predicates.addAll(program.getPredicates());
+
+        return new ArrayList<>(predicates);
+    }
+
+    @Override
+    public List<String> getConstants()
+    {
+        Set<String> constants = new LinkedHashSet<>();
+        for (ASPProgram<?, ?> program : viewedPrograms)
+            constants.addAll(program.getConstants());
+
+        return new ArrayList<>(constants);
+    }
+
+    @Override
+    public List<String> getVariables()
+    {
+        Set<String> variables = new LinkedHashSet<>();
+        for (ASPProgram<?, ?> program : viewedPrograms)
+            variables.addAll(program.getVariables());
+
+        return new ArrayList<>(variables);
+    }
+
+    /**
+     * @throws UnsupportedOperationException The view can't be modified
+     */
+    @Override
+    public boolean addRule(ASPRule<?> rule)
+    {
+        throw new UnsupportedOperationException("The view of an update sequence can't be modified!");
+    }
+
+    /**
+     * @throws UnsupportedOperationException The view can't be modified
+     */
+    @Override
+    public boolean modifyRule(ASPRule<?> rule)
+    {
+        throw new UnsupportedOperationException("The view of an update sequence can't be modified!");
+    }
+
+    /**
+     * @throws UnsupportedOperationException The view can't be modified
+     */
+    @Override
+    public boolean deleteRule(String id)
+    {
+        throw new UnsupportedOperationException("The view of an update sequence can't be modified!");
+    }
+
+    /**
+     * Merges all programs of the viewed update sequence into a new, modifiable program.
+     * As in the merge of the update sequence, rules which equal a previous rule aren't added twice.
+     * @return A new {@link ELPProgram}-object containing copies of all rules within the update sequence
+     */
+    @Override
+    public ELPProgram createNewInstance()
+    {
+        ELPProgram mergedProgram = new ELPProgram();
+        mergedProgram.setProgramName(super.getProgramName());
+
+        for (ELPRule rule : ruleSet)
+            mergedProgram.addRule(rule.createNewInstance());
+
+        return mergedProgram;
+    }
+
+    /**
+     * Builds the unified ID-, label- and literal-indexes and the set of used labels. If several rules share an ID or label, the first rule of the update sequence is indexed.
+     * The method is synchronized, so the indexes may be built by several threads at once.
+     */
+    private synchronized void ensureViewIndexes()
+    {
+        if(idIndex != null)
+            return;
+
+        HashMap<String, ELPRule> newIDIndex = new HashMap<>();
+        HashMap<Integer, ELPRule> newLabelIndex = new HashMap<>();
+        HashMap<ELPLiteral, List<String>> newLiteralBase = new HashMap<>();
+        LabelIDAllocator newLabelAllocator = new LabelIDAllocator();
+        for (ELPRule rule : ruleSet)
+        {
+            newIDIndex.putIfAbsent(rule.getID(), rule);
+            newLabelIndex.putIfAbsent(rule.getLabelID(), rule);
+            newLabelAllocator.reserve(rule.getLabelID());
+        }
+
+        for (ASPProgram<?, ?> program : viewedPrograms)
+        {
+            for (ELPLiteral literal : this.toELPProgram(program).getLiteralBase().keySet())
+                newLiteralBase.computeIfAbsent(literal, x -> new ArrayList<>()).addAll(program.getLiteralBase().get(literal));
+        }
+
+        labelIndex = newLabelIndex;
+        labelAllocator = newLabelAllocator;
+        literalBase = newLiteralBase;
+        idIndex = newIDIndex;
+    }
+
+    /**
+     * Provides the given program as an {@link ELPProgram}.
+     * Programs of other classes are copied, so their rules can be looked up by the indexes of an {@link ELPProgram}.
+     */
+    @SuppressWarnings("unchecked")
+    private ELPProgram toELPProgram(ASPProgram<?, ?> program)
+    {
+        if(program instanceof ELPProgram)
+            return (ELPProgram) program;
+
+        return new ELPProgram((List<ELPRule>) program.getRuleSet());
+    }
+
+    /**
+     * Unmodifiable list which concatenates the rules of all viewed programs.
+     */
+    private class ConcatenatedRuleList extends AbstractList<ELPRule>
+    {
+        @Override
+        public ELPRule get(int index)
+        {
+            if(index < 0)
+                throw new IndexOutOfBoundsException("Index: " + index);
+
+            int offset = index;
+            for (ASPProgram<?, ?> program : viewedPrograms)
+            {
+                if(offset < program.getRuleSet().size())
+                    return (ELPRule) program.getRuleSet().get(offset);
+
+                offset -= program.getRuleSet().size();
+            }
+
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size());
+        }
+
+        @Override
+        public int size()
+        {
+            int size = 0;
+            for (ASPProgram<?, ?> program : viewedPrograms)
+                size += program.getRuleSet().size();
+
+            return size;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package de.aspua.framework.Model;
+
+/**
+ * Describes a single update process of the batch mode: The initial program is updated by the update program
+ * and the conflict-free result is persisted under the result name.
+ * The program names are resolved by the {@link de.aspua.framework.Controller.ControllerInterfaces.IIOController} of the framework.
+ * @see de.aspua.framework.Controller.Batch.BatchUpdateRunner
+ */
+public class BatchJob
+{
+    /** Suffix of the result name, if no result name is given */
+    public static final String RESULT_SUFFIX = "_Updated";
+
+    private final String initialProgramName;
+    private final String updateProgramName;
+    private final String resultProgramName;
+
+    /**
+     * Creates a job whose result is persisted under the name of the initial program with the suffix {@link #RESULT_SUFFIX}.
+     * @param initialProgramName Name of the program which is updated
+     * @param updateProgramName Name of the program which updates the initial program
+     */
+    public BatchJob(String initialProgramName, String updateProgramName)
+    {
+        this(initialProgramName, updateProgramName, null);
+    }
+
+    /**
+     * @param initialProgramName Name of the program which is updated
+     * @param updateProgramName Name of the program which updates the initial program
+     * @param resultProgramName Name under which the updated program is persisted. If null or empty, the default name is used.
+     */
+    public BatchJob(String initialProgramName, String updateProgramName, String resultProgramName)
+    {
+        this.initialProgramName = initialProgramName;
+        this.updateProgramName = updateProgramName;
+
+        if(resultProgramName == null || resultProgramName.isEmpty())
+            this.resultProgramName = initialProgramName + RESULT_SUFFIX;
+        else
+            this.resultProgramName = resultProgramName;
+    }
+
+    @Override
+    public String toString()
+    {
+        return initialProgramName + " <- " + updateProgramName;
+    }
+
+    public String getInitialProgramName() {
+        return initialProgramName;
+    }
+
+    public String getUpdateProgramName() {
+        return updateProgramName;
+    }
+
+    public String getResultProgramName() {
+        return resultProgramName;
+    }
+}
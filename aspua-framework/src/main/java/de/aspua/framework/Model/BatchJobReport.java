@@ -0,0 +1,158 @@
+package de.aspua.framework.Model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import de.aspua.framework.Utils.BatchJobStatusEnum;
+
+/**
+ * Contains the outcome of a {@link BatchJob} and the time which was spent in each step of its update process.
+ * All durations are measured in milliseconds. Steps which weren't reached have a duration of 0.
+ * @see de.aspua.framework.Controller.Batch.BatchUpdateRunner
+ */
+public class BatchJobReport
+{
+    /** Column names of {@link #toReportLine()} */
+    public static final String REPORT_HEADER = "initial;update;result;status;conflicts;solvedConflicts;loadMillis;detectionMillis;resolutionMillis;persistMillis;totalMillis;message";
+    private static final String SEPARATOR = ";";
+
+    private final BatchJob job;
+    private BatchJobStatusEnum status;
+    private String message;
+
+    /** Number of conflicts which were detected in the initial update sequence */
+    private int detectedConflicts;
+    /** Descriptions of all applied solutions in the order of their application */
+    private List<String> appliedSolutions;
+
+    private long loadMillis;
+    private long detectionMillis;
+    private long resolutionMillis;
+    private long persistMillis;
+    private long totalMillis;
+
+    public BatchJobReport(BatchJob job)
+    {
+        this.job = job;
+        this.status = BatchJobStatusEnum.FAILED;
+        this.appliedSolutions = new ArrayList<>();
+    }
+
+    /**
+     * Creates a single line of the report file with the columns of {@link #REPORT_HEADER}.
+     * @return The report line without line separator
+     */
+    public String toReportLine()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append(job.getInitialProgramName()).append(SEPARATOR);
+        sb.append(job.getUpdateProgramName()).append(SEPARATOR);
+        sb.append(job.getResultProgramName()).append(SEPARATOR);
+        sb.append(status).append(SEPARATOR);
+        sb.append(detectedConflicts).append(SEPARATOR);
+        sb.append(appliedSolutions.size()).append(SEPARATOR);
+        sb.append(loadMillis).append(SEPARATOR);
+        sb.append(detectionMillis).append(SEPARATOR);
+        sb.append(resolutionMillis).append(SEPARATOR);
+        sb.append(persistMillis).append(SEPARATOR);
+        sb.append(totalMillis).append(SEPARATOR);
+        if(message != null)
+            sb.append(message.replace(SEPARATOR, ",").replaceAll("\\R", " "));
+
+        return sb.toString();
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Job %s: %s after %s ms", job, status, totalMillis));
+        sb.append(System.lineSeparator());
+        sb.append(String.format("Solved %s conflict(s) (load: %s ms, detection: %s ms, resolution: %s ms, persist: %s ms)",
+            appliedSolutions.size(), loadMillis, detectionMillis, resolutionMillis, persistMillis));
+
+        if(message != null)
+        {
+            sb.append(System.lineSeparator());
+            sb.append(message);
+        }
+        return sb.toString();
+    }
+
+    public BatchJob getJob() {
+        return job;
+    }
+
+    public BatchJobStatusEnum getStatus() {
+        return status;
+    }
+
+    public void setStatus(BatchJobStatusEnum status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public int getDetectedConflicts() {
+        return detectedConflicts;
+    }
+
+    public void setDetectedConflicts(int detectedConflicts) {
+        this.detectedConflicts = detectedConflicts;
+    }
+
+    public List<String> getAppliedSolutions() {
+        return Collections.unmodifiableList(appliedSolutions);
+    }
+
+    public void addAppliedSolution(String appliedSolution) {
+        appliedSolutions.add(appliedSolution);
+    }
+
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+
+    public void setLoadMillis(long loadMillis) {
+        this.loadMillis = loadMillis;
+    }
+
+    public long getDetectionMillis() {
+        return detectionMillis;
+    }
+
+    public void setDetectionMillis(long detectionMillis) {
+        this.detectionMillis = detectionMillis;
+    }
+
+    public long getResolutionMillis() {
+        return resolutionMillis;
+    }
+
+    public void setResolutionMillis(long resolutionMillis) {
+        this.resolutionMillis = resolutionMillis;
+    }
+
+    public long getPersistMillis() {
+        return persistMillis;
+    }
+
+    public void setPersistMillis(long persistMillis) {
+        this.persistMillis = persistMillis;
+    }
+
+    public long getTotalMillis() {
+        return totalMillis;
+    }
+
+    public void setTotalMillis(long totalMillis) {
+        this.totalMillis = totalMillis;
+    }
+}
@@ -105,6 +105,11 @@ public class Conflict
             this.involvedAnswerSets = involvedAnswerSets;
     }
 
+    /**
+     * Returns the solutions of the conflict. Solutions of complex strategies may be added by background threads
+     * (see {@link de.aspua.framework.Controller.Strategies.ComplexStrategyScheduler}) while holding the monitor of the list,
+     * so the list has to be iterated while synchronizing on it.
+     */
     public List<Solution> getSolutions() {
         return solutions;
     }
@@ -118,6 +123,8 @@ public class Conflict
 
     /**
      * Creates a deep copy of the current object.
+     * The solutions are copied from a snapshot which is taken while holding the monitor of the solution-list,
+     * so solutions which are added in the background concurrently are either completely contained or missing.
      * @return The created deep copy
      */
     public Conflict createNewInstance()
@@ -132,8 +139,14 @@ public class Conflict
 
         Conflict newConflict = new Conflict(newConflictingRules, newAnswerSets);
 
+        List<Solution> originalSolutions;
+        synchronized (solutions)
+        {
+            originalSolutions = new ArrayList<>(solutions);
+        }
+
         List<Solution> newSolutions = new ArrayList<>();
-        for (Solution solution : solutions)
+        for (Solution solution : originalSolutions)
             newSolutions.add(solution.createNewInstance(newConflict));  
 
         newConflict.setSolutions(newSolutions);
@@ -0,0 +1,176 @@
+package de.aspua.framework.Model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Function;
+
+import de.aspua.framework.Model.ASP.BaseEntities.ASPLiteral;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Model.ASP.BaseEntities.AnswerSet;
+
+/**
+ * Contains all data which is shared by the {@link de.aspua.framework.Controller.ControllerInterfaces.IMeasureController}-implementations
+ * while the solutions of the current conflicts are measured. The context is computed once per conflict detection and is read-only afterwards.
+ * <p>
+ * The literal universe consists of all literals of the update sequence. Each literal of the universe is assigned to a unique index,
+ * so (update) answer sets can be encoded as {@link BitSet}-objects. Literals of an answer set which aren't contained in the universe are
+ * considered as meta-literals and are omitted in the encoding.
+ */
+public class MeasureContext
+{
+    /** Update sequence for which the conflicts were detected */
+    private List<ASPProgram<?, ?>> updateSequence;
+    /** All literals of the update sequence */
+    private List<ASPLiteral<?>> literalUniverse;
+    /** Position of each literal within the literal universe */
+    private HashMap<ASPLiteral<?>, Integer> literalIndices;
+    /** Rules of the update sequence by their ID */
+    private HashMap<String, ASPRule<?>> rulesByID;
+    /** Answer sets of the update sequence without meta-literals */
+    private List<AnswerSet<?, ?>> baselineAnswerSets;
+    /** Encodings of the baseline answer sets w.r.t. the literal universe */
+    private List<BitSet> baselineEncodings;
+    /** Computes previews of solutions for the update sequence. May be null. */
+    private Function<Solution, SolutionPreview> previewFunction;
+
+    /**
+     * Computes the context for the given update sequence and its current answer sets.
+     * @param updateSequence Update sequence for which the conflicts were detected
+     * @param currentAnswerSets Answer sets of the update sequence, which may contain meta-literals. May be null if no answer sets exist.
+     */
+    public MeasureContext(List<ASPProgram<?, ?>> updateSequence, List<AnswerSet<?, ?>> currentAnswerSets)
+    {
+        this(updateSequence, currentAnswerSets, null);
+    }
+
+    /**
+     * Computes the context for the given update sequence and its current answer sets.
+     * Measures may preview solutions by the given function instead of accessing the update process directly.
+     * @param updateSequence Update sequence for which the conflicts were detected
+     * @param currentAnswerSets Answer sets of the update sequence, which may contain meta-literals. May be null if no answer sets exist.
+     * @param previewFunction Thread-safe function which computes the preview of a solution for the update sequence. May be null.
+     */
+    public MeasureContext(List<ASPProgram<?, ?>> updateSequence, List<AnswerSet<?, ?>> currentAnswerSets, Function<Solution, SolutionPreview> previewFunction)
+    {
+        this.previewFunction = previewFunction;
+        this.updateSequence = updateSequence == null ? new ArrayList<>() : updateSequence;
+        literalUniverse = new ArrayList<>();
+        literalIndices = new HashMap<>();
+        rulesByID = new HashMap<>();
+
+        for (ASPProgram<?, ?> program : this.updateSequence)
+        {
+            for (ASPLiteral<?> literal : program.getLiteralBase().keySet())
+            {
+                if(literalIndices.putIfAbsent(literal, literalUniverse.size()) == null)
+                    literalUniverse.add(literal);
+            }
+
+            for (ASPRule<?> rule : program.getRuleSet())
+                rulesByID.putIfAbsent(rule.getID(), rule);
+        }
+
+        baselineAnswerSets = new ArrayList<>();
+        baselineEncodings = new ArrayList<>();
+
+        if(currentAnswerSets != null)
+        {
+            for (AnswerSet<?, ?> answerSet : currentAnswerSets)
+            {
+                baselineAnswerSets.add(this.createUpdateAnswerSet(answerSet));
+                baselineEncodings.add(this.encode(answerSet));
+            }
+        }
+    }
+
+    /**
+     * Encodes the non-meta literals of the given answer set w.r.t. the literal universe.
+     * @param answerSet Answer set which may contain meta-literals
+     * @return {@link BitSet}-object in which the indices of all contained non-meta literals are set
+     */
+    public BitSet encode(AnswerSet<?, ?> answerSet)
+    {
+        BitSet encoding = new BitSet(literalUniverse.size());
+        for (ASPLiteral<?> literal : answerSet.getLiterals())
+        {
+            Integer index = literalIndices.get(literal);
+            if(index != null)
+                encoding.set(index);
+        }
+
+        return encoding;
+    }
+
+    /**
+     * Returns the index of the given literal within the literal universe.
+     * @param literal Literal of interest
+     * @return Index of the literal. Returns -1 if the literal isn't contained in the update sequence (i.e. it is a meta-literal).
+     */
+    public int indexOf(ASPLiteral<?> literal)
+    {
+        Integer index = literalIndices.get(literal);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Checks whether solutions can be previewed by {@link #previewSolution(Solution)}.
+     * @return True if the context provides a preview function, false otherwise
+     */
+    public boolean canPreviewSolutions()
+    {
+        return previewFunction != null;
+    }
+
+    /**
+     * Computes the preview of the given solution for the update sequence of the context.
+     * @param solution Solution which is previewed
+     * @return Preview of the solution. Returns null if the preview couldn't be computed or the context doesn't provide a preview function.
+     */
+    public SolutionPreview previewSolution(Solution solution)
+    {
+        if(previewFunction == null)
+            return null;
+
+        return previewFunction.apply(solution);
+    }
+
+    /**
+     * Returns the rule with the given ID from the update sequence.
+     * @param ruleID ID of the requested rule
+     * @return The rule of the update sequence with the given ID. Null if no rule with the given ID exists.
+     */
+    public ASPRule<?> getRule(String ruleID)
+    {
+        return rulesByID.get(ruleID);
+    }
+
+    /**
+     * Creates a copy of the given answer set without meta-literals.
+     */
+    private AnswerSet<?, ?> createUpdateAnswerSet(AnswerSet<?, ?> answerSet)
+    {
+        AnswerSet<?, ?> updateAnswerSet = answerSet.createNewInstance();
+        updateAnswerSet.getLiterals().removeIf(x -> !literalIndices.containsKey(x));
+        return updateAnswerSet;
+    }
+
+    public List<ASPProgram<?, ?>> getUpdateSequence() {
+        return Collections.unmodifiableList(updateSequence);
+    }
+
+    public List<ASPLiteral<?>> getLiteralUniverse() {
+        return Collections.unmodifiableList(literalUniverse);
+    }
+
+    public List<AnswerSet<?, ?>> getBaselineAnswerSets() {
+        return Collections.unmodifiableList(baselineAnswerSets);
+    }
+
+    public List<BitSet> getBaselineEncodings() {
+        return Collections.unmodifiableList(baselineEncodings);
+    }
+}
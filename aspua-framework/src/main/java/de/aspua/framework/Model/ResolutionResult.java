@@ -0,0 +1,66 @@
+package de.aspua.framework.Model;
+
+import java.util.Collections;
+import java.util.List;
+
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+
+/**
+ * Contains a conflict-free update sequence which was found by an automatic conflict resolution
+ * and the solutions which were applied to the original update sequence to reach it.
+ * @see de.aspua.framework.Controller.Search.BeamSearchResolver
+ */
+public class ResolutionResult
+{
+    /** Applied solutions in the order of their application */
+    private final List<Solution> appliedSolutions;
+    /** Conflict-free update sequence after applying all solutions */
+    private final List<ASPProgram<?, ?>> resolvedSequence;
+    /** Sum of the measures of all applied solutions */
+    private final double cost;
+
+    public ResolutionResult(List<Solution> appliedSolutions, List<ASPProgram<?, ?>> resolvedSequence, double cost)
+    {
+        this.appliedSolutions = Collections.unmodifiableList(appliedSolutions);
+        this.resolvedSequence = Collections.unmodifiableList(resolvedSequence);
+        this.cost = cost;
+    }
+
+    /**
+     * Merges the resolved update sequence into a single program, like {@link de.aspua.framework.Controller.ASPUAFrameworkAPI#getMergedUpdateSequence()}.
+     * @return A new {@link ASPProgram}-object containing copies of all rules of the resolved update sequence. Returns null if the sequence is empty.
+     */
+    public ASPProgram<?, ?> getMergedProgram()
+    {
+        if(resolvedSequence.isEmpty())
+            return null;
+
+        ASPProgram<?, ?> mergedProgram = resolvedSequence.get(0).createNewInstance();
+        for (int i = 1; i < resolvedSequence.size(); i++)
+        {
+            for (ASPRule<?> currentRule : resolvedSequence.get(i).getRuleSet())
+                mergedProgram.addRule(currentRule.createNewInstance());
+        }
+
+        return mergedProgram;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("Resolution with %s solution(s) and cost %s", appliedSolutions.size(), cost);
+    }
+
+    public List<Solution> getAppliedSolutions() {
+        return appliedSolutions;
+    }
+
+    public List<ASPProgram<?, ?>> getResolvedSequence() {
+        return resolvedSequence;
+    }
+
+    public double getCost() {
+        return cost;
+    }
+}
@@ -0,0 +1,122 @@
+package de.aspua.framework.Model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.AnswerSet;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Utils.OperationTypeEnum;
+
+/**
+ * Snapshot of the data of an update process after a step of the conflict resolution, i.e. after conflicts were detected or a conflict was solved.
+ * The snapshot references the programs, conflicts and answer sets of the update process instead of copying them,
+ * as the {@link de.aspua.framework.Controller.ASPUAFrameworkAPI} replaces these objects instead of changing them (copy-on-write).
+ * Only the list of the update sequence and the applied solution operations are copied, as programs may be added to or removed from the list.
+ * @see de.aspua.framework.Controller.History.SessionHistory
+ */
+public class SessionVersion
+{
+    /** Update sequence of the version */
+    private final List<ASPProgram<?, ?>> updateSequence;
+    /** Detected conflicts of the update sequence with their solutions and measures */
+    private final List<Conflict> conflicts;
+    /** Answer sets of the update sequence. May be null. */
+    private final List<AnswerSet<?, ?>> answerSets;
+    /** Operations of all solutions which were applied until this version */
+    private final HashMap<OperationTypeEnum, List<ASPRule<?>>> appliedSolutionOperations;
+    /** Context in which the solutions of the conflicts were measured. May be null. */
+    private final MeasureContext measureContext;
+    /** Estimated size of the version, see {@link #getWeight()} */
+    private final long weight;
+
+    public SessionVersion(List<ASPProgram<?, ?>> updateSequence, List<Conflict> conflicts, List<AnswerSet<?, ?>> answerSets,
+        HashMap<OperationTypeEnum, List<ASPRule<?>>> appliedSolutionOperations, MeasureContext measureContext)
+    {
+        this.updateSequence = updateSequence == null ? new ArrayList<>() : new ArrayList<>(updateSequence);
+        this.conflicts = conflicts == null ? new ArrayList<>() : conflicts;
+        this.answerSets = answerSets;
+        this.measureContext = measureContext;
+
+        this.appliedSolutionOperations = new HashMap<>();
+        if(appliedSolutionOperations != null)
+        {
+            for (Map.Entry<OperationTypeEnum, List<ASPRule<?>>> entry : appliedSolutionOperations.entrySet())
+                this.appliedSolutionOperations.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+
+        this.weight = this.computeWeight();
+    }
+
+    /**
+     * Estimates the size of the version by the number of rules which are referenced by the update sequence and the solutions of the conflicts.
+     */
+    private long computeWeight()
+    {
+        long ruleCount = 0;
+        for (ASPProgram<?, ?> program : updateSequence)
+            ruleCount += program.getRuleSet().size();
+
+        for (Conflict conflict : conflicts)
+        {
+            ruleCount += conflict.getConflictingRules().size();
+            synchronized (conflict.getSolutions())
+            {
+                for (Solution solution : conflict.getSolutions())
+                    ruleCount += solution.getAddedRules().size() + solution.getModifiedRules().size() + solution.getDeletedRules().size();
+            }
+        }
+
+        return Math.max(1, ruleCount);
+    }
+
+    /**
+     * Returns a copy of the applied solution operations, so the restored update process may change them without affecting this version.
+     * @return Copy of the operations of all solutions which were applied until this version
+     */
+    public HashMap<OperationTypeEnum, List<ASPRule<?>>> copyAppliedSolutionOperations()
+    {
+        HashMap<OperationTypeEnum, List<ASPRule<?>>> copiedOperations = new HashMap<>();
+        for (Map.Entry<OperationTypeEnum, List<ASPRule<?>>> entry : appliedSolutionOperations.entrySet())
+            copiedOperations.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+
+        return copiedOperations;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("Version with %s conflict(s) and weight %s", conflicts.size(), weight);
+    }
+
+    /**
+     * Returns the update sequence of the version. The programs mustn't be changed, as they may be restored later on.
+     * @return Copy of the list of the update sequence of the version
+     */
+    public List<ASPProgram<?, ?>> getUpdateSequence() {
+        return new ArrayList<>(updateSequence);
+    }
+
+    public List<Conflict> getConflicts() {
+        return conflicts;
+    }
+
+    public List<AnswerSet<?, ?>> getAnswerSets() {
+        return answerSets;
+    }
+
+    public MeasureContext getMeasureContext() {
+        return measureContext;
+    }
+
+    /**
+     * Returns the estimated size of the version, which is used by the {@link de.aspua.framework.Controller.History.SessionHistory}
+     * to limit its memory usage. The weight is the number of rules which are referenced by the version (at least 1).
+     * @return The estimated size of the version
+     */
+    public long getWeight() {
+        return weight;
+    }
+}
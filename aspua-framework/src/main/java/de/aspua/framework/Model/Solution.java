@@ -1,14 +1,24 @@
 package de.aspua.framework.Model;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RunnableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import de.aspua.framework.Model.ASP.BaseEntities.ASPLiteral;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
 import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Model.ASP.ELP.ELPRuleVariantList;
 import de.aspua.framework.Utils.OperationTypeEnum;
 import de.aspua.framework.Utils.SolutionMetaDataEnum;
 
@@ -42,8 +52,12 @@ public class Solution
     /** Conflict which is supposed to be solved by the solution-object */
     private final Conflict cause;
 
-    /** Container for meta-data computed by implementations of {@link de.aspua.framework.Controller.ControllerInterfaces.IMeasureController} */
-    private HashMap<SolutionMetaDataEnum, Object> metaData;
+    /** 
+     * Container for meta-data computed by implementations of {@link de.aspua.framework.Controller.ControllerInterfaces.IMeasureController}.
+     * Values may be {@link Future}-objects, if the value is computed lazily or in the background.
+     * The map is concurrent, as the values are replaced by measure-threads while other threads read them.
+     */
+    private ConcurrentHashMap<SolutionMetaDataEnum, Object> metaData;
 
     public Solution(Conflict cause, List<ASPRule<?>> add, List<ASPRule<?>> modify, List<ASPRule<?>> delete)
     {
@@ -59,7 +73,7 @@ public class Solution
         addVariants = new HashMap<>();
         modifyVariants = new HashMap<>();
         deleteVariants = new HashMap<>();
-        metaData = new HashMap<>();
+        metaData = new ConcurrentHashMap<>();
             
         if(chosenRuleMapping.get(OperationTypeEnum.ADD).size() == 0
         && chosenRuleMapping.get(OperationTypeEnum.MODIFY).size() == 0
@@ -76,8 +90,15 @@ public class Solution
         sb.append(System.lineSeparator());
         for (SolutionMetaDataEnum metadataKey : metaData.keySet())
         {
+            // Pending values aren't computed just for printing the solution
+            Object value = metaData.get(metadataKey);
+            if(value instanceof Future<?> && !((Future<?>) value).isDone())
+                value = "pending";
+            else
+                value = this.getMetaDataValue(metadataKey);
+
             sb.append(metadataKey + ": ");
-            sb.append(metaData.get(metadataKey));
+            sb.append(value);
             sb.append(System.lineSeparator());
         }
         sb.append(System.lineSeparator());
@@ -330,13 +351,150 @@ public class Solution
      * It is highly recommended to only safe values according to the class-type suggested in {@link de.aspua.framework.Utils.OperationTypeEnum}!
      * If a class-type other than the suggested is used, it is possible that critical runtime-exceptions occure!
      * @param key Key for the meta-data map
-     * @param value Value for the meta-data map
+     * @param value Value for the meta-data map. If null, the entry of the key is removed.
      * @return The previous value associated with the key
      */
-    public Object addMetaData(SolutionMetaDataEnum key, Object value) {
+    public Object addMetaData(SolutionMetaDataEnum key, Object value)
+    {
+        if(value == null)
+            return this.metaData.remove(key);
+
         return this.metaData.put(key, value);
     }
 
+    /**
+     * Adds a new entry to the meta-data, if no value exists for the given key. The check and the insertion are performed atomically,
+     * so a lazily computed value (e.g. a {@link Future}-object) is only created once, even if several threads request it at once.
+     * @param key Key for the meta-data map
+     * @param value Value for the meta-data map
+     * @return The existing value associated with the key (which may be a {@link Future}-object). Null, if the given value was added.
+     */
+    public Object addMetaDataIfAbsent(SolutionMetaDataEnum key, Object value) {
+        return this.metaData.putIfAbsent(key, value);
+    }
+
+    /**
+     * Returns the stored entry of the meta-data with the given key without computing or awaiting it.
+     * In contrast to {@link #getMetaDataValue(SolutionMetaDataEnum)}, lazily computed values are returned as {@link Future}-objects.
+     * @param key Key for the meta-data map
+     * @return The stored value or {@link Future}-object. Null if no entry exists.
+     */
+    public Object getMetaDataEntry(SolutionMetaDataEnum key) {
+        return this.metaData.get(key);
+    }
+
+    /**
+     * Checks whether the computation of any lazily computed meta-data value was cancelled.
+     * @return True if at least one {@link Future}-object of the meta-data was cancelled
+     */
+    public boolean hasCancelledMetaData() {
+        return metaData.values().stream().anyMatch(x -> x instanceof Future<?> && ((Future<?>) x).isCancelled());
+    }
+
+    /**
+     * Returns the value of the meta-data with the given key. If the value is computed lazily (i.e. saved as a {@link Future}-object),
+     * the method waits until the value is computed. If the computation wasn't started yet, it is executed by the calling thread.
+     * @param key Key for the meta-data map
+     * @return The value associated with the key.
+     * Null if no value exists or the computation of the value was cancelled or failed.
+     */
+    public Object getMetaDataValue(SolutionMetaDataEnum key)
+    {
+        Object value = metaData.get(key);
+        if(!(value instanceof Future<?>))
+            return value;
+
+        Future<?> futureValue = (Future<?>) value;
+        // Computes the value on demand. If the computation was already started by another thread, the invocation has no effect.
+        if(futureValue instanceof RunnableFuture<?> && !futureValue.isDone())
+            ((RunnableFuture<?>) futureValue).run();
+
+        try
+        {
+            return futureValue.get();
+        } catch (CancellationException e) {
+            return null;
+        } catch (ExecutionException e) {
+            LOGGER.warn("The value of the metadata {} couldn't be computed.", key, e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Checks if a value for the meta-data with the given key exists. Lazily computed values are computed, if necessary.
+     * @param key Key for the meta-data map
+     * @return True, if a value exists for the given key. False, if no value exists or the computation of the value was cancelled or failed.
+     */
+    public boolean hasMetaDataValue(SolutionMetaDataEnum key) {
+        return this.getMetaDataValue(key) != null;
+    }
+
+    /**
+     * Returns the value of the meta-data with the given key, if it is already computed. In contrast to {@link #getMetaDataValue(SolutionMetaDataEnum)},
+     * pending computations are neither executed nor awaited, so the method doesn't block, e.g. if it is invoked by the thread of a user interface.
+     * @param key Key for the meta-data map
+     * @return The value associated with the key.
+     * Null if no value exists, the value isn't computed yet or the computation of the value was cancelled or failed.
+     */
+    public Object getComputedMetaDataValue(SolutionMetaDataEnum key)
+    {
+        Object value = metaData.get(key);
+        if(value instanceof Future<?> && !((Future<?>) value).isDone())
+            return null;
+
+        return this.getMetaDataValue(key);
+    }
+
+    /**
+     * Checks if the computation of the meta-data with the given key is still pending.
+     * @param key Key for the meta-data map
+     * @return True, if the value is computed lazily and isn't finished yet. False otherwise.
+     */
+    public boolean isMetaDataPending(SolutionMetaDataEnum key)
+    {
+        Object value = metaData.get(key);
+        return value instanceof Future<?> && !((Future<?>) value).isDone();
+    }
+
+    /**
+     * Applies the chosen operations of this solution to the given update sequence: Added rules are appended to the last program,
+     * modified and deleted rules are changed in every program of the update sequence.
+     * @param updateSequence Update sequence which is modified
+     */
+    public void applyTo(List<ASPProgram<?, ?>> updateSequence)
+    {
+        for (ASPRule<?> currentRule : this.getAddedRules())
+            updateSequence.get(updateSequence.size()-1).addRule(currentRule);
+
+        for (ASPRule<?> currentRule : this.getModifiedRules())
+        {
+            for (ASPProgram<?, ?> currentProgram : updateSequence)
+                currentProgram.modifyRule(currentRule);
+        }
+
+        for (ASPRule<?> currentRule : this.getDeletedRules())
+        {
+            for (ASPProgram<?, ?> currentProgram : updateSequence)
+                currentProgram.deleteRule(currentRule.getID());
+        }
+    }
+
+    /**
+     * Cancels the computation of all meta-data values which are computed lazily and aren't finished yet.
+     * Cancelled values are considered as non-existent by {@link #getMetaDataValue(SolutionMetaDataEnum)}.
+     */
+    public void cancelPendingMetaData()
+    {
+        for (Object value : metaData.values())
+        {
+            if(value instanceof Future<?>)
+                ((Future<?>) value).cancel(true);
+        }
+    }
+
     /**
      * Creates a deep copy of the current object. <p>
      * The connected conflict of the solution-object isn't cloned because
@@ -380,6 +538,13 @@ public class Solution
 
             for (String ruleID : currentVariant.keySet())
             {
+                // Lazily generated variants are copied without materializing the whole variant space
+                if(currentVariant.get(ruleID) instanceof ELPRuleVariantList)
+                {
+                    newVariants.put(ruleID, ((ELPRuleVariantList) currentVariant.get(ruleID)).createNewInstance());
+                    continue;
+                }
+
                 List<ASPRule<?>> newRuleVariantList = new ArrayList<>();
                 for (ASPRule<?> ruleVariant : currentVariant.get(ruleID))
                     newRuleVariantList.add(ruleVariant.createNewInstance());
@@ -408,23 +573,25 @@ public class Solution
         {
             HashMap<SolutionMetaDataEnum, Object> newMetaData = new HashMap<>();
     
-            for (SolutionMetaDataEnum metaDataKey : metaData.keySet())
+            for (Map.Entry<SolutionMetaDataEnum, Object> entry : metaData.entrySet())
             {
+                SolutionMetaDataEnum metaDataKey = entry.getKey();
                 switch (metaDataKey) {
                     // Maps to String. Because primitive-parameters are copied anyway, the data can be copied directly.
                     case ROOTRULE:
-                        newMetaData.put(metaDataKey, metaData.get(metaDataKey));
+                        newMetaData.put(metaDataKey, entry.getValue());
                         break;
                     // Maps to a Literal<?>. Therefore, the Literal has to be copied by its copy-Method.
                     case TARGETLITERAL:
-                        ASPLiteral<?> targetLiteral = (ASPLiteral<?>) metaData.get(metaDataKey);
+                        ASPLiteral<?> targetLiteral = (ASPLiteral<?>) entry.getValue();
                         newMetaData.put(metaDataKey, targetLiteral.createNewInstance());
                         break;
+                    // Maps to an Integer or a Future of an Integer. Pending computations are shared by both instances.
                     case MEASURE_ANSWERSETCHANGES:
-                        newMetaData.put(metaDataKey, metaData.get(metaDataKey));
+                        newMetaData.put(metaDataKey, entry.getValue());
                         break;
                     case MEASURE_RULECHANGES:
-                        newMetaData.put(metaDataKey, metaData.get(metaDataKey));
+                        newMetaData.put(metaDataKey, entry.getValue());
                         break;
                     default:
                         LOGGER.warn("An unknown Metadata-Key was detected while attempting to create a new Solution-Instance! " +
@@ -515,12 +682,42 @@ public class Solution
             this.deleteVariants = deleteVariants;
     }
 
-    public HashMap<SolutionMetaDataEnum, Object> getMetaData() {
-        return metaData;
+    /**
+     * Returns a read-only snapshot of all meta-data values of the solution which are already computed.
+     * Lazily computed values are resolved, so the snapshot never contains {@link Future}-objects. Pending computations are neither executed
+     * nor awaited and are omitted, like cancelled and failed ones. To await a pending value, use {@link #getMetaDataValue(SolutionMetaDataEnum)}.
+     * To change the meta-data, use {@link #addMetaData(SolutionMetaDataEnum, Object)}.
+     */
+    public Map<SolutionMetaDataEnum, Object> getMetaData()
+    {
+        Map<SolutionMetaDataEnum, Object> computedMetaData = new EnumMap<>(SolutionMetaDataEnum.class);
+        for (SolutionMetaDataEnum key : metaData.keySet())
+        {
+            Object value = this.getComputedMetaDataValue(key);
+            if(value != null)
+                computedMetaData.put(key, value);
+        }
+
+        return Collections.unmodifiableMap(computedMetaData);
     }
 
-    public void setMetaData(HashMap<SolutionMetaDataEnum, Object> metaData) {
-        this.metaData = metaData;
+    /**
+     * Replaces all meta-data of the solution by the entries of the given map. Null-values are omitted.
+     * @param metaData Entries of the meta-data, which may contain {@link Future}-objects for lazily computed values
+     */
+    public void setMetaData(Map<SolutionMetaDataEnum, Object> metaData)
+    {
+        ConcurrentHashMap<SolutionMetaDataEnum, Object> newMetaData = new ConcurrentHashMap<>();
+        if(metaData != null)
+        {
+            for (Map.Entry<SolutionMetaDataEnum, Object> entry : metaData.entrySet())
+            {
+                if(entry.getValue() != null)
+                    newMetaData.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        this.metaData = newMetaData;
     }
 
     public HashMap<OperationTypeEnum, List<ASPRule<?>>> getChosenRuleMapping() {
@@ -0,0 +1,105 @@
+package de.aspua.framework.Model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import de.aspua.framework.Model.ASP.BaseEntities.ASPLiteral;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.AnswerSet;
+
+/**
+ * Contains the results of previewing a {@link Solution}, i.e. the conflicts and answer sets of the update sequence after applying the solution.
+ * All results are computed from the same copy of the update sequence and a single invocation of the solver.
+ * Objects of this class are created by {@link de.aspua.framework.Controller.ASPUAFrameworkAPI#previewSolution(Solution)}.
+ */
+public class SolutionPreview
+{
+    /** Previewed solution */
+    private Solution solution;
+    /** Conflicts of the update sequence after applying the solution */
+    private List<Conflict> conflicts;
+    /** Answer sets of the program for conflict detection, which may contain meta-literals */
+    private List<AnswerSet<?, ?>> answerSets;
+    /** Answer sets without meta-literals, which are computed on demand */
+    private List<AnswerSet<?, ?>> updateAnswerSets;
+    /** All literals of the update sequence after applying the solution */
+    private Set<ASPLiteral<?>> nonMetaLiterals;
+
+    /**
+     * Creates the preview of a solution.
+     * @param solution Previewed solution
+     * @param previewSequence Copy of the update sequence in which the solution was applied
+     * @param conflicts Conflicts of the update sequence after applying the solution
+     * @param answerSets Answer sets of the program for conflict detection, which may contain meta-literals
+     */
+    public SolutionPreview(Solution solution, List<ASPProgram<?, ?>> previewSequence, List<Conflict> conflicts, List<AnswerSet<?, ?>> answerSets)
+    {
+        this.solution = solution;
+        this.conflicts = conflicts == null ? new ArrayList<>() : conflicts;
+        this.answerSets = answerSets == null ? new ArrayList<>() : answerSets;
+
+        nonMetaLiterals = new HashSet<>();
+        for (ASPProgram<?, ?> program : previewSequence)
+            nonMetaLiterals.addAll(program.getLiteralBase().keySet());
+    }
+
+    /**
+     * Checks whether the update sequence has answer sets after applying the solution.
+     * @return True if at least one answer set exists, false otherwise
+     */
+    public boolean isConsistent()
+    {
+        return !answerSets.isEmpty();
+    }
+
+    /**
+     * Checks whether the given conflict still exists after applying the solution.
+     * @param conflict Conflict of the current update sequence
+     * @return True if a conflict of the preview contains all conflicting rules of the given conflict, false otherwise
+     */
+    public boolean containsConflict(Conflict conflict)
+    {
+        for (Conflict currentConflict : conflicts)
+        {
+            if(currentConflict.getConflictingRules().containsAll(conflict.getConflictingRules()))
+                return true;
+        }
+
+        return false;
+    }
+
+    public Solution getSolution() {
+        return solution;
+    }
+
+    public List<Conflict> getConflicts() {
+        return conflicts;
+    }
+
+    public List<AnswerSet<?, ?>> getAnswerSets() {
+        return answerSets;
+    }
+
+    /**
+     * Returns the answer sets of the update sequence after applying the solution, which only contain literals of the update sequence.
+     * @return Copies of all answer sets without meta-literals
+     */
+    public List<AnswerSet<?, ?>> getUpdateAnswerSets()
+    {
+        if(updateAnswerSets == null)
+        {
+            List<AnswerSet<?, ?>> newUpdateAnswerSets = new ArrayList<>(answerSets.size());
+            for (AnswerSet<?, ?> answerSet : answerSets)
+            {
+                AnswerSet<?, ?> updateAnswerSet = answerSet.createNewInstance();
+                updateAnswerSet.getLiterals().removeIf(x -> !nonMetaLiterals.contains(x));
+                newUpdateAnswerSets.add(updateAnswerSet);
+            }
+            updateAnswerSets = newUpdateAnswerSets;
+        }
+
+        return updateAnswerSets;
+    }
+}
@@ -0,0 +1,79 @@
+package de.aspua.framework.Model;
+
+import de.aspua.framework.Controller.Batch.BatchUpdateRunner;
+
+/**
+ * Contains a generated initial program and update program in the text format of the
+ * {@link de.aspua.framework.Controller.CausalRejectionController.FileController} together with their known properties.
+ * @see de.aspua.framework.Controller.Workload.ELPWorkloadGenerator
+ */
+public class Workload
+{
+    private final String name;
+    private final String initialProgram;
+    private final String updateProgram;
+    /** Number of rules per program */
+    private final int ruleCount;
+    /** Number of conflicts between the initial program and the update program */
+    private final int conflictCount;
+    /** Seed from which the programs were generated */
+    private final long seed;
+
+    public Workload(String name, String initialProgram, String updateProgram, int ruleCount, int conflictCount, long seed)
+    {
+        this.name = name;
+        this.initialProgram = initialProgram;
+        this.updateProgram = updateProgram;
+        this.ruleCount = ruleCount;
+        this.conflictCount = conflictCount;
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the name of the initial program, which is found by {@link BatchUpdateRunner#findJobs()}.
+     * @return Name of the workload with the suffix {@link BatchUpdateRunner#INITIAL_SUFFIX}
+     */
+    public String getInitialProgramName()
+    {
+        return name + BatchUpdateRunner.INITIAL_SUFFIX;
+    }
+
+    /**
+     * Returns the name of the update program, which is found by {@link BatchUpdateRunner#findJobs()}.
+     * @return Name of the workload with the suffix {@link BatchUpdateRunner#UPDATE_SUFFIX}
+     */
+    public String getUpdateProgramName()
+    {
+        return name + BatchUpdateRunner.UPDATE_SUFFIX;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("Workload '%s' with %s rule(s) per program and %s conflict(s) (seed %s)", name, ruleCount, conflictCount, seed);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getInitialProgram() {
+        return initialProgram;
+    }
+
+    public String getUpdateProgram() {
+        return updateProgram;
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    public int getConflictCount() {
+        return conflictCount;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,17 @@
+package de.aspua.framework.Utils;
+
+/**
+ * Enum for the possible outcomes of a job in the batch mode of the framework.
+ * @see de.aspua.framework.Controller.Batch.BatchUpdateRunner
+ */
+public enum BatchJobStatusEnum
+{
+    /** All conflicts were solved and the updated program was persisted */
+    SUCCESS,
+
+    /** The conflicts couldn't be solved automatically, e.g. because the resolution policy didn't accept any solution */
+    UNRESOLVED,
+
+    /** The job was aborted, e.g. because a program couldn't be loaded or the conflict detection failed */
+    FAILED
+}
@@ -0,0 +1,23 @@
+package de.aspua.framework.Utils;
+
+/**
+ * Enum for the states of the circuit breaker of a solver backend.
+ * @see de.aspua.framework.Controller.Solver.ResilientSolver
+ */
+public enum CircuitStateEnum
+{
+    /**
+     * The backend is healthy and receives all requests.
+     */
+    CLOSED,
+
+    /**
+     * The backend failed repeatedly and is skipped until the open duration has elapsed.
+     */
+    OPEN,
+
+    /**
+     * The open duration has elapsed and a single trial request decides whether the circuit is closed or opened again.
+     */
+    HALF_OPEN
+}
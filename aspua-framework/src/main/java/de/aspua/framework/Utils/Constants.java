@@ -30,6 +30,139 @@ public class Constants
      */
     public static final String URI_SOLVER = "https://ls1-asp.cs.tu-dortmund.de/enc/index.php";
 
+    /**
+     * Default time in milliseconds which the {@link de.aspua.framework.Controller.CausalRejectionController.ClingoRemoteSolver} waits for a connection to the server.
+     */
+    public static final long SOLVER_CONNECT_TIMEOUT = 5000;
+
+    /**
+     * Default time in milliseconds which the {@link de.aspua.framework.Controller.CausalRejectionController.ClingoRemoteSolver} waits for the response to a request.
+     */
+    public static final long SOLVER_REQUEST_TIMEOUT = 30000;
+
+    /**
+     * Default maximal number of branches of a single search of the {@link de.aspua.framework.Controller.Solver.LocalSolver}.
+     */
+    public static final int LOCAL_SOLVER_MAX_BRANCHES = 100000;
+
+    /**
+     * Default maximal number of attempts per request and backend of the {@link de.aspua.framework.Controller.Solver.ResilientSolver}.
+     */
+    public static final int SOLVER_RETRY_ATTEMPTS = 3;
+
+    /**
+     * Default backoff in milliseconds before the first retry of a failed request in the {@link de.aspua.framework.Controller.Solver.ResilientSolver}.
+     * The backoff is doubled for each further retry.
+     */
+    public static final long SOLVER_RETRY_BACKOFF = 200;
+
+    /**
+     * Default number of consecutive failed requests after which the {@link de.aspua.framework.Controller.Solver.ResilientSolver} skips a backend.
+     */
+    public static final int SOLVER_FAILURE_THRESHOLD = 3;
+
+    /**
+     * Default time in milliseconds for which the {@link de.aspua.framework.Controller.Solver.ResilientSolver} skips a failing backend.
+     */
+    public static final long SOLVER_OPEN_DURATION = 30000;
+
+    /**
+     * Default percentile of the latencies of the primary backend after which the {@link de.aspua.framework.Controller.Solver.HedgedSolver}
+     * sends a duplicate request to the secondary backend.
+     */
+    public static final double HEDGE_PERCENTILE = 0.95;
+
+    /**
+     * Default hedge delay in milliseconds of the {@link de.aspua.framework.Controller.Solver.HedgedSolver} as long as too few latencies were observed.
+     */
+    public static final long HEDGE_DEFAULT_DELAY = 1000;
+
+    /**
+     * Default lower bound of the hedge delay in milliseconds of the {@link de.aspua.framework.Controller.Solver.HedgedSolver}.
+     * Fast backends respond within a fraction of the bound, so their requests aren't duplicated because of scheduling jitter.
+     */
+    public static final long HEDGE_MIN_DELAY = 10;
+
+    /**
+     * Default minimal number of observed latencies for computing the hedge delay of the {@link de.aspua.framework.Controller.Solver.HedgedSolver}.
+     */
+    public static final int HEDGE_MIN_SAMPLES = 20;
+
+    /**
+     * Default number of recent latencies of the primary backend from which the {@link de.aspua.framework.Controller.Solver.HedgedSolver} computes the hedge delay.
+     */
+    public static final int HEDGE_LATENCY_WINDOW = 200;
+
+    /**
+     * Default number of threads which compute measures for solutions in parallel in the {@link de.aspua.framework.Controller.ASPUAFrameworkAPI}.
+     * As the measures mostly wait for the solver, the number exceeds the number of available processors.
+     */
+    public static final int MEASURE_THREADS = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Default number of threads which apply complex strategies in the background in the {@link de.aspua.framework.Controller.Strategies.ComplexStrategyScheduler}.
+     * The threads run with minimal priority, so they don't slow down the interactive steps of the update process.
+     */
+    public static final int COMPLEX_STRATEGY_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Default time budget in milliseconds for applying all complex strategies to a single conflict.
+     */
+    public static final long COMPLEX_STRATEGY_TIME_BUDGET = 10000;
+
+    /**
+     * Maximal time in milliseconds which {@link de.aspua.framework.Controller.ASPUAFrameworkEngine#shutdown()} waits for each of its executors.
+     */
+    public static final long EXECUTOR_SHUTDOWN_TIMEOUT = 5000;
+
+    /**
+     * Default number of low-priority threads which compute previews of solutions in the background in the {@link de.aspua.framework.Controller.Previews.SpeculativePreviewEngine}.
+     */
+    public static final int SPECULATIVE_PREVIEW_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+
+    /**
+     * Default maximal number of solution previews which are kept by the {@link de.aspua.framework.Controller.Previews.SpeculativePreviewEngine}.
+     */
+    public static final int SPECULATIVE_PREVIEW_CAPACITY = 64;
+
+    /**
+     * Default number of top-ranked solutions per conflict whose previews are computed in the background.
+     */
+    public static final int SPECULATIVE_PREVIEW_SOLUTIONS = 3;
+
+    /**
+     * Default number of worker threads which perform jobs in parallel in the {@link de.aspua.framework.Controller.Batch.BatchUpdateRunner}.
+     */
+    public static final int BATCH_THREADS = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Default maximal number of solutions which are applied in a single job of the {@link de.aspua.framework.Controller.Batch.BatchUpdateRunner}.
+     * As solutions may cause new conflicts, the limit prevents endless resolutions.
+     */
+    public static final int BATCH_MAX_RESOLUTION_STEPS = 100;
+
+    /**
+     * Default number of states which are kept in each step of the {@link de.aspua.framework.Controller.Search.BeamSearchResolver}.
+     * The same number of solutions is expanded for each state.
+     */
+    public static final int BEAM_SEARCH_WIDTH = 4;
+
+    /**
+     * Default maximal number of solutions which are applied in a single resolution of the {@link de.aspua.framework.Controller.Search.BeamSearchResolver}.
+     */
+    public static final int BEAM_SEARCH_MAX_DEPTH = 20;
+
+    /**
+     * Default time budget in milliseconds for a search of the {@link de.aspua.framework.Controller.Search.BeamSearchResolver}.
+     */
+    public static final long BEAM_SEARCH_TIME_BUDGET = 30000;
+
+    /**
+     * Default capacity of the {@link de.aspua.framework.Controller.History.SessionHistory}, i.e. the maximal total weight of all kept versions.
+     * The weight of a version is the number of rules which are referenced by it, so the capacity limits the memory usage of the history.
+     */
+    public static final long SESSION_HISTORY_CAPACITY = 200000;
+
     /**
      * Ressouce path for framework-banner used for the startup in {@link de.aspua.framework.Controller.ASPUAFrameworkAPI}.
      */
@@ -0,0 +1,44 @@
+package de.aspua.framework.Utils;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates named daemon-threads for the executors of the framework.
+ * As daemon-threads don't prevent the JVM from shutting down, executors with these threads don't have to be shut down explicitly.
+ */
+public class DaemonThreadFactory implements ThreadFactory
+{
+    private final String namePrefix;
+    private final int priority;
+    private final AtomicInteger threadCount = new AtomicInteger(1);
+
+    /**
+     * Creates a factory for threads with normal priority.
+     * @param namePrefix Prefix of the thread names, which is followed by a consecutive number
+     */
+    public DaemonThreadFactory(String namePrefix)
+    {
+        this(namePrefix, Thread.NORM_PRIORITY);
+    }
+
+    /**
+     * Creates a factory for threads with the given priority.
+     * @param namePrefix Prefix of the thread names, which is followed by a consecutive number
+     * @param priority Priority of the created threads
+     */
+    public DaemonThreadFactory(String namePrefix, int priority)
+    {
+        this.namePrefix = namePrefix;
+        this.priority = priority;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable)
+    {
+        Thread thread = new Thread(runnable, namePrefix + "-" + threadCount.getAndIncrement());
+        thread.setDaemon(true);
+        thread.setPriority(priority);
+        return thread;
+    }
+}
@@ -0,0 +1,109 @@
+package de.aspua.framework.Utils;
+
+import java.util.BitSet;
+import java.util.List;
+
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+
+/**
+ * Hands out unique label IDs for the rules of an update sequence.
+ * The used labels are saved in a bitmap, whose cleared bits below the high-water mark represent the free labels.
+ * As in the previous probing of the update sequence, a new label is the first free label starting at the number of used labels.
+ * If no label below the high-water mark was released, this label equals the high-water mark and is returned in constant time.
+ * <p>
+ * The allocator may be used by several threads at once.
+ */
+public class LabelIDAllocator
+{
+    /** Set bits represent used labels */
+    private final BitSet usedLabels;
+    /** Number of used labels */
+    private int usedCount;
+
+    public LabelIDAllocator()
+    {
+        usedLabels = new BitSet();
+        usedCount = 0;
+    }
+
+    /**
+     * Creates an allocator which treats the labels of all given rules as used.
+     * @param rules Rules whose labels are used
+     */
+    public LabelIDAllocator(List<? extends ASPRule<?>> rules)
+    {
+        this();
+        for (ASPRule<?> rule : rules)
+            this.reserve(rule.getLabelID());
+    }
+
+    /**
+     * Returns a free label and marks the label as used.
+     * @return The first free label starting at the number of used labels
+     */
+    public synchronized int allocate()
+    {
+        int label = this.peek();
+        usedLabels.set(label);
+        usedCount++;
+        return label;
+    }
+
+    /**
+     * Returns the label which would be returned by the next invocation of {@link #allocate()} without marking the label as used.
+     * @return The first free label starting at the number of used labels
+     */
+    public synchronized int peek()
+    {
+        // Without released labels, all labels below the high-water mark are used
+        if(usedCount == usedLabels.length())
+            return usedCount;
+
+        return usedLabels.nextClearBit(usedCount);
+    }
+
+    /**
+     * Marks the given label as used, e.g. because a rule with this label was added to the update sequence.
+     * @param label Used label. Negative labels are ignored.
+     * @return True if the label was free, false otherwise
+     */
+    public synchronized boolean reserve(int label)
+    {
+        if(label < 0 || usedLabels.get(label))
+            return false;
+
+        usedLabels.set(label);
+        usedCount++;
+        return true;
+    }
+
+    /**
+     * Marks the given label as free, so it may be returned by {@link #allocate()} again.
+     * @param label Released label
+     * @return True if the label was used, false otherwise
+     */
+    public synchronized boolean release(int label)
+    {
+        if(label < 0 || !usedLabels.get(label))
+            return false;
+
+        usedLabels.clear(label);
+        usedCount--;
+        return true;
+    }
+
+    public synchronized boolean isUsed(int label) {
+        return label >= 0 && usedLabels.get(label);
+    }
+
+    /**
+     * @return The highest used label + 1, or 0 if no label is used
+     */
+    public synchronized int getHighWaterMark() {
+        return usedLabels.length();
+    }
+
+    public synchronized int getUsedCount() {
+        return usedCount;
+    }
+}
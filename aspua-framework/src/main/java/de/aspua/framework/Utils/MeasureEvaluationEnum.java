@@ -0,0 +1,27 @@
+package de.aspua.framework.Utils;
+
+/**
+ * Enum for the different points in time at which the measures of solutions are computed.
+ * @see de.aspua.framework.Controller.ASPUAFrameworkAPI#setMeasureEvaluation(MeasureEvaluationEnum)
+ * @see de.aspua.framework.Model.Solution#getMetaDataValue(SolutionMetaDataEnum)
+ */
+public enum MeasureEvaluationEnum
+{
+    /**
+     * All measures are computed before the detected conflicts are returned.
+     * The metadata of the solutions contains the computed values.
+     */
+    EAGER,
+
+    /**
+     * The measures are computed by the measure-executor in the background, while the detected conflicts are already returned.
+     * The metadata of the solutions contains {@link java.util.concurrent.Future}-objects until the values are accessed.
+     */
+    BACKGROUND,
+
+    /**
+     * Each measure is only computed when its value is accessed for the first time.
+     * The metadata of the solutions contains {@link java.util.concurrent.Future}-objects until the values are accessed.
+     */
+    ON_DEMAND
+}
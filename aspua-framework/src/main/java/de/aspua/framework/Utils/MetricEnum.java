@@ -0,0 +1,84 @@
+package de.aspua.framework.Utils;
+
+/**
+ * Enum for all metrics which are recorded during an update process by an {@link de.aspua.framework.Controller.ControllerInterfaces.IMetricsCollector}.
+ * Each metric is either a timer (durations in nanoseconds), a value (distribution of sizes) or a counter. The name of a metric is used
+ * by monitoring systems, the optional tag distinguishes the components of a metric (e.g. the class name of a strategy).
+ */
+public enum MetricEnum
+{
+    /** Timer: Construction of the program for conflict detection (modified update program) */
+    MUP_CONSTRUCTION("aspua.mup.construction", MetricTypeEnum.TIMER),
+
+    /** Timer: Single invocation of the solver */
+    SOLVER_CALL("aspua.solver.call", MetricTypeEnum.TIMER),
+
+    /** Value: Size of the URL-encoded request which is posted to the remote solver in bytes */
+    SOLVER_REQUEST_BYTES("aspua.solver.request.bytes", MetricTypeEnum.VALUE),
+
+    /** Value: Size of all models which are returned by the solver in bytes (UTF-8) */
+    SOLVER_RESPONSE_BYTES("aspua.solver.response.bytes", MetricTypeEnum.VALUE),
+
+    /** Counter: Solver invocations which didn't return any models */
+    SOLVER_NO_MODELS("aspua.solver.nomodels", MetricTypeEnum.COUNTER),
+
+    /** Counter: Solver invocations which failed, i.e. the models couldn't be computed */
+    SOLVER_FAILURE("aspua.solver.failure", MetricTypeEnum.COUNTER),
+
+    /** Value: Number of models which are returned by a single solver invocation */
+    MODEL_COUNT("aspua.solver.models", MetricTypeEnum.VALUE),
+
+    /** Timer: Parsing of the models of the solver to answer sets */
+    MODEL_PARSING("aspua.parsing.models", MetricTypeEnum.TIMER),
+
+    /** Timer: Parsing of an ASP-program */
+    PROGRAM_PARSING("aspua.parsing.program", MetricTypeEnum.TIMER),
+
+    /** Value: Number of rules of a program, tagged by the step which processed the program */
+    PROGRAM_SIZE("aspua.program.rules", MetricTypeEnum.VALUE),
+
+    /** Timer: Detection of conflicts within the answer sets of the modified update program */
+    CONFLICT_DETECTION("aspua.conflicts.detection", MetricTypeEnum.TIMER),
+
+    /** Value: Number of detected conflicts */
+    CONFLICT_COUNT("aspua.conflicts.count", MetricTypeEnum.VALUE),
+
+    /** Timer: Application of a strategy to a single conflict, tagged by the class name of the strategy */
+    STRATEGY("aspua.strategy", MetricTypeEnum.TIMER),
+
+    /** Value: Number of solutions which a strategy computed for a single conflict, tagged by the class name of the strategy */
+    SOLUTION_COUNT("aspua.strategy.solutions", MetricTypeEnum.VALUE),
+
+    /** Timer: Computation of a measure for a single solution, tagged by the measure key */
+    MEASURE("aspua.measure", MetricTypeEnum.TIMER),
+
+    /** Timer: Persistence of the updated program */
+    PERSISTENCE("aspua.persistence", MetricTypeEnum.TIMER);
+
+    /**
+     * Types of metrics, which determine how the recorded values are aggregated.
+     */
+    public enum MetricTypeEnum
+    {
+        TIMER,
+        VALUE,
+        COUNTER
+    }
+
+    private final String metricName;
+    private final MetricTypeEnum type;
+
+    private MetricEnum(String metricName, MetricTypeEnum type)
+    {
+        this.metricName = metricName;
+        this.type = type;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+
+    public MetricTypeEnum getType() {
+        return type;
+    }
+}
@@ -3,6 +3,7 @@ package de.aspua.framework.Utils;
 /**
  * Enum for all meta-data, which can be computed and safed in the {@link Solution}-class.
  * The class-type, which should be used for saving a specific meta-data value is described below.
+ * Values which are saved as {@link java.util.concurrent.Future}-objects are resolved by {@link de.aspua.framework.Model.Solution#getMetaDataValue(SolutionMetaDataEnum)}.
  * @see de.aspua.framework.Model.Solution
  * @see de.aspua.framework.Controller.ControllerInterfaces.IMeasureController
  */
@@ -21,14 +22,14 @@ public enum SolutionMetaDataEnum
     TARGETLITERAL,
 
     /**
-     * ClassType: int
+     * ClassType: int or Future&lt;Integer&gt; (if computed lazily)
      * Defines how many changes will be caused in the answer sets if a given solution is applied.
      * @see de.aspua.framework.Controller.Measures.AnswerSetMeasure
      */
     MEASURE_ANSWERSETCHANGES,
 
     /**
-     * ClassType: int
+     * ClassType: int or Future&lt;Integer&gt; (if computed lazily)
      * Defines how many changes will be caused in the rule set if a given solution is applied.
      * @see de.aspua.framework.Controller.Measures.RuleMeasure
      */
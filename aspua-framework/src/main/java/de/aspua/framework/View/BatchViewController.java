@@ -0,0 +1,160 @@
+package de.aspua.framework.View;
+
+import java.lang.reflect.Constructor;
+import java.nio.file.Paths;
+import java.util.List;
+
+import de.aspua.framework.Controller.ASPUAFrameworkEngine;
+import de.aspua.framework.Controller.Batch.BatchUpdateRunner;
+import de.aspua.framework.Controller.Batch.MeasureResolutionPolicy;
+import de.aspua.framework.Controller.ControllerInterfaces.IFactoryController;
+import de.aspua.framework.Controller.Metrics.InMemoryMetricsCollector;
+import de.aspua.framework.Model.BatchJob;
+import de.aspua.framework.Model.BatchJobReport;
+import de.aspua.framework.Utils.BatchJobStatusEnum;
+import de.aspua.framework.Utils.Constants;
+import de.aspua.framework.Utils.SolutionMetaDataEnum;
+
+/**
+ * Performs update processes without user interaction (see {@link BatchUpdateRunner}).
+ * Invocation:
+ *  -> mvn exec:java -D"exec.mainClass"="de.aspua.framework.View.BatchViewController" (Default arguments)
+ *  -> mvn exec:java -D"exec.mainClass"="de.aspua.framework.View.BatchViewController"
+ *     -D"exec.args"="[-f <factoryclassname>] [-m <manifest>] [-r <reportfile>] [-t <threads>] [-o <measure1>,<measure2>]"
+ */
+public class BatchViewController
+{
+    private static String factoryClassName = Constants.PACKAGE_PREFIX + "CausalRejectionController.CRFileFactory";
+    private static String manifestPath = null;
+    private static String reportPath = "aspua_batch_report.csv";
+    private static int threads = Constants.BATCH_THREADS;
+    private static SolutionMetaDataEnum[] measureOrder = { SolutionMetaDataEnum.MEASURE_RULECHANGES, SolutionMetaDataEnum.MEASURE_ANSWERSETCHANGES };
+
+    public static void main(String[] args)
+    {
+        evaluateArguments(args);
+
+        IFactoryController usedFactory = buildFactory();
+        InMemoryMetricsCollector metricsCollector = new InMemoryMetricsCollector();
+        ASPUAFrameworkEngine engine = new ASPUAFrameworkEngine(usedFactory, metricsCollector);
+        BatchUpdateRunner runner = new BatchUpdateRunner(engine, new MeasureResolutionPolicy(measureOrder), threads);
+
+        List<BatchJob> jobs;
+        if(manifestPath == null)
+            jobs = runner.findJobs();
+        else
+            jobs = BatchUpdateRunner.readManifest(Paths.get(manifestPath));
+
+        if(jobs == null || jobs.isEmpty())
+        {
+            System.out.println("No jobs were found for the batch mode. Please check the Application-Logs to get further information.");
+            System.exit(1);
+        }
+
+        System.out.println(String.format("Starting %s job(s) with %s worker thread(s).", jobs.size(), runner.getThreads()));
+        List<BatchJobReport> reports = runner.run(jobs);
+
+        boolean allSuccessful = reports.size() == jobs.size();
+        for (BatchJobReport report : reports)
+        {
+            System.out.println(report.toString());
+            System.out.println("-----------------------------------------");
+            if(report.getStatus() != BatchJobStatusEnum.SUCCESS)
+                allSuccessful = false;
+        }
+
+        if(!BatchUpdateRunner.writeReport(reports, Paths.get(reportPath)))
+        {
+            System.out.println("The report couldn't be written to " + reportPath);
+            System.exit(1);
+        }
+
+        System.out.println("Time spent in the steps of all jobs:");
+        System.out.print(metricsCollector.toString());
+        System.out.println("The report was written to " + Paths.get(reportPath).toAbsolutePath());
+        System.exit(allSuccessful ? 0 : 2);
+    }
+
+    private static void evaluateArguments(String[] args)
+    {
+        for(int i = 0; i < args.length; i = i+2)
+        {
+            if(args.length < i+2)
+                failureExit();
+
+            switch (args[i])
+            {
+                case "-f":
+                    factoryClassName = Constants.PACKAGE_PREFIX + args[i+1];
+                    break;
+                case "-m":
+                    manifestPath = args[i+1];
+                    break;
+                case "-r":
+                    reportPath = args[i+1];
+                    break;
+                case "-t":
+                    try
+                    {
+                        threads = Integer.parseInt(args[i+1]);
+                    } catch (NumberFormatException e) {
+                        failureExit();
+                    }
+                    break;
+                case "-o":
+                    try
+                    {
+                        String[] measureNames = args[i+1].split(",");
+                        measureOrder = new SolutionMetaDataEnum[measureNames.length];
+                        for (int j = 0; j < measureNames.length; j++)
+                            measureOrder[j] = SolutionMetaDataEnum.valueOf(measureNames[j].trim());
+                    } catch (IllegalArgumentException e) {
+                        failureExit();
+                    }
+                    break;
+                default:
+                    failureExit();
+                    break;
+            }
+        }
+    }
+
+    private static void failureExit()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Invalid argument syntax! A command option always has to refer to a following argument!");
+        sb.append(System.lineSeparator());
+        sb.append("Expected syntax: mvn exec:java -D\"exec.mainClass\"=\"de.aspua.framework.View.BatchViewController\" -D\"exec.args\"=\"[-f <factoryclassname>] [-m <manifest>] [-r <reportfile>] [-t <threads>] [-o <measure1>,<measure2>]\"");
+        sb.append(System.lineSeparator());
+        sb.append("-f <factoryclassname>: Choose the factory which is used for the execution. The factoryclassname has to specify the classname with its subpackage starting from 'de.aspua.framework.Controller'.");
+        sb.append(System.lineSeparator());
+        sb.append("-m <manifest>: File with one job per line of the form 'initialProgram;updateProgram[;resultProgram]'. Without a manifest, all programs '<name>_Initial' are updated by the programs '<name>_Update'.");
+        sb.append(System.lineSeparator());
+        sb.append("-r <reportfile>: File to which the report of all jobs is written.");
+        sb.append(System.lineSeparator());
+        sb.append("-t <threads>: Number of jobs which are performed in parallel.");
+        sb.append(System.lineSeparator());
+        sb.append("-o <measure1>,<measure2>: Measures which decide about the applied solutions, e.g. 'MEASURE_RULECHANGES,MEASURE_ANSWERSETCHANGES'.");
+        System.out.println(sb.toString());
+        System.exit(1);
+    }
+
+    private static IFactoryController buildFactory()
+    {
+        try
+        {
+            Class<?> clazz = Class.forName(factoryClassName);
+            Constructor<?> ctr = clazz.getConstructor();
+            return (IFactoryController) ctr.newInstance();
+        }
+        catch( ClassNotFoundException e ) {
+            System.out.println(String.format("The given Factory-Class '%s' does not exist!", factoryClassName));
+            System.out.println(e);
+        }
+        catch( Exception e ) {
+            System.out.println("An error accured during the instantiation of the Factory-Class!");
+            System.out.println(e);
+        }
+        return null;
+    }
+}
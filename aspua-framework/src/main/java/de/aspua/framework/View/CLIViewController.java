@@ -48,6 +48,7 @@ public class CLIViewController
         {
             System.out.println("There seems to be a problem with computing occuring conflicts in the Update-Sequence.");
             System.out.println("Please check the Application-Logs to get further information.");
+            frameworkAPI.close();
         }
         else
         {
@@ -74,12 +75,14 @@ public class CLIViewController
             if(success)
             {
                 System.out.println("The Update-Process was successfull.");
+                frameworkAPI.close();
                 scanner.close();
                 System.exit(0);
             }
             else
             {
                 System.out.println("There was a Problem with merging the Update-Sequence or persisting the ASP-Program!");
+                frameworkAPI.close();
                 scanner.close();
                 System.exit(1);
             }
@@ -216,6 +219,7 @@ public class CLIViewController
         else
         {
             System.out.println("There was a problem with reading in the initial Program! The application will terminate now.");
+            frameworkAPI.close();
             System.exit(1);
         }
     }
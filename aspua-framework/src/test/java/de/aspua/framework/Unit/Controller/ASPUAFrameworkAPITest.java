@@ -0,0 +1,459 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.ASPUAFrameworkAPI;
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Controller.CausalRejectionController.SerialController;
+import de.aspua.framework.Controller.Measures.AnswerSetMeasure;
+import de.aspua.framework.Controller.Measures.RuleMeasure;
+import de.aspua.framework.Controller.ControllerInterfaces.IConflictDetectionController;
+import de.aspua.framework.Controller.ControllerInterfaces.IFactoryController;
+import de.aspua.framework.Controller.ControllerInterfaces.IIOController;
+import de.aspua.framework.Controller.ControllerInterfaces.IMeasureController;
+import de.aspua.framework.Controller.ControllerInterfaces.IParserController;
+import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
+import de.aspua.framework.Controller.ControllerInterfaces.IStrategyController;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.MeasureContext;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.SolutionPreview;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPAtom;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Model.ASP.BaseEntities.AnswerSet;
+import de.aspua.framework.Model.ASP.ELP.ELPLiteral;
+import de.aspua.framework.Model.ASP.ELP.ELPRule;
+import de.aspua.framework.Model.ASP.ELP.UpdateSequenceView;
+import de.aspua.framework.Utils.MeasureEvaluationEnum;
+import de.aspua.framework.Utils.SolutionMetaDataEnum;
+
+public class ASPUAFrameworkAPITest
+{
+    @Test
+    public void ASPUAFrameworkAPI_solveConflict_StrategiesUseCurrentUpdateSequence()
+    {
+        ELPParser parser = new ELPParser();
+        ASPUAFrameworkAPI frameworkAPI = new ASPUAFrameworkAPI(new StubFactory());
+        frameworkAPI.addToUpdateSequence(parser.parseProgram("a. b.", "P1"), true);
+        frameworkAPI.addToUpdateSequence(parser.parseProgram("-a. -b.", "P2"), true);
+
+        List<Conflict> conflicts = frameworkAPI.detectConflicts();
+        assertEquals(2, conflicts.size());
+        Solution firstSolution = conflicts.get(1).getSolutions().get(0);
+        assertEquals("b :- not d0.", firstSolution.getModifiedRules().get(0).toString());
+        UpdateSequenceView firstView = frameworkAPI.getUpdateSequenceView();
+
+        // The view of the replaced update sequence mustn't be reused
+        conflicts = frameworkAPI.solveConflict(firstSolution);
+        UpdateSequenceView secondView = frameworkAPI.getUpdateSequenceView();
+        assertNotSame(firstView, secondView);
+        assertFalse(secondView.isOutdated());
+        assertEquals(frameworkAPI.getMergedUpdateSequence().toString(), secondView.toString());
+
+        // The strategies of the second round modify the rule which was modified in the first round
+        assertEquals(2, conflicts.size());
+        Solution secondSolution = conflicts.get(1).getSolutions().get(0);
+        assertEquals("b :- not d0, not d1.", secondSolution.getModifiedRules().get(0).toString());
+
+        conflicts = frameworkAPI.solveConflict(secondSolution);
+        assertEquals("b :- not d0, not d1, not d2.", conflicts.get(1).getSolutions().get(0).getModifiedRules().get(0).toString());
+        frameworkAPI.close();
+    }
+
+    @Test
+    public void ASPUAFrameworkAPI_undo_HistoryIsOnlyExposedAsCopies()
+    {
+        ELPParser parser = new ELPParser();
+        ASPUAFrameworkAPI frameworkAPI = new ASPUAFrameworkAPI(new StubFactory());
+        frameworkAPI.addToUpdateSequence(parser.parseProgram("a. b.", "P1"), true);
+        frameworkAPI.addToUpdateSequence(parser.parseProgram("-a. -b.", "P2"), true);
+        List<Conflict> conflicts = frameworkAPI.detectConflicts();
+        frameworkAPI.solveConflict(conflicts.get(0).getSolutions().get(0));
+
+        List<String> entries = frameworkAPI.getHistoryEntries();
+        assertEquals(2, entries.size());
+        assertEquals(1, frameworkAPI.getCurrentHistoryIndex());
+
+        // Changing the returned entries doesn't affect the history
+        entries.clear();
+        assertEquals(2, frameworkAPI.getHistoryEntries().size());
+
+        assertEquals(2, frameworkAPI.undo().size());
+        assertEquals(0, frameworkAPI.getCurrentHistoryIndex());
+        assertFalse(frameworkAPI.canUndo());
+        assertTrue(frameworkAPI.canRedo());
+
+        // Reducing the capacity evicts the older versions, but never the current version
+        frameworkAPI.redo();
+        frameworkAPI.setHistoryCapacity(0);
+        assertEquals(1, frameworkAPI.getHistoryEntries().size());
+        assertEquals(0, frameworkAPI.getCurrentHistoryIndex());
+        assertFalse(frameworkAPI.canUndo());
+        frameworkAPI.close();
+    }
+
+    @Test
+    public void ASPUAFrameworkAPI_detectConflicts_ParallelMeasuresEqualSequentialMeasures()
+    {
+        ASPUAFrameworkAPI frameworkAPI = this.createMeasuredSession(MeasureEvaluationEnum.EAGER);
+        List<Conflict> conflicts = frameworkAPI.getCurrentConflicts();
+        assertEquals(3, conflicts.size());
+
+        // The measures of all solutions were computed by the measure-executor before the conflicts were returned
+        MeasureContext context = frameworkAPI.getMeasureContext();
+        for (Conflict conflict : conflicts)
+        {
+            assertEquals(2, conflict.getSolutions().size());
+            for (Solution solution : conflict.getSolutions())
+            {
+                for (IMeasureController measure : frameworkAPI.getMeasures())
+                {
+                    Object value = solution.getMetaDataEntry(measure.getMeasureKey());
+                    assertTrue(value instanceof Integer);
+                    assertEquals(measure.computeMeasure(solution, context), value);
+                }
+            }
+        }
+
+        // Modifying the old rule keeps its head in the answer set, deleting the old rule removes it
+        Solution modification = conflicts.get(0).getSolutions().get(0);
+        Solution deletion = conflicts.get(0).getSolutions().get(1);
+        assertEquals(0, modification.getMetaDataValue(new AnswerSetMeasure().getMeasureKey()));
+        assertEquals(1, deletion.getMetaDataValue(new AnswerSetMeasure().getMeasureKey()));
+        frameworkAPI.close();
+    }
+
+    @Test
+    public void ASPUAFrameworkAPI_detectConflicts_SameMeasuresInAllEvaluationModes()
+    {
+        ASPUAFrameworkAPI eagerAPI = this.createMeasuredSession(MeasureEvaluationEnum.EAGER);
+        for (MeasureEvaluationEnum measureEvaluation : Arrays.asList(MeasureEvaluationEnum.BACKGROUND, MeasureEvaluationEnum.ON_DEMAND))
+        {
+            ASPUAFrameworkAPI lazyAPI = this.createMeasuredSession(measureEvaluation);
+            List<Conflict> eagerConflicts = eagerAPI.getCurrentConflicts();
+            List<Conflict> lazyConflicts = lazyAPI.getCurrentConflicts();
+            assertEquals(eagerConflicts.size(), lazyConflicts.size());
+
+            for (int i = 0; i < eagerConflicts.size(); i++)
+            {
+                List<Solution> eagerSolutions = eagerConflicts.get(i).getSolutions();
+                List<Solution> lazySolutions = lazyConflicts.get(i).getSolutions();
+                assertEquals(eagerSolutions.size(), lazySolutions.size());
+
+                // The pending computations result in the same values as the eager computation
+                for (int j = 0; j < eagerSolutions.size(); j++)
+                {
+                    for (IMeasureController measure : eagerAPI.getMeasures())
+                    {
+                        SolutionMetaDataEnum key = measure.getMeasureKey();
+                        assertEquals(eagerSolutions.get(j).getMetaDataValue(key), lazySolutions.get(j).getMetaDataValue(key));
+                    }
+                }
+
+                List<Solution> eagerRanking = eagerAPI.rankSolutions(eagerConflicts.get(i), eagerSolutions.size());
+                List<Solution> lazyRanking = lazyAPI.rankSolutions(lazyConflicts.get(i), lazySolutions.size());
+                assertEquals(eagerSolutions.size(), eagerRanking.size());
+                for (int j = 0; j < eagerRanking.size(); j++)
+                    assertEquals(eagerSolutions.indexOf(eagerRanking.get(j)), lazySolutions.indexOf(lazyRanking.get(j)));
+            }
+
+            lazyAPI.close();
+        }
+        eagerAPI.close();
+    }
+
+    @Test
+    public void ASPUAFrameworkAPI_detectConflicts_ParallelStrategiesKeepTheirOrder()
+    {
+        List<String> oldFacts = new ArrayList<>();
+        List<String> newFacts = new ArrayList<>();
+        for (char atom = 'a'; atom < 'k'; atom++)
+        {
+            oldFacts.add(atom + ".");
+            newFacts.add("-" + atom + ".");
+        }
+
+        List<IStrategyController> strategies = new ArrayList<>();
+        for (int i = 0; i < 4; i++)
+            strategies.add(new DelayedStrategy(i));
+
+        ELPParser parser = new ELPParser();
+        ASPUAFrameworkAPI frameworkAPI = new ASPUAFrameworkAPI(new StubFactory(x -> new ArrayList<>(Arrays.asList("")), strategies, new ArrayList<>()));
+        frameworkAPI.addToUpdateSequence(parser.parseProgram(String.join(" ", oldFacts), "P1"), true);
+        frameworkAPI.addToUpdateSequence(parser.parseProgram(String.join(" ", newFacts), "P2"), true);
+
+        // The strategies finish in a random order, but the solutions of each conflict are ordered like the strategies
+        List<Conflict> conflicts = frameworkAPI.detectConflicts();
+        assertEquals(10, conflicts.size());
+        for (int i = 0; i < conflicts.size(); i++)
+        {
+            Conflict conflict = conflicts.get(i);
+            assertEquals((char) ('a' + i) + ".", conflict.getConflictingRules().get(0).toString());
+            assertEquals(strategies.size(), conflict.getSolutions().size());
+            for (int j = 0; j < strategies.size(); j++)
+            {
+                Solution solution = conflict.getSolutions().get(j);
+                assertEquals(conflict, solution.getCause());
+                assertEquals("s" + j + ".", solution.getAddedRules().get(0).toString());
+            }
+        }
+        frameworkAPI.close();
+    }
+
+    @Test
+    public void ASPUAFrameworkAPI_previewSolution_SolverIsInvokedOncePerSolution()
+    {
+        ELPParser parser = new ELPParser();
+        AtomicInteger solverInvocations = new AtomicInteger();
+        FactSolver factSolver = new FactSolver();
+        ISolverController countingSolver = x ->
+        {
+            solverInvocations.incrementAndGet();
+            return factSolver.computeModels(x);
+        };
+        List<IMeasureController> measures = new ArrayList<>(Arrays.asList(new RuleMeasure(), new AnswerSetMeasure()));
+        List<IStrategyController> strategies = new ArrayList<>(Arrays.asList(new ModificationStrategy(), new DeletionStrategy()));
+
+        ASPUAFrameworkAPI frameworkAPI = new ASPUAFrameworkAPI(new StubFactory(countingSolver, strategies, measures));
+        frameworkAPI.setMeasureEvaluation(MeasureEvaluationEnum.EAGER);
+        frameworkAPI.setSpeculativePreviewLimit(0);
+        frameworkAPI.addToUpdateSequence(parser.parseProgram("a. b. c. d.", "P1"), true);
+        frameworkAPI.addToUpdateSequence(parser.parseProgram("-a. -b. -c.", "P2"), true);
+
+        // The conflict detection and the answer set measure of each of the six solutions invoke the solver once
+        List<Conflict> conflicts = frameworkAPI.detectConflicts();
+        assertEquals(7, solverInvocations.get());
+
+        // A single invocation provides the conflicts and the answer sets of the preview
+        Solution deletion = conflicts.get(0).getSolutions().get(1);
+        SolutionPreview preview = frameworkAPI.previewSolution(deletion);
+        assertEquals(8, solverInvocations.get());
+        assertEquals(2, preview.getConflicts().size());
+        assertFalse(preview.containsConflict(conflicts.get(0)));
+        assertEquals(1, preview.getAnswerSets().size());
+        assertEquals(3, preview.getAnswerSets().get(0).getLiterals().size());
+        frameworkAPI.close();
+    }
+
+    /**
+     * Creates a session with the rule measure and the answer set measure, whose update sequence contains three conflicts.
+     * Each conflict is solved by a modification and a deletion of the old conflicting rule.
+     */
+    private ASPUAFrameworkAPI createMeasuredSession(MeasureEvaluationEnum measureEvaluation)
+    {
+        ELPParser parser = new ELPParser();
+        List<IMeasureController> measures = new ArrayList<>(Arrays.asList(new RuleMeasure(), new AnswerSetMeasure()));
+        List<IStrategyController> strategies = new ArrayList<>(Arrays.asList(new ModificationStrategy(), new DeletionStrategy()));
+
+        ASPUAFrameworkAPI frameworkAPI = new ASPUAFrameworkAPI(new StubFactory(new FactSolver(), strategies, measures));
+        frameworkAPI.setMeasureEvaluation(measureEvaluation);
+        frameworkAPI.addToUpdateSequence(parser.parseProgram("a. b. c. d.", "P1"), true);
+        frameworkAPI.addToUpdateSequence(parser.parseProgram("-a. -b. -c.", "P2"), true);
+        frameworkAPI.detectConflicts();
+        return frameworkAPI;
+    }
+
+    /**
+     * Rules with complementary heads are conflicting, regardless of their bodies.
+     */
+    private static class StubConflictDetector implements IConflictDetectionController
+    {
+        @Override
+        public ASPProgram<?, ?> computeConflictDetectionProgram(List<ASPProgram<?, ?>> updateSequence)
+        {
+            return updateSequence.get(0);
+        }
+
+        @Override
+        public List<Conflict> detectConflicts(List<ASPProgram<?, ?>> updateSequence, List<AnswerSet<?, ?>> answerSets)
+        {
+            List<Conflict> conflicts = new ArrayList<>();
+            for (ASPRule<?> oldRule : updateSequence.get(0).getRuleSet())
+            {
+                for (ASPRule<?> newRule : updateSequence.get(1).getRuleSet())
+                {
+                    ELPLiteral oldHead = ((ELPRule) oldRule).getHead().get(0);
+                    ELPLiteral newHead = ((ELPRule) newRule).getHead().get(0);
+                    if(oldHead.getAtom().equals(newHead.getAtom()) && oldHead.isNegated() != newHead.isNegated())
+                        conflicts.add(new Conflict(new ArrayList<>(Arrays.asList(oldRule, newRule)), new ArrayList<>()));
+                }
+            }
+            return conflicts;
+        }
+    }
+
+    /**
+     * Solves a conflict by adding a new default-negated literal to the old conflicting rule, as it is found in the given update sequence.
+     */
+    private static class ModificationStrategy implements IStrategyController
+    {
+        @Override
+        public List<Solution> computeSolutions(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict)
+        {
+            ELPRule currentRule = (ELPRule) mergedUpdateSequence.getRule(conflict.getConflictingRules().get(0).getID());
+            ELPRule modifiedRule = currentRule.createNewInstance();
+            List<ELPLiteral> negBody = new ArrayList<>(modifiedRule.getNegBody());
+            negBody.add(new ELPLiteral(false, new ASPAtom("d" + negBody.size())));
+            modifiedRule.setNegBody(negBody);
+
+            List<ASPRule<?>> modifiedRules = new ArrayList<>();
+            modifiedRules.add(modifiedRule);
+            List<Solution> solutions = new ArrayList<>();
+            solutions.add(new Solution(conflict, null, modifiedRules, null));
+            return solutions;
+        }
+
+        @Override
+        public boolean isComplex()
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Solves a conflict by deleting the old conflicting rule.
+     */
+    private static class DeletionStrategy implements IStrategyController
+    {
+        @Override
+        public List<Solution> computeSolutions(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict)
+        {
+            List<ASPRule<?>> deletedRules = new ArrayList<>();
+            deletedRules.add(mergedUpdateSequence.getRule(conflict.getConflictingRules().get(0).getID()));
+            List<Solution> solutions = new ArrayList<>();
+            solutions.add(new Solution(conflict, null, null, deletedRules));
+            return solutions;
+        }
+
+        @Override
+        public boolean isComplex()
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Solves a conflict by adding a fact which identifies the strategy. The solution is returned after a random delay.
+     */
+    private static class DelayedStrategy implements IStrategyController
+    {
+        private final int index;
+
+        private DelayedStrategy(int index)
+        {
+            this.index = index;
+        }
+
+        @Override
+        public List<Solution> computeSolutions(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict)
+        {
+            try
+            {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            List<ASPRule<?>> addedRules = new ArrayList<>();
+            addedRules.add(new ELPRule(new ELPLiteral(false, new ASPAtom("s" + index)), null, null));
+            List<Solution> solutions = new ArrayList<>();
+            solutions.add(new Solution(conflict, addedRules, null, null));
+            return solutions;
+        }
+
+        @Override
+        public boolean isComplex()
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Computes a single answer set, which contains the heads of all rules without a positive body.
+     * As no default-negated literal is derived, such rules are applicable as long as they aren't deleted.
+     */
+    private static class FactSolver implements ISolverController
+    {
+        @Override
+        public List<String> computeModels(ASPProgram<?, ?> program)
+        {
+            List<String> literals = new ArrayList<>();
+            for (ASPRule<?> rule : program.getRuleSet())
+            {
+                ELPRule elpRule = (ELPRule) rule;
+                if(elpRule.getBody().isEmpty())
+                    literals.add(elpRule.getHead().get(0).toString());
+            }
+
+            return new ArrayList<>(Arrays.asList(String.join(", ", literals)));
+        }
+    }
+
+    private static class StubFactory implements IFactoryController
+    {
+        private final ISolverController solver;
+        private final List<IStrategyController> strategies;
+        private final List<IMeasureController> measures;
+
+        private StubFactory()
+        {
+            // A single empty answer set
+            this(x -> new ArrayList<>(Arrays.asList("")), new ArrayList<>(Arrays.asList(new ModificationStrategy())), new ArrayList<>());
+        }
+
+        private StubFactory(ISolverController solver, List<IStrategyController> strategies, List<IMeasureController> measures)
+        {
+            this.solver = solver;
+            this.strategies = strategies;
+            this.measures = measures;
+        }
+
+        @Override
+        public IIOController createIOController()
+        {
+            return new SerialController();
+        }
+
+        @Override
+        public IParserController createParser()
+        {
+            return new ELPParser();
+        }
+
+        @Override
+        public ISolverController createSolver()
+        {
+            return solver;
+        }
+
+        @Override
+        public IConflictDetectionController createConflictDetector()
+        {
+            return new StubConflictDetector();
+        }
+
+        @Override
+        public List<IStrategyController> getApplicableStrategies()
+        {
+            return new ArrayList<>(strategies);
+        }
+
+        @Override
+        public List<IMeasureController> createMeasures()
+        {
+            return new ArrayList<>(measures);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.ASPUAFrameworkAPI;
+import de.aspua.framework.Controller.ASPUAFrameworkEngine;
+import de.aspua.framework.Controller.CausalRejectionController.CRSerialFactory;
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Model.ASP.ELP.ELPProgram;
+
+public class ASPUAFrameworkEngineTest
+{
+    @Test
+    public void ASPUAFrameworkEngine_createSession_IndependentUpdateSequences()
+    {
+        ASPUAFrameworkEngine engine = new ASPUAFrameworkEngine(new CRSerialFactory());
+        ASPUAFrameworkAPI firstSession = engine.createSession();
+        ASPUAFrameworkAPI secondSession = engine.createSession();
+
+        // Both sessions use the controllers and executors of the engine
+        assertNotSame(firstSession, secondSession);
+        assertSame(engine.getParser(), firstSession.getParser());
+        assertSame(engine.getParser(), secondSession.getParser());
+        assertSame(engine.getMeasureExecutor(), secondSession.getMeasureExecutor());
+        assertEquals(engine.getStrategies().size(), secondSession.getStrategies().size());
+
+        ELPParser parser = new ELPParser();
+        ELPProgram firstProgram = parser.parseProgram("a :- not b. b.", "P1");
+        ELPProgram secondProgram = parser.parseProgram("-a.", "P2");
+
+        assertTrue(firstSession.addToUpdateSequence(firstProgram, true));
+        assertTrue(firstSession.addToUpdateSequence(secondProgram, true));
+        assertTrue(secondSession.addToUpdateSequence(secondProgram.createNewInstance(), true));
+
+        // The update sequences of the sessions don't affect each other
+        assertEquals(2, firstSession.getUpdateSequence().size());
+        assertEquals(1, secondSession.getUpdateSequence().size());
+        assertEquals(3, firstSession.getMergedUpdateSequence().getRuleSet().size());
+
+        firstSession.clearData();
+        assertTrue(firstSession.getUpdateSequence().isEmpty());
+        assertEquals(1, secondSession.getUpdateSequence().size());
+        engine.shutdown();
+    }
+
+    @Test
+    public void ASPUAFrameworkEngine_shutdown_OnlyOwnedEngineIsShutDownByClose()
+    {
+        // Closing a session keeps the shared engine running for the other sessions
+        ASPUAFrameworkEngine engine = new ASPUAFrameworkEngine(new CRSerialFactory());
+        ASPUAFrameworkAPI session = engine.createSession();
+        session.close();
+        assertFalse(engine.isShutdown());
+        assertFalse(engine.getMeasureExecutor().isShutdown());
+
+        engine.shutdown();
+        assertTrue(engine.isShutdown());
+        assertTrue(engine.getMeasureExecutor().isTerminated());
+        assertTrue(engine.getStrategyExecutor().isTerminated());
+        assertTrue(engine.getComplexStrategyExecutor().isTerminated());
+        assertTrue(engine.getComplexStrategyTimer().isTerminated());
+        assertTrue(engine.getPreviewExecutor().isTerminated());
+
+        // The engine of the convenience constructor belongs to its API-object
+        ASPUAFrameworkAPI frameworkAPI = new ASPUAFrameworkAPI(new CRSerialFactory());
+        ASPUAFrameworkEngine ownedEngine = frameworkAPI.getEngine();
+        assertFalse(ownedEngine.isShutdown());
+        frameworkAPI.close();
+        assertTrue(ownedEngine.isShutdown());
+    }
+
+    @Test
+    public void ASPUAFrameworkEngine_createSession_ConcurrentSessions() throws Exception
+    {
+        ASPUAFrameworkEngine engine = new ASPUAFrameworkEngine(new CRSerialFactory());
+        int sessionCount = 4;
+        int programCount = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(sessionCount * 2);
+        List<ASPUAFrameworkAPI> sessions = new ArrayList<>();
+        List<Future<?>> tasks = new ArrayList<>();
+
+        for (int i = 0; i < sessionCount; i++)
+        {
+            ASPUAFrameworkAPI session = engine.createSession();
+            sessions.add(session);
+            AtomicBoolean finished = new AtomicBoolean(false);
+
+            // Each session is extended by its own thread, while another thread reads the session
+            tasks.add(executor.submit(() ->
+            {
+                ELPParser parser = new ELPParser();
+                for (int j = 0; j < programCount; j++)
+                    assertTrue(session.addToUpdateSequence(parser.parseProgram(String.format("a%s. -b%s.", j, j), "P" + j), true));
+                finished.set(true);
+            }));
+            tasks.add(executor.submit(() ->
+            {
+                while(!finished.get())
+                {
+                    for (ASPProgram<?, ?> program : session.getUpdateSequence())
+                        assertTrue(program.getRuleSet().size() > 0);
+                    assertEquals(engine.getStrategies().size(), session.getStrategies().size());
+                }
+            }));
+        }
+
+        // Failed assertions and concurrent modifications are rethrown by the futures
+        for (Future<?> task : tasks)
+            task.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        for (ASPUAFrameworkAPI session : sessions)
+        {
+            assertEquals(programCount, session.getUpdateSequence().size());
+
+            // The labels of each session are unique, regardless of the other sessions
+            Set<Integer> labels = new HashSet<>();
+            for (ASPProgram<?, ?> program : session.getUpdateSequence())
+            {
+                for (ASPRule<?> rule : program.getRuleSet())
+                    assertTrue(labels.add(rule.getLabelID()));
+            }
+            assertEquals(2 * programCount, labels.size());
+            session.close();
+        }
+        engine.shutdown();
+    }
+}
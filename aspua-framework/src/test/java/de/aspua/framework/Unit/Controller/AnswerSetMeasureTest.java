@@ -0,0 +1,86 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Controller.Measures.AnswerSetMeasure;
+import de.aspua.framework.Model.MeasureContext;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.SolutionPreview;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.AnswerSet;
+
+public class AnswerSetMeasureTest
+{
+    private ELPParser parser = new ELPParser();
+    /** Literal universe: a, b, c, -b, -d */
+    private ASPProgram<?, ?> program = parser.parseProgram("a. b :- not c. c :- not b. -b :- -d.", "P");
+
+    @Test
+    public void AnswerSetMeasure_computeMeasure_EmptyAnswerSets()
+    {
+        // Without any answer sets on one side, the distance equals the size of all answer sets of the other side
+        assertEquals(2, this.computeMeasure(null, Arrays.asList("a, b")));
+        assertEquals(2, this.computeMeasure(Arrays.asList("a, b"), new ArrayList<>()));
+        assertEquals(0, this.computeMeasure(null, new ArrayList<>()));
+
+        // An empty answer set differs from a non-empty answer set in all of its literals
+        assertEquals(3, this.computeMeasure(Arrays.asList(""), Arrays.asList("a, b, c")));
+        assertEquals(0, this.computeMeasure(Arrays.asList(""), Arrays.asList("")));
+    }
+
+    @Test
+    public void AnswerSetMeasure_computeMeasure_MultipleAnswerSets()
+    {
+        // {a,b} -> {a,b,-d}: 1, {a,c} -> {a,c}: 0. The other assignment would cost 2 + 3.
+        assertEquals(1, this.computeMeasure(Arrays.asList("a, b", "a, c"), Arrays.asList("a, c", "a, b, -d")));
+
+        // {a,c} -> {a,c}: 0, the unassigned answer set {a,b} is compared to an empty answer set: 2
+        assertEquals(2, this.computeMeasure(Arrays.asList("a, b", "a, c"), Arrays.asList("a, c")));
+
+        // {a} -> {a,b}: 1, the unassigned answer set {a,c,-d} is compared to an empty answer set: 3
+        assertEquals(4, this.computeMeasure(Arrays.asList("a"), Arrays.asList("a, c, -d", "a, b")));
+    }
+
+    @Test
+    public void AnswerSetMeasure_computeMeasure_RejectedAndChangedLiterals()
+    {
+        // The complementary literal -b replaces b, the meta-literals of rejected rules aren't counted
+        assertEquals(2, this.computeMeasure(Arrays.asList("a, b"), Arrays.asList("a, -b, rejected(r1)")));
+        assertEquals(0, this.computeMeasure(Arrays.asList("a, b, rejected(r1)"), Arrays.asList("a, b, rejected(r2)")));
+
+        // {a,b,-d} -> {a,c,-b}: b, -d, c and -b are changed
+        assertEquals(4, this.computeMeasure(Arrays.asList("a, b, -d"), Arrays.asList("a, c, -b, rejected(r1)")));
+    }
+
+    @Test
+    public void AnswerSetMeasure_computeMeasure_PreviewFailed()
+    {
+        MeasureContext context = new MeasureContext(Arrays.asList(program), parser.parseAnswerSets(Arrays.asList("a, b")), x -> null);
+        assertEquals(-1, new AnswerSetMeasure().computeMeasure(new Solution(null, null, null, null), context));
+
+        context = new MeasureContext(Arrays.asList(program), parser.parseAnswerSets(Arrays.asList("a, b")));
+        assertEquals(-1, new AnswerSetMeasure().computeMeasure(new Solution(null, null, null, null), context));
+    }
+
+    /**
+     * Computes the measure of a solution which changes the given current answer sets into the given new answer sets.
+     * The new answer sets are provided by the preview function of the context instead of the solver.
+     */
+    private int computeMeasure(List<String> currentModels, List<String> newModels)
+    {
+        List<AnswerSet<?, ?>> currentAnswerSets = currentModels == null ? null : parser.parseAnswerSets(currentModels);
+        List<AnswerSet<?, ?>> newAnswerSets = parser.parseAnswerSets(newModels);
+        List<ASPProgram<?, ?>> updateSequence = Arrays.asList(program);
+
+        MeasureContext context = new MeasureContext(updateSequence, currentAnswerSets,
+            x -> new SolutionPreview(x, updateSequence, null, newAnswerSets));
+        return new AnswerSetMeasure().computeMeasure(new Solution(null, null, null, null), context);
+    }
+}
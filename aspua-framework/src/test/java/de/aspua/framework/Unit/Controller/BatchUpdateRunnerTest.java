@@ -0,0 +1,280 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.FutureTask;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.ASPUAFrameworkEngine;
+import de.aspua.framework.Controller.Batch.BatchUpdateRunner;
+import de.aspua.framework.Controller.Batch.MeasureResolutionPolicy;
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Controller.ControllerInterfaces.IConflictDetectionController;
+import de.aspua.framework.Controller.ControllerInterfaces.IFactoryController;
+import de.aspua.framework.Controller.ControllerInterfaces.IIOController;
+import de.aspua.framework.Controller.ControllerInterfaces.IMeasureController;
+import de.aspua.framework.Controller.ControllerInterfaces.IParserController;
+import de.aspua.framework.Controller.ControllerInterfaces.IResolutionPolicy;
+import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
+import de.aspua.framework.Controller.ControllerInterfaces.IStrategyController;
+import de.aspua.framework.Model.BatchJob;
+import de.aspua.framework.Model.BatchJobReport;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPAtom;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Model.ASP.BaseEntities.AnswerSet;
+import de.aspua.framework.Model.ASP.ELP.ELPLiteral;
+import de.aspua.framework.Model.ASP.ELP.ELPRule;
+import de.aspua.framework.Utils.BatchJobStatusEnum;
+import de.aspua.framework.Utils.SolutionMetaDataEnum;
+
+public class BatchUpdateRunnerTest
+{
+    @Test
+    public void BatchUpdateRunner_readManifest_ValidAndInvalidLines() throws IOException
+    {
+        Path manifest = Files.createTempFile("aspua-manifest", ".txt");
+        try
+        {
+            Files.write(manifest, Arrays.asList("# nightly updates", "", "KB1_Initial;KB1_Update", " KB2 ; KB2 new ; KB2 merged "), StandardCharsets.UTF_8);
+            List<BatchJob> jobs = BatchUpdateRunner.readManifest(manifest);
+
+            assertEquals(2, jobs.size());
+            assertEquals("KB1_Initial", jobs.get(0).getInitialProgramName());
+            assertEquals("KB1_Update", jobs.get(0).getUpdateProgramName());
+            assertEquals("KB1_Initial" + BatchJob.RESULT_SUFFIX, jobs.get(0).getResultProgramName());
+            assertEquals("KB2 new", jobs.get(1).getUpdateProgramName());
+            assertEquals("KB2 merged", jobs.get(1).getResultProgramName());
+
+            Files.write(manifest, Collections.singletonList("OnlyOneProgram"), StandardCharsets.UTF_8);
+            assertNull(BatchUpdateRunner.readManifest(manifest));
+        } finally {
+            Files.delete(manifest);
+        }
+
+        BatchJobReport report = new BatchJobReport(new BatchJob("P1", "P2"));
+        report.setMessage("Failed; see log");
+        assertEquals(BatchJobReport.REPORT_HEADER.split(";").length, report.toReportLine().split(";", -1).length);
+    }
+
+    @Test
+    public void MeasureResolutionPolicy_chooseSolution_LexicographicOrder()
+    {
+        int[] ruleChanges = {3, 1, 1, 2, 1};
+        int[] answerSetChanges = {0, 4, 2, 0, 2};
+        Conflict conflict = this.createConflict(ruleChanges.length);
+        List<FutureTask<Integer>> answerSetTasks = new ArrayList<>();
+        for (int i = 0; i < ruleChanges.length; i++)
+        {
+            Solution solution = conflict.getSolutions().get(i);
+            int answerSetChange = answerSetChanges[i];
+            FutureTask<Integer> answerSetTask = new FutureTask<>(() -> answerSetChange);
+            answerSetTasks.add(answerSetTask);
+
+            solution.addMetaData(SolutionMetaDataEnum.MEASURE_RULECHANGES, ruleChanges[i]);
+            solution.addMetaData(SolutionMetaDataEnum.MEASURE_ANSWERSETCHANGES, answerSetTask);
+        }
+
+        // Solutions 1, 2 and 4 have the fewest rule changes, solution 2 is the first of them with the fewest answer set changes
+        Solution chosenSolution = new MeasureResolutionPolicy().chooseSolution(Collections.singletonList(conflict));
+        assertSame(conflict.getSolutions().get(2), chosenSolution);
+
+        // The answer set changes are only computed for the solutions with the fewest rule changes
+        assertFalse(answerSetTasks.get(0).isDone());
+        assertTrue(answerSetTasks.get(1).isDone());
+        assertFalse(answerSetTasks.get(3).isDone());
+
+        assertNull(new MeasureResolutionPolicy().chooseSolution(new ArrayList<>()));
+    }
+
+    @Test
+    public void BatchUpdateRunner_runJob_InconsistentSolutionFailsJob()
+    {
+        StubFactory factory = new StubFactory();
+        factory.programs.put("KB_Initial", "a.");
+        factory.programs.put("KB_Update", "-a.");
+        ASPUAFrameworkEngine engine = new ASPUAFrameworkEngine(factory);
+
+        // Adding the fact 'c' solves the conflict, but the update sequence has no answer sets afterwards
+        IResolutionPolicy addingPolicy = conflicts -> conflicts.get(0).getSolutions().stream()
+            .filter(x -> !x.getAddedRules().isEmpty()).findFirst().orElse(null);
+        BatchJobReport report = new BatchUpdateRunner(engine, addingPolicy, 1).runJob(new BatchJob("KB_Initial", "KB_Update"));
+        assertEquals(BatchJobStatusEnum.FAILED, report.getStatus());
+        assertTrue(report.getMessage().contains("no answer sets"));
+        assertTrue(report.getAppliedSolutions().isEmpty());
+        assertFalse(factory.programs.containsKey("KB_Initial" + BatchJob.RESULT_SUFFIX));
+
+        IResolutionPolicy deletingPolicy = conflicts -> conflicts.get(0).getSolutions().stream()
+            .filter(x -> !x.getDeletedRules().isEmpty()).findFirst().orElse(null);
+        report = new BatchUpdateRunner(engine, deletingPolicy, 1).runJob(new BatchJob("KB_Initial", "KB_Update"));
+        assertEquals(BatchJobStatusEnum.SUCCESS, report.getStatus());
+        assertEquals(1, report.getAppliedSolutions().size());
+        assertTrue(factory.programs.containsKey("KB_Initial" + BatchJob.RESULT_SUFFIX));
+        engine.shutdown();
+    }
+
+    private Conflict createConflict(int solutionCount)
+    {
+        List<ELPLiteral> body = new ArrayList<>();
+        body.add(new ELPLiteral(false, new ASPAtom("b")));
+        List<ASPRule<?>> conflictingRules = new ArrayList<>();
+        conflictingRules.add(new ELPRule(new ELPLiteral(false, new ASPAtom("a")), body, null));
+        conflictingRules.add(new ELPRule(new ELPLiteral(true, new ASPAtom("a")), new ArrayList<>(), null));
+        Conflict conflict = new Conflict(conflictingRules, new ArrayList<>());
+
+        for (int i = 0; i < solutionCount; i++)
+        {
+            List<ASPRule<?>> addedRules = new ArrayList<>();
+            addedRules.add(new ELPRule(new ELPLiteral(false, new ASPAtom("c" + i)), new ArrayList<>(), null));
+            conflict.getSolutions().add(new Solution(conflict, addedRules, null, null));
+        }
+
+        return conflict;
+    }
+
+    /**
+     * Provides programs from memory and a solver which doesn't find any answer sets for programs containing the fact 'c'.
+     */
+    private static class StubFactory implements IFactoryController
+    {
+        private final Map<String, String> programs = new ConcurrentHashMap<>();
+
+        @Override
+        public IIOController createIOController()
+        {
+            return new IIOController()
+            {
+                @Override
+                public boolean persist(ASPProgram<?, ?> program, String newProgramName)
+                {
+                    programs.put(newProgramName, program.toString());
+                    return true;
+                }
+
+                @Override
+                public boolean deleteProgram(ASPProgram<?, ?> program)
+                {
+                    return programs.remove(program.getProgramName()) != null;
+                }
+
+                @Override
+                public String loadProgram(String programName)
+                {
+                    return programs.get(programName);
+                }
+
+                @Override
+                public List<ASPProgram<?, ?>> loadAvailableParsedPrograms()
+                {
+                    return new ArrayList<>();
+                }
+
+                @Override
+                public Map<String, String> loadAvailableProgramStrings()
+                {
+                    return new HashMap<>(programs);
+                }
+            };
+        }
+
+        @Override
+        public IParserController createParser()
+        {
+            return new ELPParser();
+        }
+
+        @Override
+        public ISolverController createSolver()
+        {
+            return p -> {
+                if(p.getRuleSet().stream().anyMatch(x -> x.toString().equals("c.")))
+                    return null;
+                return new ArrayList<>(Arrays.asList(""));
+            };
+        }
+
+        @Override
+        public IConflictDetectionController createConflictDetector()
+        {
+            return new IConflictDetectionController()
+            {
+                @Override
+                public ASPProgram<?, ?> computeConflictDetectionProgram(List<ASPProgram<?, ?>> updateSequence)
+                {
+                    return updateSequence.get(updateSequence.size() - 1);
+                }
+
+                // Rules with complementary heads are conflicting
+                @Override
+                public List<Conflict> detectConflicts(List<ASPProgram<?, ?>> updateSequence, List<AnswerSet<?, ?>> answerSets)
+                {
+                    List<Conflict> conflicts = new ArrayList<>();
+                    for (ASPRule<?> oldRule : updateSequence.get(0).getRuleSet())
+                    {
+                        for (ASPRule<?> newRule : updateSequence.get(1).getRuleSet())
+                        {
+                            ELPLiteral oldHead = ((ELPRule) oldRule).getHead().get(0);
+                            ELPLiteral newHead = ((ELPRule) newRule).getHead().get(0);
+                            if(oldHead.getAtom().equals(newHead.getAtom()) && oldHead.isNegated() != newHead.isNegated())
+                                conflicts.add(new Conflict(new ArrayList<>(Arrays.asList(oldRule, newRule)), new ArrayList<>()));
+                        }
+                    }
+                    return conflicts;
+                }
+            };
+        }
+
+        // Either adds the fact 'c' or deletes the old conflicting rule
+        @Override
+        public List<IStrategyController> getApplicableStrategies()
+        {
+            IStrategyController strategy = new IStrategyController()
+            {
+                @Override
+                public List<Solution> computeSolutions(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict)
+                {
+                    List<ASPRule<?>> addedRules = new ArrayList<>();
+                    addedRules.add(new ELPRule(new ELPLiteral(false, new ASPAtom("c")), new ArrayList<>(), null));
+                    List<ASPRule<?>> deletedRules = new ArrayList<>();
+                    deletedRules.add(conflict.getConflictingRules().get(0));
+
+                    List<Solution> solutions = new ArrayList<>();
+                    solutions.add(new Solution(conflict, addedRules, null, null));
+                    solutions.add(new Solution(conflict, null, null, deletedRules));
+                    return solutions;
+                }
+
+                @Override
+                public boolean isComplex()
+                {
+                    return false;
+                }
+            };
+            return new ArrayList<>(Arrays.asList(strategy));
+        }
+
+        @Override
+        public List<IMeasureController> createMeasures()
+        {
+            return new ArrayList<>();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.ASPUAFrameworkEngine;
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Controller.CausalRejectionController.SerialController;
+import de.aspua.framework.Controller.ControllerInterfaces.IConflictDetectionController;
+import de.aspua.framework.Controller.ControllerInterfaces.IFactoryController;
+import de.aspua.framework.Controller.ControllerInterfaces.IIOController;
+import de.aspua.framework.Controller.ControllerInterfaces.IMeasureController;
+import de.aspua.framework.Controller.ControllerInterfaces.IParserController;
+import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
+import de.aspua.framework.Controller.ControllerInterfaces.IStrategyController;
+import de.aspua.framework.Controller.Measures.RuleMeasure;
+import de.aspua.framework.Controller.Search.BeamSearchResolver;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.ResolutionResult;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Model.ASP.BaseEntities.AnswerSet;
+import de.aspua.framework.Model.ASP.ELP.ELPLiteral;
+import de.aspua.framework.Model.ASP.ELP.ELPRule;
+
+public class BeamSearchResolverTest
+{
+    @Test
+    public void BeamSearchResolver_resolve_CheapestResolutionsFirst()
+    {
+        ELPParser parser = new ELPParser();
+        List<ASPProgram<?, ?>> updateSequence = new ArrayList<>();
+        updateSequence.add(parser.parseProgram("a :- b, c. x.", "P1"));
+        updateSequence.add(parser.parseProgram("-a. -x :- y.", "P2"));
+
+        ASPUAFrameworkEngine engine = new ASPUAFrameworkEngine(new StubFactory());
+        BeamSearchResolver resolver = new BeamSearchResolver(engine);
+        resolver.setResultLimit(4);
+        List<ResolutionResult> results = resolver.resolve(updateSequence);
+
+        // Deleting '-a.' and 'x.' changes the fewest literals. Both orders of the deletions lead to the same state.
+        assertEquals(4, results.size());
+        assertEquals(2, results.get(0).getCost(), 0);
+        assertEquals(2, results.get(0).getAppliedSolutions().size());
+        for (int i = 1; i < results.size(); i++)
+        {
+            assertTrue(results.get(i - 1).getCost() <= results.get(i).getCost());
+            assertNotEquals(results.get(i - 1).getMergedProgram().toString(), results.get(i).getMergedProgram().toString());
+        }
+
+        for (ResolutionResult result : results)
+            assertTrue(new StubConflictDetector().detectConflicts(result.getResolvedSequence(), null).isEmpty());
+
+        // The given update sequence isn't changed by the search
+        assertEquals(2, updateSequence.get(0).getRuleSet().size());
+        assertEquals(2, updateSequence.get(1).getRuleSet().size());
+
+        resolver.setResultLimit(1);
+        assertEquals(1, resolver.resolve(updateSequence).size());
+        engine.shutdown();
+    }
+
+    @Test
+    public void BeamSearchResolver_resolve_InconsistentStatesAreDiscarded()
+    {
+        ELPParser parser = new ELPParser();
+        List<ASPProgram<?, ?>> updateSequence = new ArrayList<>();
+        updateSequence.add(parser.parseProgram("a.", "P1"));
+        updateSequence.add(parser.parseProgram("-a. -a :- b.", "P2"));
+
+        // The update sequence has no answer sets without the fact 'a.'
+        ASPUAFrameworkEngine engine = new ASPUAFrameworkEngine(new StubFactory(x -> x.getRuleSet().isEmpty() ? null : new ArrayList<>(Arrays.asList(""))));
+        BeamSearchResolver resolver = new BeamSearchResolver(engine);
+
+        // Deleting 'a.' is the only conflict-free state after a single step, but has no answer sets
+        resolver.setMaxDepth(1);
+        assertTrue(resolver.resolve(updateSequence).isEmpty());
+
+        resolver.setMaxDepth(2);
+        List<ResolutionResult> results = resolver.resolve(updateSequence);
+        assertEquals(1, results.size());
+        assertEquals(2, results.get(0).getAppliedSolutions().size());
+        assertEquals(1, results.get(0).getResolvedSequence().get(0).getRuleSet().size());
+        assertTrue(results.get(0).getResolvedSequence().get(1).getRuleSet().isEmpty());
+        engine.shutdown();
+    }
+
+    /**
+     * Rules with complementary heads are conflicting, regardless of their bodies.
+     */
+    private static class StubConflictDetector implements IConflictDetectionController
+    {
+        @Override
+        public ASPProgram<?, ?> computeConflictDetectionProgram(List<ASPProgram<?, ?>> updateSequence)
+        {
+            return updateSequence.get(0);
+        }
+
+        @Override
+        public List<Conflict> detectConflicts(List<ASPProgram<?, ?>> updateSequence, List<AnswerSet<?, ?>> answerSets)
+        {
+            List<Conflict> conflicts = new ArrayList<>();
+            for (int i = 0; i < updateSequence.size(); i++)
+            {
+                for (int j = i + 1; j < updateSequence.size(); j++)
+                {
+                    for (ASPRule<?> oldRule : updateSequence.get(i).getRuleSet())
+                    {
+                        for (ASPRule<?> newRule : updateSequence.get(j).getRuleSet())
+                        {
+                            ELPLiteral oldHead = ((ELPRule) oldRule).getHead().get(0);
+                            ELPLiteral newHead = ((ELPRule) newRule).getHead().get(0);
+                            if(oldHead.getAtom().equals(newHead.getAtom()) && oldHead.isNegated() != newHead.isNegated())
+                                conflicts.add(new Conflict(new ArrayList<>(Arrays.asList(oldRule, newRule)), new ArrayList<>()));
+                        }
+                    }
+                }
+            }
+            return conflicts;
+        }
+    }
+
+    /**
+     * Solves a conflict by deleting one of the conflicting rules.
+     */
+    private static class DeletionStrategy implements IStrategyController
+    {
+        @Override
+        public List<Solution> computeSolutions(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict)
+        {
+            List<Solution> solutions = new ArrayList<>();
+            for (ASPRule<?> conflictingRule : conflict.getConflictingRules())
+            {
+                List<ASPRule<?>> deletedRules = new ArrayList<>();
+                deletedRules.add(conflictingRule);
+                solutions.add(new Solution(conflict, null, null, deletedRules));
+            }
+            return solutions;
+        }
+
+        @Override
+        public boolean isComplex()
+        {
+            return false;
+        }
+    }
+
+    private static class StubFactory implements IFactoryController
+    {
+        private final ISolverController solver;
+
+        private StubFactory()
+        {
+            // A single empty answer set
+            this(x -> new ArrayList<>(Arrays.asList("")));
+        }
+
+        private StubFactory(ISolverController solver)
+        {
+            this.solver = solver;
+        }
+
+        @Override
+        public IIOController createIOController()
+        {
+            return new SerialController();
+        }
+
+        @Override
+        public IParserController createParser()
+        {
+            return new ELPParser();
+        }
+
+        @Override
+        public ISolverController createSolver()
+        {
+            return solver;
+        }
+
+        @Override
+        public IConflictDetectionController createConflictDetector()
+        {
+            return new StubConflictDetector();
+        }
+
+        @Override
+        public List<IStrategyController> getApplicableStrategies()
+        {
+            List<IStrategyController> strategies = new ArrayList<>();
+            strategies.add(new DeletionStrategy());
+            return strategies;
+        }
+
+        @Override
+        public List<IMeasureController> createMeasures()
+        {
+            List<IMeasureController> measures = new ArrayList<>();
+            measures.add(new RuleMeasure());
+            return measures;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.ControllerInterfaces.ISolutionListener;
+import de.aspua.framework.Controller.ControllerInterfaces.IStrategyController;
+import de.aspua.framework.Controller.Strategies.ComplexStrategyScheduler;
+import de.aspua.framework.Controller.Strategies.DirectModificationStrategy;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPAtom;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Model.ASP.ELP.ELPLiteral;
+import de.aspua.framework.Model.ASP.ELP.ELPRule;
+
+public class ComplexStrategySchedulerTest
+{
+    @Test
+    public void ComplexStrategyScheduler_schedule_StreamsSolutionsWithinTimeBudget() throws InterruptedException
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ComplexStrategyScheduler scheduler = new ComplexStrategyScheduler(executor, 200);
+
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicInteger addedSolutions = new AtomicInteger();
+        AtomicBoolean completed = new AtomicBoolean(true);
+        scheduler.addListener(new ISolutionListener()
+        {
+            @Override
+            public void solutionsAdded(Conflict conflict, List<Solution> solutions)
+            {
+                addedSolutions.addAndGet(solutions.size());
+            }
+
+            @Override
+            public void strategiesFinished(Conflict conflict, boolean strategiesCompleted)
+            {
+                completed.set(strategiesCompleted);
+                finished.countDown();
+            }
+        });
+
+        Conflict conflict = this.createConflict();
+        AtomicInteger preparedSolutions = new AtomicInteger();
+        scheduler.schedule(this.createStrategies(), null, this.createConflicts(conflict), x -> preparedSolutions.addAndGet(x.size()));
+
+        // The blocking strategy is interrupted by the time budget, but the solutions of the first strategy are already added
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertFalse(completed.get());
+        int expectedSolutions = new StreamingStrategy().computeSolutions(null, this.createConflict()).size();
+        assertTrue(expectedSolutions > 0);
+        assertEquals(expectedSolutions, conflict.getSolutions().size());
+        assertEquals(expectedSolutions, addedSolutions.get());
+        assertEquals(expectedSolutions, preparedSolutions.get());
+        assertFalse(scheduler.isRunning());
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void ComplexStrategyScheduler_cancelAll_DiscardsOutdatedSolutions() throws InterruptedException
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ComplexStrategyScheduler scheduler = new ComplexStrategyScheduler(executor, 0);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        List<IStrategyController> strategies = new ArrayList<>();
+        strategies.add(new StreamingStrategy()
+        {
+            @Override
+            public void streamSolutions(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict, Consumer<Solution> solutionConsumer)
+            {
+                started.countDown();
+                // Ignores interrupts to deliver its solutions after the cancellation
+                boolean waiting = true;
+                while(waiting)
+                {
+                    try
+                    {
+                        released.await();
+                        waiting = false;
+                    } catch (InterruptedException e) {
+                        continue;
+                    }
+                }
+                super.streamSolutions(mergedUpdateSequence, conflict, solutionConsumer);
+            }
+        });
+
+        Conflict conflict = this.createConflict();
+        scheduler.schedule(strategies, null, this.createConflicts(conflict), null);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        scheduler.cancelAll();
+        released.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertTrue(conflict.getSolutions().isEmpty());
+    }
+
+    @Test
+    public void ComplexStrategyScheduler_cancelAll_NotBlockedByPreparation() throws InterruptedException
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ComplexStrategyScheduler scheduler = new ComplexStrategyScheduler(executor, 0);
+
+        CountDownLatch preparing = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        List<IStrategyController> strategies = new ArrayList<>();
+        strategies.add(new StreamingStrategy());
+
+        // The preparation waits until the round was cancelled
+        Conflict conflict = this.createConflict();
+        scheduler.schedule(strategies, null, this.createConflicts(conflict), x ->
+        {
+            preparing.countDown();
+            boolean waiting = true;
+            while(waiting)
+            {
+                try
+                {
+                    released.await();
+                    waiting = false;
+                } catch (InterruptedException e) {
+                    continue;
+                }
+            }
+        });
+        assertTrue(preparing.await(5, TimeUnit.SECONDS));
+
+        // Would wait for the preparation if it held the lock of the scheduler
+        Thread canceller = new Thread(scheduler::cancelAll);
+        canceller.start();
+        canceller.join(5000);
+        assertFalse(canceller.isAlive());
+
+        released.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(conflict.getSolutions().isEmpty());
+    }
+
+    @Test
+    public void ComplexStrategyScheduler_schedule_ConflictCopiedDuringDelivery() throws Exception
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ComplexStrategyScheduler scheduler = new ComplexStrategyScheduler(executor, 0);
+        int solutionCount = 2000;
+
+        List<IStrategyController> strategies = new ArrayList<>();
+        strategies.add(new StreamingStrategy()
+        {
+            @Override
+            public void streamSolutions(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict, Consumer<Solution> solutionConsumer)
+            {
+                for (int i = 0; i < solutionCount; i++)
+                {
+                    List<ASPRule<?>> addedRules = new ArrayList<>();
+                    addedRules.add(new ELPRule(new ELPLiteral(false, new ASPAtom("c" + i)), new ArrayList<>(), null));
+                    solutionConsumer.accept(new Solution(conflict, addedRules, null, null));
+                }
+            }
+        });
+
+        Conflict conflict = this.createConflict();
+        scheduler.schedule(strategies, null, this.createConflicts(conflict), null);
+
+        // Copies, e.g. of the user interface, iterate the solutions while they are delivered
+        int previousSize = 0;
+        while(scheduler.isRunning() || previousSize < solutionCount)
+        {
+            int size = conflict.createNewInstance().getSolutions().size();
+            assertTrue(size >= previousSize);
+            previousSize = size;
+        }
+
+        assertEquals(solutionCount, conflict.getSolutions().size());
+        executor.shutdownNow();
+    }
+
+    private List<IStrategyController> createStrategies()
+    {
+        List<IStrategyController> strategies = new ArrayList<>();
+        strategies.add(new StreamingStrategy());
+        strategies.add(new StreamingStrategy()
+        {
+            @Override
+            public void streamSolutions(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict, Consumer<Solution> solutionConsumer)
+            {
+                try
+                {
+                    Thread.sleep(60000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        return strategies;
+    }
+
+    private List<Conflict> createConflicts(Conflict conflict)
+    {
+        List<Conflict> conflicts = new ArrayList<>();
+        conflicts.add(conflict);
+        return conflicts;
+    }
+
+    private Conflict createConflict()
+    {
+        List<ELPLiteral> body = new ArrayList<>();
+        body.add(new ELPLiteral(false, new ASPAtom("b")));
+        ELPRule oldRule = new ELPRule(new ELPLiteral(false, new ASPAtom("a")), body, null);
+        oldRule.setID("r1");
+        oldRule.setLabelID(0);
+
+        ELPRule newRule = new ELPRule(new ELPLiteral(true, new ASPAtom("a")), new ArrayList<>(), null);
+        newRule.setID("r2");
+        newRule.setLabelID(1);
+
+        List<ASPRule<?>> conflictingRules = new ArrayList<>();
+        conflictingRules.add(oldRule);
+        conflictingRules.add(newRule);
+        return new Conflict(conflictingRules, new ArrayList<>());
+    }
+
+    /**
+     * Complex modification strategy, whose solutions are streamed by the scheduler.
+     */
+    private static class StreamingStrategy extends DirectModificationStrategy
+    {
+        @Override
+        public boolean isComplex()
+        {
+            return true;
+        }
+    }
+}
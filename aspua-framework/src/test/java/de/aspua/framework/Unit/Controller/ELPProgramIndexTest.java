@@ -0,0 +1,108 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPAtom;
+import de.aspua.framework.Model.ASP.ELP.ELPLiteral;
+import de.aspua.framework.Model.ASP.ELP.ELPProgram;
+import de.aspua.framework.Model.ASP.ELP.ELPRule;
+
+public class ELPProgramIndexTest
+{
+    @Test
+    public void ELPProgram_getRulesByLiteral_UpdatedByRuleOperations()
+    {
+        ELPProgram program = new ELPProgram();
+        ELPRule firstRule = this.createRule("a", "b", "c");
+        ELPRule secondRule = this.createRule("a", "c", "b");
+        program.addRule(firstRule);
+
+        // The indexes are built by the first lookup and updated afterwards
+        assertEquals(1, program.getRulesByHead(this.createLiteral("a")).size());
+        program.addRule(secondRule);
+
+        assertEquals(2, program.getRulesByHead(this.createLiteral("a")).size());
+        assertSame(firstRule, program.getRulesByBody(this.createLiteral("b")).get(0));
+        assertSame(secondRule, program.getRulesByNegBody(this.createLiteral("b")).get(0));
+
+        ELPRule modifiedRule = this.createRule("d", "b", "c");
+        modifiedRule.setID(firstRule.getID());
+        program.modifyRule(modifiedRule);
+
+        assertEquals(1, program.getRulesByHead(this.createLiteral("a")).size());
+        assertSame(modifiedRule, program.getRulesByHead(this.createLiteral("d")).get(0));
+
+        program.deleteRule(secondRule.getID());
+        assertTrue(program.getRulesByNegBody(this.createLiteral("b")).isEmpty());
+        assertTrue(program.getRulesByHead(this.createLiteral("a")).isEmpty());
+    }
+
+    @Test
+    public void ELPProgram_addRule_DuplicatesInAnyLiteralOrder()
+    {
+        ELPParser parser = new ELPParser();
+        ELPProgram program = parser.parseProgram("a :- b, c, not d, not e.", null);
+
+        // Equal rules have to be detected by the set of rules, regardless of the order of their literals
+        assertFalse(program.addRule(parser.parseProgram("a :- c, b, not e, not d.", null).getRuleSet().get(0)));
+        assertTrue(program.addRule(parser.parseProgram("a :- b, not d.", null).getRuleSet().get(0)));
+        assertEquals(2, program.getRuleSet().size());
+
+        // Deleted rules may be added again
+        ELPRule deletedRule = program.getRuleSet().get(0);
+        program.deleteRule(deletedRule.getID());
+        assertTrue(program.addRule(deletedRule.createNewInstance()));
+    }
+
+    @Test
+    public void ELPProgram_getUnusedLabelID_UpdatedByRuleOperations()
+    {
+        ELPProgram program = new ELPProgram();
+        ELPRule firstRule = this.createRule("a", "b", "c");
+        firstRule.setLabelID(0);
+        ELPRule secondRule = this.createRule("d", "b", "c");
+        secondRule.setLabelID(1);
+        program.addRule(firstRule);
+
+        // The used labels are built by the first request and updated afterwards
+        assertEquals(1, program.getUnusedLabelID());
+        program.addRule(secondRule);
+        assertEquals(2, program.getUnusedLabelID());
+
+        // The search for a free label starts at the number of used labels
+        program.deleteRule(secondRule.getID());
+        assertEquals(1, program.getUnusedLabelID());
+
+        // A label is only released if no other rule uses it anymore
+        ELPRule sharedLabelRule = this.createRule("e", "b", "c");
+        sharedLabelRule.setLabelID(0);
+        program.addRule(sharedLabelRule);
+        program.deleteRule(firstRule.getID());
+        assertEquals(1, program.getUnusedLabelID());
+        program.deleteRule(sharedLabelRule.getID());
+        assertEquals(0, program.getUnusedLabelID());
+    }
+
+    private ELPRule createRule(String head, String body, String negBody)
+    {
+        List<ELPLiteral> bodyLiterals = new ArrayList<>();
+        bodyLiterals.add(this.createLiteral(body));
+        List<ELPLiteral> negBodyLiterals = new ArrayList<>();
+        negBodyLiterals.add(this.createLiteral(negBody));
+        return new ELPRule(this.createLiteral(head), bodyLiterals, negBodyLiterals);
+    }
+
+    private ELPLiteral createLiteral(String predicate)
+    {
+        return new ELPLiteral(false, new ASPAtom(predicate));
+    }
+}
@@ -0,0 +1,156 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPAtom;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Model.ASP.ELP.ELPLiteral;
+import de.aspua.framework.Model.ASP.ELP.ELPRule;
+import de.aspua.framework.Model.ASP.ELP.ELPRuleVariantList;
+
+public class ELPRuleVariantListTest
+{
+    @Test
+    public void ELPRuleVariantList_iterator_OrderedBySizeDescending()
+    {
+        ELPRuleVariantList variants = this.createVariantList(5);
+
+        assertEquals(30, variants.size());
+        assertEquals(7, variants.getCompleteVariant().getBody().size() + variants.getCompleteVariant().getNegBody().size());
+
+        int previousSize = Integer.MAX_VALUE;
+        Set<String> distinctVariants = new HashSet<>();
+        int index = 0;
+        for (ASPRule<?> variant : variants)
+        {
+            int currentSize = variant.getAllLiterals().size();
+            assertTrue(currentSize <= previousSize);
+            previousSize = currentSize;
+
+            // Random access and iteration have to return the same variants
+            assertEquals(variant, variants.get(index));
+            assertEquals(index, variants.indexOf(variant));
+            distinctVariants.add(variant.toString());
+            index++;
+        }
+
+        assertEquals(30, index);
+        assertEquals(30, distinctVariants.size());
+        assertFalse(variants.contains(variants.getCompleteVariant()));
+    }
+
+    @Test
+    public void ELPRuleVariantList_modify_ListOperations()
+    {
+        ELPRuleVariantList variants = this.createVariantList(4);
+        List<ASPRule<?>> expected = new ArrayList<>(variants);
+
+        ASPRule<?> removedVariant = variants.get(3);
+        assertTrue(variants.remove(removedVariant));
+        expected.remove(removedVariant);
+        assertFalse(variants.contains(removedVariant));
+
+        variants.remove(5);
+        expected.remove(5);
+
+        ELPRule completeVariant = variants.getCompleteVariant();
+        variants.add(0, completeVariant);
+        expected.add(0, completeVariant);
+        variants.add(removedVariant);
+        expected.add(removedVariant);
+
+        assertEquals(expected, variants);
+        assertEquals(expected, new ArrayList<>(variants.createNewInstance()));
+        for (int i = 0; i < expected.size(); i++)
+            assertEquals(expected.get(i), variants.get(i));
+    }
+
+    @Test
+    public void ELPRuleVariantList_add_InsertBetweenVariants()
+    {
+        ELPRuleVariantList variants = this.createVariantList(4);
+        List<ASPRule<?>> expected = new ArrayList<>(variants);
+        ELPRule completeVariant = variants.getCompleteVariant();
+
+        // Remove variants before and after the insert position
+        variants.remove(2);
+        expected.remove(2);
+        variants.remove(9);
+        expected.remove(9);
+
+        variants.add(5, completeVariant);
+        expected.add(5, completeVariant);
+        assertEquals(expected, variants);
+        assertEquals(expected.size(), variants.size());
+
+        // The stored variants and the remaining variants are still found and removable
+        ASPRule<?> storedVariant = expected.get(3);
+        ASPRule<?> lazyVariant = expected.get(7);
+        assertEquals(3, variants.indexOf(storedVariant));
+        assertEquals(7, variants.indexOf(lazyVariant));
+        assertTrue(variants.remove(lazyVariant));
+        expected.remove(lazyVariant);
+        assertTrue(variants.remove(storedVariant));
+        expected.remove(storedVariant);
+
+        variants.add(8, completeVariant.createNewInstance());
+        expected.add(8, completeVariant.createNewInstance());
+        variants.add(variants.size() - 1, completeVariant.createNewInstance());
+        expected.add(expected.size() - 1, completeVariant.createNewInstance());
+
+        assertEquals(expected, variants);
+        assertEquals(expected, new ArrayList<>(variants.createNewInstance()));
+        for (int i = 0; i < expected.size(); i++)
+        {
+            assertEquals(expected.get(i), variants.get(i));
+            assertEquals(expected.indexOf(expected.get(i)), variants.indexOf(expected.get(i)));
+        }
+    }
+
+    @Test
+    public void ELPRuleVariantList_forRejection_ComplementaryLiterals()
+    {
+        ELPParser parser = new ELPParser();
+        ELPRule rejectedRule = parser.parseProgram("a :- b, not c.", null).getRuleSet().get(0);
+        ELPRule referenceRule = parser.parseProgram("-a :- b, d, not e.", null).getRuleSet().get(0);
+        String referenceText = referenceRule.toString();
+
+        // The shared literal b isn't added, d is added default-negated and e is added positively
+        ELPRuleVariantList variants = ELPRuleVariantList.forRejection(rejectedRule, referenceRule);
+        assertEquals("a :- b, e, not c, not d.", variants.getCompleteVariant().toString());
+        assertEquals(2, variants.size());
+
+        // The given rules aren't modified
+        assertEquals("a :- b, not c.", rejectedRule.toString());
+        assertEquals(referenceText, referenceRule.toString());
+    }
+
+    private ELPRuleVariantList createVariantList(int literalCount)
+    {
+        List<ELPLiteral> body = new ArrayList<>();
+        body.add(new ELPLiteral(false, new ASPAtom("b")));
+        List<ELPLiteral> negBody = new ArrayList<>();
+        negBody.add(new ELPLiteral(false, new ASPAtom("c")));
+        ELPRule baseRule = new ELPRule(new ELPLiteral(false, new ASPAtom("a")), body, negBody);
+
+        List<ELPLiteral> literals = new ArrayList<>();
+        boolean[] negated = new boolean[literalCount];
+        for (int i = 0; i < literalCount; i++)
+        {
+            literals.add(new ELPLiteral(false, new ASPAtom("d" + i)));
+            negated[i] = i % 2 == 0;
+        }
+
+        return new ELPRuleVariantList(baseRule, literals, negated);
+    }
+}
@@ -0,0 +1,94 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Controller.CausalRejectionController.FileController;
+import de.aspua.framework.Controller.Workload.ELPWorkloadGenerator;
+import de.aspua.framework.Model.Workload;
+import de.aspua.framework.Model.ASP.ELP.ELPLiteral;
+import de.aspua.framework.Model.ASP.ELP.ELPProgram;
+import de.aspua.framework.Model.ASP.ELP.ELPRule;
+import de.aspua.framework.Utils.Constants;
+
+public class ELPWorkloadGeneratorTest
+{
+    @Test
+    public void ELPWorkloadGenerator_generate_KnownSizesAndConflicts()
+    {
+        ELPWorkloadGenerator generator = new ELPWorkloadGenerator();
+        generator.setRuleCount(300);
+        generator.setArity(2);
+        generator.setMaxBodyLength(4);
+        generator.setNegationShare(0.5);
+        generator.setConflictCount(25);
+        generator.setDependencyDepth(6);
+
+        Workload workload = generator.generate("Stress");
+        ELPParser parser = new ELPParser();
+        ELPProgram initialProgram = parser.parseProgram(workload.getInitialProgram(), workload.getInitialProgramName());
+        ELPProgram updateProgram = parser.parseProgram(workload.getUpdateProgram(), workload.getUpdateProgramName());
+
+        // No rule is dropped as a duplicate by the parser
+        assertEquals(300, initialProgram.getRuleSet().size());
+        assertEquals(300, updateProgram.getRuleSet().size());
+        assertEquals(2, initialProgram.getRuleSet().get(0).getHead().get(0).getAtom().getConstants().size());
+
+        int complementaryHeads = 0;
+        for (ELPRule initialRule : initialProgram.getRuleSet())
+        {
+            for (ELPRule updateRule : updateProgram.getRuleSet())
+            {
+                ELPLiteral initialHead = initialRule.getHead().get(0);
+                ELPLiteral updateHead = updateRule.getHead().get(0);
+                if(initialHead.getAtom().equals(updateHead.getAtom()) && initialHead.isNegated() != updateHead.isNegated())
+                    complementaryHeads++;
+            }
+        }
+        assertEquals(25, complementaryHeads);
+
+        // The same settings result in the same workload
+        assertEquals(workload.getUpdateProgram(), generator.generate("Stress").getUpdateProgram());
+        generator.setSeed(7);
+        assertNotEquals(workload.getUpdateProgram(), generator.generate("Stress").getUpdateProgram());
+
+        generator.setConflictCount(301);
+        assertNull(generator.generate("Invalid"));
+    }
+
+    @Test
+    public void ELPWorkloadGenerator_write_ReadableByFileController() throws IOException
+    {
+        ELPWorkloadGenerator generator = new ELPWorkloadGenerator();
+        generator.setRuleCount(20);
+        generator.setConflictCount(20);
+        Workload workload = generator.generate("Small");
+
+        Path directory = Files.createTempDirectory("aspua-workload");
+        String resourceFolder = Constants.RESOURCEFOLDER_TEXTFILE;
+        try
+        {
+            assertTrue(ELPWorkloadGenerator.write(workload, directory));
+            Constants.RESOURCEFOLDER_TEXTFILE = directory.toString();
+
+            FileController fileController = new FileController();
+            assertEquals(2, fileController.loadAvailableProgramStrings().size());
+            String updateProgram = fileController.loadProgram(workload.getUpdateProgramName());
+            assertEquals(20, new ELPParser().parseProgram(updateProgram, "Update").getRuleSet().size());
+        } finally {
+            Constants.RESOURCEFOLDER_TEXTFILE = resourceFolder;
+            Files.delete(directory.resolve(workload.getInitialProgramName() + ".txt"));
+            Files.delete(directory.resolve(workload.getUpdateProgramName() + ".txt"));
+            Files.delete(directory);
+        }
+    }
+}
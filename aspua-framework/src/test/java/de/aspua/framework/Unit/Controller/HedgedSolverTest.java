@@ -0,0 +1,106 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
+import de.aspua.framework.Controller.Solver.HedgedSolver;
+import de.aspua.framework.Controller.Solver.SolverException;
+import de.aspua.framework.Model.ASP.ELP.ELPProgram;
+
+public class HedgedSolverTest
+{
+    private ELPProgram program = new ELPParser().parseProgram("a :- not b.", null);
+
+    @Test
+    public void HedgedSolver_computeModels_SlowPrimaryIsHedgedAndCancelled() throws InterruptedException
+    {
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+        ISolverController slowPrimary = p -> {
+            try
+            {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                primaryCancelled.countDown();
+                throw new SolverException("Interrupted.", e);
+            }
+            return Arrays.asList("a primary");
+        };
+        AtomicInteger secondaryCalls = new AtomicInteger();
+        ISolverController secondary = p -> {
+            secondaryCalls.incrementAndGet();
+            return Arrays.asList("a secondary");
+        };
+
+        HedgedSolver solver = new HedgedSolver(slowPrimary, secondary);
+        solver.setDefaultDelay(50);
+
+        long start = System.nanoTime();
+        assertEquals(Arrays.asList("a secondary"), solver.computeModels(program));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(2000));
+        assertEquals(1, solver.getHedgedCount());
+        assertTrue(primaryCancelled.await(2, TimeUnit.SECONDS));
+
+        // A fast primary backend doesn't cause any duplicate requests and lowers the hedge delay
+        solver = new HedgedSolver(p -> Arrays.asList("a primary"), secondary, 10);
+        solver.setMinSamples(5);
+        for (int i = 0; i < 10; i++)
+            assertEquals(Arrays.asList("a primary"), solver.computeModels(program));
+
+        assertEquals(1, secondaryCalls.get());
+        assertEquals(0, solver.getHedgedCount());
+        assertTrue(solver.getHedgeDelayNanos() < TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void HedgedSolver_getHedgeDelayNanos_MinimalDelay()
+    {
+        HedgedSolver solver = new HedgedSolver(p -> Arrays.asList("a"), p -> Arrays.asList("a"), 10);
+        solver.setMinSamples(5);
+        solver.setMinDelay(0);
+        for (int i = 0; i < 10; i++)
+            solver.computeModels(program);
+
+        // Latencies below a millisecond aren't truncated to a delay of 0
+        assertTrue(solver.getHedgeDelayNanos() > 0);
+        assertTrue(solver.getHedgeDelayNanos() < TimeUnit.MILLISECONDS.toNanos(50));
+
+        solver.setMinDelay(100);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), solver.getHedgeDelayNanos());
+    }
+
+    @Test
+    public void HedgedSolver_computeModels_FailedPrimaryUsesSecondary()
+    {
+        ISolverController failing = p -> {
+            throw new SolverException("Server not available.");
+        };
+
+        HedgedSolver solver = new HedgedSolver(failing, p -> Arrays.asList("a"));
+        solver.setDefaultDelay(5000);
+
+        // The secondary backend is used immediately instead of after the hedge delay
+        long start = System.nanoTime();
+        assertEquals(Arrays.asList("a"), solver.computeModels(program));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(2000));
+
+        solver = new HedgedSolver(failing, failing);
+        try
+        {
+            List<String> models = solver.computeModels(program);
+            fail("The solver should have thrown a SolverException instead of returning " + models);
+        } catch (SolverException e) {
+            // Expected
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.ASPUAFrameworkEngine;
+import de.aspua.framework.Controller.CausalRejectionController.CRSerialFactory;
+import de.aspua.framework.Controller.CausalRejectionController.ClingoRemoteSolver;
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Controller.Metrics.InMemoryMetricsCollector;
+import de.aspua.framework.Controller.Metrics.InMemoryMetricsCollector.MetricStatistics;
+import de.aspua.framework.Controller.Metrics.InstrumentedSolver;
+import de.aspua.framework.Controller.Metrics.NoOpMetricsCollector;
+import de.aspua.framework.Controller.Solver.ResilientSolver;
+import de.aspua.framework.Model.ASP.ELP.ELPProgram;
+import de.aspua.framework.Utils.MetricEnum;
+
+public class InMemoryMetricsCollectorTest
+{
+    @Test
+    public void InstrumentedSolver_computeModels_RecordsSizesAndModels()
+    {
+        InMemoryMetricsCollector collector = new InMemoryMetricsCollector();
+        InstrumentedSolver solver = new InstrumentedSolver(x -> new ArrayList<>(Arrays.asList("a b", "c")), collector);
+        ELPProgram program = new ELPParser().parseProgram("a. b :- a.", "P1");
+
+        assertEquals(2, solver.computeModels(program).size());
+        solver.computeModels(program);
+
+        assertEquals(2, collector.getStatistics(MetricEnum.SOLVER_CALL, null).getCount());
+        // The request size is only known by the remote solver
+        assertNull(collector.getStatistics(MetricEnum.SOLVER_REQUEST_BYTES, null));
+        assertEquals(8, collector.getStatistics(MetricEnum.SOLVER_RESPONSE_BYTES, null).getTotal());
+        MetricStatistics modelCount = collector.getStatistics(MetricEnum.MODEL_COUNT, null);
+        assertEquals(2, modelCount.getMin());
+        assertEquals(2.0, modelCount.getMean(), 0);
+        assertEquals(2, collector.getStatistics(MetricEnum.PROGRAM_SIZE, "solver").getMax());
+        assertNull(collector.getStatistics(MetricEnum.SOLVER_NO_MODELS, null));
+
+        new InstrumentedSolver(x -> null, collector).computeModels(program);
+        assertEquals(1, collector.getStatistics(MetricEnum.SOLVER_NO_MODELS, null).getCount());
+
+        collector.reset();
+        assertTrue(collector.getStatistics().isEmpty());
+    }
+
+    @Test
+    public void ASPUAFrameworkEngine_metricsCollector_WrapsSolverOnlyIfEnabled()
+    {
+        ASPUAFrameworkEngine engine = new ASPUAFrameworkEngine(new CRSerialFactory());
+        assertSame(NoOpMetricsCollector.INSTANCE, engine.getMetricsCollector());
+        assertFalse(engine.getSolver() instanceof InstrumentedSolver);
+
+        InMemoryMetricsCollector collector = new InMemoryMetricsCollector();
+        ASPUAFrameworkEngine instrumentedEngine = new ASPUAFrameworkEngine(new CRSerialFactory(), collector);
+        assertTrue(instrumentedEngine.getSolver() instanceof InstrumentedSolver);
+        ResilientSolver resilientSolver = (ResilientSolver) ((InstrumentedSolver) instrumentedEngine.getSolver()).getSolver();
+        assertSame(collector, ((ClingoRemoteSolver) resilientSolver.getBackends().get(0)).getMetricsCollector());
+        assertSame(collector, instrumentedEngine.createSession().getMetricsCollector());
+        engine.shutdown();
+        instrumentedEngine.shutdown();
+    }
+}
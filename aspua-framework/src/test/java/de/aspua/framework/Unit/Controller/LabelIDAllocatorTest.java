@@ -0,0 +1,47 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.aspua.framework.Model.ASP.BaseEntities.ASPAtom;
+import de.aspua.framework.Model.ASP.ELP.ELPLiteral;
+import de.aspua.framework.Model.ASP.ELP.ELPRule;
+import de.aspua.framework.Utils.LabelIDAllocator;
+
+public class LabelIDAllocatorTest
+{
+    @Test
+    public void LabelIDAllocator_allocate_SkipsUsedLabels()
+    {
+        // Labels 0, 1 and 3 are used, so new labels start at the number of used labels and skip label 3
+        List<ELPRule> rules = new ArrayList<>();
+        for (int label : new int[] {0, 1, 3})
+        {
+            ELPRule rule = new ELPRule(new ELPLiteral(false, new ASPAtom("a" + label)), null, null);
+            rule.setLabelID(label);
+            rules.add(rule);
+        }
+
+        LabelIDAllocator allocator = new LabelIDAllocator(rules);
+        assertEquals(4, allocator.getHighWaterMark());
+        assertEquals(4, allocator.peek());
+        assertEquals(4, allocator.allocate());
+        assertEquals(5, allocator.allocate());
+
+        // Released labels are only reused if they aren't below the number of used labels
+        assertTrue(allocator.release(5));
+        assertFalse(allocator.release(5));
+        assertEquals(5, allocator.allocate());
+        assertTrue(allocator.release(0));
+        assertEquals(6, allocator.allocate());
+        assertFalse(allocator.isUsed(0));
+        assertFalse(allocator.reserve(6));
+        assertEquals(5, allocator.getUsedCount());
+    }
+}
@@ -0,0 +1,145 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.ControllerInterfaces.IMeasureController;
+import de.aspua.framework.Controller.Measures.MeasureTask;
+import de.aspua.framework.Controller.Solver.SolverException;
+import de.aspua.framework.Model.MeasureContext;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Utils.SolutionMetaDataEnum;
+
+public class MeasureTaskTest
+{
+    private static final SolutionMetaDataEnum KEY = SolutionMetaDataEnum.MEASURE_ANSWERSETCHANGES;
+
+    @Test
+    public void MeasureTask_run_SolverExceptionIsPropagated() throws InterruptedException
+    {
+        Solution solution = new Solution(null, null, null, null);
+        MeasureTask task = new MeasureTask(new StubMeasure(x ->
+        {
+            throw new SolverException("The solver isn't available.");
+        }), solution, new MeasureContext(null, null));
+        solution.addMetaData(KEY, task);
+
+        AtomicBoolean notified = new AtomicBoolean();
+        task.whenDone(() -> notified.set(true));
+        assertFalse(notified.get());
+
+        // The failure is computed on demand and results in a missing value
+        assertNull(solution.getMetaDataValue(KEY));
+        assertFalse(solution.hasMetaDataValue(KEY));
+        assertTrue(notified.get());
+        assertFalse(solution.hasCancelledMetaData());
+
+        try
+        {
+            task.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof SolverException);
+        }
+
+        // Negative measures are failures as well, but don't throw
+        Solution failedSolution = new Solution(null, null, null, null);
+        failedSolution.addMetaData(KEY, new MeasureTask(new StubMeasure(x -> -1), failedSolution, new MeasureContext(null, null)));
+        assertNull(failedSolution.getMetaDataValue(KEY));
+    }
+
+    @Test
+    public void MeasureTask_cancel_RunningComputationIsInterrupted() throws InterruptedException
+    {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Solution solution = new Solution(null, null, null, null);
+        MeasureTask task = new MeasureTask(new StubMeasure(x ->
+        {
+            started.countDown();
+            try
+            {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            } finally {
+                finished.countDown();
+            }
+            return 1;
+        }), solution, new MeasureContext(null, null));
+        solution.addMetaData(KEY, task);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.execute(task);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CountDownLatch notified = new CountDownLatch(1);
+        task.whenDone(notified::countDown);
+        solution.cancelPendingMetaData();
+
+        assertTrue(task.isCancelled());
+        assertTrue(notified.await(5, TimeUnit.SECONDS));
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertTrue(interrupted.get());
+        assertTrue(solution.hasCancelledMetaData());
+        assertNull(solution.getMetaDataValue(KEY));
+        executor.shutdownNow();
+
+        // Cancelled computations which weren't started aren't computed on demand anymore
+        AtomicInteger invocations = new AtomicInteger();
+        Solution pendingSolution = new Solution(null, null, null, null);
+        pendingSolution.addMetaData(KEY, new MeasureTask(new StubMeasure(x -> invocations.incrementAndGet()), pendingSolution, new MeasureContext(null, null)));
+        pendingSolution.cancelPendingMetaData();
+        assertNull(pendingSolution.getMetaDataValue(KEY));
+        assertEquals(0, invocations.get());
+    }
+
+    private static class StubMeasure implements IMeasureController
+    {
+        private final ToIntFunction<Solution> computation;
+
+        private StubMeasure(ToIntFunction<Solution> computation)
+        {
+            this.computation = computation;
+        }
+
+        @Override
+        public int computeMeasure(Solution solution, MeasureContext context)
+        {
+            return computation.applyAsInt(solution);
+        }
+
+        @Override
+        public int computeLowerBound(Solution solution, MeasureContext context)
+        {
+            return 0;
+        }
+
+        @Override
+        public boolean isComplex()
+        {
+            return true;
+        }
+
+        @Override
+        public SolutionMetaDataEnum getMeasureKey()
+        {
+            return KEY;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.CausalRejectionController.ClingoRemoteSolver;
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
+import de.aspua.framework.Controller.Metrics.InMemoryMetricsCollector;
+import de.aspua.framework.Controller.Solver.LocalSolver;
+import de.aspua.framework.Controller.Solver.MockClingoServer;
+import de.aspua.framework.Controller.Solver.SolverException;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Model.ASP.ELP.ELPProgram;
+import de.aspua.framework.Utils.MetricEnum;
+
+public class MockClingoServerTest
+{
+    @Test
+    public void LocalSolver_computeModels_EvenLoopAndConstraints()
+    {
+        ELPParser parser = new ELPParser();
+        LocalSolver solver = new LocalSolver();
+
+        List<String> models = solver.computeModels(parser.parseProgram("a(x) :- not -b(y, z). -b(y, z) :- not a(x). d :- c. e :- a(x).", null));
+        assertEquals(2, models.size());
+        assertTrue(models.contains("a(x) e"));
+        assertTrue(models.contains("-b(y,z)"));
+
+        // The constraint eliminates the first answer set, the complementary literals eliminate the second one
+        models = solver.computeModels(parser.parseProgram("a :- not b. b :- not a. :- a. -b :- b.", null));
+        assertNull(models);
+
+        // Odd loops have no answer set
+        assertNull(solver.computeModels(parser.parseProgram("a :- not a.", null)));
+    }
+
+    @Test
+    public void MockClingoServer_computeModels_SameApiAndInjectedFaults()
+    {
+        ELPProgram program = new ELPParser().parseProgram("a(x) :- not -b(y, z)." + System.lineSeparator() + "-b(y, z) :- not a(x).", null);
+        MockClingoServer server = new MockClingoServer();
+        assertTrue(server.start());
+        try
+        {
+            ClingoRemoteSolver solver = new ClingoRemoteSolver(server.getUri(), Duration.ofSeconds(1), Duration.ofMillis(1000));
+            InMemoryMetricsCollector collector = new InMemoryMetricsCollector();
+            solver.setMetricsCollector(collector);
+            List<String> models = solver.computeModels(program);
+            assertEquals(2, models.size());
+            assertTrue(models.contains("a(x)"));
+            assertTrue(models.contains("-b(y,z)"));
+
+            // The recorded request size is the size of the URL-encoded payload
+            StringBuilder rules = new StringBuilder();
+            for (ASPRule<?> rule : program.getRuleSet())
+                rules.append(rule.toString()).append(System.lineSeparator());
+            String requestData = "rules=" + URLEncoder.encode(rules.toString(), StandardCharsets.UTF_8);
+            assertEquals(requestData.getBytes(StandardCharsets.UTF_8).length, collector.getStatistics(MetricEnum.SOLVER_REQUEST_BYTES, null).getMax());
+
+            // Failures mustn't be mistaken for unsatisfiable programs
+            server.setErrorRate(1);
+            this.assertSolverFails(solver, program);
+            assertEquals(1, server.getErrorCount());
+
+            server.setErrorRate(0);
+            server.setTruncationRate(1);
+            this.assertSolverFails(solver, program);
+            assertEquals(1, server.getTruncatedCount());
+
+            // The request timeout of the solver bounds the waiting time
+            server.setTruncationRate(0);
+            server.setLatency(MockClingoServer.fixedLatency(4000));
+            long start = System.nanoTime();
+            this.assertSolverFails(solver, program);
+            assertTrue(System.nanoTime() - start < 3000 * 1000000L);
+            assertEquals(4, server.getRequestCount());
+        } finally {
+            server.stop();
+        }
+    }
+
+    private void assertSolverFails(ISolverController solver, ASPProgram<?, ?> program)
+    {
+        try
+        {
+            solver.computeModels(program);
+            fail("The solver should have thrown a SolverException.");
+        } catch (SolverException e) {
+            // Expected
+        }
+    }
+}
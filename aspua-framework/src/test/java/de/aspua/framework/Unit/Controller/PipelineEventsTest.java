@@ -0,0 +1,44 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Controller.Events.PipelineEvents;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class PipelineEventsTest
+{
+    @Test
+    public void PipelineEvents_parseProgram_CommitsEnabledEvent() throws IOException
+    {
+        Path recordingFile = Files.createTempFile("aspua-recording", ".jfr");
+        try (Recording recording = new Recording())
+        {
+            recording.disable("de.aspua.SolverCall");
+            recording.start();
+            PipelineEvents.parseProgram(new ELPParser(), "a. b :- not c.", "P1");
+            // Disabled events aren't recorded
+            PipelineEvents.computeModels(x -> null, null);
+            recording.stop();
+            recording.dump(recordingFile);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+            events.removeIf(x -> !x.getEventType().getName().startsWith("de.aspua."));
+            assertEquals(1, events.size());
+            assertEquals("de.aspua.ParseProgram", events.get(0).getEventType().getName());
+            assertEquals("P1", events.get(0).getString("programName"));
+            assertEquals(2, events.get(0).getInt("ruleCount"));
+        } finally {
+            Files.delete(recordingFile);
+        }
+    }
+}
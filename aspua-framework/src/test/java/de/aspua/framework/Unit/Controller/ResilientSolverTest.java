@@ -0,0 +1,133 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Controller.ControllerInterfaces.ISolverController;
+import de.aspua.framework.Controller.Solver.ResilientSolver;
+import de.aspua.framework.Controller.Solver.SolverException;
+import de.aspua.framework.Model.ASP.ELP.ELPProgram;
+import de.aspua.framework.Utils.CircuitStateEnum;
+
+public class ResilientSolverTest
+{
+    private ELPProgram program = new ELPParser().parseProgram("a :- not b.", null);
+
+    @Test
+    public void ResilientSolver_computeModels_RetriesAndCircuitBreaker() throws InterruptedException
+    {
+        AtomicInteger primaryCalls = new AtomicInteger();
+        AtomicBoolean primaryAvailable = new AtomicBoolean(false);
+        ISolverController primary = p -> {
+            primaryCalls.incrementAndGet();
+            if(!primaryAvailable.get())
+                throw new SolverException("Server not available.");
+            return Arrays.asList("a primary");
+        };
+        ISolverController fallback = p -> Arrays.asList("a fallback");
+
+        ResilientSolver solver = new ResilientSolver(primary, fallback);
+        solver.setRetryBackoff(1);
+        solver.setFailureThreshold(2);
+        solver.setOpenDuration(100);
+
+        // All attempts of the primary backend fail, so the fallback computes the models
+        assertEquals(Arrays.asList("a fallback"), solver.computeModels(program));
+        assertEquals(3, primaryCalls.get());
+        assertEquals(CircuitStateEnum.CLOSED, solver.getCircuitState(0));
+
+        assertEquals(Arrays.asList("a fallback"), solver.computeModels(program));
+        assertEquals(6, primaryCalls.get());
+        assertEquals(CircuitStateEnum.OPEN, solver.getCircuitState(0));
+
+        // The open circuit skips the primary backend
+        assertEquals(Arrays.asList("a fallback"), solver.computeModels(program));
+        assertEquals(6, primaryCalls.get());
+
+        // A failed trial opens the circuit again without any retries
+        Thread.sleep(150);
+        assertEquals(CircuitStateEnum.HALF_OPEN, solver.getCircuitState(0));
+        assertEquals(Arrays.asList("a fallback"), solver.computeModels(program));
+        assertEquals(7, primaryCalls.get());
+        assertEquals(CircuitStateEnum.OPEN, solver.getCircuitState(0));
+
+        // A successful trial closes the circuit
+        Thread.sleep(150);
+        primaryAvailable.set(true);
+        assertEquals(Arrays.asList("a primary"), solver.computeModels(program));
+        assertEquals(8, primaryCalls.get());
+        assertEquals(CircuitStateEnum.CLOSED, solver.getCircuitState(0));
+    }
+
+    @Test
+    public void ResilientSolver_computeModels_NoFallbackForUnsatisfiablePrograms()
+    {
+        AtomicInteger fallbackCalls = new AtomicInteger();
+        ISolverController fallback = p -> {
+            fallbackCalls.incrementAndGet();
+            return Arrays.asList("a");
+        };
+
+        // An unsatisfiable program isn't a failure of the backend
+        ResilientSolver solver = new ResilientSolver(p -> null, fallback);
+        assertNull(solver.computeModels(program));
+        assertEquals(0, fallbackCalls.get());
+
+        ISolverController failing = p -> {
+            throw new SolverException("Server not available.");
+        };
+        solver = new ResilientSolver(failing, failing);
+        solver.setRetryBackoff(0);
+        try
+        {
+            List<String> models = solver.computeModels(program);
+            fail("The solver should have thrown a SolverException instead of returning " + models);
+        } catch (SolverException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void ResilientSolver_computeModels_NonRetryableFailuresPassThrough()
+    {
+        AtomicInteger primaryCalls = new AtomicInteger();
+        AtomicInteger fallbackCalls = new AtomicInteger();
+        ISolverController primary = p -> {
+            primaryCalls.incrementAndGet();
+            throw new SolverException("Unsupported program.", false);
+        };
+        ISolverController fallback = p -> {
+            fallbackCalls.incrementAndGet();
+            return Arrays.asList("a");
+        };
+
+        ResilientSolver solver = new ResilientSolver(primary, fallback);
+        solver.setRetryBackoff(0);
+        solver.setFailureThreshold(1);
+
+        // The failure is neither retried nor passed on to the fallback and doesn't open the circuit
+        for (int i = 0; i < 2; i++)
+        {
+            try
+            {
+                List<String> models = solver.computeModels(program);
+                fail("The solver should have thrown a SolverException instead of returning " + models);
+            } catch (SolverException e) {
+                assertFalse(e.isRetryable());
+            }
+        }
+        assertEquals(2, primaryCalls.get());
+        assertEquals(0, fallbackCalls.get());
+        assertEquals(CircuitStateEnum.CLOSED, solver.getCircuitState(0));
+    }
+}
@@ -0,0 +1,100 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
+import de.aspua.framework.Controller.History.SessionHistory;
+import de.aspua.framework.Model.SessionVersion;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+
+public class SessionHistoryTest
+{
+    @Test
+    public void SessionHistory_undoRedo_PointerMoves()
+    {
+        SessionHistory history = new SessionHistory();
+        assertNull(history.undo());
+        assertNull(history.redo());
+
+        SessionVersion first = this.createVersion("a. b.");
+        SessionVersion second = this.createVersion("a.");
+        SessionVersion third = this.createVersion("c.");
+        history.record(first);
+        history.record(second);
+        history.record(third);
+
+        assertSame(second, history.undo());
+        assertSame(first, history.undo());
+        assertFalse(history.canUndo());
+        assertSame(second, history.redo());
+        assertSame(third, history.restore(2));
+        assertFalse(history.canRedo());
+        assertNull(history.restore(3));
+
+        // Recording after an undo discards the undone versions
+        history.undo();
+        SessionVersion branch = this.createVersion("d.");
+        history.record(branch);
+        assertEquals(3, history.getVersions().size());
+        assertSame(branch, history.getCurrentVersion());
+        assertFalse(history.canRedo());
+        assertEquals(first.getWeight() + second.getWeight() + branch.getWeight(), history.getTotalWeight());
+    }
+
+    @Test
+    public void SessionHistory_record_EvictsOldestVersions()
+    {
+        // Each version references 2 rules
+        SessionHistory history = new SessionHistory(5);
+        SessionVersion first = this.createVersion("a.");
+        SessionVersion second = this.createVersion("b.");
+        SessionVersion third = this.createVersion("c.");
+        history.record(first);
+        history.record(second);
+        assertEquals(2, history.getVersions().size());
+
+        history.record(third);
+        assertEquals(2, history.getVersions().size());
+        assertSame(second, history.getVersions().get(0));
+        assertTrue(history.getTotalWeight() <= 5);
+
+        // The current version is kept, even if it exceeds the capacity on its own
+        history.setCapacity(1);
+        assertEquals(1, history.getVersions().size());
+        assertSame(third, history.getCurrentVersion());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void SessionVersion_getUpdateSequence_ListIsCopied()
+    {
+        ELPParser parser = new ELPParser();
+        List<ASPProgram<?, ?>> updateSequence = new ArrayList<>();
+        updateSequence.add(parser.parseProgram("a.", "P1"));
+        SessionVersion version = new SessionVersion(updateSequence, null, null, null, null);
+
+        // Neither the recorded nor the restored list changes the version
+        updateSequence.add(parser.parseProgram("b.", "P2"));
+        version.getUpdateSequence().clear();
+        assertEquals(1, version.getUpdateSequence().size());
+        assertSame(updateSequence.get(0), version.getUpdateSequence().get(0));
+    }
+
+    private SessionVersion createVersion(String newProgram)
+    {
+        ELPParser parser = new ELPParser();
+        List<ASPProgram<?, ?>> updateSequence = new ArrayList<>();
+        updateSequence.add(parser.parseProgram("x.", "P1"));
+        updateSequence.add(parser.parseProgram(newProgram, "P2"));
+        return new SessionVersion(updateSequence, null, null, null, null);
+    }
+}
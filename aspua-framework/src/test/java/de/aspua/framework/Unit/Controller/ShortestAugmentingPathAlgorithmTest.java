@@ -0,0 +1,109 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.Measures.ShortestAugmentingPathAlgorithm;
+
+public class ShortestAugmentingPathAlgorithmTest
+{
+    @Test
+    public void ShortestAugmentingPathAlgorithm_findOptimalAssignment_Square()
+    {
+        int[] costs = {
+            4, 1, 3,
+            2, 0, 5,
+            3, 2, 2
+        };
+
+        int[] assignment = new ShortestAugmentingPathAlgorithm().findOptimalAssignment(costs, 3, 3);
+
+        assertArrayEquals(new int[] {1, 0, 2}, assignment);
+        assertEquals(5, ShortestAugmentingPathAlgorithm.computeCosts(costs, 3, assignment));
+    }
+
+    @Test
+    public void ShortestAugmentingPathAlgorithm_findOptimalAssignment_Empty()
+    {
+        int[] assignment = new ShortestAugmentingPathAlgorithm().findOptimalAssignment(new int[0], 2, 0);
+        assertArrayEquals(new int[] {-1, -1}, assignment);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ShortestAugmentingPathAlgorithm_findOptimalAssignment_InvalidDimensions()
+    {
+        new ShortestAugmentingPathAlgorithm().findOptimalAssignment(new int[5], 2, 3);
+    }
+
+    @Test
+    public void ShortestAugmentingPathAlgorithm_findOptimalAssignment_RectangularMatchesBruteForce()
+    {
+        Random random = new Random(7);
+        ShortestAugmentingPathAlgorithm algorithm = new ShortestAugmentingPathAlgorithm();
+
+        for (int run = 0; run < 200; run++)
+        {
+            int rows = 1 + random.nextInt(6);
+            int columns = 1 + random.nextInt(6);
+            int[] costs = new int[rows * columns];
+            for (int i = 0; i < costs.length; i++)
+                costs[i] = random.nextInt(10);
+
+            int[] assignment = algorithm.findOptimalAssignment(costs, rows, columns);
+
+            // Every row (column) of the smaller dimension must be assigned exactly once
+            boolean[] usedColumns = new boolean[columns];
+            int assignedRows = 0;
+            for (int column : assignment)
+            {
+                if(column < 0)
+                    continue;
+
+                assertTrue(!usedColumns[column]);
+                usedColumns[column] = true;
+                assignedRows++;
+            }
+            assertEquals(Math.min(rows, columns), assignedRows);
+
+            long expected = this.bruteForce(costs, rows, columns, 0, new boolean[columns]);
+            assertEquals(expected, ShortestAugmentingPathAlgorithm.computeCosts(costs, columns, assignment));
+        }
+    }
+
+    private long bruteForce(int[] costs, int rows, int columns, int row, boolean[] usedColumns)
+    {
+        if(row == rows)
+            return 0;
+
+        int remainingRows = rows - row;
+        int freeColumns = 0;
+        for (boolean used : usedColumns)
+            if(!used)
+                freeColumns++;
+
+        long best = Long.MAX_VALUE;
+        // The row may only stay unassigned if there are more rows left than free columns
+        if(remainingRows > freeColumns)
+            best = this.bruteForce(costs, rows, columns, row + 1, usedColumns);
+
+        for (int j = 0; j < columns; j++)
+        {
+            if(usedColumns[j])
+                continue;
+
+            usedColumns[j] = true;
+            long rest = this.bruteForce(costs, rows, columns, row + 1, usedColumns);
+            usedColumns[j] = false;
+
+            if(rest != Long.MAX_VALUE)
+                best = Math.min(best, costs[row * columns + j] + rest);
+        }
+
+        return best;
+    }
+}
@@ -0,0 +1,128 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.ControllerInterfaces.IMeasureController;
+import de.aspua.framework.Controller.Measures.SolutionRanker;
+import de.aspua.framework.Model.MeasureContext;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPAtom;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Model.ASP.ELP.ELPLiteral;
+import de.aspua.framework.Model.ASP.ELP.ELPRule;
+import de.aspua.framework.Utils.SolutionMetaDataEnum;
+
+public class SolutionRankerTest
+{
+    @Test
+    public void SolutionRanker_rankTopSolutions_SkipsComplexMeasures()
+    {
+        int[] ruleChanges = {5, 1, 9, 3, 7, 2, 8, 4, 6, 0};
+        int[] answerSetChanges = {0, 4, 0, 1, 0, 2, 0, 0, 0, 6};
+        List<Solution> solutions = this.createSolutions(ruleChanges.length);
+        StubMeasure cheapMeasure = new StubMeasure(SolutionMetaDataEnum.MEASURE_RULECHANGES, false, solutions, ruleChanges);
+        StubMeasure complexMeasure = new StubMeasure(SolutionMetaDataEnum.MEASURE_ANSWERSETCHANGES, true, solutions, answerSetChanges);
+
+        SolutionRanker ranker = new SolutionRanker(this.createMeasures(cheapMeasure, complexMeasure), new MeasureContext(null, null), null);
+        List<Solution> ranking = ranker.rankTopSolutions(solutions, 2);
+
+        // Scores: 5, 5, 9, 4, 7, 4, 8, 4, 6, 6 -> solutions 3 and 5 (ties are broken by the original order)
+        assertEquals(2, ranking.size());
+        assertEquals(solutions.get(3), ranking.get(0));
+        assertEquals(solutions.get(5), ranking.get(1));
+        assertEquals(ruleChanges.length, cheapMeasure.invocations.get());
+        assertTrue(complexMeasure.invocations.get() < ruleChanges.length);
+        assertEquals(1, solutions.get(3).getMetaDataValue(SolutionMetaDataEnum.MEASURE_ANSWERSETCHANGES));
+    }
+
+    @Test
+    public void SolutionRanker_computeParetoFrontier()
+    {
+        int[] ruleChanges = {1, 2, 3, 0, 2};
+        int[] answerSetChanges = {3, 1, 0, 5, 2};
+        List<Solution> solutions = this.createSolutions(ruleChanges.length);
+        StubMeasure cheapMeasure = new StubMeasure(SolutionMetaDataEnum.MEASURE_RULECHANGES, false, solutions, ruleChanges);
+        StubMeasure complexMeasure = new StubMeasure(SolutionMetaDataEnum.MEASURE_ANSWERSETCHANGES, true, solutions, answerSetChanges);
+
+        SolutionRanker ranker = new SolutionRanker(this.createMeasures(cheapMeasure, complexMeasure), new MeasureContext(null, null), null);
+        List<Solution> frontier = ranker.computeParetoFrontier(solutions);
+
+        // Solution 4 is dominated by solution 1
+        assertEquals(4, frontier.size());
+        assertFalse(frontier.contains(solutions.get(4)));
+    }
+
+    private List<Solution> createSolutions(int count)
+    {
+        List<Solution> solutions = new ArrayList<>();
+        for (int i = 0; i < count; i++)
+        {
+            List<ASPRule<?>> addedRules = new ArrayList<>();
+            addedRules.add(new ELPRule(new ELPLiteral(false, new ASPAtom("a" + i)), null, null));
+            solutions.add(new Solution(null, addedRules, null, null));
+        }
+        return solutions;
+    }
+
+    private List<IMeasureController> createMeasures(IMeasureController... measures)
+    {
+        List<IMeasureController> measureList = new ArrayList<>();
+        for (IMeasureController measure : measures)
+            measureList.add(measure);
+        return measureList;
+    }
+
+    /**
+     * Measure which returns predefined values and counts its invocations.
+     */
+    private static class StubMeasure implements IMeasureController
+    {
+        private final SolutionMetaDataEnum key;
+        private final boolean complex;
+        private final Map<Solution, Integer> values = new HashMap<>();
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        private StubMeasure(SolutionMetaDataEnum key, boolean complex, List<Solution> solutions, int[] values)
+        {
+            this.key = key;
+            this.complex = complex;
+            for (int i = 0; i < solutions.size(); i++)
+                this.values.put(solutions.get(i), values[i]);
+        }
+
+        @Override
+        public int computeMeasure(Solution solution, MeasureContext context)
+        {
+            invocations.incrementAndGet();
+            return values.get(solution);
+        }
+
+        @Override
+        public int computeLowerBound(Solution solution, MeasureContext context)
+        {
+            return complex ? 0 : values.get(solution);
+        }
+
+        @Override
+        public boolean isComplex()
+        {
+            return complex;
+        }
+
+        @Override
+        public SolutionMetaDataEnum getMeasureKey()
+        {
+            return key;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.Previews.SpeculativePreviewEngine;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.SolutionPreview;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPAtom;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Model.ASP.ELP.ELPLiteral;
+import de.aspua.framework.Model.ASP.ELP.ELPRule;
+
+public class SpeculativePreviewEngineTest
+{
+    @Test
+    public void SpeculativePreviewEngine_schedule_KeepsRecentPreviews() throws InterruptedException
+    {
+        SpeculativePreviewEngine engine = new SpeculativePreviewEngine(1, 3);
+        Conflict conflict = this.createConflict(5);
+        ConcurrentHashMap<Solution, AtomicInteger> computations = new ConcurrentHashMap<>();
+        CountDownLatch computed = new CountDownLatch(3);
+
+        engine.schedule(Collections.singletonList(conflict), x -> x.getSolutions(), x ->
+        {
+            computations.computeIfAbsent(x, y -> new AtomicInteger()).incrementAndGet();
+            computed.countDown();
+            return new SolutionPreview(x, new ArrayList<>(), null, null);
+        });
+        assertTrue(computed.await(5, TimeUnit.SECONDS));
+
+        // Only the best solutions fit into the capacity and their previews are reused
+        List<Solution> solutions = conflict.getSolutions();
+        for (int i = 0; i < 3; i++)
+        {
+            SolutionPreview preview = engine.getPreview(solutions.get(i));
+            assertNotNull(preview);
+            assertSame(solutions.get(i), preview.getSolution());
+            assertEquals(1, computations.get(solutions.get(i)).get());
+        }
+        assertNull(engine.getPreview(solutions.get(3)));
+
+        // Promoting another solution evicts the preview with the lowest priority
+        engine.promote(solutions.get(4));
+        assertNotNull(engine.getPreview(solutions.get(4)));
+        assertEquals(3, engine.getPreviewedSolutions().size());
+        assertFalse(engine.getPreviewedSolutions().contains(solutions.get(2)));
+        assertTrue(engine.getPreviewedSolutions().contains(solutions.get(0)));
+
+        // Changed solutions and cancelled rounds don't provide previews anymore
+        solutions.get(1).getDeletedRules().add(conflict.getConflictingRules().get(0));
+        assertNull(engine.getPreview(solutions.get(1)));
+        engine.cancelAll();
+        assertNull(engine.getPreview(solutions.get(0)));
+        assertTrue(engine.getPreviewedSolutions().isEmpty());
+    }
+
+    @Test
+    public void SpeculativePreviewEngine_schedule_FirstConflictsKeepTheirPreviews() throws InterruptedException
+    {
+        SpeculativePreviewEngine engine = new SpeculativePreviewEngine(1, 4);
+        List<Conflict> conflicts = new ArrayList<>();
+        for (int i = 0; i < 3; i++)
+            conflicts.add(this.createConflict(3));
+
+        CountDownLatch computed = new CountDownLatch(3);
+        engine.schedule(conflicts, x -> x.getSolutions(), x ->
+        {
+            computed.countDown();
+            return new SolutionPreview(x, new ArrayList<>(), null, null);
+        });
+        assertTrue(computed.await(5, TimeUnit.SECONDS));
+
+        // The capacity is split between the conflicts, so each conflict keeps the preview of its best solution
+        assertEquals(3, engine.getPreviewedSolutions().size());
+        for (Conflict conflict : conflicts)
+            assertNotNull(engine.getPreview(conflict.getSolutions().get(0)));
+
+        // If there are more conflicts than the capacity, the previews of the last conflicts are dropped
+        engine = new SpeculativePreviewEngine(1, 2);
+        CountDownLatch limited = new CountDownLatch(2);
+        engine.schedule(conflicts, x -> x.getSolutions(), x ->
+        {
+            limited.countDown();
+            return new SolutionPreview(x, new ArrayList<>(), null, null);
+        });
+        assertTrue(limited.await(5, TimeUnit.SECONDS));
+        assertEquals(2, engine.getPreviewedSolutions().size());
+        assertNotNull(engine.getPreview(conflicts.get(0).getSolutions().get(0)));
+        assertNotNull(engine.getPreview(conflicts.get(1).getSolutions().get(0)));
+        assertNull(engine.getPreview(conflicts.get(2).getSolutions().get(0)));
+        engine.shutdown();
+    }
+
+    @Test
+    public void SpeculativePreviewEngine_cancelAll_SharedExecutor() throws InterruptedException
+    {
+        ThreadPoolExecutor executor = SpeculativePreviewEngine.createExecutor(1);
+        SpeculativePreviewEngine first = new SpeculativePreviewEngine(executor, 3);
+        SpeculativePreviewEngine second = new SpeculativePreviewEngine(executor, 3);
+
+        // Blocks the only thread, so all scheduled tasks remain in the queue
+        CountDownLatch released = new CountDownLatch(1);
+        executor.execute(() ->
+        {
+            try
+            {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        AtomicInteger firstComputations = new AtomicInteger();
+        CountDownLatch secondComputed = new CountDownLatch(3);
+        first.schedule(Collections.singletonList(this.createConflict(3)), x -> x.getSolutions(), x ->
+        {
+            firstComputations.incrementAndGet();
+            return new SolutionPreview(x, new ArrayList<>(), null, null);
+        });
+        second.schedule(Collections.singletonList(this.createConflict(3)), x -> x.getSolutions(), x ->
+        {
+            secondComputed.countDown();
+            return new SolutionPreview(x, new ArrayList<>(), null, null);
+        });
+        assertEquals(2, executor.getQueue().size());
+
+        // Shutting down an engine only removes its own tasks and keeps the shared executor running
+        first.shutdown();
+        assertEquals(1, executor.getQueue().size());
+        assertFalse(executor.isShutdown());
+
+        released.countDown();
+        assertTrue(secondComputed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, firstComputations.get());
+        executor.shutdownNow();
+    }
+
+    private Conflict createConflict(int solutionCount)
+    {
+        List<ELPLiteral> body = new ArrayList<>();
+        body.add(new ELPLiteral(false, new ASPAtom("b")));
+        ELPRule oldRule = new ELPRule(new ELPLiteral(false, new ASPAtom("a")), body, null);
+        ELPRule newRule = new ELPRule(new ELPLiteral(true, new ASPAtom("a")), new ArrayList<>(), null);
+
+        List<ASPRule<?>> conflictingRules = new ArrayList<>();
+        conflictingRules.add(oldRule);
+        conflictingRules.add(newRule);
+        Conflict conflict = new Conflict(conflictingRules, new ArrayList<>());
+
+        for (int i = 0; i < solutionCount; i++)
+        {
+            List<ELPLiteral> addedBody = new ArrayList<>();
+            addedBody.add(new ELPLiteral(false, new ASPAtom("c" + i)));
+            List<ASPRule<?>> addedRules = new ArrayList<>();
+            addedRules.add(new ELPRule(new ELPLiteral(false, new ASPAtom("a")), addedBody, null));
+            conflict.getSolutions().add(new Solution(conflict, addedRules, null, null));
+        }
+
+        return conflict;
+    }
+}
@@ -0,0 +1,83 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.aspua.framework.Controller.Strategies.DirectModificationStrategy;
+import de.aspua.framework.Controller.Strategies.StrategyCache;
+import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPAtom;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Model.ASP.ELP.ELPLiteral;
+import de.aspua.framework.Model.ASP.ELP.ELPRule;
+
+public class StrategyCacheTest
+{
+    @Test
+    public void StrategyCache_getSolutions_ReusesUnchangedConflicts()
+    {
+        CountingStrategy strategy = new CountingStrategy();
+        StrategyCache cache = new StrategyCache();
+
+        List<Solution> firstSolutions = cache.getSolutions(strategy, null, this.createConflict("b"));
+        cache.nextRound();
+
+        // An equal conflict of the next round reuses the solutions, which are linked to the new conflict
+        Conflict secondConflict = this.createConflict("b");
+        List<Solution> secondSolutions = cache.getSolutions(strategy, null, secondConflict);
+        cache.nextRound();
+
+        assertEquals(1, strategy.invocations);
+        assertEquals(firstSolutions.size(), secondSolutions.size());
+        assertNotSame(firstSolutions.get(0), secondSolutions.get(0));
+        assertSame(secondConflict, secondSolutions.get(0).getCause());
+        assertEquals(firstSolutions.get(0).getModifiedRules(), secondSolutions.get(0).getModifiedRules());
+
+        // A changed conflict rule causes a new computation
+        cache.getSolutions(strategy, null, this.createConflict("c"));
+        assertEquals(2, strategy.invocations);
+    }
+
+    private Conflict createConflict(String bodyPredicate)
+    {
+        List<ELPLiteral> oldBody = new ArrayList<>();
+        oldBody.add(new ELPLiteral(false, new ASPAtom(bodyPredicate)));
+        ELPRule oldRule = new ELPRule(new ELPLiteral(false, new ASPAtom("a")), oldBody, null);
+        oldRule.setID("r1");
+        oldRule.setLabelID(0);
+
+        List<ELPLiteral> newBody = new ArrayList<>();
+        newBody.add(new ELPLiteral(false, new ASPAtom("d")));
+        ELPRule newRule = new ELPRule(new ELPLiteral(true, new ASPAtom("a")), newBody, null);
+        newRule.setID("r2");
+        newRule.setLabelID(1);
+
+        List<ASPRule<?>> conflictingRules = new ArrayList<>();
+        conflictingRules.add(oldRule);
+        conflictingRules.add(newRule);
+        return new Conflict(conflictingRules, new ArrayList<>());
+    }
+
+    /**
+     * Modification strategy which counts its invocations.
+     */
+    private static class CountingStrategy extends DirectModificationStrategy
+    {
+        private int invocations = 0;
+
+        @Override
+        public List<Solution> computeSolutions(ASPProgram<?, ?> mergedUpdateSequence, Conflict conflict)
+        {
+            invocations++;
+            return super.computeSolutions(mergedUpdateSequence, conflict);
+        }
+    }
+}
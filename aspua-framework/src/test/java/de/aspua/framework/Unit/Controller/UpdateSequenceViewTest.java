@@ -0,0 +1,79 @@
+package de.aspua.framework.Unit.Controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.aspua.framework.Model.ASP.BaseEntities.ASPAtom;
+import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
+import de.aspua.framework.Model.ASP.ELP.ELPLiteral;
+import de.aspua.framework.Model.ASP.ELP.ELPProgram;
+import de.aspua.framework.Model.ASP.ELP.ELPRule;
+import de.aspua.framework.Model.ASP.ELP.UpdateSequenceView;
+
+public class UpdateSequenceViewTest
+{
+    @Test
+    public void UpdateSequenceView_lookup_WithoutCopies()
+    {
+        ELPRule firstRule = this.createRule("a", "b", 0);
+        ELPRule secondRule = this.createRule("c", "a", 1);
+        List<ASPProgram<?, ?>> updateSequence = new ArrayList<>();
+        updateSequence.add(this.createProgram(firstRule));
+        updateSequence.add(this.createProgram(secondRule));
+
+        UpdateSequenceView view = new UpdateSequenceView(updateSequence);
+
+        assertEquals(2, view.getRuleSet().size());
+        assertSame(firstRule, view.getRuleSet().get(0));
+        assertSame(secondRule, view.getRule(secondRule.getID()));
+        assertSame(secondRule, view.getRuleByLabelID(1));
+        assertSame(secondRule, view.getRulesByBody(this.createLiteral("a")).get(0));
+        assertEquals(1, view.getRulesByHead(this.createLiteral("a")).size());
+
+        ELPProgram mergedProgram = view.createNewInstance();
+        assertEquals(2, mergedProgram.getRuleSet().size());
+        assertNotSame(firstRule, mergedProgram.getRuleSet().get(0));
+        assertFalse(view.isOutdated());
+
+        updateSequence.get(1).addRule(this.createRule("d", "c", 2));
+        assertTrue(view.isOutdated());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void UpdateSequenceView_addRule_ReadOnly()
+    {
+        List<ASPProgram<?, ?>> updateSequence = new ArrayList<>();
+        updateSequence.add(this.createProgram(this.createRule("a", "b", 0)));
+
+        new UpdateSequenceView(updateSequence).addRule(this.createRule("c", "d", 1));
+    }
+
+    private ELPProgram createProgram(ELPRule rule)
+    {
+        ELPProgram program = new ELPProgram();
+        program.addRule(rule);
+        return program;
+    }
+
+    private ELPRule createRule(String head, String body, int labelID)
+    {
+        List<ELPLiteral> bodyLiterals = new ArrayList<>();
+        bodyLiterals.add(this.createLiteral(body));
+        ELPRule rule = new ELPRule(this.createLiteral(head), bodyLiterals, null);
+        rule.setLabelID(labelID);
+        return rule;
+    }
+
+    private ELPLiteral createLiteral(String predicate)
+    {
+        return new ELPLiteral(false, new ASPAtom(predicate));
+    }
+}
@@ -3,6 +3,13 @@ package de.aspua.gui;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.web.servlet.support.SpringBootServletInitializer;
+import org.springframework.context.annotation.Bean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import de.aspua.framework.Controller.ASPUAFrameworkEngine;
+import de.aspua.framework.Controller.CausalRejectionController.CRSerialFactory;
+import de.aspua.gui.Backend.MicrometerMetricsCollector;
 
 /**
  * The entry point of the Spring Boot application.
@@ -14,4 +21,14 @@ public class Application extends SpringBootServletInitializer {
         SpringApplication.run(Application.class, args);
     }
 
+    /**
+     * The engine of the framework is shared by all sessions, which perform their update processes independently.
+     * The metrics of all sessions are published to the Micrometer-registry of the application.
+     * The executors of the engine are shut down together with the application context.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ASPUAFrameworkEngine frameworkEngine(MeterRegistry meterRegistry) {
+        return new ASPUAFrameworkEngine(new CRSerialFactory(), new MicrometerMetricsCollector(meterRegistry));
+    }
+
 }
@@ -7,17 +7,23 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 
+import javax.annotation.PreDestroy;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.vaadin.flow.spring.annotation.VaadinSessionScope;
+
 import de.aspua.framework.Controller.ASPUAFrameworkAPI;
-import de.aspua.framework.Controller.CausalRejectionController.CRFileFactory;
-import de.aspua.framework.Controller.CausalRejectionController.CRSerialFactory;
+import de.aspua.framework.Controller.ASPUAFrameworkEngine;
 import de.aspua.framework.Controller.CausalRejectionController.ELPParser;
 import de.aspua.framework.Controller.CausalRejectionController.FileController;
+import de.aspua.framework.Controller.ControllerInterfaces.ISolutionListener;
 import de.aspua.framework.Model.Conflict;
 import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.SolutionPreview;
 import de.aspua.framework.Model.ASP.BaseEntities.AnswerSet;
 import de.aspua.framework.Model.ASP.BaseEntities.ASPLiteral;
 import de.aspua.framework.Model.ASP.BaseEntities.ASPProgram;
@@ -27,9 +33,11 @@ import de.aspua.framework.Model.ASP.ELP.ELPRule;
 import de.aspua.framework.Utils.OperationTypeEnum;
 
 /**
- * Adapter between the views/custom-components and an instance of {@link ASPUAFrameworkAPI} for performing the computations
+ * Adapter between the views/custom-components and an instance of {@link ASPUAFrameworkAPI} for performing the computations.
+ * Each Vaadin-session uses its own adapter and therefore its own update process, while the controllers are shared by all sessions.
  */
 @Service
+@VaadinSessionScope
 public class ASPUAFrameworkAdapter implements Serializable
 {
     private static Logger LOGGER = LoggerFactory.getLogger(ASPUAFrameworkAdapter.class);
@@ -39,16 +47,26 @@ public class ASPUAFrameworkAdapter implements Serializable
     private boolean unsavedChanges;
     // Caches all loaded Programs from the Framework
     private List<ASPProgram<?,?>> availablePrograms;
-    // Caches all conflicts from the beginning of the conflict resolution to enable back-navigation to ConflictView 
+    // Caches the conflicts of the current version of the update process to enable back-navigation to ConflictView
     private List<Conflict> cachedConflicts;
 
-    public ASPUAFrameworkAdapter()
+    public ASPUAFrameworkAdapter(@Autowired ASPUAFrameworkEngine frameworkEngine)
     {
-        frameworkAPI = new ASPUAFrameworkAPI(new CRSerialFactory());
+        frameworkAPI = frameworkEngine.createSession();
         availablePrograms = new ArrayList<>();
         cachedConflicts = new ArrayList<>();
         unsavedChanges = false;
     }
+
+    /**
+     * Cancels all background computations of the update process when the Vaadin-session ends.
+     * The threads are owned by the shared engine, so no threads remain for expired sessions.
+     */
+    @PreDestroy
+    public void closeSession()
+    {
+        frameworkAPI.close();
+    }
     
     public List<ASPProgram<?,?>> loadAvailablePrograms()
     {
@@ -57,8 +75,8 @@ public class ASPUAFrameworkAdapter implements Serializable
         // Try backup loading from textfile-directory if no serial files were found
         if(availablePrograms == null || availablePrograms.isEmpty())
         {
-            ASPUAFrameworkAPI helperFrameworkAPI = new ASPUAFrameworkAPI(new CRFileFactory());
-            availablePrograms = helperFrameworkAPI.loadAvailablePrograms();
+            // The session of the shared engine parses the textfiles, so no further engine with its executors is created
+            availablePrograms = frameworkAPI.loadAvailablePrograms(new FileController());
 
             if(availablePrograms != null)
             {
@@ -142,12 +160,12 @@ public class ASPUAFrameworkAdapter implements Serializable
         frameworkAPI.computeMeasures(solution);
     }
 
-    public List<Conflict> previewSolutionConflicts(Solution solution) {
-        return frameworkAPI.previewSolutionConflicts(solution);
+    public SolutionPreview previewSolution(Solution solution) {
+        return frameworkAPI.previewSolution(solution);
     }
 
-    public List<AnswerSet<?, ?>> previewSolutionUpdateAnswerSets(Solution solution) {
-        return this.generateUpdateAnswerSets(frameworkAPI.previewSolutionAnswerSets(solution));
+    public void promoteSolutionPreview(Solution solution) {
+        frameworkAPI.promoteSolutionPreview(solution);
     }
 
     public void solveConflict(Solution solution)
@@ -155,20 +173,83 @@ public class ASPUAFrameworkAdapter implements Serializable
         this.cachedConflicts = frameworkAPI.solveConflict(solution);
     }
 
-    public ASPProgram<?,?> getUnmodifiedUpdateSequence()
+    /**
+     * Restores the conflicts before the last solved conflict from the history of the update process.
+     * @return True, if a previous state existed and was restored
+     */
+    public boolean undoSolution()
     {
-        List<ASPProgram<?, ?>> unmodifiedUpdateSequence = frameworkAPI.getUnmodifiedUpdateSequence();
+        List<Conflict> restoredConflicts = frameworkAPI.undo();
+        if(restoredConflicts == null)
+            return false;
 
-        if(unmodifiedUpdateSequence == null || unmodifiedUpdateSequence.isEmpty())
-            return null;
-        
-        ASPProgram<?,?> updateSequence = unmodifiedUpdateSequence.get(0).createNewInstance();
-        for (ASPRule<?> rule : unmodifiedUpdateSequence.get(1).getRuleSet())
+        this.cachedConflicts = restoredConflicts;
+        return true;
+    }
+
+    /**
+     * Restores the conflicts after the last undone solution from the history of the update process.
+     * @return True, if an undone state existed and was restored
+     */
+    public boolean redoSolution()
+    {
+        List<Conflict> restoredConflicts = frameworkAPI.redo();
+        if(restoredConflicts == null)
+            return false;
+
+        this.cachedConflicts = restoredConflicts;
+        return true;
+    }
+
+    public boolean canUndoSolution() {
+        return frameworkAPI.canUndo();
+    }
+
+    public boolean canRedoSolution() {
+        return frameworkAPI.canRedo();
+    }
+
+    /**
+     * Discards all solved conflicts and restores the conflicts at the beginning of the conflict resolution.
+     * If the first version was already evicted from the history, the conflicts are detected again for the unmodified programs.
+     */
+    public void resetConflictResolution()
+    {
+        List<Conflict> restoredConflicts = frameworkAPI.restoreVersion(0);
+        boolean isInitialVersion = restoredConflicts != null && frameworkAPI.getAppliedSolutionOperations().values().stream()
+            .allMatch(List::isEmpty);
+
+        if(isInitialVersion)
         {
-            updateSequence.addRule(rule.createNewInstance());    
+            this.cachedConflicts = restoredConflicts;
+            return;
         }
 
-        return updateSequence;
+        ASPProgram<?, ?> unmodifiedInitial = this.getUnmodifiedInitialProgram();
+        ASPProgram<?, ?> unmodifiedNew = this.getUnmodifiedNewProgram();
+        this.setInitialProgram(unmodifiedInitial);
+        this.startUpdateProcess(unmodifiedNew);
+    }
+
+    /**
+     * Registers a listener for solutions, which are added to the cached conflicts in the background.
+     * The listener is invoked by a background thread, so views have to pass the notification to their UI (e.g. with UI.access()).
+     */
+    public void addSolutionListener(ISolutionListener listener) {
+        frameworkAPI.addSolutionListener(listener);
+    }
+
+    public void removeSolutionListener(ISolutionListener listener) {
+        frameworkAPI.removeSolutionListener(listener);
+    }
+
+    public ASPProgram<?,?> getUnmodifiedUpdateSequence()
+    {
+        if(frameworkAPI.getUnmodifiedUpdateSequence().isEmpty())
+            return null;
+
+        // Read-only view, which is shared until the unmodified update sequence changes
+        return frameworkAPI.getUnmodifiedUpdateSequenceView();
     }
 
     public HashMap<Integer, OperationTypeEnum> getAppliedSolutionOperations()
@@ -0,0 +1,73 @@
+package de.aspua.gui.Backend;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import de.aspua.framework.Controller.ControllerInterfaces.IMetricsCollector;
+import de.aspua.framework.Utils.MetricEnum;
+
+/**
+ * Publishes the metrics of the framework to the Micrometer-registry of the application, so they are available to the configured monitoring systems.
+ * The tag of a metric is published as the Micrometer-tag 'component'. The meters are created once per metric and tag.
+ */
+public class MicrometerMetricsCollector implements IMetricsCollector
+{
+    private static final String TAG_KEY = "component";
+    private static final String NO_TAG = "none";
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> timers;
+    private final Map<String, DistributionSummary> summaries;
+    private final Map<String, Counter> counters;
+
+    public MicrometerMetricsCollector(MeterRegistry registry)
+    {
+        this.registry = registry;
+        timers = new ConcurrentHashMap<>();
+        summaries = new ConcurrentHashMap<>();
+        counters = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+        return true;
+    }
+
+    @Override
+    public void recordTime(MetricEnum metric, String tag, long durationNanos)
+    {
+        timers.computeIfAbsent(this.computeKey(metric, tag), x -> Timer.builder(metric.getMetricName())
+            .tag(TAG_KEY, tag == null ? NO_TAG : tag)
+            .register(registry))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordValue(MetricEnum metric, String tag, long value)
+    {
+        summaries.computeIfAbsent(this.computeKey(metric, tag), x -> DistributionSummary.builder(metric.getMetricName())
+            .tag(TAG_KEY, tag == null ? NO_TAG : tag)
+            .register(registry))
+            .record(value);
+    }
+
+    @Override
+    public void increment(MetricEnum metric, String tag)
+    {
+        counters.computeIfAbsent(this.computeKey(metric, tag), x -> Counter.builder(metric.getMetricName())
+            .tag(TAG_KEY, tag == null ? NO_TAG : tag)
+            .register(registry))
+            .increment();
+    }
+
+    private String computeKey(MetricEnum metric, String tag) {
+        return metric.name() + "/" + tag;
+    }
+}
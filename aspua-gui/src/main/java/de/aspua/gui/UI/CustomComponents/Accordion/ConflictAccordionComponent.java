@@ -5,9 +5,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.accordion.Accordion;
 
+import de.aspua.framework.Controller.ControllerInterfaces.ISolutionListener;
 import de.aspua.framework.Model.Conflict;
+import de.aspua.framework.Model.Solution;
 import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
 import de.aspua.framework.Model.ASP.ELP.ELPRule;
 import de.aspua.gui.Backend.ASPUAFrameworkAdapter;
@@ -26,6 +31,8 @@ public class ConflictAccordionComponent extends Accordion
     private ConflictView registeredView;
     // Saves which panel corresponds to which conflict
     private Map<ConflictPanelComponent, Conflict> conflictPanelMapping;
+    // Receives the solutions of complex strategies while the component is attached
+    private ISolutionListener solutionListener;
 
     /** Stored data */
     private List<Conflict> conflicts;
@@ -52,6 +59,44 @@ public class ConflictAccordionComponent extends Accordion
         this.setSizeFull();
     }
 
+    @Override
+    protected void onAttach(AttachEvent attachEvent)
+    {
+        super.onAttach(attachEvent);
+        // The compact version doesn't display any solutions
+        if(compact)
+            return;
+
+        UI ui = attachEvent.getUI();
+        solutionListener = (conflict, solutions) -> ui.access(() -> this.addBackgroundSolutions(conflict, solutions));
+        aspuaAdapterService.addSolutionListener(solutionListener);
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent)
+    {
+        if(solutionListener != null)
+        {
+            aspuaAdapterService.removeSolutionListener(solutionListener);
+            solutionListener = null;
+        }
+        super.onDetach(detachEvent);
+    }
+
+    /** Passes the solutions of complex strategies, which were computed in the background, to the panel of their conflict */
+    private void addBackgroundSolutions(Conflict conflict, List<Solution> solutions)
+    {
+        for (Map.Entry<ConflictPanelComponent, Conflict> entry : conflictPanelMapping.entrySet())
+        {
+            // The panels only hold copies of the conflicts, so the original conflict identifies the panel
+            if(entry.getValue() == conflict)
+            {
+                entry.getKey().addSolutions(solutions);
+                return;
+            }
+        }
+    }
+
     private void createConflictPanel()
     {
         for (Conflict conflict : this.conflicts)
@@ -63,6 +108,22 @@ public class ConflictAccordionComponent extends Accordion
     }
 
     protected void handleAppliedSolution()
+    {
+        // The invokation of this method indicates that a solution has been applied
+        this.refreshConflicts(true);
+    }
+
+    /** Is called from the registered view if a previous or undone version of the update process was restored */
+    public void handleRestoredVersion()
+    {
+        this.refreshConflicts(aspuaAdapterService.canUndoSolution());
+    }
+
+    /**
+     * Replaces the panels by panels for the cached conflicts of the adapter.
+     * @param unsavedChanges Indicates whether the update sequence differs from the unmodified update sequence
+     */
+    private void refreshConflicts(boolean unsavedChanges)
     {
         for (ConflictPanelComponent panel : conflictPanelMapping.keySet())
             this.remove(panel);
@@ -72,8 +133,7 @@ public class ConflictAccordionComponent extends Accordion
             registeredView.handleNoConflicts();
         else
         {
-            // The invokation of this method indicates that a solution has been applied
-            aspuaAdapterService.setUnsavedChanges(true);
+            aspuaAdapterService.setUnsavedChanges(unsavedChanges);
             registeredView.getUpdateSequenceASPGrid().refreshGridContent(true);
         }
 
@@ -81,6 +141,7 @@ public class ConflictAccordionComponent extends Accordion
         this.createConflictPanel();
         this.open(0);
         this.updateViewGridConflictInfo();
+        registeredView.updateHistoryButtons();
     }
 
     /** Register view so other view-components can be updated if a solution was applied */
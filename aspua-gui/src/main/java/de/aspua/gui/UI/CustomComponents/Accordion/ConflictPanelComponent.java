@@ -2,17 +2,22 @@ package de.aspua.gui.UI.CustomComponents.Accordion;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.vaadin.componentfactory.Tooltip;
 import com.vaadin.componentfactory.TooltipAlignment;
 import com.vaadin.componentfactory.TooltipPosition;
+import com.vaadin.flow.component.AttachEvent;
 import com.vaadin.flow.component.Text;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.accordion.AccordionPanel;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
@@ -31,8 +36,10 @@ import com.vaadin.flow.component.orderedlayout.FlexComponent.JustifyContentMode;
 import com.vaadin.flow.component.select.Select;
 import com.vaadin.flow.data.renderer.ComponentRenderer;
 
+import de.aspua.framework.Controller.Measures.MeasureTask;
 import de.aspua.framework.Model.Conflict;
 import de.aspua.framework.Model.Solution;
+import de.aspua.framework.Model.SolutionPreview;
 import de.aspua.framework.Model.ASP.BaseEntities.AnswerSet;
 import de.aspua.framework.Model.ASP.BaseEntities.ASPLiteral;
 import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
@@ -66,6 +73,7 @@ public class ConflictPanelComponent extends AccordionPanel
 
     private SolutionGridComponent solutionGrid;
     private MultiSelectListBox<Solution> solutionListBox;
+    private Select<SolutionMetaDataEnum> solutionSortSelect;
     private Button customizeButton;
     private Button previewButton;
     private Button solveButton;
@@ -78,13 +86,26 @@ public class ConflictPanelComponent extends AccordionPanel
     private boolean compact;
     // Indicates whether the CONTROL or ALT key is clicked to enable the selection of multiple solutions (see configureListBoxListener())
     private boolean keyIsPressed;
+    // Original solutions of the framework whose copies are contained in the panel (see addSolutions())
+    private final Set<Solution> knownSolutions = Collections.newSetFromMap(new IdentityHashMap<>());
+    // Pending measure computations of the framework whose completion refreshes the sorting (see observePendingMeasures())
+    private final Set<MeasureTask> observedMeasureTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+    // Indicates whether a refresh of the sorting is already queued for the UI-thread
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean(false);
     // Maps the enum-values to actuals labels (from current locale).
     protected Map<SolutionMetaDataEnum, String> measureTranslations;
 
     public ConflictPanelComponent(ASPUAFrameworkAdapter aspuaAdapterService, Conflict conflict, boolean compact)
     {
         if(conflict != null)
-            this.conflict = conflict.createNewInstance();
+        {
+            // Background solutions mustn't be added between copying the conflict and recording its solutions
+            synchronized (conflict.getSolutions())
+            {
+                knownSolutions.addAll(conflict.getSolutions());
+                this.conflict = conflict.createNewInstance();
+            }
+        }
         else
             this.conflict = new Conflict(null, null);
             
@@ -170,9 +191,10 @@ public class ConflictPanelComponent extends AccordionPanel
             if(customSolution == solutionGrid.getSolution())
                 aspuaAdapterService.computeMeasures(customSolution);
 
-            List<Conflict> newConflicts = aspuaAdapterService.previewSolutionConflicts(solutionGrid.getSolution());
-            // If custom solution was selected, the measures were already computed in the last line
-            List<AnswerSet<?, ?>> newAnswerSets = aspuaAdapterService.previewSolutionUpdateAnswerSets(solutionGrid.getSolution());
+            // Conflicts and answer sets are computed by a single preview
+            SolutionPreview preview = aspuaAdapterService.previewSolution(solutionGrid.getSolution());
+            List<Conflict> newConflicts = preview == null ? null : preview.getConflicts();
+            List<AnswerSet<?, ?>> newAnswerSets = preview == null ? null : preview.getUpdateAnswerSets();
             SolutionPreviewDialog previewDialog = new SolutionPreviewDialog(solutionGrid.getSolution(), newConflicts, aspuaAdapterService.getCurrentUpdateAnswerSets(), newAnswerSets);
             previewDialog.open();
         });
@@ -180,26 +202,15 @@ public class ConflictPanelComponent extends AccordionPanel
         solveButton.addClickListener(e ->
         {
             // Validate that the update sequence after applying the solution is consistent
-            List<AnswerSet<?, ?>> newAnswerSets = aspuaAdapterService.previewSolutionUpdateAnswerSets(solutionGrid.getSolution());
-            if(newAnswerSets == null || newAnswerSets.isEmpty())
+            SolutionPreview preview = aspuaAdapterService.previewSolution(solutionGrid.getSolution());
+            if(preview == null || !preview.isConsistent())
             {
                 this.createIncompleteSolutionDialog(true);
                 return;
             }
 
             // Validate that the conflict is actually solved by the chosen solution
-            boolean solved = true;
-            List<Conflict> remainingConflicts = aspuaAdapterService.previewSolutionConflicts(solutionGrid.getSolution());
-            for (Conflict currentConflict : remainingConflicts)
-            {
-                if(currentConflict.getConflictingRules().containsAll(conflict.getConflictingRules()))
-                {
-                    solved = false;
-                    break;
-                }
-            }
-
-            if(solved)
+            if(!preview.containsConflict(conflict))
             {
                 aspuaAdapterService.solveConflict(solutionGrid.getSolution());
                 ((ConflictAccordionComponent) this.getParent().get()).handleAppliedSolution();
@@ -266,48 +277,9 @@ public class ConflictPanelComponent extends AccordionPanel
                     customSolution.getModifiedRules().add(rule);
             }
 
-            // Iterate over all addVariant-lists of the clonedSolution
-            for (List<ASPRule<?>> variants : clonedSolution.getAddVariants().values())
-            {
-                // Iterate over each rule within each variant-list
-                for (ASPRule<?> rule : variants)
-                {
-                    if(!this.isCustomDuplicate(rule))
-                    {
-                        // If the rule doesnt't exist, but there are already other variants: add to variants
-                        if(customSolution.getAddVariants().get(rule.getID()) != null)
-                            customSolution.getAddVariants().get(rule.getID()).add(rule);
-                        else
-                        {
-                            // Create a new list for variants if it doesn't exist
-                            List<ASPRule<?>> newVariant = new ArrayList<>();
-                            customSolution.getAddVariants().put(rule.getID(), newVariant);
-                        }
-                    }
-                }
-            }
-
-            // Iterate over all modifyVariant-lists of the clonedSolution
-            for (List<ASPRule<?>> variants : clonedSolution.getModifyVariants().values())
-            {
-                // Iterate over each rule within each variant-list
-                for (ASPRule<?> rule : variants)
-                {
-                    if(!this.isCustomDuplicate(rule))
-                    {
-                        // If the rule doesnt't exist, but there are already other variants: add to variants
-                        if(customSolution.getModifyVariants().get(rule.getID()) != null)
-                            customSolution.getModifyVariants().get(rule.getID()).add(rule);
-                        else
-                        {
-                            // Create a new list for variants if it doesn't exist
-                            List<ASPRule<?>> newVariant = new ArrayList<>();
-                            newVariant.add(rule);
-                            customSolution.getModifyVariants().put(rule.getID(), newVariant);
-                        }
-                    }
-                }
-            }
+            // Variants are merged per rule, so lazily generated variant-lists aren't expanded
+            this.mergeCustomVariants(customSolution.getAddVariants(), clonedSolution.getAddVariants());
+            this.mergeCustomVariants(customSolution.getModifyVariants(), clonedSolution.getModifyVariants());
 
             customSolution.getDeletedRules().addAll(clonedSolution.getDeletedRules());
             customSolution.getDeleteVariants().putAll(clonedSolution.getDeleteVariants());
@@ -316,6 +288,34 @@ public class ConflictPanelComponent extends AccordionPanel
         solutionListBox.select(customSolution);
     }
 
+    /**
+     * Adds the variants of a selected solution to the variants of the custom solution.
+     * If the custom solution doesn't contain variants for a rule yet, the copied variant-list of the selected solution is used without iterating it.
+     * Otherwise, only the variants which aren't contained yet are appended.
+     */
+    private void mergeCustomVariants(Map<String, List<ASPRule<?>>> customVariants, Map<String, List<ASPRule<?>>> clonedVariants)
+    {
+        for (Map.Entry<String, List<ASPRule<?>>> entry : clonedVariants.entrySet())
+        {
+            List<ASPRule<?>> variants = customVariants.get(entry.getKey());
+            if(variants == null)
+            {
+                // The variant-list belongs to a copy of the selected solution and can be reused
+                variants = entry.getValue();
+                variants.removeAll(customSolution.getAddedRules());
+                variants.removeAll(customSolution.getModifiedRules());
+                customVariants.put(entry.getKey(), variants);
+                continue;
+            }
+
+            for (ASPRule<?> rule : entry.getValue())
+            {
+                if(!this.isCustomDuplicate(rule))
+                    variants.add(rule);
+            }
+        }
+    }
+
     private boolean isCustomDuplicate(ASPRule<?> rule)
     {
         // Check if current rule exists in chosen rules
@@ -323,20 +323,13 @@ public class ConflictPanelComponent extends AccordionPanel
         || customSolution.getModifiedRules().contains(rule))
             return true;
 
-        // Check if current rule exists in add variants
-        boolean alreadyExists = customSolution.getAddVariants()
-            .values()
-            .stream()
-            .anyMatch(list -> list.contains(rule));
-
-        if(alreadyExists)
+        // Variants of a rule share its ID, so only the variants of the same rule have to be checked
+        List<ASPRule<?>> addVariants = customSolution.getAddVariants().get(rule.getID());
+        if(addVariants != null && addVariants.contains(rule))
             return true;
 
-        // Check if current rule exists in modify variants
-        return customSolution.getModifyVariants()
-            .values()
-            .stream()
-            .anyMatch(list -> list.contains(rule));
+        List<ASPRule<?>> modifyVariants = customSolution.getModifyVariants().get(rule.getID());
+        return modifyVariants != null && modifyVariants.contains(rule);
     }
 
     private void createIncompleteSolutionDialog(boolean inconsistent)
@@ -436,7 +429,7 @@ public class ConflictPanelComponent extends AccordionPanel
             header.getStyle().set("margin-left", "0px");
 
             // Configure select-component for measures
-            Select<SolutionMetaDataEnum> solutionSortSelect = new Select<>();
+            solutionSortSelect = new Select<>();
             solutionSortSelect.setWidth("160px");
             solutionSortSelect.getElement().setAttribute("theme", "small");
             solutionSortSelect.getElement().getStyle().set("margin", "0px");
@@ -477,8 +470,8 @@ public class ConflictPanelComponent extends AccordionPanel
             name.setText("Solution " + (conflict.getSolutions().indexOf(solution) + 1));
 
             StringBuilder sb = new StringBuilder();
-            ASPLiteral<?> targetLiteral = (ASPLiteral<?>) solution.getMetaData().get(SolutionMetaDataEnum.TARGETLITERAL);
-            String rootRuleID = (String) solution.getMetaData().get(SolutionMetaDataEnum.ROOTRULE);
+            ASPLiteral<?> targetLiteral = (ASPLiteral<?>) solution.getComputedMetaDataValue(SolutionMetaDataEnum.TARGETLITERAL);
+            String rootRuleID = (String) solution.getComputedMetaDataValue(SolutionMetaDataEnum.ROOTRULE);
 
             // Find the label-ID of the rule, as the metadata only contains the (internal) ID which is used for computations
             int labelID = -1;
@@ -611,6 +604,9 @@ public class ConflictPanelComponent extends AccordionPanel
                     solutionGrid.enableFooterRowComponents(false);
                     solutionGrid.enableGridContextMenu(false);
                     customizeButton.setEnabled(true);
+
+                    // The preview of the opened solution is computed in the background before all other previews
+                    e.getAllSelectedItems().stream().findFirst().ifPresent(x -> aspuaAdapterService.promoteSolutionPreview(x));
                 }
             }
         });
@@ -632,11 +628,10 @@ public class ConflictPanelComponent extends AccordionPanel
         {
             Paragraph measureText = new Paragraph(measureTranslations.get(solutionMeasure) + ": ");
             Paragraph valueText = new Paragraph("-");
-            if(solution.getMetaData().containsKey(solutionMeasure))
-            {
-                int measureValue = (int) solution.getMetaData().get(solutionMeasure);
-                valueText = new Paragraph(Integer.toString(measureValue));
-            }
+            // Pending measures aren't computed by the UI-thread and are displayed as absent
+            Object measureValue = solution.getComputedMetaDataValue(solutionMeasure);
+            if(measureValue != null)
+                valueText = new Paragraph(measureValue.toString());
     
             tooltip.add(new HorizontalLayout(measureText, valueText));
         }
@@ -644,27 +639,104 @@ public class ConflictPanelComponent extends AccordionPanel
         return tooltip;
     }
 
+    /**
+     * Adds solutions, which were computed in the background by complex strategies, to the displayed solutions.
+     * The custom solution stays the last solution of the conflict. Solutions which are already displayed are skipped.
+     * @param solutions Solutions of the original conflict of this panel
+     */
+    public void addSolutions(List<Solution> solutions)
+    {
+        if(compact || solutions == null || solutions.isEmpty())
+            return;
+
+        // Solutions which were delivered before the panel was created are already contained in the copied conflict
+        int customIndex = conflict.getSolutions().indexOf(customSolution);
+        int addedSolutions = 0;
+        for (Solution solution : solutions)
+        {
+            if(!knownSolutions.add(solution))
+                continue;
+
+            conflict.getSolutions().add(customIndex + addedSolutions++, solution.createNewInstance(conflict));
+        }
+
+        if(addedSolutions == 0)
+            return;
+
+        this.sortSolutionListBoxItems(solutionSortSelect.getValue());
+    }
+
+    @Override
+    protected void onAttach(AttachEvent attachEvent)
+    {
+        super.onAttach(attachEvent);
+        if(!compact)
+            this.observePendingMeasures(attachEvent.getUI(), solutionSortSelect.getValue());
+    }
+
     private void sortSolutionListBoxItems(SolutionMetaDataEnum measure)
     {
         Set<Solution> selected = solutionListBox.getSelectedItems();
         solutionListBox.setItems(this.sortSolutions(measure));
         solutionListBox.select(selected);
+        this.getUI().ifPresent(ui -> this.observePendingMeasures(ui, measure));
+    }
+
+    /**
+     * Refreshes the sorting as soon as the pending values of the given measure are computed by the measure-executor of the framework.
+     * The computations are neither executed nor awaited, so measures which are only computed on demand stay pending.
+     * Invoked by the UI-thread only.
+     */
+    private void observePendingMeasures(UI ui, SolutionMetaDataEnum measure)
+    {
+        observedMeasureTasks.removeIf(MeasureTask::isDone);
+        for (Solution solution : conflict.getSolutions())
+        {
+            Object entry = solution.getMetaDataEntry(measure);
+            if(!(entry instanceof MeasureTask))
+                continue;
+
+            MeasureTask task = (MeasureTask) entry;
+            if(!task.isDone() && observedMeasureTasks.add(task))
+                task.whenDone(() -> this.scheduleRefresh(ui));
+        }
+    }
+
+    /**
+     * Sorts the solutions again by the UI-thread. Measures which are finished at the same time are shown by a single refresh.
+     * Invoked by the threads of the measure-executor.
+     */
+    private void scheduleRefresh(UI ui)
+    {
+        if(!refreshScheduled.compareAndSet(false, true))
+            return;
+
+        ui.access(() ->
+        {
+            refreshScheduled.set(false);
+            this.sortSolutionListBoxItems(solutionSortSelect.getValue());
+        });
     }
 
-    /** Sorts the solutions by the given enum-value by assuming that the value is of type Integer */
+    /**
+     * Sorts the solutions by the given enum-value by assuming that the value is of type Integer.
+     * Only measures which are already computed are considered, so the UI-thread isn't blocked by pending measures.
+     */
     private List<Solution> sortSolutions(SolutionMetaDataEnum measure)
     {
         Comparator<Solution> comparator = (Solution first, Solution second) -> 
         {              
             int firstMeasure = -1;
-            if(first.getMetaData().containsKey(measure))
+            Object firstValue = first.getComputedMetaDataValue(measure);
+            if(firstValue != null)
             {
-                firstMeasure = (int) first.getMetaData().get(measure);
+                firstMeasure = (int) firstValue;
             }
             int secondMeasure = -1;
-            if(first.getMetaData().containsKey(measure))
+            Object secondValue = second.getComputedMetaDataValue(measure);
+            if(secondValue != null)
             {
-                secondMeasure = (int) second.getMetaData().get(measure);
+                secondMeasure = (int) secondValue;
             }
 
             if(secondMeasure == -1)
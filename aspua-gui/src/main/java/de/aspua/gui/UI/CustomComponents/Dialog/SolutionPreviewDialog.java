@@ -6,6 +6,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 
 import com.vaadin.flow.component.Text;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H6;
@@ -17,6 +18,7 @@ import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.orderedlayout.FlexComponent.Alignment;
 import com.vaadin.flow.component.orderedlayout.FlexComponent.JustifyContentMode;
 
+import de.aspua.framework.Controller.Measures.MeasureTask;
 import de.aspua.framework.Model.Conflict;
 import de.aspua.framework.Model.Solution;
 import de.aspua.framework.Model.ASP.BaseEntities.AnswerSet;
@@ -175,16 +177,29 @@ public class SolutionPreviewDialog extends BaseDialog
         for (SolutionMetaDataEnum solutionMeasure : measureTranslations.keySet())
         {
             Text measureText = new Text(measureTranslations.get(solutionMeasure) + ": ");
-            Text valueText = new Text("-");
-            if(chosenSolution.getMetaData().containsKey(solutionMeasure))
-            {
-                int measureValue = (int) chosenSolution.getMetaData().get(solutionMeasure);
-                valueText = new Text(Integer.toString(measureValue));
-            }
+            Text valueText = new Text(this.getMeasureText(solutionMeasure));
             messageLayout.add(new Div(measureText, valueText));
+
+            // Pending measures are shown as soon as the measure-executor of the framework has computed them
+            Object entry = chosenSolution.getMetaDataEntry(solutionMeasure);
+            UI ui = UI.getCurrent();
+            if(ui != null && entry instanceof MeasureTask && !((MeasureTask) entry).isDone())
+                ((MeasureTask) entry).whenDone(() -> ui.access(() -> valueText.setText(this.getMeasureText(solutionMeasure))));
         }
     }
 
+    /**
+     * Returns the text for the value of the given measure of the chosen solution without computing or awaiting pending measures.
+     */
+    private String getMeasureText(SolutionMetaDataEnum solutionMeasure)
+    {
+        Object measureValue = chosenSolution.getComputedMetaDataValue(solutionMeasure);
+        if(measureValue != null)
+            return measureValue.toString();
+
+        return chosenSolution.isMetaDataPending(solutionMeasure) ? getTranslation("placeholder.measure.pending") : "-";
+    }
+
     private void addAnswerSetDetails()
     {
         HorizontalLayout wrapperLayout = new HorizontalLayout();
@@ -769,12 +769,13 @@ public class EditableGridComponent extends BaseGridComponent
         {
             if(OperationTypeEnum.DELETE.equals(ruleOperationMapping.get(ruleID)))
             {
-                ASPRule<?> deletedRule = unmodifedUpdateSequence.getRuleByLabelID(ruleID);
+                // The unmodified update sequence is a shared view, so the displayed rule has to be a copy
+                ELPRule deletedRule = unmodifedUpdateSequence.getRuleByLabelID(ruleID).createNewInstance();
                 // Add rules to list, as the deleted rule should still be displayed
                 updateSequence.addRule(deletedRule);
                 // Manually insert the rule to its original position in the ruleSet
                 updateSequence.getRuleSet().remove(deletedRule);
-                updateSequence.getRuleSet().add(unmodifedUpdateSequence.getRuleSet().indexOf(deletedRule), (ELPRule) deletedRule);
+                updateSequence.getRuleSet().add(unmodifedUpdateSequence.getRuleSet().indexOf(deletedRule), deletedRule);
             }
         }
 
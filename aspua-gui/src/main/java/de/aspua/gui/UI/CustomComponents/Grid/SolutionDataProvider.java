@@ -0,0 +1,100 @@
+package de.aspua.gui.UI.CustomComponents.Grid;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.data.provider.hierarchy.AbstractBackEndHierarchicalDataProvider;
+import com.vaadin.flow.data.provider.hierarchy.HierarchicalQuery;
+
+import de.aspua.framework.Model.ASP.BaseEntities.ASPRule;
+import de.aspua.framework.Model.ASP.ELP.ELPRule;
+
+/**
+ * Provides the rules of a solution for the {@link SolutionGridComponent}. The chosen rules are the root items and their variants are the child items.
+ * The variant-lists of the solution aren't copied. Only the rows which are requested by the grid are read from them,
+ * so lazily generated variants (see {@link de.aspua.framework.Model.ASP.ELP.ELPRuleVariantList}) are only created when they are displayed.
+ */
+public class SolutionDataProvider extends AbstractBackEndHierarchicalDataProvider<ELPRule, Void>
+{
+    /** Chosen rules of the solution */
+    private List<ELPRule> rootRules;
+    /** Maps each chosen rule to the variant-list of the solution */
+    private Map<ELPRule, List<ASPRule<?>>> variantMapping;
+
+    public SolutionDataProvider()
+    {
+        rootRules = new ArrayList<>();
+        variantMapping = new IdentityHashMap<>();
+    }
+
+    /** Removes all rules. The grid has to be refreshed afterwards. */
+    public void clear()
+    {
+        rootRules.clear();
+        variantMapping.clear();
+    }
+
+    /**
+     * Adds a chosen rule of the solution with its variants. The grid has to be refreshed afterwards.
+     * @param rootRule Chosen rule of the solution
+     * @param variants Variant-list of the chosen rule, which is read on demand. May be null.
+     */
+    public void addRootRule(ELPRule rootRule, List<ASPRule<?>> variants)
+    {
+        rootRules.add(rootRule);
+        if(variants != null && !variants.isEmpty())
+            variantMapping.put(rootRule, variants);
+    }
+
+    public boolean isRootRule(ELPRule rule) {
+        return rootRules.contains(rule);
+    }
+
+    /** Checks whether the given rule is a chosen rule or a variant of a chosen rule */
+    public boolean contains(ELPRule rule)
+    {
+        if(rootRules.contains(rule))
+            return true;
+
+        return variantMapping.values().stream().anyMatch(x -> x.contains(rule));
+    }
+
+    public List<ELPRule> getRootRules() {
+        return Collections.unmodifiableList(rootRules);
+    }
+
+    @Override
+    public int getChildCount(HierarchicalQuery<ELPRule, Void> query)
+    {
+        if(!query.getParentOptional().isPresent())
+            return rootRules.size();
+
+        List<ASPRule<?>> variants = variantMapping.get(query.getParent());
+        return variants == null ? 0 : variants.size();
+    }
+
+    @Override
+    public boolean hasChildren(ELPRule item) {
+        return variantMapping.containsKey(item);
+    }
+
+    @Override
+    protected Stream<ELPRule> fetchChildrenFromBackEnd(HierarchicalQuery<ELPRule, Void> query)
+    {
+        if(!query.getParentOptional().isPresent())
+            return rootRules.stream().skip(query.getOffset()).limit(query.getLimit());
+
+        List<ASPRule<?>> variants = variantMapping.get(query.getParent());
+        if(variants == null)
+            return Stream.empty();
+
+        // Only the requested range is read, so lazy variant-lists don't create the other variants
+        int fromIndex = Math.min(query.getOffset(), variants.size());
+        int toIndex = (int) Math.min((long) fromIndex + query.getLimit(), variants.size());
+        return variants.subList(fromIndex, toIndex).stream().map(x -> (ELPRule) x);
+    }
+}
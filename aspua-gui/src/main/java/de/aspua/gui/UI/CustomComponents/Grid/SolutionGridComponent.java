@@ -1,11 +1,8 @@
 package de.aspua.gui.UI.CustomComponents.Grid;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 
-import com.vaadin.flow.data.provider.hierarchy.TreeData;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,15 +24,16 @@ public class SolutionGridComponent extends EditableGridComponent
     
     /** Stored data */
     protected Solution solution;
-    protected TreeData<ELPRule> treeData;
-    protected List<ELPRule> rootRules;
+    // Reads the variants of the displayed solution on demand instead of copying them to the grid
+    protected SolutionDataProvider solutionDataProvider;
 
     public SolutionGridComponent(Solution solution, ASPProgram<?, ?> aspSource)
     {
         super(null, aspSource, null);
         super.addFooterRow(true);
 
-        treeData = this.getTreeData();
+        solutionDataProvider = new SolutionDataProvider();
+        this.setDataProvider(solutionDataProvider);
         this.displaySolution(solution);
         this.configureClickListener();
     }
@@ -44,47 +42,29 @@ public class SolutionGridComponent extends EditableGridComponent
     public void displaySolution(Solution displayedSolution)
     {
         this.setSolution(displayedSolution);
-        treeData.clear();
+        solutionDataProvider.clear();
 
         this.displayRuleTree(solution.getAddedRules(), solution.getAddVariants(), OperationTypeEnum.ADD);
         this.displayRuleTree(solution.getModifiedRules(), solution.getModifyVariants(), OperationTypeEnum.MODIFY);
         this.displayRuleTree(solution.getDeletedRules(), solution.getDeleteVariants(), OperationTypeEnum.DELETE);
+        solutionDataProvider.refreshAll();
     }
 
     /** Separates the solution into root-rules for the currently selected rule-changes and sets all variants as child-rows */
     private void displayRuleTree(List<ASPRule<?>> untypedRules, HashMap<String, List<ASPRule<?>>> untypedVariants, OperationTypeEnum operation)
     {
-        // Get root-rules
-        rootRules = new ArrayList<>();
         for (ASPRule<?> currentRule : untypedRules)
         {
-            ELPRule typedRule = (ELPRule) currentRule;
-            rootRules.add(typedRule);
             ruleOperationMapping.put(currentRule.getLabelID(), operation);
+            solutionDataProvider.addRootRule((ELPRule) currentRule, untypedVariants.get(currentRule.getID()));
         }
 
-        // Collect modifications
-        HashMap<String, List<ELPRule>> ruleVariants = new HashMap<>();
-        for (String ruleID : untypedVariants.keySet())
-        {
-            List<ELPRule> typedVariants = new ArrayList<>();
-            for (ASPRule<?> currentRule : untypedVariants.get(ruleID))
-            {
-                typedVariants.add((ELPRule) currentRule);
-                ruleOperationMapping.put(currentRule.getLabelID(), operation);
-            }
-            ruleVariants.put(ruleID, typedVariants);
-        }
-
-        treeData.addRootItems(rootRules);
-        for (ELPRule rootRule : rootRules)
+        // All variants of a rule share its label-ID, so the variants don't have to be iterated
+        for (List<ASPRule<?>> variants : untypedVariants.values())
         {
-            List<ELPRule> variants = ruleVariants.get(rootRule.getID());
-            
-            if(variants != null)
-                treeData.addItems(rootRule, variants);
+            if(!variants.isEmpty())
+                ruleOperationMapping.put(variants.get(0).getLabelID(), operation);
         }
-        this.getDataProvider().refreshAll();
     }
 
     private void configureClickListener()
@@ -93,7 +73,7 @@ public class SolutionGridComponent extends EditableGridComponent
         this.addItemDoubleClickListener(e ->
         {
             ELPRule clickedRule = e.getItem();
-            if(treeData.getRootItems().contains(clickedRule))
+            if(solutionDataProvider.isRootRule(clickedRule))
                 return;
 
             boolean success = solution.chooseVariant(clickedRule);
@@ -200,7 +180,7 @@ public class SolutionGridComponent extends EditableGridComponent
         if(!this.validateInput(newRule))
             return;
 
-        List<ELPRule> rootItems = treeData.getRootItems();
+        List<ELPRule> rootItems = solutionDataProvider.getRootRules();
         ELPRule oldRule = rootItems.stream()
         .filter(x -> x.getLabelID() == newRule.getLabelID())
         .findFirst()
@@ -212,7 +192,7 @@ public class SolutionGridComponent extends EditableGridComponent
             boolean sameOperation = operationTranslations.get(oldOperation).equals(operationSelect.getValue());
 
             // If the operation, the labelID and the literals (checked in contains) are equal, nothing is changed
-            if(sameOperation && treeData.contains(newRule))
+            if(sameOperation && solutionDataProvider.contains(newRule))
                 return;
 
             // If rules with same labelID & operation exist, just set the added rule as the new root rule instead of overwriting all variants
@@ -4,10 +4,13 @@ import java.util.HashMap;
 import java.util.List;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.dependency.CssImport;
 import com.vaadin.flow.component.details.Details;
 import com.vaadin.flow.component.html.H4;
 import com.vaadin.flow.component.notification.NotificationVariant;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.router.AfterNavigationEvent;
 import com.vaadin.flow.router.AfterNavigationObserver;
@@ -43,6 +46,8 @@ public class ConflictView extends VerticalLayout implements AfterNavigationObser
     private ConflictAccordionComponent conflictAccordion;
     private EditableGridComponent updateSequenceASPGrid;
     private Details updateSequenceDetail;
+    private Button undoButton;
+    private Button redoButton;
 
     /** Stored data */
     private List<Conflict> currentConflicts;
@@ -80,7 +85,26 @@ public class ConflictView extends VerticalLayout implements AfterNavigationObser
 
         // Register view for navigation if all conflicts are resolved
         conflictAccordion.registerView(this);
-        this.add(new H4(getTranslation("label.details.conflictHeader")), conflictAccordion);
+
+        // Restore the conflicts before the last solved conflict or after the last undone solution
+        undoButton = new Button(getTranslation("button.conflict.undo"), e ->
+        {
+            if(aspuaAdapterService.undoSolution())
+                conflictAccordion.handleRestoredVersion();
+        });
+        redoButton = new Button(getTranslation("button.conflict.redo"), e ->
+        {
+            if(aspuaAdapterService.redoSolution())
+                conflictAccordion.handleRestoredVersion();
+        });
+        this.updateHistoryButtons();
+
+        H4 conflictHeader = new H4(getTranslation("label.details.conflictHeader"));
+        HorizontalLayout headerLayout = new HorizontalLayout(conflictHeader, undoButton, redoButton);
+        headerLayout.setDefaultVerticalComponentAlignment(FlexComponent.Alignment.BASELINE);
+        headerLayout.expand(conflictHeader);
+        headerLayout.setWidthFull();
+        this.add(headerLayout, conflictAccordion);
     }
 
     private void configureASPGrid()
@@ -154,6 +178,13 @@ public class ConflictView extends VerticalLayout implements AfterNavigationObser
         }
     }
 
+    /** Is called from the ConflictAccordionComponent if the conflicts changed, so that only existing versions can be restored */
+    public void updateHistoryButtons()
+    {
+        undoButton.setEnabled(aspuaAdapterService.canUndoSolution());
+        redoButton.setEnabled(aspuaAdapterService.canRedoSolution());
+    }
+
     /** Is needed for the ConflictAccordionComponent, so that the grid can be refreshed after a solution has been applied */
     public EditableGridComponent getUpdateSequenceASPGrid() {
         return updateSequenceASPGrid;
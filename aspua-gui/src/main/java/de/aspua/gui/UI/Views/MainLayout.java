@@ -12,6 +12,7 @@ import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.html.H1;
 import com.vaadin.flow.component.icon.Icon;
 import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.component.page.Push;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.tabs.Tab;
 import com.vaadin.flow.component.tabs.Tabs;
@@ -45,6 +46,7 @@ import de.aspua.gui.UI.CustomComponents.Dialog.ValidationDialog;
 @CssImport(value = "./styles/Components/dialog-styles.css", themeFor = "vaadin-dialog-overlay")
 @JsModule("@vaadin/vaadin-lumo-styles/presets/compact.js")
 @Theme(value = Lumo.class)
+@Push
 public class MainLayout extends AppLayout implements BeforeLeaveObserver, AfterNavigationObserver
 {
     private static Logger LOGGER = LoggerFactory.getLogger(MainLayout.class);
@@ -215,10 +217,7 @@ public class MainLayout extends AppLayout implements BeforeLeaveObserver, AfterN
                     if(!"Conflict".equals(previousView))
                     {
                         // Reset the update sequence to its state before applying solutions
-                        ASPProgram<?, ?>  unmodifiedInitial = aspuaAdapterService.getUnmodifiedInitialProgram();
-                        ASPProgram<?, ?> unmodifiedNew = aspuaAdapterService.getUnmodifiedNewProgram();
-                        aspuaAdapterService.setInitialProgram(unmodifiedInitial);
-                        aspuaAdapterService.startUpdateProcess(unmodifiedNew);
+                        aspuaAdapterService.resetConflictResolution();
                         UI.getCurrent().navigate("Conflict");
                     }
                     break;